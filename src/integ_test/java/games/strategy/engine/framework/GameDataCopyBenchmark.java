@@ -0,0 +1,90 @@
+package games.strategy.engine.framework;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+/**
+ * Compares the ways to copy a game data on the largest test maps, as the odds calculator copies it for its workers:
+ * a round trip through a save game (how {@link GameDataUtils#cloneGameData(GameData)} copied before), the current
+ * {@link GameDataUtils#cloneGameData(GameData)}, and one {@link GameDataSnapshot} forked for every copy.
+ *
+ * <p>
+ * Run from the project directory, optionally with the names of the {@link TestMapGameData} to copy.
+ * </p>
+ */
+public final class GameDataCopyBenchmark {
+  private static final int COPIES = 20;
+  private static final int WARM_UP_ROUNDS = 5;
+  private static final int ROUNDS = 10;
+
+  private GameDataCopyBenchmark() {}
+
+  public static void main(final String[] args) throws Exception {
+    final TestMapGameData[] maps;
+    if (args.length == 0) {
+      maps = new TestMapGameData[] {TestMapGameData.WW2V3_1942, TestMapGameData.BIG_WORLD_1942,
+          TestMapGameData.GLOBAL1940};
+    } else {
+      maps = new TestMapGameData[args.length];
+      for (int i = 0; i < args.length; i++) {
+        maps[i] = TestMapGameData.valueOf(args[i]);
+      }
+    }
+    System.out.println("Milliseconds per copy, of " + COPIES + " copies");
+    System.out.println("map, snapshot bytes, save game round trip, cloneGameData, snapshot forks");
+    for (final TestMapGameData map : maps) {
+      final GameData data = map.getGameData();
+      for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+        copyThroughSaveGames(data);
+        copyWithCloneGameData(data);
+        copyWithSnapshotForks(data);
+      }
+      long saveGameNanos = 0;
+      long cloneNanos = 0;
+      long forkNanos = 0;
+      for (int i = 0; i < ROUNDS; i++) {
+        long start = System.nanoTime();
+        copyThroughSaveGames(data);
+        saveGameNanos += System.nanoTime() - start;
+        start = System.nanoTime();
+        copyWithCloneGameData(data);
+        cloneNanos += System.nanoTime() - start;
+        start = System.nanoTime();
+        copyWithSnapshotForks(data);
+        forkNanos += System.nanoTime() - start;
+      }
+      System.out.println(String.format("%s, %d, %.2f, %.2f, %.2f", map, GameDataSnapshot.of(data, false).size(),
+          toMillisPerCopy(saveGameNanos), toMillisPerCopy(cloneNanos), toMillisPerCopy(forkNanos)));
+    }
+  }
+
+  private static double toMillisPerCopy(final long nanos) {
+    return nanos / 1e6 / ROUNDS / COPIES;
+  }
+
+  private static void copyThroughSaveGames(final GameData data) throws IOException {
+    final GameDataManager manager = new GameDataManager();
+    for (int i = 0; i < COPIES; i++) {
+      final ByteArrayOutputStream sink = new ByteArrayOutputStream(10000);
+      manager.saveGame(sink, data, false);
+      manager.loadGame(new ByteArrayInputStream(sink.toByteArray()), null);
+    }
+  }
+
+  private static void copyWithCloneGameData(final GameData data) {
+    for (int i = 0; i < COPIES; i++) {
+      GameDataUtils.cloneGameData(data);
+    }
+  }
+
+  private static void copyWithSnapshotForks(final GameData data) throws IOException {
+    final GameDataSnapshot snapshot = GameDataSnapshot.of(data, false);
+    for (int i = 0; i < COPIES; i++) {
+      snapshot.fork();
+    }
+  }
+}
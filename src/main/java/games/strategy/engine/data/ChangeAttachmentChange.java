@@ -73,6 +73,7 @@ public class ChangeAttachmentChange extends Change {
   public void perform(final GameData data) {
     final IAttachment attachment = attachedTo.getAttachment(attachmentName);
     PropertyUtil.set(property, newValue, attachment, clearFirst);
+    data.attachmentChanged();
   }
 
   @Override
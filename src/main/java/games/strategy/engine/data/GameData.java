@@ -10,8 +10,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
 
 import javax.swing.SwingUtilities;
 
@@ -60,6 +62,16 @@ import games.strategy.util.Version;
  * </p>
  *
  * <p>
+ * Code that only reads a little and runs often (for example on many AI threads at once) can instead use
+ * {@link #readOptimistically(Supplier)}, which only takes the read lock if a change was made while reading.
+ * </p>
+ *
+ * <p>
+ * The order in which locks are acquired is only checked by {@link LockUtil} if assertions are enabled or the system
+ * property {@value #CHECK_LOCK_ORDER_PROPERTY} is true, because the checking serializes all threads.
+ * </p>
+ *
+ * <p>
  * Non engine code must NOT acquire the games writeLock(). All changes to game Data must be made through a
  * DelegateBridge or through a
  * History object.
@@ -68,8 +80,14 @@ import games.strategy.util.Version;
 public class GameData implements java.io.Serializable {
   private static final long serialVersionUID = -2612710634080125728L;
   public static final String GAME_UUID = "GAME_UUID";
-  private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+  public static final String CHECK_LOCK_ORDER_PROPERTY = "triplea.checkLockOrder";
+  private static final boolean checkLockOrderByDefault = isCheckLockOrder();
+  private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+  // held while the write lock is held, so optimistic readers can tell that a change was made while they were reading
+  private transient StampedLock changeLock = new StampedLock();
+  private transient long changeStamp;
   private transient LockUtil lockUtil = LockUtil.INSTANCE;
+  private transient boolean checkLockOrder = checkLockOrderByDefault;
   private transient volatile boolean forceInSwingEventThread = false;
   private String gameName;
   private Version gameVersion;
@@ -101,6 +119,8 @@ public class GameData implements java.io.Serializable {
   private IGameLoader loader;
   private final History gameHistory = new History(this);
   private transient volatile boolean testLockIsHeld = false;
+  // counts changes to attachments, so what is worked out from them can tell when it is out of date
+  private transient volatile int attachmentChanges = 0;
   private final List<Tuple<IAttachment, ArrayList<Tuple<String, String>>>> attachmentOrderAndValues =
       new ArrayList<>();
   private final Hashtable<String, TerritoryEffect> territoryEffectList = new Hashtable<>();
@@ -115,7 +135,16 @@ public class GameData implements java.io.Serializable {
 
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
+    changeLock = new StampedLock();
     lockUtil = LockUtil.INSTANCE;
+    checkLockOrder = checkLockOrderByDefault;
+  }
+
+  private static boolean isCheckLockOrder() {
+    boolean assertionsEnabled = false;
+    // only true in debug runs, which enable assertions
+    assert assertionsEnabled = true;
+    return assertionsEnabled || Boolean.parseBoolean(System.getProperty(CHECK_LOCK_ORDER_PROPERTY, "false"));
   }
 
   /**
@@ -139,11 +168,22 @@ public class GameData implements java.io.Serializable {
     if (readWriteLockMissing()) {
       return;
     }
-    if (!lockUtil.isLockHeld(readWriteLock.readLock()) && !lockUtil.isLockHeld(readWriteLock.writeLock())) {
+    if (readWriteLock.getReadHoldCount() == 0 && !readWriteLock.isWriteLockedByCurrentThread()) {
       new Exception("Lock not held").printStackTrace(System.out);
     }
   }
 
+  /**
+   * Called by the changes that add, remove or change attachments.
+   */
+  public void attachmentChanged() {
+    attachmentChanges++;
+  }
+
+  int getAttachmentChanges() {
+    return attachmentChanges;
+  }
+
   /**
    * @return a collection of all units in the game.
    */
@@ -365,14 +405,50 @@ public class GameData implements java.io.Serializable {
     if (readWriteLockMissing()) {
       return;
     }
-    lockUtil.acquireLock(readWriteLock.readLock());
+    acquireLock(readWriteLock.readLock());
   }
 
   public void releaseReadLock() {
     if (readWriteLockMissing()) {
       return;
     }
-    lockUtil.releaseLock(readWriteLock.readLock());
+    releaseLock(readWriteLock.readLock());
+  }
+
+  /**
+   * Reads the game data without taking the read lock. If a change was made while reading, or the reader failed (it
+   * may see the game data half changed), the reader is called again while holding the read lock.
+   *
+   * @param reader
+   *        must not change anything and must be safe to call twice. It must only do a bounded amount of work whatever
+   *        it sees (like looking up a few values, not walking collections until a condition holds), as a half made
+   *        change can make it see anything.
+   */
+  public <T> T readOptimistically(final Supplier<T> reader) {
+    if (readWriteLockMissing() || changeLock == null || testLockIsHeld) {
+      return readLocked(reader);
+    }
+    final long stamp = changeLock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        final T result = reader.get();
+        if (changeLock.validate(stamp)) {
+          return result;
+        }
+      } catch (final RuntimeException e) {
+        // read again under the lock, which throws again if the failure was not caused by a change
+      }
+    }
+    return readLocked(reader);
+  }
+
+  private <T> T readLocked(final Supplier<T> reader) {
+    acquireReadLock();
+    try {
+      return reader.get();
+    } finally {
+      releaseReadLock();
+    }
   }
 
   /**
@@ -384,14 +460,44 @@ public class GameData implements java.io.Serializable {
     if (readWriteLockMissing()) {
       return;
     }
-    lockUtil.acquireLock(readWriteLock.writeLock());
+    acquireLock(readWriteLock.writeLock());
+    if (readWriteLock.getWriteHoldCount() == 1 && changeLock != null) {
+      changeStamp = changeLock.writeLock();
+    }
   }
 
   public void releaseWriteLock() {
     if (readWriteLockMissing()) {
       return;
     }
-    lockUtil.releaseLock(readWriteLock.writeLock());
+    if (readWriteLock.getWriteHoldCount() == 1 && changeLock != null) {
+      changeLock.unlockWrite(changeStamp);
+    }
+    releaseLock(readWriteLock.writeLock());
+  }
+
+  /**
+   * Whether to check the order in which locks are acquired, instead of only when assertions are enabled or the system
+   * property {@value #CHECK_LOCK_ORDER_PROPERTY} is true. Must be called before the locks are used.
+   */
+  void setCheckLockOrder(final boolean checkLockOrder) {
+    this.checkLockOrder = checkLockOrder;
+  }
+
+  private void acquireLock(final Lock lock) {
+    if (checkLockOrder) {
+      lockUtil.acquireLock(lock);
+    } else {
+      lock.lock();
+    }
+  }
+
+  private void releaseLock(final Lock lock) {
+    if (checkLockOrder) {
+      lockUtil.releaseLock(lock);
+    } else {
+      lock.unlock();
+    }
   }
 
   /**
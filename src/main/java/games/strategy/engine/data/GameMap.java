@@ -1,5 +1,7 @@
 package games.strategy.engine.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,11 +34,24 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   // otherwise, m_gridDimensions.length is the number of dimensions,
   // and each element is the size of a dimension
   private int[] m_gridDimensions = null;
+  // built the first time a distance or route is asked for, and thrown away whenever the map changes
+  private transient volatile TerritoryGraph m_graph = null;
 
   GameMap(final GameData data) {
     super(data);
   }
 
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    setOrdinals();
+  }
+
+  private void setOrdinals() {
+    for (int i = 0; i < m_territories.size(); i++) {
+      m_territories.get(i).setOrdinal(i);
+    }
+  }
+
   public void setGridDimensions(final int... gridDimensions) {
     m_gridDimensions = gridDimensions;
   }
@@ -77,6 +92,8 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
 
   protected void reorderTerritoryList() {
     Collections.sort(m_territories, TERRITORY_GRID_ORDERING);
+    setOrdinals();
+    m_graph = null;
   }
 
   private static Comparator<Territory> TERRITORY_GRID_ORDERING = (t1, t2) -> {
@@ -149,9 +166,11 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (m_territories.contains(t1)) {
       throw new IllegalArgumentException("Map already contains " + t1.getName());
     }
+    t1.setOrdinal(m_territories.size());
     m_territories.add(t1);
     m_connections.put(t1, Collections.emptySet());
     m_territoryLookup.put(t1.getName(), t1);
+    m_graph = null;
   }
 
   /**
@@ -189,6 +208,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     final Set<Territory> modified = new HashSet<>(current);
     modified.add(to);
     m_connections.put(from, Collections.unmodifiableSet(modified));
+    m_graph = null;
   }
 
   /**
@@ -389,8 +409,46 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (getNeighbors(t1, cond).contains(t2)) {
       return new Route(t1, t2);
     }
-    final RouteFinder engine = new RouteFinder(this, cond);
-    return engine.findRoute(t1, t2);
+    if (TerritoryGraph.isSupported(cond)) {
+      return getGraph().getRoute(t1, t2, cond);
+    }
+    return WeightedRouteFinder.findRoute(getGraph(), t1, Collections.singleton(t2), cond, RouteCost.STEPS);
+  }
+
+  /**
+   * @param t1
+   *        start territory of the route
+   * @param t2
+   *        end territory of the route
+   * @param cond
+   *        condition that covered territories of the route must match, or null
+   * @param cost
+   *        cost of every move along the route
+   * @return the cheapest route between two territories so that covered territories match the condition
+   *         or null if no route exists.
+   */
+  public Route getRoute(final Territory t1, final Territory t2, final Match<Territory> cond, final RouteCost cost) {
+    if (t1 == t2) {
+      return new Route(t1);
+    }
+    return WeightedRouteFinder.findRoute(getGraph(), t1, Collections.singleton(t2), cond, cost);
+  }
+
+  /**
+   * @param start
+   *        start territory of the route
+   * @param targets
+   *        territories any of which may be the end of the route
+   * @param cond
+   *        condition that covered territories of the route must match, or null
+   * @param cost
+   *        cost of every move along the route
+   * @return the cheapest route from the start to the nearest of the targets so that covered territories match the
+   *         condition, or null if none of the targets can be reached.
+   */
+  public Route getRoute(final Territory start, final Collection<Territory> targets, final Match<Territory> cond,
+      final RouteCost cost) {
+    return WeightedRouteFinder.findRoute(getGraph(), start, targets, cond, cost);
   }
 
   public Route getRoute_IgnoreEnd(final Territory t1, final Territory t2, final Match<Territory> match) {
@@ -425,8 +483,43 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (getNeighbors(t1, allCond).contains(t2)) {
       return new Route(t1, t2);
     }
-    final CompositeRouteFinder engine = new CompositeRouteFinder(this, matches);
-    return engine.findRoute(t1, t2);
+    return getRoute(t1, t2, allCond, new CompositeRouteCost(matches));
+  }
+
+  /**
+   * The cost of moving into a territory is the lowest score of the matches it matches.
+   */
+  private static final class CompositeRouteCost implements RouteCost {
+    private final Map<Match<Territory>, Integer> m_matches;
+    private final int m_minimumCost;
+    private final Map<Territory, Integer> m_scores = new HashMap<>();
+
+    CompositeRouteCost(final Map<Match<Territory>, Integer> matches) {
+      m_matches = matches;
+      m_minimumCost = matches.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+      if (m_minimumCost < 0) {
+        throw new IllegalArgumentException("Scores must not be negative: " + matches.values());
+      }
+    }
+
+    @Override
+    public int getCost(final Territory from, final Territory to) {
+      return m_scores.computeIfAbsent(to, t -> {
+        int bestMatchingScore = CANNOT_MOVE;
+        for (final Map.Entry<Match<Territory>, Integer> entry : m_matches.entrySet()) {
+          final int score = entry.getValue();
+          if (score < bestMatchingScore && entry.getKey().match(t)) {
+            bestMatchingScore = score;
+          }
+        }
+        return bestMatchingScore;
+      });
+    }
+
+    @Override
+    public int getMinimumCost() {
+      return m_minimumCost;
+    }
   }
 
   public Route getCompositeRoute_IgnoreEnd(final Territory t1, final Territory t2,
@@ -482,6 +575,9 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (t1.equals(t2)) {
       return 0;
     }
+    if (TerritoryGraph.isSupported(cond)) {
+      return getGraph().getDistance(t1, t2, cond);
+    }
     final Set<Territory> frontier = new HashSet<>();
     frontier.add(t1);
     return getDistance(0, new HashSet<>(), frontier, t2, cond);
@@ -547,6 +643,15 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     return rVal;
   }
 
+  private TerritoryGraph getGraph() {
+    TerritoryGraph graph = m_graph;
+    if (graph == null) {
+      graph = new TerritoryGraph(m_territories, m_connections);
+      m_graph = graph;
+    }
+    return graph;
+  }
+
   public List<Territory> getTerritories() {
     return Collections.unmodifiableList(m_territories);
   }
@@ -590,6 +695,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * If the actual territories in the map are deleted, or new ones added, call this.
    */
   public void notifyChanged() {
+    m_graph = null;
     getData().notifyMapDataChanged();
   }
 }
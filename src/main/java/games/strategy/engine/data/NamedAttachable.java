@@ -7,12 +7,29 @@ import java.util.Map;
 public class NamedAttachable extends DefaultNamed implements Attachable {
   private static final long serialVersionUID = 8597712929519099255L;
   private final Map<String, IAttachment> m_attachments = new HashMap<>();
+  // one more than the ordinal, so the default of 0 (also after deserializing) means it has none
+  private transient int m_ordinal = 0;
 
   /** Creates new NamedAttachable. */
   public NamedAttachable(final String name, final GameData data) {
     super(name, data);
   }
 
+  /**
+   * Territories, unit types, players and resources are numbered from 0 in the order they were added to their game data,
+   * so they can be used as array indexes, see {@link OrdinalMap}. The ordinals are only valid within one game data, and
+   * its copies.
+   *
+   * @return the ordinal, or -1 if it has none.
+   */
+  public int getOrdinal() {
+    return m_ordinal - 1;
+  }
+
+  void setOrdinal(final int ordinal) {
+    m_ordinal = ordinal + 1;
+  }
+
   @Override
   public IAttachment getAttachment(final String key) {
     return m_attachments.get(key);
@@ -0,0 +1,258 @@
+package games.strategy.engine.data;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map keyed by territories, unit types, players or resources, that keeps the values in an array at the
+ * {@link NamedAttachable#getOrdinal() ordinal} of the key, so getting a value needs neither hashing nor equals on the
+ * name.
+ *
+ * <p>
+ * It behaves like a {@link HashMap}: keys that have no ordinal (like {@link PlayerID#NULL_PLAYERID}), or that come
+ * from a game data where another key has the same ordinal, are kept in a hash map on the side. It iterates in the order
+ * of the ordinals, and then the keys on the side.
+ * </p>
+ */
+public class OrdinalMap<K extends NamedAttachable, V> extends AbstractMap<K, V> {
+  private NamedAttachable[] m_keys;
+  private Object[] m_values;
+  private int m_size = 0;
+  private Map<K, V> m_others = null;
+  private Set<Map.Entry<K, V>> m_entrySet = null;
+
+  /**
+   * @param capacity
+   *        the number of keys of the type, for example the number of territories on the map. The map grows if needed.
+   */
+  public OrdinalMap(final int capacity) {
+    m_keys = new NamedAttachable[Math.max(capacity, 1)];
+    m_values = new Object[m_keys.length];
+  }
+
+  public OrdinalMap(final int capacity, final Map<? extends K, ? extends V> map) {
+    this(capacity);
+    putAll(map);
+  }
+
+  private int slotOf(final Object key) {
+    if (!(key instanceof NamedAttachable)) {
+      return -1;
+    }
+    final int ordinal = ((NamedAttachable) key).getOrdinal();
+    if (ordinal < 0 || ordinal >= m_keys.length || m_keys[ordinal] == null) {
+      return -1;
+    }
+    final NamedAttachable slotKey = m_keys[ordinal];
+    return slotKey == key || slotKey.equals(key) ? ordinal : -1;
+  }
+
+  @Override
+  public int size() {
+    return m_size + (m_others == null ? 0 : m_others.size());
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return slotOf(key) >= 0 || (m_others != null && m_others.containsKey(key));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(final Object key) {
+    final int slot = slotOf(key);
+    if (slot >= 0) {
+      return (V) m_values[slot];
+    }
+    return m_others == null ? null : m_others.get(key);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(final K key, final V value) {
+    final int slot = slotOf(key);
+    if (slot >= 0) {
+      final V old = (V) m_values[slot];
+      m_values[slot] = value;
+      return old;
+    }
+    if (m_others != null && m_others.containsKey(key)) {
+      return m_others.put(key, value);
+    }
+    final int ordinal = key.getOrdinal();
+    if (ordinal >= 0) {
+      if (ordinal >= m_keys.length) {
+        final int length = Math.max(ordinal + 1, m_keys.length * 2);
+        m_keys = Arrays.copyOf(m_keys, length);
+        m_values = Arrays.copyOf(m_values, length);
+      }
+      if (m_keys[ordinal] == null) {
+        m_keys[ordinal] = key;
+        m_values[ordinal] = value;
+        m_size++;
+        return null;
+      }
+    }
+    if (m_others == null) {
+      m_others = new HashMap<>();
+    }
+    return m_others.put(key, value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(final Object key) {
+    final int slot = slotOf(key);
+    if (slot >= 0) {
+      final V old = (V) m_values[slot];
+      m_keys[slot] = null;
+      m_values[slot] = null;
+      m_size--;
+      return old;
+    }
+    return m_others == null ? null : m_others.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(m_keys, null);
+    Arrays.fill(m_values, null);
+    m_size = 0;
+    m_others = null;
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    if (m_entrySet == null) {
+      m_entrySet = new AbstractSet<Map.Entry<K, V>>() {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+          return OrdinalMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+          OrdinalMap.this.clear();
+        }
+      };
+    }
+    return m_entrySet;
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+    private int m_next = 0;
+    private int m_last = -1;
+    private Iterator<Map.Entry<K, V>> m_othersIterator = null;
+
+    EntryIterator() {
+      skipEmpty();
+    }
+
+    private void skipEmpty() {
+      while (m_next < m_keys.length && m_keys[m_next] == null) {
+        m_next++;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (m_next < m_keys.length) {
+        return true;
+      }
+      if (m_othersIterator == null && m_others != null) {
+        m_othersIterator = m_others.entrySet().iterator();
+      }
+      return m_othersIterator != null && m_othersIterator.hasNext();
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (m_othersIterator != null) {
+        m_last = -1;
+        return m_othersIterator.next();
+      }
+      m_last = m_next++;
+      skipEmpty();
+      return new SlotEntry(m_last);
+    }
+
+    @Override
+    public void remove() {
+      if (m_othersIterator != null) {
+        m_othersIterator.remove();
+        return;
+      }
+      if (m_last < 0 || m_keys[m_last] == null) {
+        throw new IllegalStateException();
+      }
+      m_keys[m_last] = null;
+      m_values[m_last] = null;
+      m_size--;
+      m_last = -1;
+    }
+  }
+
+  private final class SlotEntry implements Map.Entry<K, V> {
+    private final int m_slot;
+    private final K m_key;
+
+    @SuppressWarnings("unchecked")
+    SlotEntry(final int slot) {
+      m_slot = slot;
+      m_key = (K) m_keys[slot];
+    }
+
+    @Override
+    public K getKey() {
+      return m_key;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue() {
+      return m_keys[m_slot] == m_key ? (V) m_values[m_slot] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V setValue(final V value) {
+      final V old = (V) m_values[m_slot];
+      m_values[m_slot] = value;
+      return old;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+      return m_key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return m_key.hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return m_key + "=" + getValue();
+    }
+  }
+}
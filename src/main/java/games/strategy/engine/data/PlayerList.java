@@ -1,5 +1,7 @@
 package games.strategy.engine.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,7 +27,16 @@ public class PlayerList extends GameDataComponent implements Iterable<PlayerID>
   }
 
   protected void addPlayerID(final PlayerID player) {
-    m_players.put(player.getName(), player);
+    final PlayerID old = m_players.put(player.getName(), player);
+    player.setOrdinal(old == null ? m_players.size() - 1 : old.getOrdinal());
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int ordinal = 0;
+    for (final PlayerID player : m_players.values()) {
+      player.setOrdinal(ordinal++);
+    }
   }
 
   public int size() {
@@ -4,8 +4,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
-import games.strategy.triplea.delegate.Matches;
-
 public class RelationshipInterpreter extends GameDataComponent {
   private static final long serialVersionUID = -643454441052535241L;
 
@@ -21,12 +19,12 @@ public class RelationshipInterpreter extends GameDataComponent {
    * @return whether player p1 is allied to player p2.
    */
   public boolean isAllied(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeIsAllied.match((getRelationshipType(p1, p2)));
+    return hasFlag(p1, p2, RelationshipMatrix.ALLIED);
   }
 
   public boolean isAlliedWithAnyOfThesePlayers(final PlayerID p1, final Collection<PlayerID> p2s) {
     for (final PlayerID p2 : p2s) {
-      if (Matches.RelationshipTypeIsAllied.match((getRelationshipType(p1, p2)))) {
+      if (hasFlag(p1, p2, RelationshipMatrix.ALLIED)) {
         return true;
       }
     }
@@ -36,7 +34,7 @@ public class RelationshipInterpreter extends GameDataComponent {
   public Set<PlayerID> getAllies(final PlayerID p1, final boolean includeSelf) {
     final Set<PlayerID> allies = new HashSet<>();
     for (final PlayerID player : getData().getPlayerList().getPlayers()) {
-      if (Matches.RelationshipTypeIsAllied.match(getRelationshipType(p1, player))) {
+      if (hasFlag(p1, player, RelationshipMatrix.ALLIED)) {
         allies.add(player);
       }
     }
@@ -58,12 +56,12 @@ public class RelationshipInterpreter extends GameDataComponent {
    * @return whether p1 is at war with p2
    */
   public boolean isAtWar(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeIsAtWar.match((getRelationshipType(p1, p2)));
+    return hasFlag(p1, p2, RelationshipMatrix.AT_WAR);
   }
 
   public boolean isAtWarWithAnyOfThesePlayers(final PlayerID p1, final Collection<PlayerID> p2s) {
     for (final PlayerID p2 : p2s) {
-      if (Matches.RelationshipTypeIsAtWar.match((getRelationshipType(p1, p2)))) {
+      if (hasFlag(p1, p2, RelationshipMatrix.AT_WAR)) {
         return true;
       }
     }
@@ -73,7 +71,7 @@ public class RelationshipInterpreter extends GameDataComponent {
   public Set<PlayerID> getEnemies(final PlayerID p1) {
     final Set<PlayerID> enemies = new HashSet<>();
     for (final PlayerID player : getData().getPlayerList().getPlayers()) {
-      if (Matches.RelationshipTypeIsAtWar.match(getRelationshipType(p1, player))) {
+      if (hasFlag(p1, player, RelationshipMatrix.AT_WAR)) {
         enemies.add(player);
       }
     }
@@ -89,12 +87,12 @@ public class RelationshipInterpreter extends GameDataComponent {
    * @return whether player1 is neutral to player2.
    */
   public boolean isNeutral(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeIsNeutral.match((getRelationshipType(p1, p2)));
+    return hasFlag(p1, p2, RelationshipMatrix.NEUTRAL);
   }
 
   public boolean isNeutralWithAnyOfThesePlayers(final PlayerID p1, final Collection<PlayerID> p2s) {
     for (final PlayerID p2 : p2s) {
-      if (Matches.RelationshipTypeIsNeutral.match((getRelationshipType(p1, p2)))) {
+      if (hasFlag(p1, p2, RelationshipMatrix.NEUTRAL)) {
         return true;
       }
     }
@@ -102,15 +100,15 @@ public class RelationshipInterpreter extends GameDataComponent {
   }
 
   public boolean canMoveLandUnitsOverOwnedLand(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeCanMoveLandUnitsOverOwnedLand.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.CAN_MOVE_LAND_UNITS_OVER_OWNED_LAND);
   }
 
   public boolean canMoveAirUnitsOverOwnedLand(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeCanMoveAirUnitsOverOwnedLand.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.CAN_MOVE_AIR_UNITS_OVER_OWNED_LAND);
   }
 
   public boolean canLandAirUnitsOnOwnedLand(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeCanLandAirUnitsOnOwnedLand.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.CAN_LAND_AIR_UNITS_ON_OWNED_LAND);
   }
 
   public String getUpkeepCost(final PlayerID p1, final PlayerID p2) {
@@ -118,31 +116,36 @@ public class RelationshipInterpreter extends GameDataComponent {
   }
 
   public boolean alliancesCanChainTogether(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeIsAlliedAndAlliancesCanChainTogether.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.ALLIANCES_CAN_CHAIN_TOGETHER);
   }
 
   public boolean isDefaultWarPosition(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeIsDefaultWarPosition.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.DEFAULT_WAR_POSITION);
   }
 
   public boolean canTakeOverOwnedTerritory(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeCanTakeOverOwnedTerritory.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.CAN_TAKE_OVER_OWNED_TERRITORY);
   }
 
   public boolean givesBackOriginalTerritories(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeGivesBackOriginalTerritories.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.GIVES_BACK_ORIGINAL_TERRITORIES);
   }
 
   public boolean canMoveIntoDuringCombatMove(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeCanMoveIntoDuringCombatMove.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.CAN_MOVE_INTO_DURING_COMBAT_MOVE);
   }
 
   public boolean canMoveThroughCanals(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeCanMoveThroughCanals.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.CAN_MOVE_THROUGH_CANALS);
   }
 
   public boolean rocketsCanFlyOver(final PlayerID p1, final PlayerID p2) {
-    return Matches.RelationshipTypeRocketsCanFlyOver.match(getRelationshipType(p1, p2));
+    return hasFlag(p1, p2, RelationshipMatrix.ROCKETS_CAN_FLY_OVER);
+  }
+
+  private boolean hasFlag(final PlayerID p1, final PlayerID p2, final int flag) {
+    final int hasFlag = getData().getRelationshipTracker().getMatrix().hasFlag(p1, p2, flag);
+    return hasFlag < 0 ? RelationshipMatrix.getMatch(flag).match(getRelationshipType(p1, p2)) : hasFlag == 1;
   }
 
   /**
@@ -0,0 +1,149 @@
+package games.strategy.engine.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.Match;
+
+/**
+ * The relationships between all players as dense arrays indexed by {@link PlayerID#getOrdinal() ordinal} (the null
+ * player first), with the relationship type between two players and the questions the {@link RelationshipInterpreter}
+ * asks about it as bits, so asking if two players are allied is an array read.
+ *
+ * <p>
+ * The {@link RelationshipTracker} builds it when it is first asked, and again after a relationship was set or an
+ * attachment (like a relationship type attachment) was changed. Players that are not in the player list, and
+ * relationships that are missing or can not be asked, are not kept, they are asked the slow way.
+ * </p>
+ */
+final class RelationshipMatrix {
+  static final int ALLIED = 1;
+  static final int AT_WAR = 1 << 1;
+  static final int NEUTRAL = 1 << 2;
+  static final int CAN_MOVE_LAND_UNITS_OVER_OWNED_LAND = 1 << 3;
+  static final int CAN_MOVE_AIR_UNITS_OVER_OWNED_LAND = 1 << 4;
+  static final int CAN_LAND_AIR_UNITS_ON_OWNED_LAND = 1 << 5;
+  static final int ALLIANCES_CAN_CHAIN_TOGETHER = 1 << 6;
+  static final int DEFAULT_WAR_POSITION = 1 << 7;
+  static final int CAN_TAKE_OVER_OWNED_TERRITORY = 1 << 8;
+  static final int GIVES_BACK_ORIGINAL_TERRITORIES = 1 << 9;
+  static final int CAN_MOVE_INTO_DURING_COMBAT_MOVE = 1 << 10;
+  static final int CAN_MOVE_THROUGH_CANALS = 1 << 11;
+  static final int ROCKETS_CAN_FLY_OVER = 1 << 12;
+  private static final int FLAG_COUNT = 13;
+  // set for the relationships that are kept
+  private static final int KNOWN = 1 << FLAG_COUNT;
+  // the match for every flag, in the order of the flag bits
+  private static final List<Match<RelationshipType>> FLAG_MATCHES = Arrays.asList(Matches.RelationshipTypeIsAllied,
+      Matches.RelationshipTypeIsAtWar, Matches.RelationshipTypeIsNeutral,
+      Matches.RelationshipTypeCanMoveLandUnitsOverOwnedLand, Matches.RelationshipTypeCanMoveAirUnitsOverOwnedLand,
+      Matches.RelationshipTypeCanLandAirUnitsOnOwnedLand, Matches.RelationshipTypeIsAlliedAndAlliancesCanChainTogether,
+      Matches.RelationshipTypeIsDefaultWarPosition, Matches.RelationshipTypeCanTakeOverOwnedTerritory,
+      Matches.RelationshipTypeGivesBackOriginalTerritories, Matches.RelationshipTypeCanMoveIntoDuringCombatMove,
+      Matches.RelationshipTypeCanMoveThroughCanals, Matches.RelationshipTypeRocketsCanFlyOver);
+  private final int m_relationshipChanges;
+  private final int m_attachmentChanges;
+  private final PlayerID[] m_players;
+  private final RelationshipType[] m_types;
+  private final int[] m_flags;
+
+  RelationshipMatrix(final RelationshipTracker tracker, final List<PlayerID> players, final int relationshipChanges,
+      final int attachmentChanges) {
+    m_relationshipChanges = relationshipChanges;
+    m_attachmentChanges = attachmentChanges;
+    final int count = players.size() + 1;
+    m_players = new PlayerID[count];
+    m_players[0] = PlayerID.NULL_PLAYERID;
+    for (int i = 1; i < count; i++) {
+      m_players[i] = players.get(i - 1);
+    }
+    m_types = new RelationshipType[count * count];
+    m_flags = new int[count * count];
+    final Map<RelationshipType, Integer> flagsByType = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      for (int j = 0; j < count; j++) {
+        final RelationshipTracker.Relationship relationship = tracker.getRelationship(m_players[i], m_players[j]);
+        if (relationship == null || relationship.getRelationshipType() == null) {
+          continue;
+        }
+        final RelationshipType type = relationship.getRelationshipType();
+        Integer flags = flagsByType.get(type);
+        if (flags == null) {
+          flags = getFlags(type);
+          flagsByType.put(type, flags);
+        }
+        m_types[i * count + j] = type;
+        m_flags[i * count + j] = flags;
+      }
+    }
+  }
+
+  private static int getFlags(final RelationshipType type) {
+    int flags = KNOWN;
+    try {
+      for (int i = 0; i < FLAG_COUNT; i++) {
+        if (FLAG_MATCHES.get(i).match(type)) {
+          flags |= 1 << i;
+        }
+      }
+    } catch (final RuntimeException e) {
+      // asked the slow way, so it throws where it is asked
+      return 0;
+    }
+    return flags;
+  }
+
+  /**
+   * @return the match on relationship types that answers the same as the flag.
+   */
+  static Match<RelationshipType> getMatch(final int flag) {
+    return FLAG_MATCHES.get(Integer.numberOfTrailingZeros(flag));
+  }
+
+  boolean isUpToDate(final int relationshipChanges, final int attachmentChanges, final int playerCount) {
+    return m_relationshipChanges == relationshipChanges && m_attachmentChanges == attachmentChanges
+        && m_players.length == playerCount + 1;
+  }
+
+  private int indexOf(final PlayerID player) {
+    if (player == null) {
+      return -1;
+    }
+    final int index = player.getOrdinal() + 1;
+    if (index < m_players.length) {
+      final PlayerID indexed = m_players[index];
+      if (indexed == player || indexed.equals(player)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private int slotOf(final PlayerID p1, final PlayerID p2) {
+    final int i = indexOf(p1);
+    final int j = indexOf(p2);
+    return i < 0 || j < 0 ? -1 : i * m_players.length + j;
+  }
+
+  /**
+   * @return the relationship type between the players, or null if it is not kept.
+   */
+  RelationshipType getRelationshipType(final PlayerID p1, final PlayerID p2) {
+    final int slot = slotOf(p1, p2);
+    return slot < 0 ? null : m_types[slot];
+  }
+
+  /**
+   * @return 1 if the relationship between the players has the flag, 0 if it has not, or -1 if it is not kept.
+   */
+  int hasFlag(final PlayerID p1, final PlayerID p2, final int flag) {
+    final int slot = slotOf(p1, p2);
+    if (slot < 0 || (m_flags[slot] & KNOWN) == 0) {
+      return -1;
+    }
+    return (m_flags[slot] & flag) != 0 ? 1 : 0;
+  }
+}
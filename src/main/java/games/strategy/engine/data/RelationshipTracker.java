@@ -10,6 +10,9 @@ public class RelationshipTracker extends RelationshipInterpreter {
   private static final long serialVersionUID = -4740671761925519069L;
   // map of "playername:playername" to RelationshipType that exists between those 2 players
   private final HashMap<RelatedPlayers, Relationship> m_relationships = new HashMap<>();
+  // counts the relationships set, so the relationship matrix can tell when it is out of date
+  private transient volatile int m_relationshipChanges = 0;
+  private transient volatile RelationshipMatrix m_matrix = null;
 
   public RelationshipTracker(final GameData data) {
     super(data);
@@ -27,6 +30,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   public void setRelationship(final PlayerID p1, final PlayerID p2, final RelationshipType r) {
     m_relationships.put(new RelatedPlayers(p1, p2), new Relationship(r));
+    m_relationshipChanges++;
   }
 
   /**
@@ -34,6 +38,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   protected void setRelationship(final PlayerID p1, final PlayerID p2, final RelationshipType r, final int roundValue) {
     m_relationships.put(new RelatedPlayers(p1, p2), new Relationship(r, roundValue));
+    m_relationshipChanges++;
   }
 
   /**
@@ -47,9 +52,29 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   @Override
   public RelationshipType getRelationshipType(final PlayerID p1, final PlayerID p2) {
+    final RelationshipType relationshipType = getMatrix().getRelationshipType(p1, p2);
+    if (relationshipType != null) {
+      return relationshipType;
+    }
     return getRelationship(p1, p2).getRelationshipType();
   }
 
+  /**
+   * @return the relationships between all players, built again if a relationship or an attachment changed since.
+   */
+  RelationshipMatrix getMatrix() {
+    final int relationshipChanges = m_relationshipChanges;
+    final int attachmentChanges = getData().getAttachmentChanges();
+    RelationshipMatrix matrix = m_matrix;
+    if (matrix == null
+        || !matrix.isUpToDate(relationshipChanges, attachmentChanges, getData().getPlayerList().size())) {
+      matrix = new RelationshipMatrix(this, getData().getPlayerList().getPlayers(), relationshipChanges,
+          attachmentChanges);
+      m_matrix = matrix;
+    }
+    return matrix;
+  }
+
   public Relationship getRelationship(final PlayerID p1, final PlayerID p2) {
     return m_relationships.get(new RelatedPlayers(p1, p2));
   }
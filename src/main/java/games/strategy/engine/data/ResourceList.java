@@ -1,20 +1,32 @@
 package games.strategy.engine.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ResourceList extends GameDataComponent {
   private static final long serialVersionUID = -8812702449627698253L;
-  private final Map<String, Resource> m_resourceList = new HashMap<>();
+  // linked, so the ordinals are the same in copies
+  private final Map<String, Resource> m_resourceList = new LinkedHashMap<>();
 
   public ResourceList(final GameData data) {
     super(data);
   }
 
   protected void addResource(final Resource resource) {
-    m_resourceList.put(resource.getName(), resource);
+    final Resource old = m_resourceList.put(resource.getName(), resource);
+    resource.setOrdinal(old == null ? m_resourceList.size() - 1 : old.getOrdinal());
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int ordinal = 0;
+    for (final Resource resource : m_resourceList.values()) {
+      resource.setOrdinal(ordinal++);
+    }
   }
 
   public int size() {
@@ -0,0 +1,33 @@
+package games.strategy.engine.data;
+
+/**
+ * The cost of moving from a territory to a neighboring territory, used to find the cheapest route instead of the
+ * shortest one, see {@link GameMap#getRoute(Territory, Territory, games.strategy.util.Match, RouteCost)}.
+ */
+@FunctionalInterface
+public interface RouteCost {
+  /**
+   * Returned by {@link #getCost(Territory, Territory)} if the move is not possible at all, for example through a closed
+   * canal.
+   */
+  int CANNOT_MOVE = Integer.MAX_VALUE;
+
+  /**
+   * Every move costs 1, so the cheapest route is the shortest route.
+   */
+  RouteCost STEPS = (from, to) -> 1;
+
+  /**
+   * @return the cost of moving from a territory to its neighbor, never less than {@link #getMinimumCost()}, or
+   *         {@link #CANNOT_MOVE}.
+   */
+  int getCost(Territory from, Territory to);
+
+  /**
+   * @return the least that any move can cost, never negative. The higher it is, the faster a route is found. 0 is
+   *         always correct, but makes the route finder look in every direction.
+   */
+  default int getMinimumCost() {
+    return 1;
+  }
+}
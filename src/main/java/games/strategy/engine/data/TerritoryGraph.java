@@ -0,0 +1,272 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.Match;
+
+/**
+ * The connections of a {@link GameMap} as int arrays indexed by {@link Territory#getOrdinal() ordinal} (compressed
+ * sparse rows: the neighbors of territory i are m_neighbors[m_firstNeighbor[i]] to
+ * m_neighbors[m_firstNeighbor[i + 1] - 1]), with the distances and shortest routes for the conditions that never
+ * change during a game: land, water, and land or water.
+ *
+ * <p>
+ * The distances from a territory are found with one breadth first search the first time they are asked for, and are
+ * then kept until the map changes, so a distance or route is a table lookup afterwards. Like the searches this
+ * replaces, the start of a route does not need to match the condition, but every other territory on it does.
+ * </p>
+ *
+ * <p>
+ * The connections are also kept reversed, to count how many steps away every territory is from a target, which the
+ * {@link WeightedRouteFinder} uses to guess the remaining cost of a route.
+ * </p>
+ */
+final class TerritoryGraph {
+  private static final int LAND_OR_WATER = 0;
+  private static final int LAND = 1;
+  private static final int WATER = 2;
+  private static final int CONDITION_COUNT = 3;
+  private final List<Territory> m_territories;
+  private final int[] m_firstNeighbor;
+  private final int[] m_neighbors;
+  private final int[] m_firstPredecessor;
+  private final int[] m_predecessors;
+  private final boolean[] m_water;
+  private final List<AtomicReferenceArray<SearchTree>> m_trees = new ArrayList<>(CONDITION_COUNT);
+  private final AtomicReferenceArray<int[]> m_stepsTo;
+
+  TerritoryGraph(final List<Territory> territories, final Map<Territory, Set<Territory>> connections) {
+    m_territories = new ArrayList<>(territories);
+    final int count = m_territories.size();
+    m_firstNeighbor = new int[count + 1];
+    m_water = new boolean[count];
+    int neighborCount = 0;
+    for (int i = 0; i < count; i++) {
+      m_firstNeighbor[i] = neighborCount;
+      neighborCount += connections.getOrDefault(m_territories.get(i), Collections.emptySet()).size();
+      m_water[i] = m_territories.get(i).isWater();
+    }
+    m_firstNeighbor[count] = neighborCount;
+    m_neighbors = new int[neighborCount];
+    for (int i = 0; i < count; i++) {
+      int next = m_firstNeighbor[i];
+      for (final Territory neighbor : connections.getOrDefault(m_territories.get(i),
+          Collections.emptySet())) {
+        m_neighbors[next++] = neighbor.getOrdinal();
+      }
+    }
+    m_firstPredecessor = new int[count + 1];
+    for (final int neighbor : m_neighbors) {
+      m_firstPredecessor[neighbor + 1]++;
+    }
+    for (int i = 0; i < count; i++) {
+      m_firstPredecessor[i + 1] += m_firstPredecessor[i];
+    }
+    m_predecessors = new int[neighborCount];
+    final int[] nextPredecessor = Arrays.copyOf(m_firstPredecessor, count);
+    for (int i = 0; i < count; i++) {
+      for (int j = m_firstNeighbor[i]; j < m_firstNeighbor[i + 1]; j++) {
+        m_predecessors[nextPredecessor[m_neighbors[j]]++] = i;
+      }
+    }
+    m_stepsTo = new AtomicReferenceArray<>(count);
+    for (int i = 0; i < CONDITION_COUNT; i++) {
+      m_trees.add(new AtomicReferenceArray<>(count));
+    }
+  }
+
+  /**
+   * @return true if the distances and routes for the condition can be looked up in this graph.
+   */
+  static boolean isSupported(final Match<Territory> cond) {
+    return getCondition(cond) >= 0;
+  }
+
+  private static int getCondition(final Match<Territory> cond) {
+    if (cond == null || cond == Matches.TerritoryIsLandOrWater) {
+      return LAND_OR_WATER;
+    } else if (cond == Matches.TerritoryIsLand) {
+      return LAND;
+    } else if (cond == Matches.TerritoryIsWater) {
+      return WATER;
+    }
+    return -1;
+  }
+
+  /**
+   * @return the distance between the territories, or -1 if they are not connected.
+   */
+  int getDistance(final Territory t1, final Territory t2, final Match<Territory> cond) {
+    final int from = indexOf(t1);
+    final int to = indexOf(t2);
+    if (from < 0 || to < 0) {
+      return -1;
+    }
+    return getSearchTree(from, getCondition(cond)).m_distance[to];
+  }
+
+  /**
+   * @return a shortest route between the territories, or null if they are not connected.
+   */
+  Route getRoute(final Territory t1, final Territory t2, final Match<Territory> cond) {
+    final int from = indexOf(t1);
+    final int to = indexOf(t2);
+    if (from < 0 || to < 0) {
+      return null;
+    }
+    final SearchTree tree = getSearchTree(from, getCondition(cond));
+    final int distance = tree.m_distance[to];
+    if (distance < 0) {
+      return null;
+    }
+    final Territory[] route = new Territory[distance + 1];
+    int current = to;
+    for (int i = distance; i >= 0; i--) {
+      route[i] = m_territories.get(current);
+      current = tree.m_previous[current];
+    }
+    return new Route(Arrays.asList(route));
+  }
+
+  int size() {
+    return m_territories.size();
+  }
+
+  /**
+   * @return the index of the territory, or -1 if it is not on the map.
+   */
+  int indexOf(final Territory territory) {
+    final int ordinal = territory.getOrdinal();
+    if (ordinal >= 0 && ordinal < m_territories.size()) {
+      final Territory indexed = m_territories.get(ordinal);
+      if (indexed == territory || indexed.equals(territory)) {
+        return ordinal;
+      }
+    }
+    return -1;
+  }
+
+  Territory getTerritory(final int index) {
+    return m_territories.get(index);
+  }
+
+  int getFirstNeighbor(final int index) {
+    return m_firstNeighbor[index];
+  }
+
+  int getEndOfNeighbors(final int index) {
+    return m_firstNeighbor[index + 1];
+  }
+
+  int getNeighbor(final int neighborIndex) {
+    return m_neighbors[neighborIndex];
+  }
+
+  /**
+   * @return the smallest number of steps from every territory to the target, on any territories, or -1 for
+   *         territories that can not reach it. The array must not be changed.
+   */
+  int[] getStepsTo(final int target) {
+    int[] steps = m_stepsTo.get(target);
+    if (steps == null) {
+      steps = new int[m_territories.size()];
+      getStepsTo(new int[] {target}, steps);
+      m_stepsTo.set(target, steps);
+    }
+    return steps;
+  }
+
+  /**
+   * Fills steps with the smallest number of steps from every territory to the nearest of the targets, on any
+   * territories, or -1 for territories that can not reach any of them.
+   */
+  void getStepsTo(final int[] targets, final int[] steps) {
+    Arrays.fill(steps, 0, m_territories.size(), -1);
+    final int[] queue = new int[m_territories.size()];
+    int head = 0;
+    int tail = 0;
+    for (final int target : targets) {
+      if (steps[target] < 0) {
+        steps[target] = 0;
+        queue[tail++] = target;
+      }
+    }
+    while (head < tail) {
+      final int current = queue[head++];
+      for (int i = m_firstPredecessor[current]; i < m_firstPredecessor[current + 1]; i++) {
+        final int predecessor = m_predecessors[i];
+        if (steps[predecessor] < 0) {
+          steps[predecessor] = steps[current] + 1;
+          queue[tail++] = predecessor;
+        }
+      }
+    }
+  }
+
+  private SearchTree getSearchTree(final int from, final int condition) {
+    final AtomicReferenceArray<SearchTree> trees = m_trees.get(condition);
+    SearchTree tree = trees.get(from);
+    if (tree == null) {
+      // two threads may search at the same time, both find the same distances
+      tree = search(from, condition);
+      trees.set(from, tree);
+    }
+    return tree;
+  }
+
+  private SearchTree search(final int from, final int condition) {
+    final int count = m_territories.size();
+    final int[] distance = new int[count];
+    final int[] previous = new int[count];
+    Arrays.fill(distance, -1);
+    final int[] queue = new int[count];
+    int head = 0;
+    int tail = 0;
+    distance[from] = 0;
+    previous[from] = -1;
+    queue[tail++] = from;
+    while (head < tail) {
+      final int current = queue[head++];
+      for (int i = m_firstNeighbor[current]; i < m_firstNeighbor[current + 1]; i++) {
+        final int neighbor = m_neighbors[i];
+        if (distance[neighbor] < 0 && matches(neighbor, condition)) {
+          distance[neighbor] = distance[current] + 1;
+          previous[neighbor] = current;
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return new SearchTree(distance, previous);
+  }
+
+  private boolean matches(final int territory, final int condition) {
+    switch (condition) {
+      case LAND:
+        return !m_water[territory];
+      case WATER:
+        return m_water[territory];
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * The distances from one territory, and the previous territory on a shortest route to each territory.
+   */
+  private static final class SearchTree {
+    private final int[] m_distance;
+    private final int[] m_previous;
+
+    SearchTree(final int[] distance, final int[] previous) {
+      m_distance = distance;
+      m_previous = previous;
+    }
+  }
+}
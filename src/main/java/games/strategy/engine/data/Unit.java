@@ -78,7 +78,8 @@ public class Unit extends GameDataComponent {
   }
 
   /**
-   * can be null.
+   * can be null. The unit collection holding the unit must be told with
+   * {@link UnitCollection#unitOwnerChanged(Unit, PlayerID)}, as the changes of {@code ChangeFactory.changeOwner} do.
    */
   @GameProperty(xmlProperty = false, gameProperty = true, adds = false)
   public void setOwner(PlayerID player) {
@@ -3,9 +3,11 @@ package games.strategy.engine.data;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import games.strategy.util.IntegerMap;
@@ -13,11 +15,20 @@ import games.strategy.util.Match;
 
 /**
  * A collection of units.
+ *
+ * <p>
+ * The units are kept in the order they were added, and are also indexed by unit type and counted by owner, so the
+ * counts and the units of a type are found without looking at every unit. The index is built the first time it is
+ * needed, and is then kept up to date as units are added and removed, and as the units in the collection change
+ * owner.
+ * </p>
  */
 public class UnitCollection extends GameDataComponent implements Iterable<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
   private final List<Unit> m_units = new ArrayList<>();
   private final NamedUnitHolder m_holder;
+  // null until needed, replaced rather than built in place so that readers never see a half built index
+  private transient volatile UnitIndex m_index = null;
 
   /**
    * Creates new UnitCollection.
@@ -34,21 +45,46 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
 
   void addUnit(final Unit unit) {
     m_units.add(unit);
+    final UnitIndex index = m_index;
+    if (index != null) {
+      index.add(unit);
+    }
     m_holder.notifyChanged();
   }
 
   void addAllUnits(final UnitCollection collection) {
-    m_units.addAll(collection.m_units);
-    m_holder.notifyChanged();
+    addAllUnits(collection.m_units);
   }
 
   public void addAllUnits(final Collection<Unit> units) {
     m_units.addAll(units);
+    final UnitIndex index = m_index;
+    if (index != null) {
+      for (final Unit unit : units) {
+        index.add(unit);
+      }
+    }
     m_holder.notifyChanged();
   }
 
   public void removeAllUnits(final Collection<Unit> units) {
-    m_units.removeAll(units);
+    // contains on a list is slow, and would be called for every unit in this collection
+    final Collection<Unit> toRemove = (units instanceof Set || units.size() <= 4) ? units : new HashSet<>(units);
+    final UnitIndex index = m_index;
+    final Set<UnitType> removedTypes = new HashSet<>();
+    m_units.removeIf(unit -> {
+      if (!toRemove.contains(unit)) {
+        return false;
+      }
+      if (index != null) {
+        index.countRemoved(unit);
+        removedTypes.add(unit.getType());
+      }
+      return true;
+    });
+    if (index != null) {
+      index.removeFromTypes(removedTypes, toRemove);
+    }
     m_holder.notifyChanged();
   }
 
@@ -57,37 +93,16 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
   }
 
   int getUnitCount(final UnitType type) {
-    int count = 0;
-    final Iterator<Unit> iterator = m_units.iterator();
-    while (iterator.hasNext()) {
-      if (iterator.next().getType().equals(type)) {
-        count++;
-      }
-    }
-    return count;
+    return getIndex().getUnitsOfType(type).size();
   }
 
   public int getUnitCount(final UnitType type, final PlayerID owner) {
-    int count = 0;
-    final Iterator<Unit> iterator = m_units.iterator();
-    while (iterator.hasNext()) {
-      final Unit current = iterator.next();
-      if (current.getType().equals(type) && current.getOwner().equals(owner)) {
-        count++;
-      }
-    }
-    return count;
+    final IntegerMap<UnitType> counts = getIndex().m_countsByOwner.get(owner);
+    return counts == null ? 0 : counts.getInt(type);
   }
 
   int getUnitCount(final PlayerID owner) {
-    int count = 0;
-    final Iterator<Unit> iterator = m_units.iterator();
-    while (iterator.hasNext()) {
-      if (iterator.next().getOwner().equals(owner)) {
-        count++;
-      }
-    }
-    return count;
+    return getIndex().m_countByOwner.getInt(owner);
   }
 
   public boolean containsAll(final Collection<Unit> units) {
@@ -112,25 +127,18 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
     if (max_units < 0) {
       throw new IllegalArgumentException("value must be positiive.  Instead its:" + max_units);
     }
-    final Collection<Unit> rVal = new ArrayList<>();
-    for (final Unit current : m_units) {
-      if (current.getType().equals(type)) {
-        rVal.add(current);
-        if (rVal.size() == max_units) {
-          return rVal;
-        }
-      }
-    }
-    return rVal;
+    final List<Unit> units = getIndex().getUnitsOfType(type);
+    return new ArrayList<>(units.subList(0, Math.min(max_units, units.size())));
   }
 
   /**
    * @return integer map of UnitType.
    */
   public IntegerMap<UnitType> getUnitsByType() {
+    final UnitIndex index = getIndex();
     final IntegerMap<UnitType> units = new IntegerMap<>();
     for (final UnitType type : getData().getUnitTypeList()) {
-      final int count = getUnitCount(type);
+      final int count = index.getUnitsOfType(type).size();
       if (count > 0) {
         units.put(type, count);
       }
@@ -144,13 +152,8 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
    * @return map of UnitType (only of units for the specified player).
    */
   public IntegerMap<UnitType> getUnitsByType(final PlayerID id) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    for (final Unit unit : m_units) {
-      if (unit.getOwner().equals(id)) {
-        count.add(unit.getType(), 1);
-      }
-    }
-    return count;
+    final IntegerMap<UnitType> counts = getIndex().m_countsByOwner.get(id);
+    return counts == null ? new IntegerMap<>() : new IntegerMap<>(counts);
   }
 
   /**
@@ -183,26 +186,18 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
    */
   public Set<PlayerID> getPlayersWithUnits() {
     // note nulls are handled by PlayerID.NULL_PLAYERID
-    final Set<PlayerID> ids = new HashSet<>();
-    for (final Unit unit : m_units) {
-      ids.add(unit.getOwner());
-    }
-    return ids;
+    return new HashSet<>(getIndex().m_countByOwner.keySet());
   }
 
   /**
    * @return The count of units each player has in this collection.
    */
   public IntegerMap<PlayerID> getPlayerUnitCounts() {
-    final IntegerMap<PlayerID> count = new IntegerMap<>();
-    for (final Unit unit : m_units) {
-      count.add(unit.getOwner(), 1);
-    }
-    return count;
+    return new IntegerMap<>(getIndex().m_countByOwner);
   }
 
   public boolean hasUnitsFromMultiplePlayers() {
-    return getPlayersWithUnits().size() > 1;
+    return getIndex().m_countByOwner.size() > 1;
   }
 
   public NamedUnitHolder getHolder() {
@@ -257,4 +252,77 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
   public Iterator<Unit> iterator() {
     return Collections.unmodifiableList(m_units).iterator();
   }
+
+  /**
+   * Called when a unit in this collection changed owner, counts the unit for its new owner.
+   */
+  public void unitOwnerChanged(final Unit unit, final PlayerID oldOwner) {
+    final UnitIndex index = m_index;
+    if (index != null && index.getUnitsOfType(unit.getType()).contains(unit)) {
+      index.count(oldOwner, unit.getType(), -1);
+      index.count(unit.getOwner(), unit.getType(), 1);
+    }
+  }
+
+  private UnitIndex getIndex() {
+    UnitIndex index = m_index;
+    if (index == null) {
+      // two readers may build it at the same time, both build the same index
+      index = new UnitIndex(m_units);
+      m_index = index;
+    }
+    return index;
+  }
+
+  /**
+   * The units of each type, in the order of the collection, and the number of units of each owner.
+   */
+  private static final class UnitIndex {
+    private final Map<UnitType, List<Unit>> m_unitsByType = new HashMap<>();
+    private final Map<PlayerID, IntegerMap<UnitType>> m_countsByOwner = new HashMap<>();
+    private final IntegerMap<PlayerID> m_countByOwner = new IntegerMap<>();
+
+    UnitIndex(final List<Unit> units) {
+      for (final Unit unit : units) {
+        add(unit);
+      }
+    }
+
+    List<Unit> getUnitsOfType(final UnitType type) {
+      final List<Unit> units = m_unitsByType.get(type);
+      return units == null ? Collections.emptyList() : units;
+    }
+
+    void add(final Unit unit) {
+      m_unitsByType.computeIfAbsent(unit.getType(), type -> new ArrayList<>()).add(unit);
+      count(unit.getOwner(), unit.getType(), 1);
+    }
+
+    void countRemoved(final Unit unit) {
+      count(unit.getOwner(), unit.getType(), -1);
+    }
+
+    void count(final PlayerID owner, final UnitType type, final int units) {
+      final IntegerMap<UnitType> counts = m_countsByOwner.computeIfAbsent(owner, o -> new IntegerMap<>());
+      counts.add(type, units);
+      if (counts.getInt(type) == 0) {
+        counts.removeKey(type);
+      }
+      m_countByOwner.add(owner, units);
+      if (m_countByOwner.getInt(owner) == 0) {
+        m_countByOwner.removeKey(owner);
+        m_countsByOwner.remove(owner);
+      }
+    }
+
+    void removeFromTypes(final Collection<UnitType> types, final Collection<Unit> removed) {
+      for (final UnitType type : types) {
+        final List<Unit> units = m_unitsByType.get(type);
+        units.removeIf(removed::contains);
+        if (units.isEmpty()) {
+          m_unitsByType.remove(type);
+        }
+      }
+    }
+  }
 }
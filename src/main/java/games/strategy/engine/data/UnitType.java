@@ -23,11 +23,21 @@ import games.strategy.util.LocalizeHTML;
  */
 public class UnitType extends NamedAttachable {
   private static final long serialVersionUID = 4885339076798905247L;
+  // the traits of this type worked out so far, see UnitTypeMatch
+  private transient volatile long[] traitCache = null;
 
   public UnitType(final String name, final GameData data) {
     super(name, data);
   }
 
+  long[] getTraitCache() {
+    return traitCache;
+  }
+
+  void setTraitCache(final long[] traitCache) {
+    this.traitCache = traitCache;
+  }
+
   public List<Unit> create(final int quantity, final PlayerID owner) {
     return create(quantity, owner, false);
   }
@@ -1,8 +1,10 @@
 package games.strategy.engine.data;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -12,7 +14,8 @@ import java.util.Set;
  */
 public class UnitTypeList extends GameDataComponent implements Iterable<UnitType> {
   private static final long serialVersionUID = 9002927658524651749L;
-  private final Map<String, UnitType> m_unitTypes = new HashMap<>();
+  // linked, so the ordinals are the same in copies
+  private final Map<String, UnitType> m_unitTypes = new LinkedHashMap<>();
 
   /**
    * Creates new UnitTypeCollection.
@@ -25,7 +28,16 @@ public class UnitTypeList extends GameDataComponent implements Iterable<UnitType
   }
 
   protected void addUnitType(final UnitType type) {
-    m_unitTypes.put(type.getName(), type);
+    final UnitType old = m_unitTypes.put(type.getName(), type);
+    type.setOrdinal(old == null ? m_unitTypes.size() - 1 : old.getOrdinal());
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int ordinal = 0;
+    for (final UnitType type : m_unitTypes.values()) {
+      type.setOrdinal(ordinal++);
+    }
   }
 
   public UnitType getUnitType(final String name) {
@@ -0,0 +1,168 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import games.strategy.util.Match;
+
+/**
+ * A match on units that only depends on the attachments of their unit type, a trait of the type like being a sea unit.
+ *
+ * <p>
+ * Every trait gets one bit, and the answers for all traits are worked out once per unit type and kept on the type as
+ * a bitset, until an attachment changes. Asking the match for a unit is then a mask test on the bitset of its type.
+ * Traits that are asked for together in a composite match are fused into one mask test: all of them (or none of
+ * them, or a mix) for and, any of them for or.
+ * </p>
+ *
+ * <p>
+ * Only the traits of static matches should be registered. There is no limit on their number, every 64 traits take
+ * one more word of the bitsets. A trait that throws for a type is not kept, it is asked again (and throws again) every
+ * time.
+ * </p>
+ */
+public final class UnitTypeMatch extends Match<Unit> {
+  // the entries of the trait cache of a unit type, followed by the words of the traits known, then of their values
+  private static final int ATTACHMENT_CHANGES = 0;
+  private static final int TRAIT_COUNT = 1;
+  private static final int KNOWN = 2;
+  private static final Object s_traitsLock = new Object();
+  private static volatile List<Match<UnitType>> s_traits = Collections.emptyList();
+  // traits that must be true, and traits that must be false, words of the same length
+  private final long[] m_trueMask;
+  private final long[] m_falseMask;
+  // true if one of the masks must hold, false if all of them must hold
+  private final boolean m_any;
+
+  /**
+   * Creates a match on units whose type matches the trait, and registers the trait.
+   */
+  public UnitTypeMatch(final Match<UnitType> trait) {
+    final int index = register(trait);
+    m_trueMask = new long[index / Long.SIZE + 1];
+    m_trueMask[index / Long.SIZE] = 1L << index;
+    m_falseMask = new long[m_trueMask.length];
+    m_any = false;
+  }
+
+  private UnitTypeMatch(final long[] trueMask, final long[] falseMask, final boolean any) {
+    m_trueMask = trueMask;
+    m_falseMask = falseMask;
+    m_any = any;
+  }
+
+  private static int register(final Match<UnitType> trait) {
+    synchronized (s_traitsLock) {
+      final List<Match<UnitType>> traits = new ArrayList<>(s_traits);
+      traits.add(trait);
+      s_traits = Collections.unmodifiableList(traits);
+      return traits.size() - 1;
+    }
+  }
+
+  private static int getWordCount(final int traitCount) {
+    return (traitCount + Long.SIZE - 1) / Long.SIZE;
+  }
+
+  @Override
+  public boolean match(final Unit unit) {
+    final UnitType type = unit.getType();
+    final long[] traits = getTraits(type);
+    for (int i = 0; i < m_trueMask.length; i++) {
+      final long mask = m_trueMask[i] | m_falseMask[i];
+      if ((traits[KNOWN + i] & mask) != mask) {
+        return matchTraits(type);
+      }
+    }
+    final int values = KNOWN + getWordCount((int) traits[TRAIT_COUNT]);
+    for (int i = 0; i < m_trueMask.length; i++) {
+      final long value = traits[values + i];
+      if (m_any) {
+        if ((value & m_trueMask[i]) != 0 || (~value & m_falseMask[i]) != 0) {
+          return true;
+        }
+      } else if ((value & m_trueMask[i]) != m_trueMask[i] || (value & m_falseMask[i]) != 0) {
+        return false;
+      }
+    }
+    return !m_any;
+  }
+
+  private boolean matchTraits(final UnitType type) {
+    final List<Match<UnitType>> traits = s_traits;
+    for (int i = 0; i < m_trueMask.length * Long.SIZE && i < traits.size(); i++) {
+      final long bit = 1L << i;
+      if ((m_trueMask[i / Long.SIZE] & bit) != 0 && traits.get(i).match(type) == m_any) {
+        return m_any;
+      }
+      if ((m_falseMask[i / Long.SIZE] & bit) != 0 && traits.get(i).match(type) != m_any) {
+        return m_any;
+      }
+    }
+    return !m_any;
+  }
+
+  private static long[] getTraits(final UnitType type) {
+    final List<Match<UnitType>> traits = s_traits;
+    final int attachmentChanges = type.getData() == null ? 0 : type.getData().getAttachmentChanges();
+    long[] cache = type.getTraitCache();
+    if (cache == null || cache[ATTACHMENT_CHANGES] != attachmentChanges || cache[TRAIT_COUNT] != traits.size()) {
+      final int words = getWordCount(traits.size());
+      cache = new long[KNOWN + 2 * words];
+      cache[ATTACHMENT_CHANGES] = attachmentChanges;
+      cache[TRAIT_COUNT] = traits.size();
+      for (int i = 0; i < traits.size(); i++) {
+        try {
+          if (traits.get(i).match(type)) {
+            cache[KNOWN + words + i / Long.SIZE] |= 1L << i;
+          }
+          cache[KNOWN + i / Long.SIZE] |= 1L << i;
+        } catch (final RuntimeException e) {
+          // asked again when it is needed, so it throws where it is asked
+        }
+      }
+      type.setTraitCache(cache);
+    }
+    return cache;
+  }
+
+  private boolean isSingleTrait() {
+    int count = 0;
+    for (int i = 0; i < m_trueMask.length; i++) {
+      if ((m_trueMask[i] & m_falseMask[i]) != 0) {
+        return false;
+      }
+      count += Long.bitCount(m_trueMask[i] | m_falseMask[i]);
+    }
+    return count == 1;
+  }
+
+  @Override
+  protected Match<Unit> fuse(final Match<Unit> other, final boolean and) {
+    if (!(other instanceof UnitTypeMatch)) {
+      return null;
+    }
+    final UnitTypeMatch otherTraits = (UnitTypeMatch) other;
+    final boolean any = !and;
+    if ((m_any != any && !isSingleTrait()) || (otherTraits.m_any != any && !otherTraits.isSingleTrait())) {
+      return null;
+    }
+    return new UnitTypeMatch(or(m_trueMask, otherTraits.m_trueMask), or(m_falseMask, otherTraits.m_falseMask), any);
+  }
+
+  private static long[] or(final long[] first, final long[] second) {
+    final long[] longer = first.length >= second.length ? first : second;
+    final long[] shorter = longer == first ? second : first;
+    final long[] rVal = longer.clone();
+    for (int i = 0; i < shorter.length; i++) {
+      rVal[i] |= shorter[i];
+    }
+    return rVal;
+  }
+
+  @Override
+  protected Match<Unit> negate() {
+    return new UnitTypeMatch(m_falseMask, m_trueMask, !m_any);
+  }
+}
@@ -0,0 +1,225 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import games.strategy.util.Match;
+
+/**
+ * Finds the cheapest route from a territory to one of several targets with A*, where the cost of every move comes from
+ * a {@link RouteCost}. The remaining cost is guessed from the number of steps to the nearest target (found on the
+ * reversed {@link TerritoryGraph}) times the minimum cost of a move, which is never more than the real cost, so the
+ * route found is always the cheapest.
+ *
+ * <p>
+ * Like the other route finders, the start of a route does not need to match the condition, but every other territory
+ * on it does. The search uses int indexes into the graph and keeps its arrays in a context per thread, so a search
+ * does not allocate more than the route it returns.
+ * </p>
+ */
+final class WeightedRouteFinder {
+  private static final ThreadLocal<SearchContext> s_context = ThreadLocal.withInitial(SearchContext::new);
+
+  private WeightedRouteFinder() {}
+
+  /**
+   * @return the cheapest route from start to any of the targets, or null if none of them can be reached.
+   */
+  static Route findRoute(final TerritoryGraph graph, final Territory start, final Collection<Territory> targets,
+      final Match<Territory> cond, final RouteCost cost) {
+    final int from = graph.indexOf(start);
+    if (from < 0) {
+      throw new IllegalArgumentException("Territory not on map: " + start);
+    }
+    final int[] to = new int[targets.size()];
+    int targetCount = 0;
+    for (final Territory target : targets) {
+      final int index = graph.indexOf(target);
+      if (index >= 0) {
+        to[targetCount++] = index;
+      }
+    }
+    if (targetCount == 0) {
+      return null;
+    }
+    if (cost.getMinimumCost() < 0) {
+      throw new IllegalArgumentException("Minimum cost: " + cost.getMinimumCost() + " is negative");
+    }
+    SearchContext context = s_context.get();
+    if (context.m_inUse) {
+      // a condition or cost is looking for a route itself
+      context = new SearchContext();
+    }
+    context.m_inUse = true;
+    try {
+      return context.findRoute(graph, from, Arrays.copyOf(to, targetCount), cond, cost);
+    } finally {
+      context.m_inUse = false;
+    }
+  }
+
+  /**
+   * The arrays of one search. Every array entry is only valid if its stamp is the number of the current search, so
+   * nothing has to be cleared between searches.
+   */
+  private static final class SearchContext {
+    private static final byte NOT_MATCHED = 1;
+    private static final byte MATCHED = 2;
+    private boolean m_inUse = false;
+    private int m_search = 0;
+    private int[] m_seen = new int[0];
+    private int[] m_closed = new int[0];
+    private int[] m_target = new int[0];
+    private int[] m_matchStamp = new int[0];
+    private byte[] m_match = new byte[0];
+    private int[] m_cost = new int[0];
+    private int[] m_previous = new int[0];
+    private int[] m_steps = new int[0];
+    // open territories as (estimated total cost << 32 | index), a binary heap, old entries are skipped when taken
+    private long[] m_open = new long[16];
+    private int m_openSize = 0;
+
+    private void prepare(final int size) {
+      if (m_seen.length < size) {
+        m_seen = new int[size];
+        m_closed = new int[size];
+        m_target = new int[size];
+        m_matchStamp = new int[size];
+        m_match = new byte[size];
+        m_cost = new int[size];
+        m_previous = new int[size];
+        m_steps = new int[size];
+        m_search = 0;
+      }
+      m_search++;
+      if (m_search == Integer.MAX_VALUE) {
+        Arrays.fill(m_seen, 0);
+        Arrays.fill(m_closed, 0);
+        Arrays.fill(m_target, 0);
+        Arrays.fill(m_matchStamp, 0);
+        m_search = 1;
+      }
+      m_openSize = 0;
+    }
+
+    Route findRoute(final TerritoryGraph graph, final int from, final int[] targets, final Match<Territory> cond,
+        final RouteCost cost) {
+      prepare(graph.size());
+      for (final int target : targets) {
+        m_target[target] = m_search;
+      }
+      final int[] steps;
+      if (targets.length == 1) {
+        steps = graph.getStepsTo(targets[0]);
+      } else {
+        graph.getStepsTo(targets, m_steps);
+        steps = m_steps;
+      }
+      if (steps[from] < 0) {
+        return null;
+      }
+      final int minimumCost = cost.getMinimumCost();
+      m_seen[from] = m_search;
+      m_cost[from] = 0;
+      m_previous[from] = -1;
+      push(steps[from] * minimumCost, from);
+      while (m_openSize > 0) {
+        final int current = pop();
+        if (m_closed[current] == m_search) {
+          continue;
+        }
+        m_closed[current] = m_search;
+        if (m_target[current] == m_search) {
+          return getRoute(graph, current);
+        }
+        final Territory currentTerritory = graph.getTerritory(current);
+        for (int i = graph.getFirstNeighbor(current); i < graph.getEndOfNeighbors(current); i++) {
+          final int neighbor = graph.getNeighbor(i);
+          if (m_closed[neighbor] == m_search || steps[neighbor] < 0 || !matches(graph, neighbor, cond)) {
+            continue;
+          }
+          final int moveCost = cost.getCost(currentTerritory, graph.getTerritory(neighbor));
+          if (moveCost == RouteCost.CANNOT_MOVE) {
+            continue;
+          }
+          if (moveCost < minimumCost) {
+            throw new IllegalStateException("Move cost: " + moveCost + " is less than the minimum cost: "
+                + minimumCost + " from: " + currentTerritory + " to: " + graph.getTerritory(neighbor));
+          }
+          final int routeCost = m_cost[current] + moveCost;
+          if (m_seen[neighbor] != m_search || routeCost < m_cost[neighbor]) {
+            m_seen[neighbor] = m_search;
+            m_cost[neighbor] = routeCost;
+            m_previous[neighbor] = current;
+            push(routeCost + steps[neighbor] * minimumCost, neighbor);
+          }
+        }
+      }
+      return null;
+    }
+
+    private boolean matches(final TerritoryGraph graph, final int index, final Match<Territory> cond) {
+      if (cond == null) {
+        return true;
+      }
+      if (m_matchStamp[index] != m_search) {
+        m_matchStamp[index] = m_search;
+        m_match[index] = cond.match(graph.getTerritory(index)) ? MATCHED : NOT_MATCHED;
+      }
+      return m_match[index] == MATCHED;
+    }
+
+    private Route getRoute(final TerritoryGraph graph, final int end) {
+      final List<Territory> route = new ArrayList<>();
+      for (int current = end; current >= 0; current = m_previous[current]) {
+        route.add(graph.getTerritory(current));
+      }
+      Collections.reverse(route);
+      return new Route(route);
+    }
+
+    private void push(final int estimatedCost, final int index) {
+      if (m_openSize == m_open.length) {
+        m_open = Arrays.copyOf(m_open, m_open.length * 2);
+      }
+      final long entry = ((long) estimatedCost << 32) | index;
+      int child = m_openSize++;
+      while (child > 0) {
+        final int parent = (child - 1) >>> 1;
+        if (m_open[parent] <= entry) {
+          break;
+        }
+        m_open[child] = m_open[parent];
+        child = parent;
+      }
+      m_open[child] = entry;
+    }
+
+    private int pop() {
+      final long first = m_open[0];
+      final long last = m_open[--m_openSize];
+      int parent = 0;
+      while (true) {
+        int child = 2 * parent + 1;
+        if (child >= m_openSize) {
+          break;
+        }
+        if (child + 1 < m_openSize && m_open[child + 1] < m_open[child]) {
+          child++;
+        }
+        if (last <= m_open[child]) {
+          break;
+        }
+        m_open[parent] = m_open[child];
+        parent = child;
+      }
+      if (m_openSize > 0) {
+        m_open[parent] = last;
+      }
+      return (int) first;
+    }
+  }
+}
@@ -26,6 +26,7 @@ class AddAttachmentChange extends Change {
     m_attachable.addAttachment(m_name, m_attachment);
     m_attachment.setName(m_name);
     m_attachment.setAttachedTo(m_attachable);
+    data.attachmentChanged();
   }
 
   @Override
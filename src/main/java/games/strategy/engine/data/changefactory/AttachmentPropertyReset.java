@@ -46,6 +46,7 @@ class AttachmentPropertyReset extends Change {
   public void perform(final GameData data) {
     final IAttachment attachment = m_attachedTo.getAttachment(m_attachmentName);
     PropertyUtil.reset(m_property, attachment);
+    data.attachmentChanged();
   }
 
   @Override
@@ -0,0 +1,142 @@
+package games.strategy.engine.data.changefactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.Unit;
+
+/**
+ * Compacts a list of changes into a change with the same effect, made of fewer changes.
+ *
+ * <p>
+ * Units added to a unit holder and later removed from it (units moving through a territory, or loaded and unloaded)
+ * are neither added nor removed. The property changes of a unit are merged into the last one, with the old value of
+ * the first one. The resource changes of a player are summed into the last one. All other changes are kept as they
+ * are, in their order.
+ * </p>
+ */
+final class ChangeCompactor {
+  // unit properties other changes set too, so their changes are not merged
+  private static final Set<String> SHARED_UNIT_PROPERTIES = new HashSet<>(Arrays.asList("hits", "unitDamage", "owner"));
+  private final List<Change> m_changes = new ArrayList<>();
+  // unit holder type and name -> unit -> index of the change that added it
+  private final Map<String, Map<Unit, Integer>> m_addedUnits = new HashMap<>();
+  // index of a unit change -> the units it no longer adds or removes
+  private final Map<Integer, Set<Unit>> m_cancelledUnits = new HashMap<>();
+  // unit -> property -> index of its last change
+  private final Map<Unit, Map<String, Integer>> m_propertyChanges = new HashMap<>();
+  // player and resource -> index of its last change
+  private final Map<String, Integer> m_resourceChanges = new HashMap<>();
+
+  private ChangeCompactor() {}
+
+  static Change compact(final List<Change> changes) {
+    final ChangeCompactor compactor = new ChangeCompactor();
+    for (final Change change : changes) {
+      compactor.add(change);
+    }
+    return compactor.getCompacted();
+  }
+
+  private void add(final Change change) {
+    if (change instanceof CompositeChange) {
+      for (final Change child : ((CompositeChange) change).getChanges()) {
+        add(child);
+      }
+      return;
+    }
+    final int index = m_changes.size();
+    m_changes.add(change);
+    if (change instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) change;
+      final Map<Unit, Integer> added = getAddedUnits(addUnits.getType(), addUnits.getName());
+      for (final Unit unit : addUnits.getUnits()) {
+        added.put(unit, index);
+      }
+    } else if (change instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) change;
+      final Map<Unit, Integer> added = getAddedUnits(removeUnits.getType(), removeUnits.getName());
+      for (final Unit unit : removeUnits.getUnits()) {
+        final Integer addedAt = added.remove(unit);
+        if (addedAt != null) {
+          cancel(addedAt, unit);
+          cancel(index, unit);
+        }
+      }
+    } else if (change instanceof ObjectPropertyChange) {
+      final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+      if (!(propertyChange.getObject() instanceof Unit)
+          || SHARED_UNIT_PROPERTIES.contains(propertyChange.getProperty())) {
+        return;
+      }
+      final Map<String, Integer> properties =
+          m_propertyChanges.computeIfAbsent((Unit) propertyChange.getObject(), unit -> new HashMap<>());
+      final Integer previous = properties.put(propertyChange.getProperty(), index);
+      if (previous != null) {
+        final ObjectPropertyChange first = (ObjectPropertyChange) m_changes.set(previous, null);
+        m_changes.set(index, new ObjectPropertyChange(propertyChange.getObject(), propertyChange.getProperty(),
+            propertyChange.getNewValue(), first.getOldValue()));
+      }
+    } else if (change instanceof ChangeResourceChange) {
+      final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+      final Integer previous =
+          m_resourceChanges.put(resourceChange.getPlayer() + ":" + resourceChange.getResource(), index);
+      if (previous != null) {
+        final ChangeResourceChange first = (ChangeResourceChange) m_changes.set(previous, null);
+        m_changes.set(index, new ChangeResourceChange(resourceChange.getPlayer(), resourceChange.getResource(),
+            first.getQuantity() + resourceChange.getQuantity()));
+      }
+    }
+  }
+
+  private Map<Unit, Integer> getAddedUnits(final String type, final String name) {
+    return m_addedUnits.computeIfAbsent(type + ":" + name, holder -> new HashMap<>());
+  }
+
+  private void cancel(final int index, final Unit unit) {
+    m_cancelledUnits.computeIfAbsent(index, i -> new HashSet<>()).add(unit);
+  }
+
+  private Change getCompacted() {
+    final List<Change> compacted = new ArrayList<>();
+    for (int i = 0; i < m_changes.size(); i++) {
+      final Change change = m_changes.get(i);
+      final Set<Unit> cancelled = m_cancelledUnits.get(i);
+      if (change == null) {
+        continue;
+      } else if (cancelled == null) {
+        compacted.add(change);
+      } else if (change instanceof AddUnits) {
+        final AddUnits addUnits = (AddUnits) change;
+        final List<Unit> units = getRemaining(addUnits.getUnits(), cancelled);
+        if (!units.isEmpty()) {
+          compacted.add(new AddUnits(addUnits.getName(), addUnits.getType(), units));
+        }
+      } else {
+        final RemoveUnits removeUnits = (RemoveUnits) change;
+        final List<Unit> units = getRemaining(removeUnits.getUnits(), cancelled);
+        if (!units.isEmpty()) {
+          compacted.add(new RemoveUnits(removeUnits.getName(), removeUnits.getType(), units));
+        }
+      }
+    }
+    return new CompositeChange(compacted);
+  }
+
+  private static List<Unit> getRemaining(final Iterable<Unit> units, final Set<Unit> cancelled) {
+    final List<Unit> remaining = new ArrayList<>();
+    for (final Unit unit : units) {
+      if (!cancelled.contains(unit)) {
+        remaining.add(unit);
+      }
+    }
+    return remaining;
+  }
+}
@@ -241,6 +241,14 @@ public class ChangeFactory {
   public static Change markNoMovementChange(final Unit unit) {
     return unitPropertyChange(unit, TripleAUnit.get(unit).getMaxMovementAllowed(), TripleAUnit.ALREADY_MOVED);
   }
+
+  /**
+   * @return a change with the same effect as the changes, made of fewer changes, like units moved through a territory
+   *         only moved to where they end.
+   */
+  public static Change compact(final List<Change> changes) {
+    return ChangeCompactor.compact(changes);
+  }
 }
 
 
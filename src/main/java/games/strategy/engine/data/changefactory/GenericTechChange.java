@@ -45,6 +45,7 @@ class GenericTechChange extends Change {
   public void perform(final GameData data) {
     final TechAttachment attachment = (TechAttachment) m_attachedTo.getAttachment(m_attachmentName);
     attachment.setGenericTech(m_property, m_newValue);
+    data.attachmentChanged();
   }
 
   @Override
@@ -22,8 +22,7 @@ public class ObjectPropertyChange extends Change {
     m_oldValue = PropertyUtil.getPropertyFieldObject(property, object);
   }
 
-  private ObjectPropertyChange(final Object object, final String property, final Object newValue,
-      final Object oldValue) {
+  ObjectPropertyChange(final Object object, final String property, final Object newValue, final Object oldValue) {
     m_object = object;
     // prevent multiple copies of the property names being held in the game
     m_property = property.intern();
@@ -46,6 +45,22 @@ public class ObjectPropertyChange extends Change {
     PropertyUtil.set(m_property, m_newValue, m_object);
   }
 
+  Object getObject() {
+    return m_object;
+  }
+
+  String getProperty() {
+    return m_property;
+  }
+
+  Object getNewValue() {
+    return m_newValue;
+  }
+
+  Object getOldValue() {
+    return m_oldValue;
+  }
+
   @Override
   public String toString() {
     return "Property change, unit:" + m_object + " property:" + m_property + " newValue:" + m_newValue + " oldValue:"
@@ -46,6 +46,7 @@ class PlayerOwnerChange extends Change {
 
   @Override
   protected void perform(final GameData data) {
+    final Territory location = data.getMap().getTerritory(m_location);
     for (final GUID id : m_new.keySet()) {
       final Unit unit = data.getUnits().get(id);
       if (!m_old.get(id).equals(unit.getOwner().getName())) {
@@ -53,9 +54,11 @@ class PlayerOwnerChange extends Change {
       }
       final String owner = m_new.get(id);
       final PlayerID player = data.getPlayerList().getPlayerID(owner);
+      final PlayerID oldOwner = unit.getOwner();
       unit.setOwner(player);
+      location.getUnits().unitOwnerChanged(unit, oldOwner);
     }
-    data.getMap().getTerritory(m_location).notifyChanged();
+    location.notifyChanged();
   }
 
   @Override
@@ -29,6 +29,7 @@ class RemoveAttachmentChange extends Change {
     if (m_attachable != null && m_name != null) {
       m_attachable.addAttachment(m_name, m_attachment);
     }
+    data.attachmentChanged();
   }
 
   @Override
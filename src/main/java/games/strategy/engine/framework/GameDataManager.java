@@ -1,6 +1,7 @@
 package games.strategy.engine.framework;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -39,6 +40,8 @@ public class GameDataManager {
   private static final String DELEGATE_START = "<DelegateStart>";
   private static final String DELEGATE_DATA_NEXT = "<DelegateData>";
   private static final String DELEGATE_LIST_END = "<EndDelegateList>";
+  // (de)compress in large chunks, the object input stream reads only a few bytes at a time
+  private static final int BUFFER_SIZE = 64 * 1024;
 
   public GameDataManager() {}
 
@@ -57,7 +60,8 @@ public class GameDataManager {
   }
 
   public GameData loadGame(final InputStream inputStream, final String savegamePath) throws IOException {
-    ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(inputStream));
+    ObjectInputStream input =
+        new ObjectInputStream(new BufferedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE), BUFFER_SIZE));
     try {
       final Version readVersion = (Version) input.readObject();
       final boolean headless = HeadlessGameServer.headless();
@@ -219,10 +223,58 @@ public class GameDataManager {
   }
 
   void saveGame(final OutputStream sink, final GameData data, final boolean saveDelegateInfo) throws IOException {
-    // write internally first in case of error
+    // write internally first in case of error, and only hold the read lock while serializing
+    writeSaveGame(sink, serializeSaveGame(data, saveDelegateInfo));
+  }
+
+  /**
+   * Serializes the engine version, the game data and (optionally) its delegates into the uncompressed content of a save
+   * game. This is the part of saving that must see a game that does not change, {@link #writeSaveGame(OutputStream,
+   * byte[])} can be done later, on another thread.
+   */
+  static byte[] serializeSaveGame(final GameData data, final boolean saveDelegateInfo) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(25000);
+    try (final ObjectOutputStream outStream = new ObjectOutputStream(bytes)) {
+      outStream.writeObject(games.strategy.engine.ClientContext.engineVersion().getVersion());
+      writeGameData(data, outStream, saveDelegateInfo);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Compresses the content of a save game from {@link #serializeSaveGame(GameData, boolean)} into the sink.
+   */
+  static void writeSaveGame(final OutputStream sink, final byte[] serializedSaveGame) throws IOException {
+    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink, BUFFER_SIZE)) {
+      zippedOut.write(serializedSaveGame);
+    }
+  }
+
+  /**
+   * Serializes the game data (and optionally its delegates) into an uncompressed, version-less byte array that can only
+   * be read back by {@link #readGameData(byte[])} within the same engine. Used for in-memory copies of a game.
+   */
+  static byte[] writeGameData(final GameData data, final boolean saveDelegateInfo) throws IOException {
     final ByteArrayOutputStream bytes = new ByteArrayOutputStream(25000);
-    final ObjectOutputStream outStream = new ObjectOutputStream(bytes);
-    outStream.writeObject(games.strategy.engine.ClientContext.engineVersion().getVersion());
+    try (final ObjectOutputStream outStream = new ObjectOutputStream(bytes)) {
+      writeGameData(data, outStream, saveDelegateInfo);
+    }
+    return bytes.toByteArray();
+  }
+
+  static GameData readGameData(final byte[] bytes) throws IOException {
+    try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      final GameData data = (GameData) input.readObject();
+      loadDelegates(input, data);
+      data.postDeSerialize();
+      return data;
+    } catch (final ClassNotFoundException cnfe) {
+      throw new IOException(cnfe.getMessage());
+    }
+  }
+
+  private static void writeGameData(final GameData data, final ObjectOutputStream outStream,
+      final boolean saveDelegateInfo) throws IOException {
     data.acquireReadLock();
     try {
       outStream.writeObject(data);
@@ -234,10 +286,6 @@ public class GameDataManager {
     } finally {
       data.releaseReadLock();
     }
-    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
-      // now write to file
-      zippedOut.write(bytes.toByteArray());
-    }
   }
 
   private static void writeDelegates(final GameData data, final ObjectOutputStream out) throws IOException {
@@ -0,0 +1,45 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+
+import games.strategy.engine.data.GameData;
+
+/**
+ * An immutable, point in time copy of a {@link GameData}, held as its uncompressed serialized form.
+ *
+ * <p>
+ * Taking the snapshot is the only step that needs the read lock of the original game data, so the game can continue
+ * while copies are made. Any number of independent game datas can then be forked from the snapshot, concurrently and
+ * without touching the original again. Every fork still deserializes the whole game, so it costs as much as the game
+ * is large; only the serialization is shared between the forks (for example one per odds calculator worker).
+ * </p>
+ */
+public final class GameDataSnapshot {
+  private final byte[] bytes;
+
+  private GameDataSnapshot(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Takes a snapshot of the given game data. The read lock of the game data is acquired while the snapshot is taken.
+   */
+  public static GameDataSnapshot of(final GameData data, final boolean copyDelegates) throws IOException {
+    return new GameDataSnapshot(GameDataManager.writeGameData(data, copyDelegates));
+  }
+
+  /**
+   * Creates a new game data from this snapshot. The returned game data shares no state with the original game data or
+   * with any other game data forked from this snapshot. This method is thread safe.
+   */
+  public GameData fork() throws IOException {
+    return GameDataManager.readGameData(bytes);
+  }
+
+  /**
+   * @return the number of bytes held by this snapshot.
+   */
+  public int size() {
+    return bytes.length;
+  }
+}
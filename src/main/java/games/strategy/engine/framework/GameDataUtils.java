@@ -15,18 +15,12 @@ public class GameDataUtils {
   }
 
   /**
-   * Create a deep copy of GameData.
+   * Create a full deep copy of GameData, by serializing all of it and deserializing it again.
    * <Strong>You should have the game datas read or write lock before calling this method</STRONG>
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
     try {
-      final GameDataManager manager = new GameDataManager();
-      ByteArrayOutputStream sink = new ByteArrayOutputStream(10000);
-      manager.saveGame(sink, data, copyDelegates);
-      sink.close();
-      final ByteArrayInputStream source = new ByteArrayInputStream(sink.toByteArray());
-      sink = null;
-      return manager.loadGame(source, null);
+      return GameDataSnapshot.of(data, copyDelegates).fork();
     } catch (final IOException ex) {
       ClientLogger.logQuietly(ex);
       return null;
@@ -0,0 +1,81 @@
+package games.strategy.engine.framework;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long the saves of a game took: the snapshot, taken while delegate execution is blocked, and the write, which
+ * compresses the snapshot and writes it out (for autosaves on a background thread, without blocking the game).
+ */
+public final class SaveGameLatency {
+  private int m_saves = 0;
+  private int m_sharedSnapshots = 0;
+  private long m_lastSnapshotNanos = 0;
+  private long m_lastWriteNanos = 0;
+  private long m_totalSnapshotNanos = 0;
+  private long m_totalWriteNanos = 0;
+  private long m_maxSnapshotNanos = 0;
+  private int m_lastSnapshotBytes = 0;
+
+  synchronized void recordSnapshot(final long nanos, final int bytes) {
+    m_lastSnapshotNanos = nanos;
+    m_lastSnapshotBytes = bytes;
+    m_totalSnapshotNanos += nanos;
+    m_maxSnapshotNanos = Math.max(m_maxSnapshotNanos, nanos);
+  }
+
+  synchronized void recordWrite(final long nanos) {
+    m_saves++;
+    m_lastWriteNanos = nanos;
+    m_totalWriteNanos += nanos;
+  }
+
+  /**
+   * Records observers that joined with a snapshot taken for another observer.
+   */
+  synchronized void recordSharedSnapshots(final int observers) {
+    m_sharedSnapshots += observers;
+  }
+
+  public synchronized int getSaveCount() {
+    return m_saves;
+  }
+
+  public synchronized int getSharedSnapshotCount() {
+    return m_sharedSnapshots;
+  }
+
+  public synchronized long getLastSnapshotMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_lastSnapshotNanos);
+  }
+
+  public synchronized long getMaxSnapshotMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_maxSnapshotNanos);
+  }
+
+  /**
+   * @return the size of the last snapshot, the serialized size of the game.
+   */
+  public synchronized int getLastSnapshotBytes() {
+    return m_lastSnapshotBytes;
+  }
+
+  public synchronized long getLastWriteMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_lastWriteNanos);
+  }
+
+  public synchronized long getAverageSnapshotMillis() {
+    return m_saves == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(m_totalSnapshotNanos / m_saves);
+  }
+
+  public synchronized long getAverageWriteMillis() {
+    return m_saves == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(m_totalWriteNanos / m_saves);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "Saves: " + m_saves + ", Snapshot ms (last/avg/max): " + getLastSnapshotMillis() + "/"
+        + getAverageSnapshotMillis() + "/" + getMaxSnapshotMillis() + ", Write ms (last/avg): " + getLastWriteMillis()
+        + "/" + getAverageWriteMillis() + ", Snapshot KB: " + m_lastSnapshotBytes / 1024
+        + ", Observers sharing a snapshot: " + m_sharedSnapshots;
+  }
+}
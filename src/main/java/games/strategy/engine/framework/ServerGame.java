@@ -5,11 +5,18 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import games.strategy.debug.ClientLogger;
@@ -79,6 +86,15 @@ public class ServerGame extends AbstractGame {
    * Has the delegate signaled that delegate execution should stop.
    */
   private volatile boolean m_delegateExecutionStopped = false;
+  private final SaveGameLatency m_saveGameLatency = new SaveGameLatency();
+  // compresses and writes autosaves, one at a time and in order, so the game does not wait for them
+  private final ExecutorService m_autoSaveWriter = Executors.newSingleThreadExecutor(r -> {
+    final Thread thread = new Thread(r, "Autosave writer");
+    thread.setDaemon(true);
+    return thread;
+  });
+  // observers waiting to join, the first of them joins them all
+  private final List<ObserverJoin> m_observerJoins = new ArrayList<>();
 
   /**
    * @param data
@@ -162,44 +178,103 @@ public class ServerGame extends AbstractGame {
     m_remoteMessenger.registerRemote(m_serverRemote, SERVER_REMOTE);
   }
 
+  /**
+   * Joins the observer to the game with a save game of the current state. Observers that ask to join while the first of
+   * them waits for delegate execution to block are joined together, with one snapshot taken for all of them.
+   */
   public void addObserver(final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
+    final ObserverJoin join = new ObserverJoin(blockingObserver, nonBlockingObserver, newNode);
+    final boolean first;
+    synchronized (m_observerJoins) {
+      first = m_observerJoins.isEmpty();
+      m_observerJoins.add(join);
+    }
+    if (first) {
+      joinObservers();
+    }
     try {
-      if (!m_delegateExecutionManager.blockDelegateExecution(2000)) {
-        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
-        return;
-      }
+      join.m_done.await();
     } catch (final InterruptedException e) {
       nonBlockingObserver.cannotJoinGame(e.getMessage());
+    }
+  }
+
+  private void joinObservers() {
+    boolean blocked = false;
+    String cannotBlockMessage = "Could not block delegate execution";
+    try {
+      blocked = m_delegateExecutionManager.blockDelegateExecution(2000);
+    } catch (final InterruptedException e) {
+      cannotBlockMessage = e.getMessage();
+    }
+    final List<ObserverJoin> joins;
+    synchronized (m_observerJoins) {
+      joins = new ArrayList<>(m_observerJoins);
+      m_observerJoins.clear();
+    }
+    if (!blocked) {
+      for (final ObserverJoin join : joins) {
+        join.m_nonBlockingObserver.cannotJoinGame(cannotBlockMessage);
+        join.m_done.countDown();
+      }
       return;
     }
     try {
-      final CountDownLatch waitOnObserver = new CountDownLatch(1);
       final ByteArrayOutputStream sink = new ByteArrayOutputStream(1000);
       saveGame(sink);
-      (new Thread(() -> {
+      final byte[] savedGame = sink.toByteArray();
+      m_saveGameLatency.recordSharedSnapshots(joins.size() - 1);
+      final Map<String, INode> playerMapping = m_playerManager.getPlayerMapping();
+      for (final ObserverJoin join : joins) {
+        (new Thread(() -> {
+          try {
+            join.m_blockingObserver.joinGame(savedGame, playerMapping);
+            join.m_joined.countDown();
+          } catch (final ConnectionLostException cle) {
+            System.out.println("Connection lost to observer while joining: " + join.m_node.getName());
+          } catch (final Exception e) {
+            ClientLogger.logQuietly(e);
+          }
+        }, "Waiting on observer to finish joining: " + join.m_node.getName())).start();
+      }
+      final long deadline =
+          System.nanoTime() + TimeUnit.SECONDS.toNanos(GameRunner.getServerObserverJoinWaitTime());
+      for (final ObserverJoin join : joins) {
         try {
-          blockingObserver.joinGame(sink.toByteArray(), m_playerManager.getPlayerMapping());
-          waitOnObserver.countDown();
-        } catch (final ConnectionLostException cle) {
-          System.out.println("Connection lost to observer while joining: " + newNode.getName());
-        } catch (final Exception e) {
+          if (!join.m_joined.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            join.m_nonBlockingObserver.cannotJoinGame("Taking too long to join.");
+          }
+        } catch (final InterruptedException e) {
           ClientLogger.logQuietly(e);
+          join.m_nonBlockingObserver.cannotJoinGame(e.getMessage());
         }
-      }, "Waiting on observer to finish joining: " + newNode.getName())).start();
-      try {
-        if (!waitOnObserver.await(GameRunner.getServerObserverJoinWaitTime(), TimeUnit.SECONDS)) {
-          nonBlockingObserver.cannotJoinGame("Taking too long to join.");
-        }
-      } catch (final InterruptedException e) {
-        ClientLogger.logQuietly(e);
-        nonBlockingObserver.cannotJoinGame(e.getMessage());
       }
     } catch (final Exception e) {
       ClientLogger.logQuietly(e);
-      nonBlockingObserver.cannotJoinGame(e.getMessage());
+      for (final ObserverJoin join : joins) {
+        join.m_nonBlockingObserver.cannotJoinGame(e.getMessage());
+      }
     } finally {
       m_delegateExecutionManager.resumeDelegateExecution();
+      for (final ObserverJoin join : joins) {
+        join.m_done.countDown();
+      }
+    }
+  }
+
+  private static final class ObserverJoin {
+    private final IObserverWaitingToJoin m_blockingObserver;
+    private final IObserverWaitingToJoin m_nonBlockingObserver;
+    private final INode m_node;
+    private final CountDownLatch m_joined = new CountDownLatch(1);
+    private final CountDownLatch m_done = new CountDownLatch(1);
+
+    ObserverJoin(final IObserverWaitingToJoin blockingObserver, final IObserverWaitingToJoin nonBlockingObserver,
+        final INode node) {
+      m_blockingObserver = blockingObserver;
+      m_nonBlockingObserver = nonBlockingObserver;
+      m_node = node;
     }
   }
 
@@ -341,6 +416,15 @@ public class ServerGame extends AbstractGame {
     } finally {
       m_delegateExecutionManager.resumeDelegateExecution();
     }
+    // let the autosaves that are being written finish
+    m_autoSaveWriter.shutdown();
+    try {
+      if (!m_autoSaveWriter.awaitTermination(16000, TimeUnit.MILLISECONDS)) {
+        System.err.println("Could not finish writing autosaves.");
+      }
+    } catch (final InterruptedException e) {
+      ClientLogger.logQuietly(e);
+    }
     m_data.getGameLoader().shutDown();
     if (HeadlessGameServer.headless()) {
       System.out.println("StopGame successful.");
@@ -354,7 +438,31 @@ public class ServerGame extends AbstractGame {
     if (!autoSaveDir.exists()) {
       autoSaveDir.mkdirs();
     }
-    saveGame(new File(autoSaveDir, fileName));
+    final File autoSaveFile = new File(autoSaveDir, fileName);
+    final byte[] snapshot;
+    try {
+      snapshot = snapshotGame();
+    } catch (final IOException e) {
+      ClientLogger.logQuietly(e);
+      return;
+    }
+    // the game goes on while the snapshot is compressed and written
+    try {
+      m_autoSaveWriter.execute(() -> {
+        final File tempFile = new File(autoSaveDir, fileName + ".tmp");
+        try {
+          try (FileOutputStream fout = new FileOutputStream(tempFile)) {
+            writeSnapshot(fout, snapshot);
+          }
+          Files.move(tempFile.toPath(), autoSaveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+          ClientLogger.logQuietly(e);
+          tempFile.delete();
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      // the game was stopped
+    }
   }
 
   private void autoSaveBefore(final IDelegate currentDelegate) {
@@ -376,6 +484,14 @@ public class ServerGame extends AbstractGame {
   }
 
   private void saveGame(final OutputStream out) throws IOException {
+    writeSnapshot(out, snapshotGame());
+  }
+
+  /**
+   * Serializes the game while delegate execution is blocked, the only part of saving that needs a game that does not
+   * change.
+   */
+  private byte[] snapshotGame() throws IOException {
     try {
       if (!m_delegateExecutionManager.blockDelegateExecution(6000)) {
         throw new IOException("Could not lock delegate execution");
@@ -384,12 +500,28 @@ public class ServerGame extends AbstractGame {
       throw new IOException(ie.getMessage());
     }
     try {
-      new GameDataManager().saveGame(out, m_data);
+      final long start = System.nanoTime();
+      final byte[] snapshot = GameDataManager.serializeSaveGame(m_data, true);
+      m_saveGameLatency.recordSnapshot(System.nanoTime() - start, snapshot.length);
+      return snapshot;
     } finally {
       m_delegateExecutionManager.resumeDelegateExecution();
     }
   }
 
+  private void writeSnapshot(final OutputStream out, final byte[] snapshot) throws IOException {
+    final long start = System.nanoTime();
+    GameDataManager.writeSaveGame(out, snapshot);
+    m_saveGameLatency.recordWrite(System.nanoTime() - start);
+  }
+
+  /**
+   * @return how long the saves of this game took.
+   */
+  public SaveGameLatency getSaveGameLatency() {
+    return m_saveGameLatency;
+  }
+
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
     if (getCurrentStep().hasReachedMaxRunCount()) {
       m_data.getSequence().next();
@@ -1,23 +1,36 @@
 package games.strategy.engine.framework.headlessGameServer;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -25,21 +38,40 @@ import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameDataSnapshot;
 import games.strategy.triplea.Constants;
 import games.strategy.util.UrlStreams;
 
 /**
  * A list of all available games. We make sure we can parse them all, but we don't keep them in memory.
+ *
+ * <p>
+ * The maps are scanned in parallel, and what was found in every map is kept in an index file, keyed by the path, the
+ * last modified time and the size of the map, so only maps that were added or changed are parsed again at the next
+ * start. The games that were started recently are kept as {@link GameDataSnapshot snapshots}, up to
+ * {@value #MAX_PARSED_GAMES_BYTES} bytes of them, so starting them again copies the snapshot instead of parsing the
+ * xml.
+ * </p>
  */
 public class AvailableGames {
   private static final boolean s_delayedParsing = false;
   private static final String ZIP_EXTENSION = ".zip";
+  private static final String INDEX_FILE_NAME = "availableGames.index";
+  private static final int INDEX_VERSION = 1;
+  private static final int MAX_PARSED_GAMES_BYTES = 64 * 1024 * 1024;
   private final TreeMap<String, URI> m_availableGames = new TreeMap<>();
   private final Set<String> m_availableMapFolderOrZipNames = new HashSet<>();
+  // game name -> the parsed game, the least recently started first
+  private final LinkedHashMap<String, GameDataSnapshot> m_parsedGames = new LinkedHashMap<>(16, 0.75f, true);
+  private int m_parsedGamesBytes = 0;
 
   public AvailableGames() {
+    this(allMapFiles(), new File(ClientFileSystemHelper.getUserRootFolder(), INDEX_FILE_NAME));
+  }
+
+  AvailableGames(final List<File> mapFiles, final File indexFile) {
     final Set<String> mapNamePropertyList = new HashSet<>();
-    populateAvailableGames(m_availableGames, m_availableMapFolderOrZipNames, mapNamePropertyList);
+    populateAvailableGames(mapFiles, indexFile, m_availableGames, m_availableMapFolderOrZipNames, mapNamePropertyList);
   }
 
   public List<String> getGameNames() {
@@ -54,7 +86,47 @@ public class AvailableGames {
    * Can return null.
    */
   public GameData getGameData(final String gameName) {
-    return getGameDataFromXML(m_availableGames.get(gameName));
+    final GameDataSnapshot parsedGame;
+    synchronized (m_parsedGames) {
+      parsedGame = m_parsedGames.get(gameName);
+    }
+    if (parsedGame != null) {
+      try {
+        final GameData data = parsedGame.fork();
+        // a new game, not a copy of the game it was parsed for
+        data.getProperties().set(GameData.GAME_UUID, UUID.randomUUID().toString());
+        return data;
+      } catch (final IOException e) {
+        ClientLogger.logQuietly("Game: " + gameName, e);
+      }
+    }
+    final GameData data = getGameDataFromXML(m_availableGames.get(gameName));
+    if (data != null) {
+      addParsedGame(gameName, data);
+    }
+    return data;
+  }
+
+  private void addParsedGame(final String gameName, final GameData data) {
+    final GameDataSnapshot parsedGame;
+    try {
+      parsedGame = GameDataSnapshot.of(data, true);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Game: " + gameName, e);
+      return;
+    }
+    if (parsedGame.size() > MAX_PARSED_GAMES_BYTES) {
+      return;
+    }
+    synchronized (m_parsedGames) {
+      final GameDataSnapshot replaced = m_parsedGames.put(gameName, parsedGame);
+      m_parsedGamesBytes += parsedGame.size() - (replaced == null ? 0 : replaced.size());
+      final Iterator<GameDataSnapshot> leastRecentlyStarted = m_parsedGames.values().iterator();
+      while (m_parsedGamesBytes > MAX_PARSED_GAMES_BYTES) {
+        m_parsedGamesBytes -= leastRecentlyStarted.next().size();
+        leastRecentlyStarted.remove();
+      }
+    }
   }
 
   /**
@@ -72,16 +144,40 @@ public class AvailableGames {
     return Optional.ofNullable(m_availableGames.get(gameName)).map(Object::toString).orElse(null);
   }
 
-  private static void populateAvailableGames(final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames, final Set<String> mapNamePropertyList) {
+  private static void populateAvailableGames(final List<File> mapFiles, final File indexFile,
+      final Map<String, URI> availableGames, final Set<String> availableMapFolderOrZipNames,
+      final Set<String> mapNamePropertyList) {
     System.out.println("Parsing all available games (this could take a while). ");
-    for (final File map : allMapFiles()) {
+    final Map<String, IndexedMap> index = readIndex(indexFile);
+    final List<IndexedMap> maps = mapFiles.parallelStream().map(map -> {
+      final IndexedMap indexed = index.get(map.getAbsolutePath());
+      if (indexed != null && indexed.isUpToDate(map)) {
+        return indexed;
+      }
       if (map.isDirectory()) {
-        populateFromDirectory(map, availableGames, availableMapFolderOrZipNames, mapNamePropertyList);
+        return populateFromDirectory(map);
       } else if (map.isFile() && map.getName().toLowerCase().endsWith(ZIP_EXTENSION)) {
-        populateFromZip(map, availableGames, availableMapFolderOrZipNames, mapNamePropertyList);
+        return populateFromZip(map);
+      }
+      return null;
+    }).filter(Objects::nonNull).collect(Collectors.toList());
+    // the first map with a game keeps it, as when they were parsed one after the other
+    for (final IndexedMap map : maps) {
+      for (final IndexedGame game : map.m_games) {
+        if (!availableGames.containsKey(game.m_name)) {
+          availableGames.put(game.m_name, game.m_uri);
+          if (game.m_mapName.length() > 0) {
+            mapNamePropertyList.add(game.m_mapName);
+          }
+          if (map.m_folderOrZipName != null) {
+            availableMapFolderOrZipNames.add(map.m_folderOrZipName);
+          }
+        }
       }
     }
+    if (maps.size() != index.size() || !index.values().containsAll(maps)) {
+      writeIndex(indexFile, maps);
+    }
     System.out.println("Finished parsing all available game xmls. ");
   }
 
@@ -99,25 +195,25 @@ public class AvailableGames {
     return Arrays.asList(files);
   }
 
-  private static void populateFromDirectory(final File mapDir, final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames, final Set<String> mapNamePropertyList) {
+  private static IndexedMap populateFromDirectory(final File mapDir) {
+    final IndexedMap indexedMap = new IndexedMap(mapDir, mapDir.getName());
     final File games = new File(mapDir, "games");
     if (!games.exists()) {
       // no games in this map dir
-      return;
+      return indexedMap;
     }
     for (final File game : games.listFiles()) {
       if (game.toURI() != null && game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        final boolean added = addToAvailableGames(game.toURI(), availableGames, mapNamePropertyList);
-        if (added) {
-          availableMapFolderOrZipNames.add(mapDir.getName());
-        }
+        addToAvailableGames(game.toURI(), indexedMap.m_games);
       }
     }
+    return indexedMap;
   }
 
-  private static void populateFromZip(final File map, final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames, final Set<String> mapNamePropertyList) {
+  private static IndexedMap populateFromZip(final File map) {
+    final IndexedMap indexedMap = new IndexedMap(map,
+        map.getName().length() > 4 ? map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length())
+            : null);
     try (
         final FileInputStream fis = new FileInputStream(map);
         final ZipInputStream zis = new ZipInputStream(fis);
@@ -128,12 +224,7 @@ public class AvailableGames {
           final URL url = loader.getResource(entry.getName());
           // we have to close the loader to allow files to be deleted on windows
           try {
-            final boolean added = addToAvailableGames(new URI(url.toString().replace(" ", "%20")), availableGames,
-                mapNamePropertyList);
-            if (added && map.getName().length() > 4) {
-              availableMapFolderOrZipNames
-                  .add(map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()));
-            }
+            addToAvailableGames(new URI(url.toString().replace(" ", "%20")), indexedMap.m_games);
           } catch (final URISyntaxException e) {
             // only happens when URI couldn't be build and therefore no entry was added. That's fine
           }
@@ -144,13 +235,13 @@ public class AvailableGames {
     } catch (final IOException e) {
       ClientLogger.logQuietly("Map: " + map, e);
     }
+    return indexedMap;
   }
 
 
-  private static boolean addToAvailableGames(final URI uri, final Map<String, URI> availableGames,
-      final Set<String> mapNamePropertyList) {
+  private static void addToAvailableGames(final URI uri, final List<IndexedGame> games) {
     if (uri == null) {
-      return false;
+      return;
     }
     final AtomicReference<String> gameName = new AtomicReference<>();
 
@@ -158,21 +249,150 @@ public class AvailableGames {
     if (inputStream.isPresent()) {
       try (InputStream input = inputStream.get()) {
         final GameData data = new GameParser(uri.toString()).parse(input, gameName, s_delayedParsing);
-        final String name = data.getGameName();
-        final String mapName = data.getProperties().get(Constants.MAP_NAME, "");
-        if (!availableGames.containsKey(name)) {
-          availableGames.put(name, uri);
-          if (mapName.length() > 0) {
-            mapNamePropertyList.add(mapName);
-          }
-          return true;
-        }
+        games.add(new IndexedGame(data.getGameName(), uri, data.getProperties().get(Constants.MAP_NAME, "")));
       } catch (final Exception e) {
         ClientLogger.logError("Exception while parsing: " + uri.toString() + " : "
             + (gameName.get() != null ? gameName.get() + " : " : ""), e);
       }
     }
-    return false;
+  }
+
+  private static Map<String, IndexedMap> readIndex(final File indexFile) {
+    final Map<String, IndexedMap> index = new HashMap<>();
+    if (!indexFile.isFile()) {
+      return index;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+      if (in.readInt() != INDEX_VERSION) {
+        return index;
+      }
+      final int mapCount = in.readInt();
+      for (int i = 0; i < mapCount; i++) {
+        final IndexedMap map = IndexedMap.read(in);
+        index.put(map.m_path, map);
+      }
+    } catch (final IOException | URISyntaxException e) {
+      // parsed again, and written again
+      ClientLogger.logQuietly("Could not read the index of available games: " + indexFile, e);
+      index.clear();
+    }
+    return index;
+  }
+
+  private static void writeIndex(final File indexFile, final List<IndexedMap> maps) {
+    final File tempFile = new File(indexFile.getPath() + ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        out.writeInt(INDEX_VERSION);
+        out.writeInt(maps.size());
+        for (final IndexedMap map : maps) {
+          map.write(out);
+        }
+      }
+      Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Could not write the index of available games: " + indexFile, e);
+      tempFile.delete();
+    }
+  }
+
+  /**
+   * The games found in a map folder or zip, and what the map was like when they were found.
+   */
+  private static final class IndexedMap {
+    private final String m_path;
+    private final long m_lastModified;
+    private final long m_size;
+    // null if the map is not added to the available map folder or zip names
+    private final String m_folderOrZipName;
+    private final List<IndexedGame> m_games;
+
+    IndexedMap(final File map, final String folderOrZipName) {
+      this(map.getAbsolutePath(), getLastModified(map), getSize(map), folderOrZipName, new ArrayList<>());
+    }
+
+    private IndexedMap(final String path, final long lastModified, final long size, final String folderOrZipName,
+        final List<IndexedGame> games) {
+      m_path = path;
+      m_lastModified = lastModified;
+      m_size = size;
+      m_folderOrZipName = folderOrZipName;
+      m_games = games;
+    }
+
+    // the times and sizes of a map folder add up those of its games, so it changes when any of them changes
+    private static long getLastModified(final File map) {
+      long lastModified = map.lastModified();
+      for (final File game : getGameFiles(map)) {
+        lastModified += game.lastModified();
+      }
+      return lastModified;
+    }
+
+    private static long getSize(final File map) {
+      if (!map.isDirectory()) {
+        return map.length();
+      }
+      long size = 0;
+      for (final File game : getGameFiles(map)) {
+        size += game.length() + 1;
+      }
+      return size;
+    }
+
+    private static List<File> getGameFiles(final File map) {
+      if (!map.isDirectory()) {
+        return Collections.emptyList();
+      }
+      final List<File> games = new ArrayList<>(safeListFiles(new File(map, "games")));
+      games.add(new File(map, "games"));
+      return games;
+    }
+
+    boolean isUpToDate(final File map) {
+      return getLastModified(map) == m_lastModified && getSize(map) == m_size;
+    }
+
+    static IndexedMap read(final DataInputStream in) throws IOException, URISyntaxException {
+      final String path = in.readUTF();
+      final long lastModified = in.readLong();
+      final long size = in.readLong();
+      final String folderOrZipName = in.readBoolean() ? in.readUTF() : null;
+      final int gameCount = in.readInt();
+      final List<IndexedGame> games = new ArrayList<>(gameCount);
+      for (int i = 0; i < gameCount; i++) {
+        games.add(new IndexedGame(in.readUTF(), new URI(in.readUTF()), in.readUTF()));
+      }
+      return new IndexedMap(path, lastModified, size, folderOrZipName, games);
+    }
+
+    void write(final DataOutputStream out) throws IOException {
+      out.writeUTF(m_path);
+      out.writeLong(m_lastModified);
+      out.writeLong(m_size);
+      out.writeBoolean(m_folderOrZipName != null);
+      if (m_folderOrZipName != null) {
+        out.writeUTF(m_folderOrZipName);
+      }
+      out.writeInt(m_games.size());
+      for (final IndexedGame game : m_games) {
+        out.writeUTF(game.m_name);
+        out.writeUTF(game.m_uri.toString());
+        out.writeUTF(game.m_mapName);
+      }
+    }
+  }
+
+  private static final class IndexedGame {
+    private final String m_name;
+    private final URI m_uri;
+    private final String m_mapName;
+
+    IndexedGame(final String name, final URI uri, final String mapName) {
+      m_name = name;
+      m_uri = uri;
+      m_mapName = mapName;
+    }
   }
 
   private static GameData getGameDataFromXML(final URI uri) {
@@ -0,0 +1,96 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CPU time used and the memory allocated by the threads of one hosted game, which are the threads in its thread
+ * group. It is sampled, the usage of threads that end between two samples is not counted.
+ */
+final class GameResourceUsage {
+  private static final ThreadMXBean s_threadBean = ManagementFactory.getThreadMXBean();
+  private final ThreadGroup m_threadGroup;
+  // thread id -> {cpu nanos, allocated bytes} when last sampled
+  private final Map<Long, long[]> m_threads = new HashMap<>();
+  private long m_endedCpuNanos = 0;
+  private long m_endedAllocatedBytes = 0;
+
+  GameResourceUsage(final ThreadGroup threadGroup) {
+    m_threadGroup = threadGroup;
+  }
+
+  synchronized void sample() {
+    Thread[] threads = new Thread[m_threadGroup.activeCount() + 16];
+    int count;
+    while ((count = m_threadGroup.enumerate(threads, true)) == threads.length) {
+      threads = new Thread[threads.length * 2];
+    }
+    final Set<Long> live = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      final long id = threads[i].getId();
+      final long cpuNanos = getCpuNanos(id);
+      final long allocatedBytes = getAllocatedBytes(id);
+      // a thread that ended after it was enumerated keeps the usage of the last sample
+      if (cpuNanos >= 0) {
+        live.add(id);
+        m_threads.put(id, new long[] {cpuNanos, Math.max(0, allocatedBytes)});
+      }
+    }
+    m_threads.entrySet().removeIf(thread -> {
+      if (live.contains(thread.getKey())) {
+        return false;
+      }
+      m_endedCpuNanos += thread.getValue()[0];
+      m_endedAllocatedBytes += thread.getValue()[1];
+      return true;
+    });
+  }
+
+  private static long getCpuNanos(final long threadId) {
+    if (!s_threadBean.isThreadCpuTimeSupported() || !s_threadBean.isThreadCpuTimeEnabled()) {
+      return 0;
+    }
+    return s_threadBean.getThreadCpuTime(threadId);
+  }
+
+  private static long getAllocatedBytes(final long threadId) {
+    if (s_threadBean instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) s_threadBean;
+      if (threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+        return threadBean.getThreadAllocatedBytes(threadId);
+      }
+    }
+    return 0;
+  }
+
+  synchronized int getThreadCount() {
+    return m_threads.size();
+  }
+
+  synchronized long getCpuMillis() {
+    long cpuNanos = m_endedCpuNanos;
+    for (final long[] thread : m_threads.values()) {
+      cpuNanos += thread[0];
+    }
+    return TimeUnit.NANOSECONDS.toMillis(cpuNanos);
+  }
+
+  synchronized long getAllocatedBytes() {
+    long allocatedBytes = m_endedAllocatedBytes;
+    for (final long[] thread : m_threads.values()) {
+      allocatedBytes += thread[1];
+    }
+    return allocatedBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "Threads: " + getThreadCount() + ", CPU ms: " + getCpuMillis() + ", Allocated MB: "
+        + getAllocatedBytes() / (1024 * 1024);
+  }
+}
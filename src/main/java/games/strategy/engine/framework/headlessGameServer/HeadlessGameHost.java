@@ -0,0 +1,124 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.framework.GameRunner;
+
+/**
+ * Hosts one or more headless games in one JVM.
+ *
+ * <p>
+ * Every game has its own properties (so its own port, name and lobby registration), and its own thread group, so its
+ * CPU time and allocated memory can be told apart from the other games. The games share the list of available games
+ * and one thread that reconnects them to the lobby and samples their resource usage.
+ * </p>
+ */
+final class HeadlessGameHost {
+  private static final int USAGE_SAMPLE_SECONDS = 60;
+  private final List<HeadlessGameServer> m_games = new CopyOnWriteArrayList<>();
+  private final ScheduledExecutorService m_scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    final Thread thread = new Thread(r, "Headless Game Host");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AvailableGames m_availableGames;
+
+  HeadlessGameHost() {
+    m_availableGames = new AvailableGames();
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      HeadlessGameServer.s_logger.info("Running ShutdownHook.");
+      shutdown();
+    }));
+    m_scheduler.scheduleAtFixedRate(() -> {
+      for (final HeadlessGameServer game : m_games) {
+        try {
+          game.getResourceUsage().sample();
+        } catch (final RuntimeException e) {
+          ClientLogger.logQuietly(e);
+        }
+      }
+    }, USAGE_SAMPLE_SECONDS, USAGE_SAMPLE_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Starts hosting the number of games from the headless games property. Every game is configured by its own copy of
+   * the system properties, the first as they are, every next one with the next port, and the name and hosted by with
+   * its number. The copies are all made before the first game starts, as starting a game changes its properties.
+   */
+  void hostGames() {
+    final int count = Math.max(1, Integer.parseInt(System.getProperty(GameRunner.TRIPLEA_HEADLESS_GAMES, "1")));
+    final List<Properties> gameProperties = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      gameProperties.add(getGameProperties(i));
+    }
+    for (final Properties properties : gameProperties) {
+      hostGame(properties);
+    }
+  }
+
+  static Properties getGameProperties(final int game) {
+    final Properties properties = new Properties();
+    properties.putAll(System.getProperties());
+    if (game == 0) {
+      return properties;
+    }
+    final String name = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY, "") + "_" + (game + 1);
+    properties.setProperty(GameRunner.TRIPLEA_NAME_PROPERTY, name);
+    properties.setProperty(GameRunner.LOBBY_GAME_HOSTED_BY, name);
+    final int port = Integer.parseInt(System.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY, "" + GameRunner.PORT));
+    properties.setProperty(GameRunner.TRIPLEA_PORT_PROPERTY, "" + (port + game));
+    return properties;
+  }
+
+  HeadlessGameServer hostGame(final Properties properties) {
+    final HeadlessGameServer game = new HeadlessGameServer(this, properties);
+    m_games.add(game);
+    return game;
+  }
+
+  AvailableGames getAvailableGames() {
+    return m_availableGames;
+  }
+
+  ScheduledExecutorService getScheduler() {
+    return m_scheduler;
+  }
+
+  List<HeadlessGameServer> getGames() {
+    return m_games;
+  }
+
+  /**
+   * Stops hosting the game, and exits if it was the last one.
+   */
+  void stopHosting(final HeadlessGameServer game) {
+    if (m_games.size() == 1 && m_games.contains(game)) {
+      System.exit(0);
+    }
+    m_games.remove(game);
+    game.shutdown();
+  }
+
+  private void shutdown() {
+    m_scheduler.shutdown();
+    for (final HeadlessGameServer game : m_games) {
+      game.shutdown();
+    }
+    m_games.clear();
+  }
+
+  String getStatus() {
+    final StringBuilder sb = new StringBuilder("Hosted Games: " + m_games.size());
+    for (final HeadlessGameServer game : m_games) {
+      sb.append("\n").append(game.getName()).append(": ").append(game.getResourceUsage());
+    }
+    return sb.toString();
+  }
+}
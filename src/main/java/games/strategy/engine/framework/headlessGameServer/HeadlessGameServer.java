@@ -4,10 +4,13 @@ import java.io.File;
 import java.io.InputStream;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import games.strategy.debug.ClientLogger;
@@ -31,6 +34,8 @@ import games.strategy.engine.framework.ui.SaveGameFileChooser;
 import games.strategy.engine.lobby.server.LobbyServer;
 import games.strategy.net.INode;
 import games.strategy.net.IServerMessenger;
+import games.strategy.net.ServerMessenger;
+import games.strategy.net.nio.NIOTraffic;
 import games.strategy.sound.ClipPlayer;
 import games.strategy.triplea.Constants;
 import games.strategy.util.MD5Crypt;
@@ -40,24 +45,72 @@ import games.strategy.util.Util;
 
 /**
  * A way of hosting a game, but headless.
+ *
+ * <p>
+ * A {@link HeadlessGameHost} can host more than one of them in a JVM. Every hosted game runs its threads in its own
+ * thread group, and {@link #getInstance()} finds the game of the thread that asks, so the engine code that runs for a
+ * game finds that game, and its properties with {@link #getHostProperties()}.
+ * </p>
  */
 public class HeadlessGameServer {
 
   static final Logger s_logger = Logger.getLogger(HeadlessGameServer.class.getName());
-  private static HeadlessGameServer s_instance = null;
+  private static final List<HeadlessGameServer> s_instances = new CopyOnWriteArrayList<>();
+  private final HeadlessGameHost m_host;
+  private final Properties m_properties;
+  private final ThreadGroup m_threadGroup;
+  private final GameResourceUsage m_resourceUsage;
   private final AvailableGames m_availableGames;
   private final GameSelectorModel m_gameSelectorModel;
   private SetupPanelModel m_setupPanelModel = null;
-  private final ScheduledExecutorService m_lobbyWatcherResetupThread = Executors.newScheduledThreadPool(1);
+  private final ScheduledFuture<?> m_lobbyWatcherResetup;
   private ServerGame m_iGame = null;
   private boolean m_shutDown = false;
   private final String m_startDate = TimeManager.getGMTString(new Date());
 
-  public static synchronized HeadlessGameServer getInstance() {
-    return s_instance;
+  /**
+   * @return the hosted game that the current thread runs for, or null if there is none.
+   */
+  public static HeadlessGameServer getInstance() {
+    return findForCurrentThread(s_instances, instance -> instance.m_threadGroup);
+  }
+
+  /**
+   * @return the game whose thread group (or one of its parents) the current thread is in, else the only game, else
+   *         null.
+   */
+  static <T> T findForCurrentThread(final List<T> games, final Function<T, ThreadGroup> threadGroup) {
+    for (ThreadGroup group = Thread.currentThread().getThreadGroup(); group != null; group = group.getParent()) {
+      for (final T game : games) {
+        if (threadGroup.apply(game) == group) {
+          return game;
+        }
+      }
+    }
+    // with one game, the threads that run for no game (like the console) run for it
+    return games.size() == 1 ? games.get(0) : null;
+  }
+
+  /**
+   * @return the properties (like the port, name and lobby) of the hosted game that the current thread runs for, or the
+   *         system properties if no game is hosted.
+   * @throws IllegalStateException if games are hosted, but the current thread runs for none of them.
+   */
+  public static Properties getHostProperties() {
+    final HeadlessGameServer instance = getInstance();
+    if (instance != null) {
+      return instance.m_properties;
+    }
+    if (!s_instances.isEmpty()) {
+      final String message = "Thread " + Thread.currentThread().getName() + " runs for none of the "
+          + s_instances.size() + " hosted games, so it has no host properties";
+      s_logger.severe(message);
+      throw new IllegalStateException(message);
+    }
+    return System.getProperties();
   }
 
-  public static synchronized boolean headless() {
+  public static boolean headless() {
     if (getInstance() != null) {
       return true;
     }
@@ -142,14 +195,14 @@ public class HeadlessGameServer {
     }
   }
 
-  public static synchronized void log(final String stdout) {
+  public static void log(final String stdout) {
     final HeadlessGameServer instance = getInstance();
     if (instance != null) {
       System.out.println(stdout);
     }
   }
 
-  public static synchronized void sendChat(final String chatString) {
+  public static void sendChat(final String chatString) {
     final HeadlessGameServer instance = getInstance();
     if (instance != null) {
       final Chat chat = instance.getChat();
@@ -164,22 +217,23 @@ public class HeadlessGameServer {
   }
 
   public String getSalt() {
-    final String encryptedPassword = MD5Crypt.crypt(System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, ""));
+    final String encryptedPassword =
+        MD5Crypt.crypt(m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, ""));
     final String salt = MD5Crypt.getSalt(MD5Crypt.MAGIC, encryptedPassword);
     return salt;
   }
 
   public String remoteShutdown(final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
-      (new Thread(() -> {
+      (new Thread(m_threadGroup, () -> {
         System.out.println("Remote Shutdown Initiated.");
-        System.exit(0);
+        m_host.stopHosting(this);
       })).start();
       return null;
     }
@@ -188,11 +242,11 @@ public class HeadlessGameServer {
   }
 
   public String remoteStopGame(final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       final ServerGame iGame = m_iGame;
@@ -216,11 +270,11 @@ public class HeadlessGameServer {
   }
 
   public String remoteGetChatLog(final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       final IChatPanel chat = getServerModel().getChatPanel();
@@ -235,11 +289,11 @@ public class HeadlessGameServer {
 
   public String remoteMutePlayer(final String playerName, final int minutes, final String hashedPassword,
       final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     // milliseconds (48 hours max)
     final long expire = System.currentTimeMillis() + (Math.max(0, Math.min(60 * 24 * 2, minutes)) * 1000 * 60);
@@ -280,11 +334,11 @@ public class HeadlessGameServer {
   }
 
   public String remoteBootPlayer(final String playerName, final String hashedPassword, final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     if (encryptedPassword.equals(hashedPassword)) {
       (new Thread(() -> {
@@ -319,11 +373,11 @@ public class HeadlessGameServer {
 
   public String remoteBanPlayer(final String playerName, final int hours, final String hashedPassword,
       final String salt) {
-    final String password = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String password = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     if (password.equals(GameRunner.NO_REMOTE_REQUESTS_ALLOWED)) {
       return "Host not accepting remote requests!";
     }
-    final String localPassword = System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
+    final String localPassword = m_properties.getProperty(GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, "");
     final String encryptedPassword = MD5Crypt.crypt(localPassword, salt);
     // milliseconds (30 days max)
     final long expire = System.currentTimeMillis() + (Math.max(0, Math.min(24 * 30, hours)) * 1000 * 60 * 60);
@@ -383,19 +437,16 @@ public class HeadlessGameServer {
     return m_shutDown;
   }
 
-  private HeadlessGameServer() {
+  HeadlessGameServer(final HeadlessGameHost host, final Properties properties) {
     super();
-    if (s_instance != null) {
-      throw new IllegalStateException("Instance already exists");
-    }
-    s_instance = this;
-    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-      s_logger.info("Running ShutdownHook.");
-      shutdown();
-    }));
-    m_availableGames = new AvailableGames();
+    m_host = host;
+    m_properties = properties;
+    m_threadGroup = new ThreadGroup("Headless Game " + getName());
+    m_resourceUsage = new GameResourceUsage(m_threadGroup);
+    s_instances.add(this);
+    m_availableGames = host.getAvailableGames();
     m_gameSelectorModel = new GameSelectorModel();
-    final String fileName = System.getProperty(GameRunner.TRIPLEA_GAME_PROPERTY, "");
+    final String fileName = properties.getProperty(GameRunner.TRIPLEA_GAME_PROPERTY, "");
     if (fileName.length() > 0) {
       try {
         final File file = new File(fileName);
@@ -411,19 +462,20 @@ public class HeadlessGameServer {
       System.out.println("Waiting for users to connect.");
       waitForUsersHeadless();
     };
-    final Thread t = new Thread(r, "Initialize Headless Server Setup Model");
+    final Thread t = new Thread(m_threadGroup, r, "Initialize Headless Server Setup Model");
     t.start();
 
     int reconnect;
     try {
-      final String reconnectionSeconds = System.getProperty(GameRunner.LOBBY_GAME_RECONNECTION,
+      final String reconnectionSeconds = properties.getProperty(GameRunner.LOBBY_GAME_RECONNECTION,
           "" + GameRunner.LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT);
       reconnect =
           Math.max(Integer.parseInt(reconnectionSeconds), GameRunner.LOBBY_RECONNECTION_REFRESH_SECONDS_MINIMUM);
     } catch (final NumberFormatException e) {
       reconnect = GameRunner.LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT;
     }
-    m_lobbyWatcherResetupThread.scheduleAtFixedRate(() -> {
+    // the lobby watcher is restarted on a thread of this game, so the threads of its new messenger are too
+    m_lobbyWatcherResetup = host.getScheduler().scheduleAtFixedRate(() -> new Thread(m_threadGroup, () -> {
       try {
         restartLobbyWatcher(m_setupPanelModel, m_iGame);
       } catch (final Exception e) {
@@ -431,7 +483,7 @@ public class HeadlessGameServer {
         // try again, but don't catch it this time
         restartLobbyWatcher(m_setupPanelModel, m_iGame);
       }
-    }, reconnect, reconnect, TimeUnit.SECONDS);
+    }, "Restart Lobby Watcher").start(), reconnect, reconnect, TimeUnit.SECONDS);
     s_logger.info("Game Server initialized");
   }
 
@@ -459,13 +511,14 @@ public class HeadlessGameServer {
   }
 
   public static void resetLobbyHostOldExtensionProperties() {
+    final Properties hostProperties = getHostProperties();
     for (final String property : getProperties()) {
       if (GameRunner.LOBBY_HOST.equals(property) || LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY.equals(property)
           || GameRunner.LOBBY_GAME_HOSTED_BY.equals(property)) {
         // for these 3 properties, we clear them after hosting, but back them up.
-        final String oldValue = System.getProperty(property + GameRunner.OLD_EXTENSION);
+        final String oldValue = hostProperties.getProperty(property + GameRunner.OLD_EXTENSION);
         if (oldValue != null) {
-          System.setProperty(property, oldValue);
+          hostProperties.setProperty(property, oldValue);
         }
       }
     }
@@ -478,16 +531,32 @@ public class HeadlessGameServer {
         GameRunner.LOBBY_GAME_COMMENTS, GameRunner.LOBBY_GAME_HOSTED_BY, GameRunner.LOBBY_GAME_SUPPORT_EMAIL,
         GameRunner.LOBBY_GAME_SUPPORT_PASSWORD, GameRunner.LOBBY_GAME_RECONNECTION,
         GameRunner.TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, GameRunner.TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME,
-        GameRunner.MAP_FOLDER};
+        GameRunner.MAP_FOLDER, GameRunner.TRIPLEA_HEADLESS_GAMES};
+  }
+
+  String getName() {
+    return m_properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY, "");
+  }
+
+  GameResourceUsage getResourceUsage() {
+    return m_resourceUsage;
   }
 
   String getStatus() {
-    String message = "Server Start Date: " + m_startDate;
+    m_resourceUsage.sample();
+    String message =
+        "Server Start Date: " + m_startDate + "\nName: " + getName() + "\nResources: " + m_resourceUsage;
+    final ServerModel serverModel = getServerModel();
+    if (serverModel != null && serverModel.getMessenger() instanceof ServerMessenger) {
+      final NIOTraffic traffic = ((ServerMessenger) serverModel.getMessenger()).getTraffic();
+      traffic.sample();
+      message += "\nNetwork: " + traffic;
+    }
     final ServerGame game = getIGame();
     if (game != null) {
       message += "\nIs currently running: " + game.isGameSequenceRunning() + "\nIs GameOver: " + game.isGameOver()
           + "\nGame: " + game.getData().getGameName() + "\nRound: " + game.getData().getSequence().getRound()
-          + "\nPlayers: " + game.getPlayerManager().toString();
+          + "\nPlayers: " + game.getPlayerManager().toString() + "\nSave Games: " + game.getSaveGameLatency();
     } else {
       message += "\nCurrently Waiting To Start A Game";
     }
@@ -499,6 +568,8 @@ public class HeadlessGameServer {
     sb.append("Dump to Log:");
     sb.append("\n\nStatus:\n");
     sb.append(getStatus());
+    sb.append("\n\nHost:\n");
+    sb.append(m_host.getStatus());
     sb.append("\n\nServer:\n");
     sb.append(getServerModel());
     sb.append("\n\n");
@@ -512,9 +583,7 @@ public class HeadlessGameServer {
   synchronized void shutdown() {
     m_shutDown = true;
     try {
-      if (m_lobbyWatcherResetupThread != null) {
-        m_lobbyWatcherResetupThread.shutdown();
-      }
+      m_lobbyWatcherResetup.cancel(false);
     } catch (final Exception e) {
       ClientLogger.logQuietly(e);
     }
@@ -542,7 +611,7 @@ public class HeadlessGameServer {
     } catch (final Exception e) {
       ClientLogger.logQuietly(e);
     }
-    s_instance = null;
+    s_instances.remove(this);
     m_setupPanelModel = null;
     m_iGame = null;
     System.out.println("Shutdown Script Finished.");
@@ -569,7 +638,7 @@ public class HeadlessGameServer {
         }
       }
     };
-    final Thread t = new Thread(r, "Headless Server Waiting For Users To Connect And Start");
+    final Thread t = new Thread(m_threadGroup, r, "Headless Server Waiting For Users To Connect And Start");
     t.start();
   }
 
@@ -660,7 +729,7 @@ public class HeadlessGameServer {
     handleHeadlessGameServerArgs();
     ClipPlayer.setBeSilentInPreferencesWithoutAffectingCurrent(true);
     try {
-      new HeadlessGameServer();
+      new HeadlessGameHost().hostGames();
     } catch (final Exception e) {
       ClientLogger.logError("Failed to start game server: " + e);
     }
@@ -685,7 +754,8 @@ public class HeadlessGameServer {
         + "=<seconds to wait for all clients to start the game>\n"
         + "   " + GameRunner.TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME
         + "=<seconds to wait for an observer joining the game>\n"
-        + "   " + GameRunner.MAP_FOLDER + "=mapFolder"
+        + "   " + GameRunner.MAP_FOLDER + "=mapFolder\n"
+        + "   " + GameRunner.TRIPLEA_HEADLESS_GAMES + "=<number of games to host, on the port and the next ports>"
         + "\n"
         + "   You must start the Name and HostedBy with \"Bot\".\n"
         + "   Game Comments must have this string in it: \"automated_host\".\n"
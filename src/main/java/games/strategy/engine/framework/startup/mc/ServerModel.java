@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -183,15 +184,16 @@ public class ServerModel extends Observable implements IMessengerErrorListener,
   }
 
   private ServerProps getServerProps(final Component ui) {
-    if (System.getProperties().getProperty(GameRunner.TRIPLEA_SERVER_PROPERTY, "false").equals("true")
-        && System.getProperties().getProperty(GameRunner.TRIPLEA_STARTED, "").equals("")) {
+    final Properties properties = HeadlessGameServer.getHostProperties();
+    if (properties.getProperty(GameRunner.TRIPLEA_SERVER_PROPERTY, "false").equals("true")
+        && properties.getProperty(GameRunner.TRIPLEA_STARTED, "").equals("")) {
       final ServerProps props = new ServerProps();
-      props.setName(System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY));
-      props.setPort(Integer.parseInt(System.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY)));
-      if (System.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY) != null) {
-        props.setPassword(System.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY));
+      props.setName(properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY));
+      props.setPort(Integer.parseInt(properties.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY)));
+      if (properties.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY) != null) {
+        props.setPassword(properties.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY));
       }
-      System.setProperty(GameRunner.TRIPLEA_STARTED, "true");
+      properties.setProperty(GameRunner.TRIPLEA_STARTED, "true");
       return props;
     }
     final Preferences prefs = Preferences.userNodeForPackage(this.getClass());
@@ -5,6 +5,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Observer;
+import java.util.Properties;
 
 import javax.swing.JComponent;
 import javax.swing.JOptionPane;
@@ -79,20 +80,21 @@ public class InGameLobbyWatcher {
    */
   public static InGameLobbyWatcher newInGameLobbyWatcher(final IServerMessenger gameMessenger, final JComponent parent,
       final InGameLobbyWatcher oldWatcher) {
-    final String host = System.getProperties().getProperty(GameRunner.LOBBY_HOST);
-    final String port = System.getProperties().getProperty(LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY);
-    final String hostedBy = System.getProperties().getProperty(GameRunner.LOBBY_GAME_HOSTED_BY);
+    final Properties properties = HeadlessGameServer.getHostProperties();
+    final String host = properties.getProperty(GameRunner.LOBBY_HOST);
+    final String port = properties.getProperty(LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY);
+    final String hostedBy = properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY);
     if (host == null || port == null) {
       return null;
     }
     // clear the properties
-    System.getProperties().remove(GameRunner.LOBBY_HOST);
-    System.getProperties().remove(LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY);
-    System.getProperties().remove(GameRunner.LOBBY_GAME_HOSTED_BY);
+    properties.remove(GameRunner.LOBBY_HOST);
+    properties.remove(LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY);
+    properties.remove(GameRunner.LOBBY_GAME_HOSTED_BY);
     // add them as temporary properties (in case we load an old savegame and need them again)
-    System.getProperties().setProperty(GameRunner.LOBBY_HOST + GameRunner.OLD_EXTENSION, host);
-    System.getProperties().setProperty(LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY + GameRunner.OLD_EXTENSION, port);
-    System.getProperties().setProperty(GameRunner.LOBBY_GAME_HOSTED_BY + GameRunner.OLD_EXTENSION, hostedBy);
+    properties.setProperty(GameRunner.LOBBY_HOST + GameRunner.OLD_EXTENSION, host);
+    properties.setProperty(LobbyServer.TRIPLEA_LOBBY_PORT_PROPERTY + GameRunner.OLD_EXTENSION, port);
+    properties.setProperty(GameRunner.LOBBY_GAME_HOSTED_BY + GameRunner.OLD_EXTENSION, hostedBy);
     final IConnectionLogin login = new IConnectionLogin() {
       @Override
       public void notifyFailedLogin(final String message) {}
@@ -163,7 +165,8 @@ public class InGameLobbyWatcher {
     m_messenger = messenger;
     m_remoteMessenger = remoteMessenger;
     m_gameMessenger = serverMessenger;
-    final String password = System.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY);
+    final Properties properties = HeadlessGameServer.getHostProperties();
+    final String password = properties.getProperty(GameRunner.TRIPLEA_SERVER_PASSWORD_PROPERTY);
     final boolean passworded = password != null && password.length() > 0;
     final Date startDateTime = (oldWatcher == null || oldWatcher.m_gameDescription == null
         || oldWatcher.m_gameDescription.getStartDateTime() == null) ? new Date()
@@ -178,7 +181,8 @@ public class InGameLobbyWatcher {
             ? "-" : oldWatcher.m_gameDescription.getRound();
     m_gameDescription = new GameDescription(m_messenger.getLocalNode(), m_gameMessenger.getLocalNode().getPort(),
         startDateTime, "???", playerCount, gameStatus, gameRound, m_gameMessenger.getLocalNode().getName(),
-        System.getProperty(GameRunner.LOBBY_GAME_COMMENTS), passworded, ClientContext.engineVersion().toString(), "0");
+        properties.getProperty(GameRunner.LOBBY_GAME_COMMENTS), passworded, ClientContext.engineVersion().toString(),
+        "0");
     final ILobbyGameController controller =
         (ILobbyGameController) m_remoteMessenger.getRemote(ILobbyGameController.GAME_CONTROLLER_REMOTE);
     synchronized (m_mutex) {
@@ -211,7 +215,7 @@ public class InGameLobbyWatcher {
         if (isActive()) {
           shutDown();
           SwingUtilities.invokeLater(() -> {
-            String portString = System.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY);
+            String portString = properties.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY);
             if (portString == null || portString.trim().length() <= 0) {
               portString = "3300";
             }
@@ -1,6 +1,7 @@
 package games.strategy.engine.framework.ui;
 
 import java.io.File;
+import java.util.Properties;
 
 import javax.swing.JFileChooser;
 import javax.swing.filechooser.FileFilter;
@@ -23,8 +24,9 @@ public class SaveGameFileChooser extends JFileChooser {
 
   public static String getAutoSaveFileName() {
     if (HeadlessGameServer.headless()) {
-      final String saveSuffix = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
-          System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
+      final Properties properties = HeadlessGameServer.getHostProperties();
+      final String saveSuffix = properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
+          properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
       if (saveSuffix.length() > 0) {
         return saveSuffix + "_" + AUTOSAVE_FILE_NAME;
       }
@@ -34,8 +36,9 @@ public class SaveGameFileChooser extends JFileChooser {
 
   public static String getAutoSaveOddFileName() {
     if (HeadlessGameServer.headless()) {
-      final String saveSuffix = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
-          System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
+      final Properties properties = HeadlessGameServer.getHostProperties();
+      final String saveSuffix = properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
+          properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
       if (saveSuffix.length() > 0) {
         return saveSuffix + "_" + AUTOSAVE_ODD_ROUND_FILE_NAME;
       }
@@ -45,8 +48,9 @@ public class SaveGameFileChooser extends JFileChooser {
 
   public static String getAutoSaveEvenFileName() {
     if (HeadlessGameServer.headless()) {
-      final String saveSuffix = System.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
-          System.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
+      final Properties properties = HeadlessGameServer.getHostProperties();
+      final String saveSuffix = properties.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY,
+          properties.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY, ""));
       if (saveSuffix.length() > 0) {
         return saveSuffix + "_" + AUTOSAVE_EVEN_ROUND_FILE_NAME;
       }
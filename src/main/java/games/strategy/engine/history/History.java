@@ -31,8 +31,12 @@ public class History extends DefaultTreeModel {
 
   private final HistoryWriter m_writer = new HistoryWriter(this);
   private final List<Change> m_changes = new ArrayList<>();
+  // the compacted changes of every round, to go far in the history quickly
+  private final HistoryCheckpoints m_checkpoints = new HistoryCheckpoints(this);
   private final GameData m_data;
   private HistoryNode m_currentNode;
+  // true while a history that was saved is written again, its rounds are compacted when it is first gone through
+  private boolean m_loading = false;
 
   private void assertCorrectThread() {
     if (m_data.areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
@@ -100,7 +104,7 @@ public class History extends DefaultTreeModel {
       return null;
     }
     final List<Change> changes =
-        m_changes.subList(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
+        m_checkpoints.getChanges(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
     final Change compositeChange = new CompositeChange(changes);
     if (lastChange >= firstChange) {
       return compositeChange;
@@ -135,6 +139,7 @@ public class History extends DefaultTreeModel {
       while (m_changes.size() > lastChange) {
         m_changes.remove(lastChange);
       }
+      m_checkpoints.truncate(lastChange);
       final List<HistoryNode> nodesToRemove = new ArrayList<>();
       final Enumeration<?> enumeration = ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
       enumeration.nextElement();
@@ -177,6 +182,22 @@ public class History extends DefaultTreeModel {
     return m_changes;
   }
 
+  HistoryCheckpoints getCheckpoints() {
+    return m_checkpoints;
+  }
+
+  void setLoading(final boolean loading) {
+    m_loading = loading;
+  }
+
+  void roundClosed(final Round round) {
+    // a round removed from the history can still be closed
+    if (!m_loading && round.getChangeEndIndex() > round.getChangeStartIndex()
+        && round.getChangeEndIndex() <= m_changes.size()) {
+      m_checkpoints.roundClosed(round.getChangeStartIndex(), round.getChangeEndIndex());
+    }
+  }
+
   GameData getGameData() {
     return m_data;
   }
@@ -219,9 +240,11 @@ class SerializedHistory implements Serializable {
   public Object readResolve() {
     final History rVal = new History(m_data);
     final HistoryWriter historyWriter = rVal.getHistoryWriter();
+    rVal.setLoading(true);
     for (final SerializationWriter element : m_Writers) {
       element.write(historyWriter);
     }
+    rVal.setLoading(false);
     return rVal;
   }
 }
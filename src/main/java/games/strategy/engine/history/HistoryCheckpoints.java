@@ -0,0 +1,136 @@
+package games.strategy.engine.history;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+
+/**
+ * Checkpoints of the history at the start of every round: the changes of every completed round compacted into one
+ * change, so going to a node many rounds away performs the compacted rounds in between instead of every change.
+ *
+ * <p>
+ * A round is compacted on a background thread when it closes, so going to a node (on the event thread, holding the
+ * write lock) only puts the compacted rounds together. Until the compacted change of a round is ready, its changes are
+ * used as they are. The rounds of a history that was loaded are compacted when the history is first gone through.
+ * </p>
+ */
+final class HistoryCheckpoints {
+  private static final Logger s_logger = Logger.getLogger(HistoryCheckpoints.class.getName());
+  // shared by all histories, compacting is not urgent and the game data copies of the AIs have histories too
+  private static final ExecutorService s_compactor = Executors.newSingleThreadExecutor(r -> {
+    final Thread thread = new Thread(r, "History Compactor");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final History m_history;
+  // change index at the start of a round -> the checkpoint of the round
+  private final Map<Integer, Checkpoint> m_checkpoints = new HashMap<>();
+
+  HistoryCheckpoints(final History history) {
+    m_history = history;
+  }
+
+  /**
+   * Starts compacting the changes of a round that closed, on a background thread.
+   */
+  synchronized void roundClosed(final int start, final int end) {
+    getCheckpoint(start, end);
+  }
+
+  /**
+   * @return the changes from the first change up to the last change, with the rounds completely in between compacted
+   *         if their compacted changes are ready.
+   */
+  synchronized List<Change> getChanges(final int firstChange, final int lastChange) {
+    final List<Change> changes = m_history.getChanges();
+    final List<Change> rVal = new ArrayList<>();
+    int index = firstChange;
+    final Enumeration<?> rounds = ((HistoryNode) m_history.getRoot()).children();
+    while (rounds.hasMoreElements()) {
+      final Object node = rounds.nextElement();
+      if (!(node instanceof Round)) {
+        continue;
+      }
+      final Round round = (Round) node;
+      final int start = round.getChangeStartIndex();
+      final int end = round.getChangeEndIndex();
+      if (start < index || end > lastChange || end <= start) {
+        continue;
+      }
+      final Change compacted = getCheckpoint(start, end).m_change;
+      if (compacted != null) {
+        rVal.addAll(changes.subList(index, start));
+        rVal.add(compacted);
+        index = end;
+      }
+    }
+    rVal.addAll(changes.subList(index, lastChange));
+    return rVal;
+  }
+
+  private Checkpoint getCheckpoint(final int start, final int end) {
+    Checkpoint checkpoint = m_checkpoints.get(start);
+    if (checkpoint == null || checkpoint.m_end != end) {
+      checkpoint = new Checkpoint(end);
+      m_checkpoints.put(start, checkpoint);
+      // the changes are copied here, the list of changes grows while the round is compacted
+      final List<Change> changes = new ArrayList<>(m_history.getChanges().subList(start, end));
+      final Checkpoint compacting = checkpoint;
+      s_compactor.execute(() -> {
+        try {
+          compacting.m_change = ChangeFactory.compact(changes);
+          s_logger.log(Level.FINE, "Compacted the changes " + start + " to " + end);
+        } catch (final RuntimeException e) {
+          ClientLogger.logQuietly(e);
+        }
+      });
+    }
+    return checkpoint;
+  }
+
+  /**
+   * Removes the checkpoints of the rounds that end after the changes that are left.
+   */
+  synchronized void truncate(final int changeCount) {
+    final Iterator<Checkpoint> iter = m_checkpoints.values().iterator();
+    while (iter.hasNext()) {
+      if (iter.next().m_end > changeCount) {
+        iter.remove();
+      }
+    }
+  }
+
+  /**
+   * Waits until the rounds closed so far are compacted.
+   */
+  static void awaitCompaction() throws InterruptedException {
+    try {
+      s_compactor.submit(() -> {
+      }).get();
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Checkpoint {
+    private final int m_end;
+    // null until compacted
+    private volatile Change m_change = null;
+
+    Checkpoint(final int end) {
+      m_end = end;
+    }
+  }
+}
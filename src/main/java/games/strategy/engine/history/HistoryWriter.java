@@ -89,6 +89,9 @@ public class HistoryWriter implements java.io.Serializable {
       }
       m_current = (HistoryNode) m_current.getParent();
       ((IndexedHistoryNode) old).setChangeEndIndex(m_history.getChanges().size());
+      if (old instanceof Round) {
+        m_history.roundClosed((Round) old);
+      }
     } finally {
       m_history.getGameData().releaseWriteLock();
     }
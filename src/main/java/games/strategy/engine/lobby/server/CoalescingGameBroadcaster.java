@@ -0,0 +1,96 @@
+package games.strategy.engine.lobby.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import games.strategy.net.GUID;
+
+/**
+ * Broadcasts the changes of the lobby games coalesced. The changes of a game within {@link #WINDOW_MILLIS} of its
+ * first change are broadcast once, as its latest description, or as its removal if it was removed in between, so
+ * hosts that update their game often do not flood every lobby client with updates it would replace right away.
+ */
+final class CoalescingGameBroadcaster implements ILobbyGameBroadcaster {
+  private static final Logger s_logger = Logger.getLogger(CoalescingGameBroadcaster.class.getName());
+  static final long WINDOW_MILLIS = 500;
+  private final ILobbyGameBroadcaster m_broadcaster;
+  private final long m_windowMillis;
+  private final ScheduledExecutorService m_executor = Executors.newSingleThreadScheduledExecutor(r -> {
+    final Thread thread = new Thread(r, "Lobby Game Broadcaster");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Object m_mutex = new Object();
+  // game -> its latest description, or null if it was removed, in the order the games first changed
+  private final Map<GUID, GameDescription> m_pending = new LinkedHashMap<>();
+  private long m_received = 0;
+  private long m_broadcast = 0;
+
+  CoalescingGameBroadcaster(final ILobbyGameBroadcaster broadcaster) {
+    this(broadcaster, WINDOW_MILLIS);
+  }
+
+  CoalescingGameBroadcaster(final ILobbyGameBroadcaster broadcaster, final long windowMillis) {
+    m_broadcaster = broadcaster;
+    m_windowMillis = windowMillis;
+  }
+
+  @Override
+  public void gameUpdated(final GUID gameId, final GameDescription description) {
+    changed(gameId, description);
+  }
+
+  @Override
+  public void gameRemoved(final GUID gameId) {
+    changed(gameId, null);
+  }
+
+  private void changed(final GUID gameId, final GameDescription description) {
+    synchronized (m_mutex) {
+      m_received++;
+      final boolean scheduled = !m_pending.isEmpty();
+      m_pending.put(gameId, description);
+      if (!scheduled) {
+        m_executor.schedule(this::flush, m_windowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Broadcasts the changes not broadcast yet.
+   */
+  void flush() {
+    final Map<GUID, GameDescription> changes;
+    synchronized (m_mutex) {
+      changes = new LinkedHashMap<>(m_pending);
+      m_pending.clear();
+      m_broadcast += changes.size();
+    }
+    for (final Map.Entry<GUID, GameDescription> change : changes.entrySet()) {
+      try {
+        if (change.getValue() == null) {
+          m_broadcaster.gameRemoved(change.getKey());
+        } else {
+          m_broadcaster.gameUpdated(change.getKey(), change.getValue());
+        }
+      } catch (final RuntimeException e) {
+        s_logger.log(Level.WARNING, "Could not broadcast the change of game:" + change.getKey(), e);
+      }
+    }
+    if (s_logger.isLoggable(Level.FINE)) {
+      s_logger.fine("Broadcast " + changes.size() + " game changes, " + this);
+    }
+  }
+
+  @Override
+  public String toString() {
+    synchronized (m_mutex) {
+      return "Game changes received: " + m_received + ", broadcast: " + m_broadcast;
+    }
+  }
+}
@@ -52,8 +52,8 @@ public class GameDescription implements Externalizable, Cloneable {
   private boolean m_passworded;
   private String m_engineVersion;
   private String m_gameVersion;
-  private String m_botSupportEmail =
-      HeadlessGameServer.getInstance() != null ? System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, "") : "";
+  private String m_botSupportEmail = HeadlessGameServer.getInstance() != null
+      ? HeadlessGameServer.getHostProperties().getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, "") : "";
 
   // if you add a field, add it to write/read object as well for Externalizable
   public GameDescription() {}
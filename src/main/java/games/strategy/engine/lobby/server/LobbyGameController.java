@@ -26,7 +26,8 @@ class LobbyGameController implements ILobbyGameController {
   private final ILobbyGameBroadcaster m_broadcaster;
 
   LobbyGameController(final ILobbyGameBroadcaster broadcaster, final IMessenger messenger) {
-    m_broadcaster = broadcaster;
+    // hosts update their games often, so the updates are coalesced before they are broadcast
+    m_broadcaster = new CoalescingGameBroadcaster(broadcaster);
     final IMessenger m_messenger = messenger;
     ((IServerMessenger) m_messenger).addConnectionChangeListener(new IConnectionChangeListener() {
       @Override
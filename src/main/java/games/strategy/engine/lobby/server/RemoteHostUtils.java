@@ -11,6 +11,8 @@ import games.strategy.net.IServerMessenger;
 public class RemoteHostUtils implements IRemoteHostUtils {
   private final INode m_serverNode;
   private final IServerMessenger m_serverMessenger;
+  // the hosted game this is created for, the lobby messenger threads may not find it
+  private final HeadlessGameServer m_headlessGameServer;
 
   public static RemoteName getRemoteHostUtilsName(final INode node) {
     return new RemoteName(IRemoteHostUtils.class,
@@ -20,6 +22,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
   public RemoteHostUtils(final INode serverNode, final IServerMessenger gameServerMessenger) {
     m_serverNode = serverNode;
     m_serverMessenger = gameServerMessenger;
+    m_headlessGameServer = HeadlessGameServer.getInstance();
   }
 
   @Override
@@ -47,7 +50,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -60,7 +63,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -73,7 +76,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -86,7 +89,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -98,7 +101,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -110,7 +113,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -122,7 +125,7 @@ public class RemoteHostUtils implements IRemoteHostUtils {
     if (!MessageContext.getSender().equals(m_serverNode)) {
       return "Not accepted!";
     }
-    final HeadlessGameServer instance = HeadlessGameServer.getInstance();
+    final HeadlessGameServer instance = m_headlessGameServer;
     if (instance == null) {
       return "Not a headless host bot!";
     }
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +13,8 @@ import java.util.logging.Logger;
  */
 public class BadWordController {
   private static final Logger s_logger = Logger.getLogger(BadWordController.class.getName());
+  // the bad words, so checking a word does not query the database
+  private static final CachedTable s_badWords = new CachedTable("bad_words", "word", null);
 
   public void addBadWord(final String word) {
     s_logger.fine("Adding bad word word:" + word);
@@ -24,6 +25,7 @@ public class BadWordController {
       ps.execute();
       ps.close();
       con.commit();
+      s_badWords.invalidate();
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -47,6 +49,7 @@ public class BadWordController {
       ps.execute();
       ps.close();
       con.commit();
+      s_badWords.invalidate();
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned word:" + word, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -56,23 +59,6 @@ public class BadWordController {
   }
 
   public List<String> list() {
-    final String sql = "select word from bad_words";
-    final Connection con = Database.getDerbyConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      final ResultSet rs = ps.executeQuery();
-      final List<String> rVal = new ArrayList<>();
-      while (rs.next()) {
-        rVal.add(rs.getString(1));
-      }
-      rs.close();
-      ps.close();
-      return rVal;
-    } catch (final SQLException sqle) {
-      s_logger.info("Error reading bad words error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
-    }
+    return new ArrayList<>(s_badWords.getRows().keySet());
   }
 }
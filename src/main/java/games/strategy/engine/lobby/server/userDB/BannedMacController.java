@@ -2,10 +2,10 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,6 +16,8 @@ import games.strategy.util.Tuple;
  */
 public class BannedMacController {
   private static final Logger s_logger = Logger.getLogger(BannedMacController.class.getName());
+  // the banned macs, so checking a mac does not query the database
+  private static final CachedTable s_bannedMacs = new CachedTable("banned_macs", "mac", "ban_till");
 
   /**
    * Ban the mac permanently.
@@ -48,6 +50,7 @@ public class BannedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      s_bannedMacs.invalidate();
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -71,6 +74,7 @@ public class BannedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      s_bannedMacs.invalidate();
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned mac:" + mac, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -84,36 +88,17 @@ public class BannedMacController {
    * database any mac's whose ban has expired.
    */
   public Tuple<Boolean, Timestamp> isMacBanned(final String mac) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select mac, ban_till from banned_macs where mac = ?";
-    final Connection con = Database.getDerbyConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, mac);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // If the ban has expired, allow the mac
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + mac);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned mac existence:" + mac + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final Map<String, Timestamp> banned = s_bannedMacs.getRows();
+    if (!banned.containsKey(mac)) {
+      return Tuple.of(false, null);
     }
-    if (expired) {
+    final Timestamp banTill = banned.get(mac);
+    // If the ban has expired, allow the mac
+    if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
+      s_logger.fine("Ban expired for:" + mac);
       removeBannedMac(mac);
       return Tuple.of(false, banTill);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, banTill);
   }
 }
@@ -2,10 +2,10 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,6 +16,8 @@ import games.strategy.util.Tuple;
  */
 public class BannedUsernameController {
   private static final Logger s_logger = Logger.getLogger(BannedUsernameController.class.getName());
+  // the banned usernames, so checking a username does not query the database
+  private static final CachedTable s_bannedUsernames = new CachedTable("banned_usernames", "username", "ban_till");
 
   /**
    * Ban the username permanently.
@@ -49,6 +51,7 @@ public class BannedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      s_bannedUsernames.invalidate();
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -72,6 +75,7 @@ public class BannedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      s_bannedUsernames.invalidate();
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned username:" + username, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -85,36 +89,17 @@ public class BannedUsernameController {
    * database any username's whose ban has expired.
    */
   public Tuple<Boolean, Timestamp> isUsernameBanned(final String username) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select username, ban_till from banned_usernames where username = ?";
-    final Connection con = Database.getDerbyConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, username);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // If the ban has expired, allow the username
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + username);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned username existence:" + username + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final Map<String, Timestamp> banned = s_bannedUsernames.getRows();
+    if (!banned.containsKey(username)) {
+      return Tuple.of(false, null);
     }
-    if (expired) {
+    final Timestamp banTill = banned.get(username);
+    // If the ban has expired, allow the username
+    if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
+      s_logger.fine("Ban expired for:" + username);
       removeBannedUsername(username);
       return Tuple.of(false, banTill);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, banTill);
   }
 }
@@ -0,0 +1,114 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * The rows of a table of names (like the banned macs, with the time they are banned till) kept in memory, so logins
+ * and mute checks do not query the database.
+ *
+ * <p>
+ * The rows are loaded again when they are older than {@link #EXPIRY_MILLIS}, and after the table was written through
+ * its controller.
+ * </p>
+ */
+final class CachedTable {
+  private static final Logger s_logger = Logger.getLogger(CachedTable.class.getName());
+  static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private final String m_sql;
+  private final boolean m_hasTill;
+  private final Supplier<Connection> m_connectionFactory;
+  private final LongSupplier m_clock;
+  private volatile Map<String, Timestamp> m_rows = null;
+  private volatile long m_loadedAt = 0;
+  // counts the invalidations, so rows loaded while the table was written are not kept
+  private final AtomicInteger m_invalidations = new AtomicInteger();
+
+  /**
+   * @param tillColumn the column with the time the name is banned or muted till, or null if there is none.
+   */
+  CachedTable(final String table, final String nameColumn, final String tillColumn) {
+    this(table, nameColumn, tillColumn, Database::getDerbyConnection, System::currentTimeMillis);
+  }
+
+  CachedTable(final String table, final String nameColumn, final String tillColumn,
+      final Supplier<Connection> connectionFactory, final LongSupplier clock) {
+    m_hasTill = tillColumn != null;
+    m_sql = "select " + nameColumn + (m_hasTill ? ", " + tillColumn : "") + " from " + table;
+    m_connectionFactory = connectionFactory;
+    m_clock = clock;
+  }
+
+  /**
+   * @return the names in the table mapped to the time they are banned or muted till, or to null if there is none.
+   */
+  Map<String, Timestamp> getRows() {
+    final Map<String, Timestamp> rows = m_rows;
+    if (rows != null && m_clock.getAsLong() - m_loadedAt < EXPIRY_MILLIS) {
+      return rows;
+    }
+    return load();
+  }
+
+  /**
+   * @return the time (in epoch milliseconds) the name is banned or muted till, {@link Long#MAX_VALUE} if that has no
+   *         end, or -1 if the name is not in the table.
+   */
+  long getTill(final String name) {
+    final Map<String, Timestamp> rows = getRows();
+    if (!rows.containsKey(name)) {
+      return -1;
+    }
+    final Timestamp till = rows.get(name);
+    return till == null ? Long.MAX_VALUE : till.getTime();
+  }
+
+  /**
+   * Loads the rows again when they are next asked, call after the table was written.
+   */
+  void invalidate() {
+    m_invalidations.incrementAndGet();
+    m_rows = null;
+  }
+
+  private synchronized Map<String, Timestamp> load() {
+    if (m_rows != null && m_clock.getAsLong() - m_loadedAt < EXPIRY_MILLIS) {
+      return m_rows;
+    }
+    final long loadedAt = m_clock.getAsLong();
+    final int invalidations = m_invalidations.get();
+    final Map<String, Timestamp> rows = new LinkedHashMap<>();
+    final Connection con = m_connectionFactory.get();
+    try {
+      final PreparedStatement ps = con.prepareStatement(m_sql);
+      final ResultSet rs = ps.executeQuery();
+      while (rs.next()) {
+        rows.put(rs.getString(1), m_hasTill ? rs.getTimestamp(2) : null);
+      }
+      rs.close();
+      ps.close();
+    } catch (final SQLException sqle) {
+      s_logger.info("Error reading:" + m_sql + " error:" + sqle.getMessage());
+      throw new IllegalStateException(sqle.getMessage());
+    } finally {
+      DbUtil.closeConnection(con);
+    }
+    final Map<String, Timestamp> loaded = Collections.unmodifiableMap(rows);
+    if (invalidations == m_invalidations.get()) {
+      m_rows = loaded;
+      m_loadedAt = loadedAt;
+    }
+    return loaded;
+  }
+}
@@ -0,0 +1,115 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A pool of connections to a database.
+ *
+ * <p>
+ * Closing a connection from the pool returns it to the pool to be used again (with its uncommitted changes rolled
+ * back, committing automatically again), so getting a connection does not open a new one every time. Up to
+ * {@link #MAX_IDLE_CONNECTIONS} connections are kept, more are closed when they are returned.
+ * </p>
+ */
+final class ConnectionPool {
+  private static final Logger s_logger = Logger.getLogger(ConnectionPool.class.getName());
+  static final int MAX_IDLE_CONNECTIONS = 8;
+  private final Supplier<Connection> m_connectionFactory;
+  private final BlockingDeque<Connection> m_idle = new LinkedBlockingDeque<>(MAX_IDLE_CONNECTIONS);
+
+  ConnectionPool(final Supplier<Connection> connectionFactory) {
+    m_connectionFactory = connectionFactory;
+  }
+
+  /**
+   * @return a connection from the pool, or a new one if there is none, to be closed when done.
+   */
+  Connection getConnection() {
+    Connection connection;
+    while ((connection = m_idle.pollFirst()) != null) {
+      if (isOpen(connection)) {
+        break;
+      }
+    }
+    if (connection == null) {
+      connection = m_connectionFactory.get();
+    }
+    return wrap(connection);
+  }
+
+  int getIdleCount() {
+    return m_idle.size();
+  }
+
+  /**
+   * Closes the idle connections.
+   */
+  void close() {
+    Connection connection;
+    while ((connection = m_idle.pollFirst()) != null) {
+      DbUtil.closeConnection(connection);
+    }
+  }
+
+  private static boolean isOpen(final Connection connection) {
+    try {
+      return !connection.isClosed();
+    } catch (final SQLException e) {
+      return false;
+    }
+  }
+
+  private void release(final Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+        // new connections commit automatically
+        connection.setAutoCommit(true);
+      }
+      connection.clearWarnings();
+    } catch (final SQLException e) {
+      s_logger.log(Level.FINE, "Not reusing connection", e);
+      DbUtil.closeConnection(connection);
+      return;
+    }
+    if (!m_idle.offerFirst(connection)) {
+      DbUtil.closeConnection(connection);
+    }
+  }
+
+  private Connection wrap(final Connection connection) {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("close") && method.getParameterCount() == 0) {
+            if (closed.compareAndSet(false, true)) {
+              release(connection);
+            }
+            return null;
+          }
+          if (method.getName().equals("isClosed") && method.getParameterCount() == 0) {
+            return closed.get() || connection.isClosed();
+          }
+          if (closed.get() && method.getDeclaringClass() != Object.class) {
+            throw new SQLException("Connection is closed");
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (final InvocationTargetException e) {
+            throw e.getCause();
+          }
+        });
+  }
+}
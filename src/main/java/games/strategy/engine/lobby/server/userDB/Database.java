@@ -9,7 +9,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,6 +44,8 @@ public class Database {
   private static final Object s_dbSetupLock = new Object();
   private static boolean s_isDbSetup = false;
   private static boolean s_areDBTablesCreated = false;
+  // database url -> the pool of connections to it
+  private static final Map<String, ConnectionPool> s_connectionPools = new HashMap<>();
 
   private static File getCurrentDataBaseDir() {
     final File dbRootDir = getDBRoot();
@@ -83,8 +87,23 @@ public class Database {
     return connection;
   }
 
+  /**
+   * @return a connection from the pool of connections to the database, that is returned to the pool when closed.
+   */
   public static Connection getDerbyConnection(final String url, final Properties props) {
     ensureDbIsSetup();
+    ConnectionPool pool;
+    synchronized (s_connectionPools) {
+      pool = s_connectionPools.get(url);
+      if (pool == null) {
+        pool = new ConnectionPool(() -> createConnection(url, props));
+        s_connectionPools.put(url, pool);
+      }
+    }
+    return pool.getConnection();
+  }
+
+  private static Connection createConnection(final String url, final Properties props) {
     Connection conn = null;
     /*
      * The connection specifies create=true to cause
@@ -267,6 +286,11 @@ public class Database {
   }
 
   private static void shutDownDB() {
+    synchronized (s_connectionPools) {
+      for (final ConnectionPool pool : s_connectionPools.values()) {
+        pool.close();
+      }
+    }
     try {
       DriverManager.getConnection("jdbc:derby:ta_users;shutdown=true");
     } catch (final SQLException se) {
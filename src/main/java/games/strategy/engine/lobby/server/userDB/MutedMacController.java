@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -14,6 +13,8 @@ import java.util.logging.Logger;
  */
 public class MutedMacController {
   private static final Logger s_logger = Logger.getLogger(MutedMacController.class.getName());
+  // the muted macs, so checking a mac does not query the database
+  private static final CachedTable s_mutedMacs = new CachedTable("muted_macs", "mac", "mute_till");
 
   /**
    * Mute the mac permanently.
@@ -46,6 +47,7 @@ public class MutedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      s_mutedMacs.invalidate();
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +71,7 @@ public class MutedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      s_mutedMacs.invalidate();
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted mac:" + mac, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -90,38 +93,16 @@ public class MutedMacController {
    * Returns epoch milli second timestamp of when a mute expires or negative one if there is no mute.
    */
   public long getMacUnmuteTime(final String mac) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select mac, mute_till from muted_macs where mac = ?";
-    final Connection con = Database.getDerbyConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, mac);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + mac);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted mac existence:" + mac + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final long result = s_mutedMacs.getTill(mac);
+    if (result < 0) {
+      return -1;
     }
     // If the mute has expired, allow the mac
-    if (expired) {
+    if (result < System.currentTimeMillis()) {
+      s_logger.fine("Mute expired for:" + mac);
       removeMutedMac(mac);
       // Signal as not-muted
-      result = -1;
+      return -1;
     }
     return result;
   }
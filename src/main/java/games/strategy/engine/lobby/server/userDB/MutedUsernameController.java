@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -14,6 +13,8 @@ import java.util.logging.Logger;
  */
 public class MutedUsernameController {
   private static final Logger s_logger = Logger.getLogger(MutedUsernameController.class.getName());
+  // the muted usernames, so checking a username does not query the database
+  private static final CachedTable s_mutedUsernames = new CachedTable("muted_usernames", "username", "mute_till");
 
   /**
    * Mute the username permanently.
@@ -47,6 +48,7 @@ public class MutedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      s_mutedUsernames.invalidate();
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -70,6 +72,7 @@ public class MutedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      s_mutedUsernames.invalidate();
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted username:" + username, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -91,38 +94,16 @@ public class MutedUsernameController {
    * Returns epoch milli's of when mute expires, or negative one if there is no active mute.
    */
   public long getUsernameUnmuteTime(final String username) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select username, mute_till from muted_usernames where username = ?";
-    final Connection con = Database.getDerbyConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, username);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + username);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted username existence:" + username + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final long result = s_mutedUsernames.getTill(username);
+    if (result < 0) {
+      return -1;
     }
     // If the mute has expired, allow the username
-    if (expired) {
+    if (result < System.currentTimeMillis()) {
+      s_logger.fine("Mute expired for:" + username);
       removeMutedUsername(username);
       // Signal as not-muted
-      result = -1;
+      return -1;
     }
     return result;
   }
@@ -36,6 +36,7 @@ import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.message.SpokeInvoke;
 import games.strategy.net.nio.NIOSocket;
 import games.strategy.net.nio.NIOSocketListener;
+import games.strategy.net.nio.NIOTraffic;
 import games.strategy.net.nio.QuarantineConversation;
 import games.strategy.net.nio.ServerQuarantineConversation;
 
@@ -133,6 +134,13 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     return shutdown;
   }
 
+  /**
+   * @return the messages and bytes sent to and received from the clients.
+   */
+  public NIOTraffic getTraffic() {
+    return nioSocket.getTraffic();
+  }
+
   @Override
   public boolean isConnected() {
     return !shutdown;
@@ -39,6 +39,8 @@ class Encoder {
     final ByteArrayOutputStream2 sink = new ByteArrayOutputStream2(512);
     SocketWriteData data;
     try {
+      // the writer fills in the size
+      sink.write(new byte[SocketWriteData.HEADER_SIZE]);
       write(header, m_objectStreamFactory.create(sink), to);
       data = new SocketWriteData(sink.getBuffer(), sink.size());
     } catch (final Exception e) {
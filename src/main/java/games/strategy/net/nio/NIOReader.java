@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -21,10 +22,12 @@ import java.util.logging.Logger;
 /**
  * A thread that reads socket data using NIO from a collection of sockets.<br>
  * Data is read in packets, and placed in the output queye.<br>
- * Packets are placed in the output queue in order they are read from the socket.
+ * Packets are placed in the output queue in order they are read from the socket.<br>
+ * Every read takes as much as fits in one direct buffer, which may be the end of one packet and several more.
  */
 class NIOReader {
   private static final Logger logger = Logger.getLogger(NIOReader.class.getName());
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
   private final LinkedBlockingQueue<SocketReadData> outputQueue = new LinkedBlockingQueue<>();
   private volatile boolean running = true;
   private final Map<SocketChannel, SocketReadData> reading = new ConcurrentHashMap<>();
@@ -32,10 +35,13 @@ class NIOReader {
   private final Selector selector;
   private final Object socketsToAddMutex = new Object();
   private final List<SocketChannel> socketsToAdd = new ArrayList<>();
-  private long totalBytes;
+  // only used by the reading thread, which reads every socket into it and copies the packets out
+  private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+  private final NIOTraffic traffic;
 
-  NIOReader(final IErrorReporter reporter, final String threadSuffix) {
+  NIOReader(final IErrorReporter reporter, final NIOTraffic traffic, final String threadSuffix) {
     errorReporter = reporter;
+    this.traffic = traffic;
     try {
       selector = Selector.open();
     } catch (final IOException e) {
@@ -108,28 +114,35 @@ class NIOReader {
           iter.remove();
           if (key.isValid() && key.isReadable()) {
             final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketReadData packet = getReadData(channel);
             if (logger.isLoggable(Level.FINEST)) {
-              logger.finest("reading packet:" + packet + " from:" + channel.socket().getRemoteSocketAddress());
+              logger.finest("reading from:" + channel.socket().getRemoteSocketAddress());
             }
             try {
-              final boolean done = packet.read(channel);
-              if (done) {
-                totalBytes += packet.size();
-                if (logger.isLoggable(Level.FINE)) {
-                  String remote = "null";
-                  final Socket s = channel.socket();
-                  SocketAddress sa = null;
-                  if (s != null) {
-                    sa = s.getRemoteSocketAddress();
-                  }
-                  if (sa != null) {
-                    remote = sa.toString();
+              // http://javaalmanac.com/egs/java.nio/DetectClosed.html
+              readBuffer.clear();
+              if (channel.read(readBuffer) == -1) {
+                throw new IOException("Socket closed");
+              }
+              readBuffer.flip();
+              while (readBuffer.hasRemaining()) {
+                final SocketReadData packet = getReadData(channel);
+                if (packet.read(readBuffer)) {
+                  traffic.read(packet.size());
+                  if (logger.isLoggable(Level.FINE)) {
+                    String remote = "null";
+                    final Socket s = channel.socket();
+                    SocketAddress sa = null;
+                    if (s != null) {
+                      sa = s.getRemoteSocketAddress();
+                    }
+                    if (sa != null) {
+                      remote = sa.toString();
+                    }
+                    logger.log(Level.FINE, " done reading from:" + remote + " size:" + packet.size() + " readCalls;"
+                        + packet.getReadCalls() + " total:" + traffic.getBytesRead());
                   }
-                  logger.log(Level.FINE, " done reading from:" + remote + " size:" + packet.size() + " readCalls;"
-                      + packet.getReadCalls() + " total:" + totalBytes);
+                  enque(packet);
                 }
-                enque(packet);
               }
             } catch (final Exception e) {
               logger.log(Level.FINER, "exception reading", e);
@@ -25,11 +25,12 @@ public class NIOSocket implements IErrorReporter {
   private final NIOWriter m_writer;
   private final NIOReader m_reader;
   private final NIOSocketListener m_listener;
+  private final NIOTraffic m_traffic = new NIOTraffic();
 
   public NIOSocket(final IObjectStreamFactory factory, final NIOSocketListener listener, final String name) {
     m_listener = listener;
-    m_writer = new NIOWriter(this, name);
-    m_reader = new NIOReader(this, name);
+    m_writer = new NIOWriter(this, m_traffic, name);
+    m_reader = new NIOReader(this, m_traffic, name);
     m_decoder = new Decoder(this, m_reader, this, factory, name);
     m_encoder = new Encoder(this, m_writer, factory);
   }
@@ -109,6 +110,13 @@ public class NIOSocket implements IErrorReporter {
     m_reader.closed(channel);
   }
 
+  /**
+   * @return the messages and bytes written and read by this socket.
+   */
+  public NIOTraffic getTraffic() {
+    return m_traffic;
+  }
+
   void messageReceived(final MessageHeader header, final SocketChannel channel) {
     m_listener.messageReceived(header, channel);
   }
@@ -0,0 +1,87 @@
+package games.strategy.net.nio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The messages and bytes written and read by a {@link NIOSocket}, the bytes including the size written before every
+ * message.
+ *
+ * <p>
+ * The rates are averaged over the time since the last call to {@link #sample()}, or since the socket was created.
+ * </p>
+ */
+public final class NIOTraffic {
+  private final AtomicLong m_messagesWritten = new AtomicLong();
+  private final AtomicLong m_bytesWritten = new AtomicLong();
+  private final AtomicLong m_messagesRead = new AtomicLong();
+  private final AtomicLong m_bytesRead = new AtomicLong();
+  // {nanos, messages written, bytes written, messages read, bytes read} at the last sample
+  private long[] m_lastSample = {System.nanoTime(), 0, 0, 0, 0};
+  // the same, per second, between the last two samples
+  private double[] m_rates = new double[4];
+
+  void written(final int bytes) {
+    m_messagesWritten.incrementAndGet();
+    m_bytesWritten.addAndGet(bytes);
+  }
+
+  void read(final int bytes) {
+    m_messagesRead.incrementAndGet();
+    m_bytesRead.addAndGet(bytes);
+  }
+
+  public long getMessagesWritten() {
+    return m_messagesWritten.get();
+  }
+
+  public long getBytesWritten() {
+    return m_bytesWritten.get();
+  }
+
+  public long getMessagesRead() {
+    return m_messagesRead.get();
+  }
+
+  public long getBytesRead() {
+    return m_bytesRead.get();
+  }
+
+  /**
+   * Computes the rates since the last sample.
+   */
+  public synchronized void sample() {
+    final long[] sample = {System.nanoTime(), getMessagesWritten(), getBytesWritten(), getMessagesRead(),
+        getBytesRead()};
+    final double seconds = Math.max(1, sample[0] - m_lastSample[0]) / (double) TimeUnit.SECONDS.toNanos(1);
+    final double[] rates = new double[4];
+    for (int i = 0; i < rates.length; i++) {
+      rates[i] = (sample[i + 1] - m_lastSample[i + 1]) / seconds;
+    }
+    m_lastSample = sample;
+    m_rates = rates;
+  }
+
+  public synchronized double getMessagesWrittenPerSecond() {
+    return m_rates[0];
+  }
+
+  public synchronized double getBytesWrittenPerSecond() {
+    return m_rates[1];
+  }
+
+  public synchronized double getMessagesReadPerSecond() {
+    return m_rates[2];
+  }
+
+  public synchronized double getBytesReadPerSecond() {
+    return m_rates[3];
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format("Written: %d messages, %d KB (%.1f messages/s, %.1f KB/s), Read: %d messages, %d KB "
+        + "(%.1f messages/s, %.1f KB/s)", getMessagesWritten(), getBytesWritten() / 1024, m_rates[0],
+        m_rates[1] / 1024, getMessagesRead(), getBytesRead() / 1024, m_rates[2], m_rates[3] / 1024);
+  }
+}
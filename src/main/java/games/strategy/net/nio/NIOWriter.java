@@ -3,11 +3,14 @@ package games.strategy.net.nio;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -19,10 +22,12 @@ import java.util.logging.Logger;
 /**
  * A thread that writes socket data using NIO .<br>
  * Data is written in packets that are enqued on our buffer.
- * Packets are sent to the sockets in the order that they are received.
+ * Packets are sent to the sockets in the order that they are received, the packets waiting for a socket are written
+ * to it together with one gathering write.
  */
 class NIOWriter {
   private static final Logger s_logger = Logger.getLogger(NIOWriter.class.getName());
+  private static final int MAX_GATHERED_PACKETS = 64;
   private final Selector m_selector;
   private final IErrorReporter m_errorReporter;
   // this is the data we are writing
@@ -32,11 +37,14 @@ class NIOWriter {
   private List<SocketChannel> m_socketsToWake = new ArrayList<>();
   // the writing thread and threads adding data to write synchronize on this lock
   private final Object m_mutex = new Object();
-  private long m_totalBytes = 0;
+  // the buffers of the packets written together, only used by the writing thread
+  private final ByteBuffer[] m_gathered = new ByteBuffer[MAX_GATHERED_PACKETS];
+  private final NIOTraffic m_traffic;
   private volatile boolean m_running = true;
 
-  NIOWriter(final IErrorReporter reporter, final String threadSuffix) {
+  NIOWriter(final IErrorReporter reporter, final NIOTraffic traffic, final String threadSuffix) {
     m_errorReporter = reporter;
+    m_traffic = traffic;
     try {
       m_selector = Selector.open();
     } catch (final IOException e) {
@@ -102,15 +110,14 @@ class NIOWriter {
           iter.remove();
           if (key.isValid() && key.isWritable()) {
             final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketWriteData packet = getData(channel);
-            if (packet != null) {
+            final List<SocketWriteData> packets = getData(channel);
+            if (!packets.isEmpty()) {
               try {
                 if (s_logger.isLoggable(Level.FINEST)) {
-                  s_logger.finest("writing packet:" + packet + " to:" + channel.socket().getRemoteSocketAddress());
+                  s_logger.finest("writing packets:" + packets + " to:" + channel.socket().getRemoteSocketAddress());
                 }
-                final boolean done = packet.write(channel);
-                if (done) {
-                  m_totalBytes += packet.size();
+                final int written = write(channel, packets);
+                if (written > 0) {
                   if (s_logger.isLoggable(Level.FINE)) {
                     String remote = "null";
                     final Socket s = channel.socket();
@@ -121,10 +128,10 @@ class NIOWriter {
                     if (sa != null) {
                       remote = sa.toString();
                     }
-                    s_logger.log(Level.FINE, " done writing to:" + remote + " size:" + packet.size() + " writeCalls;"
-                        + packet.getWriteCalls() + " total:" + m_totalBytes);
+                    s_logger.log(Level.FINE, " done writing to:" + remote + " packets:" + packets.subList(0, written)
+                        + " total:" + m_traffic.getBytesWritten());
                   }
-                  removeLast(channel);
+                  removeWritten(channel, packets.subList(0, written));
                 }
               } catch (final Exception e) {
                 s_logger.log(Level.FINER, "exception writing", e);
@@ -160,14 +167,42 @@ class NIOWriter {
     }
   }
 
-  private void removeLast(final SocketChannel to) {
+  /**
+   * Writes the packets with one gathering write.
+   *
+   * @return the number of packets that were written entirely.
+   */
+  private int write(final SocketChannel channel, final List<SocketWriteData> packets) throws IOException {
+    for (int i = 0; i < packets.size(); i++) {
+      m_gathered[i] = packets.get(i).getBuffer();
+    }
+    try {
+      channel.write(m_gathered, 0, packets.size());
+    } finally {
+      Arrays.fill(m_gathered, null);
+    }
+    int written = 0;
+    while (written < packets.size() && packets.get(written).isWritten()) {
+      m_traffic.written(packets.get(written).size());
+      written++;
+    }
+    return written;
+  }
+
+  private void removeWritten(final SocketChannel to, final List<SocketWriteData> written) {
     synchronized (m_mutex) {
       final List<SocketWriteData> values = m_writing.get(to);
       if (values == null) {
         s_logger.log(Level.SEVERE, "NO socket data to:" + to + " all:" + values);
         return;
       }
-      values.remove(0);
+      // the channel may have been closed and written to again since
+      for (final SocketWriteData packet : written) {
+        if (values.isEmpty() || values.get(0) != packet) {
+          break;
+        }
+        values.remove(0);
+      }
       // remove empty lists, so we can detect that we need to wake up the socket
       if (values.isEmpty()) {
         m_writing.remove(to);
@@ -175,16 +210,16 @@ class NIOWriter {
     }
   }
 
-  private SocketWriteData getData(final SocketChannel to) {
+  /**
+   * @return the first packets queued to the channel, as many as are written together.
+   */
+  private List<SocketWriteData> getData(final SocketChannel to) {
     synchronized (m_mutex) {
-      if (!m_writing.containsKey(to)) {
-        return null;
-      }
       final List<SocketWriteData> values = m_writing.get(to);
-      if (values.isEmpty()) {
-        return null;
+      if (values == null || values.isEmpty()) {
+        return Collections.emptyList();
       }
-      return values.get(0);
+      return new ArrayList<>(values.subList(0, Math.min(values.size(), MAX_GATHERED_PACKETS)));
     }
   }
 
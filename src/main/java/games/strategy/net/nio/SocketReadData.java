@@ -13,6 +13,10 @@ import java.util.logging.Logger;
  * <p>
  * A Packet does not correspond to a network packet, rather it is the bytes for 1 serialized java object.
  * </p>
+ *
+ * <p>
+ * The {@link NIOReader} reads the socket into its own buffer, and the packet takes its bytes from there.
+ * </p>
  */
 class SocketReadData {
   public static final int MAX_MESSAGE_SIZE = 1000 * 1000 * 10;
@@ -38,70 +42,65 @@ class SocketReadData {
   }
 
   /**
-   * Read data from the channel, returning true if this packet is done.
-   *
-   * <p>
-   * If we detect the socket is closed, we will throw an IOExcpetion
-   * </p>
+   * Read data from the bytes read from the channel, returning true if this packet is done.
+   * Only the bytes of this packet are taken from the buffer, the rest are for the next packets.
    */
-  public boolean read(final SocketChannel channel) throws IOException {
+  public boolean read(final ByteBuffer from) throws IOException {
     readCalls++;
     // we dont know our size, read it
     if (targetSize < 0) {
-      // our first read
-      // find out how big this packet is
-      if (sizeBuffer == null) {
-        sizeBuffer = ByteBuffer.allocate(4);
-      }
-      final int size = channel.read(sizeBuffer);
-      if (logger.isLoggable(Level.FINEST)) {
-        logger.finest("read size_buffer bytes:" + size);
-      }
-      if (size == -1) {
-        throw new IOException("Socket closed");
-      }
-      // we have read all four bytes of our size
-      if (!sizeBuffer.hasRemaining()) {
-        sizeBuffer.flip();
-        targetSize = sizeBuffer.getInt();
-        if ((targetSize & 0xFF000000) != MAGIC) {
-          throw new IOException("Did not write magic!");
+      if (sizeBuffer == null && from.remaining() >= 4) {
+        setTargetSize(from.getInt());
+      } else {
+        // the size was split between two reads
+        if (sizeBuffer == null) {
+          sizeBuffer = ByteBuffer.allocate(4);
         }
-        targetSize = targetSize & 0x00ffffff;
-        // limit messages to 10MB
-        if (targetSize <= 0 || targetSize > MAX_MESSAGE_SIZE) {
-          throw new IOException("Invalid triplea packet size:" + targetSize);
+        transfer(from, sizeBuffer);
+        if (sizeBuffer.hasRemaining()) {
+          return false;
         }
-        contentBuffer = ByteBuffer.allocate(targetSize);
+        sizeBuffer.flip();
+        setTargetSize(sizeBuffer.getInt());
         sizeBuffer = null;
-      } else {
-        // we ddnt read all 4 bytes, return
-        return false;
       }
     }
-    // http://javaalmanac.com/egs/java.nio/DetectClosed.html
-    final int size = channel.read(contentBuffer);
+    transfer(from, contentBuffer);
     if (logger.isLoggable(Level.FINEST)) {
-      logger.finest("read content bytes:" + size);
-    }
-    if (size == -1) {
-      throw new IOException("Socket closed");
+      logger.finest("read content bytes:" + contentBuffer.position());
     }
     return !contentBuffer.hasRemaining();
   }
 
+  private void setTargetSize(final int size) throws IOException {
+    if ((size & 0xFF000000) != MAGIC) {
+      throw new IOException("Did not write magic!");
+    }
+    targetSize = size & 0x00ffffff;
+    // limit messages to 10MB
+    if (targetSize <= 0 || targetSize > MAX_MESSAGE_SIZE) {
+      throw new IOException("Invalid triplea packet size:" + targetSize);
+    }
+    contentBuffer = ByteBuffer.allocate(targetSize);
+  }
+
+  private static void transfer(final ByteBuffer from, final ByteBuffer to) {
+    final int limit = from.limit();
+    from.limit(from.position() + Math.min(from.remaining(), to.remaining()));
+    to.put(from);
+    from.limit(limit);
+  }
+
   public SocketChannel getChannel() {
     return channel;
   }
 
   /**
-   * Get the data as a byte[].
+   * Get the data as a byte[], the array the data was read into.
    * This method can only be called once.
    */
   public byte[] getData() {
-    final byte[] rVal = new byte[contentBuffer.capacity()];
-    contentBuffer.flip();
-    contentBuffer.get(rVal);
+    final byte[] rVal = contentBuffer.array();
     contentBuffer = null;
     return rVal;
   }
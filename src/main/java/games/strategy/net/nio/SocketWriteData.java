@@ -1,11 +1,7 @@
 package games.strategy.net.nio;
 
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * A packet of data to be written over the network.
@@ -15,69 +11,50 @@ import java.util.logging.Logger;
  * </p>
  *
  * <p>
- * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself.
+ * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself. The encoder
+ * leaves the first {@link #HEADER_SIZE} bytes free for the size, so the packet is written from the array it was
+ * encoded into without copying it.
  * </p>
  */
 class SocketWriteData {
-  private static final Logger s_logger = Logger.getLogger(SocketWriteData.class.getName());
+  static final int HEADER_SIZE = 4;
   private static final AtomicInteger s_counter = new AtomicInteger();
-  private final ByteBuffer m_size;
-  private final ByteBuffer m_content;
+  private final ByteBuffer m_buffer;
   private final int m_number = s_counter.incrementAndGet();
-  // how many times we called write before we finished writing ourselves
-  private int m_writeCalls = 0;
 
-  SocketWriteData(final byte[] data, int count) {
-    m_content = ByteBuffer.allocate(count);
-    m_content.put(data, 0, count);
-    m_size = ByteBuffer.allocate(4);
-    if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
-      throw new IllegalStateException("Invalid message size:" + count);
+  /**
+   * @param packet the encoded packet, starting with {@link #HEADER_SIZE} free bytes.
+   * @param count the number of bytes in the packet, including the free bytes.
+   */
+  SocketWriteData(final byte[] packet, final int count) {
+    final int size = count - HEADER_SIZE;
+    if (size < 0 || size > SocketReadData.MAX_MESSAGE_SIZE) {
+      throw new IllegalStateException("Invalid message size:" + size);
     }
-    count = count ^ SocketReadData.MAGIC;
-    m_size.putInt(count);
-    m_size.flip();
-    m_content.flip();
+    m_buffer = ByteBuffer.wrap(packet, 0, count);
+    m_buffer.putInt(0, size ^ SocketReadData.MAGIC);
   }
 
   int size() {
-    return m_size.capacity() + m_content.capacity();
+    return m_buffer.limit();
   }
 
-  int getWriteCalls() {
-    return m_writeCalls;
+  /**
+   * @return the bytes left to write, written with a gathering write together with the packets queued after it.
+   */
+  ByteBuffer getBuffer() {
+    return m_buffer;
   }
 
   /**
-   * @return true if the write has written the entire message.
+   * @return true if the entire packet was written.
    */
-  boolean write(final SocketChannel channel) throws IOException {
-    m_writeCalls++;
-    if (m_size.hasRemaining()) {
-      final int count = channel.write(m_size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      if (s_logger.isLoggable(Level.FINEST)) {
-        s_logger.finest("wrote size_buffer bytes:" + count);
-      }
-      // we could not write everything
-      if (m_size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(m_content);
-    if (count == -1) {
-      throw new IOException("triplea: end of stream detected");
-    }
-    if (s_logger.isLoggable(Level.FINEST)) {
-      s_logger.finest("wrote content bytes:" + count);
-    }
-    return !m_content.hasRemaining();
+  boolean isWritten() {
+    return !m_buffer.hasRemaining();
   }
 
   @Override
   public String toString() {
-    return "<id:" + m_number + " size:" + m_content.capacity() + ">";
+    return "<id:" + m_number + " size:" + (size() - HEADER_SIZE) + ">";
   }
 }
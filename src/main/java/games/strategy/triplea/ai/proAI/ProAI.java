@@ -46,8 +46,8 @@ import games.strategy.triplea.delegate.remote.IAbstractPlaceDelegate;
 import games.strategy.triplea.delegate.remote.IMoveDelegate;
 import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
+import games.strategy.triplea.oddsCalculator.ta.CachingOddsCalculator;
 import games.strategy.triplea.oddsCalculator.ta.ConcurrentOddsCalculator;
-import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.triplea.ui.TripleAFrame;
 import games.strategy.util.Match;
 import games.strategy.util.Tuple;
@@ -59,8 +59,10 @@ public class ProAI extends AbstractAI {
 
   private static final Logger s_logger = Logger.getLogger(ProAI.class.getName());
 
+  // Planning state of this player, not shared with other AI players so they can plan at the same time
+  private final ProData proData = new ProData();
+
   // Odds calculator
-  private static final IOddsCalculator concurrentCalc = new ConcurrentOddsCalculator("ProAI");
   protected ProOddsCalculator calc;
 
   // Phases
@@ -95,13 +97,17 @@ public class ProAI extends AbstractAI {
   }
 
   protected void initializeCalc() {
-    calc = new ProOddsCalculator(concurrentCalc);
+    calc = new ProOddsCalculator(() -> new CachingOddsCalculator(new ConcurrentOddsCalculator("ProAI")));
   }
 
   public ProOddsCalculator getCalc() {
     return calc;
   }
 
+  public ProData getProData() {
+    return proData;
+  }
+
   public static void initialize(final TripleAFrame frame) {
     ProLogUI.initialize(frame);
     ProLogger.info("Initialized Hard AI");
@@ -118,7 +124,6 @@ public class ProAI extends AbstractAI {
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    concurrentCalc.setGameData(null);
     ProLogUI.clearCachedInstances();
   }
 
@@ -126,10 +131,11 @@ public class ProAI extends AbstractAI {
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
     calc.cancelCalcs();
+    calc.shutdown();
   }
 
   private void initializeData() {
-    ProData.initialize(this);
+    proData.initialize(this);
   }
 
   public void setStoredStrafingTerritories(final List<Territory> strafingTerritories) {
@@ -178,7 +184,8 @@ public class ProAI extends AbstractAI {
       PUsToSpend = purchaseAI.repair(PUsToSpend, purchaseDelegate, data, player);
 
       // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+      final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+          ProPurchaseUtils.findPurchaseTerritories(proData, player);
       final List<Territory> possibleFactoryTerritories = Match.getMatches(data.getMap().getTerritories(),
           ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
       if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
@@ -222,26 +229,26 @@ public class ProAI extends AbstractAI {
         final String stepName = step.getName();
         ProLogger.info("Simulating phase: " + stepName);
         if (stepName.endsWith("NonCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
+          proData.initializeSimulation(this, dataCopy, playerCopy);
           final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAI.simulateNonCombatMove(moveDel);
           if (storedFactoryMoveMap == null) {
-            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(factoryMoveMap, data, player);
+            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, factoryMoveMap, data, player);
           }
         } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
+          proData.initializeSimulation(this, dataCopy, playerCopy);
           final Map<Territory, ProTerritory> moveMap = combatMoveAI.doCombatMove(moveDel);
           if (storedCombatMoveMap == null) {
-            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(moveMap, data, player);
+            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, moveMap, data, player);
           }
         } else if (stepName.endsWith("Battle")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
+          proData.initializeSimulation(this, dataCopy, playerCopy);
+          ProSimulateTurnUtils.simulateBattles(proData, dataCopy, playerCopy, bridge, calc);
         } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
-          ProData.initializeSimulation(this, dataCopy, player);
+          proData.initializeSimulation(this, dataCopy, player);
           storedPurchaseTerritories = purchaseAI.purchase(purchaseDelegate, data);
           break;
         } else if (stepName.endsWith("Politics")) {
-          ProData.initializeSimulation(this, dataCopy, player);
+          proData.initializeSimulation(this, dataCopy, player);
           final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
           politicsDelegate.setDelegateBridgeAndPlayer(bridge);
           final List<PoliticalActionAttachment> actions = politicsAI.politicalActions();
@@ -291,7 +298,8 @@ public class ProAI extends AbstractAI {
     final boolean isAttacker = player.equals(battle.getAttacker());
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battleTerritory, attackers,
+        defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(player.getName() + " checking retreat from territory " + battleTerritory + ", attackers="
         + attackers.size() + ", defenders=" + defenders.size() + ", submerge=" + submerge + ", attacker=" + isAttacker
@@ -338,7 +346,7 @@ public class ProAI extends AbstractAI {
     myCasualties.addToDamaged(defaultCasualties.getDamaged());
     final List<Unit> selectFromSorted = new ArrayList<>(selectFrom);
     if (enemyUnits.isEmpty()) {
-      Collections.sort(selectFromSorted, ProPurchaseUtils.getCostComparator());
+      Collections.sort(selectFromSorted, ProPurchaseUtils.getCostComparator(proData));
     } else {
 
       // Get battle data
@@ -354,7 +362,8 @@ public class ProAI extends AbstractAI {
         final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
         final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
         defenders.removeAll(defaultCasualties.getKilled());
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battlesite, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battlesite, attackers,
+            defenders);
         int minStrengthDifference = 60;
         if (!games.strategy.triplea.Properties.getLow_Luck(data)) {
           minStrengthDifference = 55;
@@ -370,8 +379,8 @@ public class ProAI extends AbstractAI {
         for (int i = 0; i < selectFromSorted.size() - 1; i++) {
           final Unit unit1 = selectFromSorted.get(i);
           final Unit unit2 = selectFromSorted.get(i + 1);
-          final double unitCost1 = ProPurchaseUtils.getCost(unit1);
-          final double unitCost2 = ProPurchaseUtils.getCost(unit2);
+          final double unitCost1 = ProPurchaseUtils.getCost(proData, unit1);
+          final double unitCost2 = ProPurchaseUtils.getCost(proData, unit2);
           if (unitCost1 > 1.5 * unitCost2) {
             selectFromSorted.set(i, unit2);
             selectFromSorted.set(i + 1, unit1);
@@ -446,7 +455,8 @@ public class ProAI extends AbstractAI {
     calc.setData(getGameData());
 
     // Calculate battle results
-    final ProBattleResult result = calc.calculateBattleResults(unitTerritory, attackers, defenders, new HashSet<>());
+    final ProBattleResult result = calc.calculateBattleResults(proData, unitTerritory, attackers, defenders,
+        new HashSet<>());
     ProLogger.debug(player.getName() + " sub attack TUVSwing=" + result.getTUVSwing());
     return result.getTUVSwing() > 0;
   }
@@ -51,6 +51,7 @@ class ProCombatMoveAI {
 
   private final ProAI ai;
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private PlayerID player;
   private ProTerritoryManager territoryManager;
@@ -60,19 +61,21 @@ class ProCombatMoveAI {
   ProCombatMoveAI(final ProAI ai) {
     this.ai = ai;
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Map<Territory, ProTerritory> doCombatMove(final IMoveDelegate moveDel) {
     ProLogger.info("Starting combat move phase");
 
     // Current data at the start of combat move
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     // Determine whether capital is threatened and I should be in a defensive stance
     isDefensive =
-        !ProBattleUtils.territoryHasLocalLandSuperiority(ProData.myCapital, ProBattleUtils.MEDIUM_RANGE, player);
+        !ProBattleUtils.territoryHasLocalLandSuperiority(proData, proData.getMyCapital(), ProBattleUtils.MEDIUM_RANGE,
+            player);
     isBombing = false;
     ProLogger.debug("Currently in defensive stance: " + isDefensive);
 
@@ -88,9 +91,10 @@ class ProCombatMoveAI {
     }
     territoryManager.populateEnemyAttackOptions(clearedTerritories, new ArrayList<>());
     Set<Territory> territoriesToCheck = new HashSet<>(clearedTerritories);
-    territoriesToCheck.addAll(ProData.myUnitTerritories);
+    territoriesToCheck.addAll(proData.getMyUnitTerritories());
     Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), clearedTerritories, territoriesToCheck);
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), clearedTerritories,
+            territoriesToCheck);
     determineTerritoriesThatCanBeHeld(attackOptions, territoryValueMap);
     prioritizeAttackOptions(player, attackOptions);
     removeTerritoriesThatArentWorthAttacking(attackOptions);
@@ -109,9 +113,10 @@ class ProCombatMoveAI {
     }
     territoryManager.populateEnemyAttackOptions(clearedTerritories, new ArrayList<>(possibleTransportTerritories));
     territoriesToCheck = new HashSet<>(clearedTerritories);
-    territoriesToCheck.addAll(ProData.myUnitTerritories);
+    territoriesToCheck.addAll(proData.getMyUnitTerritories());
     territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), clearedTerritories, territoriesToCheck);
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), clearedTerritories,
+            territoriesToCheck);
     determineTerritoriesThatCanBeHeld(attackOptions, territoryValueMap);
     removeTerritoriesThatArentWorthAttacking(attackOptions);
 
@@ -120,15 +125,15 @@ class ProCombatMoveAI {
     determineUnitsToAttackWith(attackOptions, alreadyMovedUnits);
 
     // Get all transport final territories
-    ProMoveUtils.calculateAmphibRoutes(player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+    ProMoveUtils.calculateAmphibRoutes(proData, player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
         territoryManager.getAttackOptions().getTerritoryMap(), true);
 
     // Determine max enemy counter attack units and remove territories where transports are exposed
     removeTerritoriesWhereTransportsAreExposed();
 
     // Determine if capital can be held if I still own it
-    if (ProData.myCapital != null && ProData.myCapital.getOwner().equals(player)) {
-      removeAttacksUntilCapitalCanBeHeld(attackOptions, ProData.purchaseOptions.getLandOptions());
+    if (proData.getMyCapital() != null && proData.getMyCapital().getOwner().equals(player)) {
+      removeAttacksUntilCapitalCanBeHeld(attackOptions, proData.getPurchaseOptions().getLandOptions());
     }
 
     // Check if any subs in contested territory that's not being attacked
@@ -155,25 +160,25 @@ class ProCombatMoveAI {
 
     final List<Collection<Unit>> moveUnits = new ArrayList<>();
     final List<Route> moveRoutes = new ArrayList<>();
-    ProMoveUtils.calculateMoveRoutes(player, moveUnits, moveRoutes, attackMap, true);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateMoveRoutes(proData, player, moveUnits, moveRoutes, attackMap, true);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     moveUnits.clear();
     moveRoutes.clear();
     final List<Collection<Unit>> transportsToLoad = new ArrayList<>();
-    ProMoveUtils.calculateAmphibRoutes(player, moveUnits, moveRoutes, transportsToLoad, attackMap, true);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, transportsToLoad, moveDel);
+    ProMoveUtils.calculateAmphibRoutes(proData, player, moveUnits, moveRoutes, transportsToLoad, attackMap, true);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, transportsToLoad, moveDel);
 
     moveUnits.clear();
     moveRoutes.clear();
-    ProMoveUtils.calculateBombardMoveRoutes(player, moveUnits, moveRoutes, attackMap);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateBombardMoveRoutes(proData, player, moveUnits, moveRoutes, attackMap);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     moveUnits.clear();
     moveRoutes.clear();
     isBombing = true;
-    ProMoveUtils.calculateBombingRoutes(player, moveUnits, moveRoutes, attackMap);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateBombingRoutes(proData, player, moveUnits, moveRoutes, attackMap);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
     isBombing = false;
   }
 
@@ -199,7 +204,7 @@ class ProCombatMoveAI {
           Match.getMatches(patd.getMaxEnemyDefenders(player, data), ProMatches.unitIsEnemyAndNotInfa(player, data));
       final int isEmptyLand = (defendingUnits.isEmpty() && !patd.isNeedAmphibUnits()) ? 1 : 0;
       final boolean isAdjacentToMyCapital =
-          !data.getMap().getNeighbors(t, Matches.territoryIs(ProData.myCapital)).isEmpty();
+          !data.getMap().getNeighbors(t, Matches.territoryIs(proData.getMyCapital())).isEmpty();
       final int isNotNeutralAdjacentToMyCapital =
           (isAdjacentToMyCapital && ProMatches.territoryIsEnemyNotNeutralLand(player, data).match(t)) ? 1 : 0;
       final int isFactory = ProMatches.territoryHasInfraFactoryAndIsLand().match(t) ? 1 : 0;
@@ -249,7 +254,7 @@ class ProCombatMoveAI {
             }
           }
           if (!allAlliedNeighborsHaveRoute) {
-            final double value = ProTerritoryValueUtils.findTerritoryAttackValue(player, nearbyEnemyTerritory);
+            final double value = ProTerritoryValueUtils.findTerritoryAttackValue(proData, player, nearbyEnemyTerritory);
             if (value > 0) {
               nearbyEnemyValue += value;
             }
@@ -265,7 +270,8 @@ class ProCombatMoveAI {
 
           // Check if overwhelming attack strength (more than 5 times)
           final double strengthDifference =
-              ProBattleUtils.estimateStrengthDifference(t, patd.getMaxUnits(), patd.getMaxEnemyDefenders(player, data));
+              ProBattleUtils.estimateStrengthDifference(proData, t, patd.getMaxUnits(),
+                  patd.getMaxEnemyDefenders(player, data));
           ProLogger.debug(t.getName() + " calculated strengthDifference=" + strengthDifference);
           if (strengthDifference > 500) {
             ProLogger.trace(t.getName() + " updating negative neutral attack value=" + attackValue);
@@ -277,7 +283,7 @@ class ProCombatMoveAI {
       // Remove negative value territories
       patd.setValue(attackValue);
       if (attackValue <= 0
-          || (isDefensive && attackValue <= 8 && data.getMap().getDistance(ProData.myCapital, t) <= 3)) {
+          || (isDefensive && attackValue <= 8 && data.getMap().getDistance(proData.getMyCapital(), t) <= 3)) {
         ProLogger.debug(
             "Removing territory that has a negative attack value: " + t.getName() + ", AttackValue=" + patd.getValue());
         it.remove();
@@ -316,15 +322,16 @@ class ProCombatMoveAI {
       for (final ProTerritory patd : territoriesToTryToAttack) {
         final Territory t = patd.getTerritory();
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         ProLogger.trace(patd.getResultString() + " with attackers: " + patd.getUnits());
         final double estimate =
-            ProBattleUtils.estimateStrengthDifference(t, patd.getUnits(), patd.getMaxEnemyDefenders(player, data));
+            ProBattleUtils.estimateStrengthDifference(proData, t, patd.getUnits(),
+                patd.getMaxEnemyDefenders(player, data));
         final ProBattleResult result = patd.getBattleResult();
         if (!patd.isStrafing() && estimate < patd.getStrengthEstimate()
-            && (result.getWinPercentage() < ProData.minWinPercentage || !result.isHasLandUnitRemaining())) {
+            && (result.getWinPercentage() < proData.getMinWinPercentage() || !result.isHasLandUnitRemaining())) {
           areSuccessful = false;
         }
       }
@@ -333,8 +340,8 @@ class ProCombatMoveAI {
       if (areSuccessful) {
         for (final ProTerritory patd : territoriesToTryToAttack) {
           patd.setCanAttack(true);
-          final double estimate = ProBattleUtils.estimateStrengthDifference(patd.getTerritory(), patd.getUnits(),
-              patd.getMaxEnemyDefenders(player, data));
+          final double estimate = ProBattleUtils.estimateStrengthDifference(proData, patd.getTerritory(),
+              patd.getUnits(), patd.getMaxEnemyDefenders(player, data));
           if (estimate < patd.getStrengthEstimate()) {
             patd.setStrengthEstimate(estimate);
           }
@@ -409,7 +416,7 @@ class ProCombatMoveAI {
       double totalValue = 0.0;
       final List<Unit> nonAirAttackers = Match.getMatches(patd.getMaxUnits(), Matches.UnitIsNotAir);
       for (final Unit u : nonAirAttackers) {
-        totalValue += territoryValueMap.get(ProData.unitTerritoryMap.get(u));
+        totalValue += territoryValueMap.get(proData.getUnitTerritoryMap().get(u));
       }
       final double averageValue = totalValue / nonAirAttackers.size() * 0.75;
       final double territoryValue = territoryValueMap.get(t) * (1 + 4 * isFactory);
@@ -424,7 +431,7 @@ class ProCombatMoveAI {
         // Find max remaining defenders
         final Set<Unit> attackingUnits = new HashSet<>(patd.getMaxUnits());
         attackingUnits.addAll(patd.getMaxAmphibUnits());
-        final ProBattleResult result = calc.estimateAttackBattleResults(t, new ArrayList<>(attackingUnits),
+        final ProBattleResult result = calc.estimateAttackBattleResults(proData, t, new ArrayList<>(attackingUnits),
             patd.getMaxEnemyDefenders(player, data), patd.getMaxBombardUnits());
         final List<Unit> remainingUnitsToDefendWith =
             Match.getMatches(result.getAverageAttackersRemaining(), Matches.UnitIsAir.invert());
@@ -432,10 +439,10 @@ class ProCombatMoveAI {
             + ", MyAttackers=" + attackingUnits.size() + ", RemainingUnits=" + remainingUnitsToDefendWith.size());
 
         // Determine counter attack results to see if I can hold it
-        final ProBattleResult result2 = calc.calculateBattleResults(t, patd.getMaxEnemyUnits(),
+        final ProBattleResult result2 = calc.calculateBattleResults(proData, t, patd.getMaxEnemyUnits(),
             remainingUnitsToDefendWith, enemyAttackOptions.getMax(t).getMaxBombardUnits());
         final boolean canHold = (!result2.isHasLandUnitRemaining() && !t.isWater()) || (result2.getTUVSwing() < 0)
-            || (result2.getWinPercentage() < ProData.minWinPercentage);
+            || (result2.getWinPercentage() < proData.getMinWinPercentage());
         patd.setCanHold(canHold);
         ProLogger.debug(
             t + ", CanHold=" + canHold + ", MyDefenders=" + remainingUnitsToDefendWith.size() + ", EnemyAttackers="
@@ -473,7 +480,8 @@ class ProCombatMoveAI {
       // Remove neutral and low value amphib land territories that can't be held
       final boolean isNeutral = t.getOwner().isNull();
       final double strengthDifference =
-          ProBattleUtils.estimateStrengthDifference(t, patd.getMaxUnits(), patd.getMaxEnemyDefenders(player, data));
+          ProBattleUtils.estimateStrengthDifference(proData, t, patd.getMaxUnits(),
+              patd.getMaxEnemyDefenders(player, data));
       if (!patd.isCanHold() && enemyAttackOptions.getMax(t) != null && !t.isWater()) {
         if (isNeutral && strengthDifference <= 500) {
 
@@ -505,7 +513,7 @@ class ProCombatMoveAI {
         // Find all territories units are attacking from that are adjacent to territory
         final Set<Territory> attackFromTerritories = new HashSet<>();
         for (final Unit u : patd.getMaxUnits()) {
-          attackFromTerritories.add(ProData.unitTerritoryMap.get(u));
+          attackFromTerritories.add(proData.getUnitTerritoryMap().get(u));
         }
         attackFromTerritories.retainAll(data.getMap().getNeighbors(t));
 
@@ -544,7 +552,7 @@ class ProCombatMoveAI {
 
     // Find land territories with no can't move units and adjacent to enemy land units
     final List<Unit> alreadyMovedUnits = new ArrayList<>();
-    for (final Territory t : ProData.myUnitTerritories) {
+    for (final Territory t : proData.getMyUnitTerritories()) {
       final boolean hasAlliedLandUnits = Match.someMatch(t.getUnits().getUnits(),
           ProMatches.unitCantBeMovedAndIsAlliedDefenderAndNotInfra(player, data, t));
       final Set<Territory> enemyNeighbors = data.getMap().getNeighbors(t,
@@ -554,8 +562,8 @@ class ProCombatMoveAI {
         int minCost = Integer.MAX_VALUE;
         Unit minUnit = null;
         for (final Unit u : t.getUnits().getMatches(Matches.unitIsOwnedBy(player))) {
-          if (ProData.unitValueMap.getInt(u.getType()) < minCost) {
-            minCost = ProData.unitValueMap.getInt(u.getType());
+          if (proData.getUnitValueMap().getInt(u.getType()) < minCost) {
+            minCost = proData.getUnitValueMap().getInt(u.getType());
             minUnit = u;
           }
         }
@@ -639,9 +647,9 @@ class ProCombatMoveAI {
             if (defendMap.get(unloadTerritory) != null) {
               defenders.addAll(defendMap.get(unloadTerritory).getMaxUnits());
             }
-            final ProBattleResult result = calc.calculateBattleResults(unloadTerritory,
+            final ProBattleResult result = calc.calculateBattleResults(proData, unloadTerritory,
                 enemyAttackOptions.getMax(unloadTerritory).getMaxUnits(), new ArrayList<>(defenders), new HashSet<>());
-            final ProBattleResult minResult = calc.calculateBattleResults(unloadTerritory,
+            final ProBattleResult minResult = calc.calculateBattleResults(proData, unloadTerritory,
                 enemyAttackOptions.getMax(unloadTerritory).getMaxUnits(),
                 territoryTransportAndBombardMap.get(unloadTerritory), new HashSet<>());
             final double minTuvSwing = Math.min(result.getTUVSwing(), minResult.getTUVSwing());
@@ -658,7 +666,7 @@ class ProCombatMoveAI {
         }
 
         // Determine whether its worth attacking
-        final ProBattleResult result = calc.calculateBattleResults(t, patd.getUnits(),
+        final ProBattleResult result = calc.calculateBattleResults(proData, t, patd.getUnits(),
             patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet());
         int production = 0;
         int isEnemyCapital = 0;
@@ -745,8 +753,8 @@ class ProCombatMoveAI {
       }
 
       // Re-sort attack options
-      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-          attackMap, ProData.unitTerritoryMap, calc);
+      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+          sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
       // Set air units in any territory with no AA (don't move planes to empty territories)
       for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
@@ -766,7 +774,7 @@ class ProCombatMoveAI {
             continue;
           }
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+            patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           final ProBattleResult result = patd.getBattleResult();
@@ -775,7 +783,7 @@ class ProCombatMoveAI {
             final List<Unit> attackingUnits = patd.getUnits();
             final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player, data);
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, attackingUnits, defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, attackingUnits, defendingUnits);
             final boolean hasAntiAir = Match.someMatch(defendingUnits, Matches.UnitIsAAforAnything);
             if (!hasAntiAir && !isOverwhelmingWin) {
               minWinPercentage = result.getWinPercentage();
@@ -791,8 +799,8 @@ class ProCombatMoveAI {
       }
 
       // Re-sort attack options
-      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-          attackMap, ProData.unitTerritoryMap, calc);
+      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+          sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
       // Find territory that we can try to hold that needs unit
       for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
@@ -804,14 +812,14 @@ class ProCombatMoveAI {
 
             // Check if I already have enough attack units to win in 2 rounds
             if (patd.getBattleResult() == null) {
-              patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+              patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                   patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
             }
             final ProBattleResult result = patd.getBattleResult();
             final List<Unit> attackingUnits = patd.getUnits();
             final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player, data);
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, attackingUnits, defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, attackingUnits, defendingUnits);
             if (!isOverwhelmingWin && result.getBattleRounds() > 2) {
               minWinTerritory = t;
               break;
@@ -826,8 +834,8 @@ class ProCombatMoveAI {
       }
 
       // Re-sort attack options
-      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-          attackMap, ProData.unitTerritoryMap, calc);
+      sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+          sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
       // Add sea units to any territory that significantly increases TUV gain
       for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
@@ -839,15 +847,15 @@ class ProCombatMoveAI {
         for (final Territory t : sortedUnitAttackOptions.get(unit)) {
           final ProTerritory patd = attackMap.get(t);
           if (attackMap.get(t).getBattleResult() == null) {
-            attackMap.get(t).setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+            attackMap.get(t).setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           final ProBattleResult result = attackMap.get(t).getBattleResult();
           final List<Unit> attackers = new ArrayList<>(patd.getUnits());
           attackers.add(unit);
-          final ProBattleResult result2 = calc.estimateAttackBattleResults(t, attackers,
+          final ProBattleResult result2 = calc.estimateAttackBattleResults(proData, t, attackers,
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet());
-          final double unitValue = ProData.unitValueMap.getInt(unit.getType());
+          final double unitValue = proData.getUnitValueMap().getInt(unit.getType());
           if ((result2.getTUVSwing() - unitValue / 3) > result.getTUVSwing()) {
             attackMap.get(t).addUnit(unit);
             attackMap.get(t).setBattleResult(null);
@@ -868,7 +876,7 @@ class ProCombatMoveAI {
 
         // Find battle result
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         final ProBattleResult result = patd.getBattleResult();
@@ -880,22 +888,22 @@ class ProCombatMoveAI {
             && !ProMatches.territoryIsWaterAndAdjacentToOwnedFactory(player, data).match(t)) {
           List<Unit> remainingUnitsToDefendWith =
               Match.getMatches(result.getAverageAttackersRemaining(), Matches.UnitIsAir.invert());
-          ProBattleResult result2 = calc.calculateBattleResults(t, patd.getMaxEnemyUnits(),
+          ProBattleResult result2 = calc.calculateBattleResults(proData, t, patd.getMaxEnemyUnits(),
               remainingUnitsToDefendWith, patd.getMaxBombardUnits());
           if (patd.isCanHold() && result2.getTUVSwing() > 0) {
             final List<Unit> unusedUnits = new ArrayList<>(patd.getMaxUnits());
             unusedUnits.addAll(patd.getMaxAmphibUnits());
             unusedUnits.removeAll(usedUnits);
             unusedUnits.addAll(remainingUnitsToDefendWith);
-            final ProBattleResult result3 = calc.calculateBattleResults(t, patd.getMaxEnemyUnits(), unusedUnits,
-                patd.getMaxBombardUnits());
+            final ProBattleResult result3 = calc.calculateBattleResults(proData, t, patd.getMaxEnemyUnits(),
+                unusedUnits, patd.getMaxBombardUnits());
             if (result3.getTUVSwing() < result2.getTUVSwing()) {
               result2 = result3;
               remainingUnitsToDefendWith = unusedUnits;
             }
           }
           canHold = (!result2.isHasLandUnitRemaining() && !t.isWater()) || (result2.getTUVSwing() < 0)
-              || (result2.getWinPercentage() < ProData.minWinPercentage);
+              || (result2.getWinPercentage() < proData.getMinWinPercentage());
           if (result2.getTUVSwing() > 0) {
             enemyCounterTuvSwing = result2.getTUVSwing();
           }
@@ -946,7 +954,7 @@ class ProCombatMoveAI {
         }
 
         // Determine whether to remove attack
-        if (!patd.isStrafing() && (result.getWinPercentage() < ProData.minWinPercentage
+        if (!patd.isStrafing() && (result.getWinPercentage() < proData.getMinWinPercentage()
             || !result.isHasLandUnitRemaining() || (isNeutral && !canHold)
             || (attackValue < 0 && (!isNeutral || allUnitsCanAttackOtherTerritory || result.getBattleRounds() >= 4)))) {
           territoryToRemove = patd;
@@ -1004,7 +1012,8 @@ class ProCombatMoveAI {
     }
 
     // Sort units by number of attack options and cost
-    Map<Unit, Set<Territory>> sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(unitAttackOptions);
+    Map<Unit, Set<Territory>> sortedUnitAttackOptions =
+        ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitAttackOptions);
 
     // Try to set at least one destroyer in each sea territory with subs
     for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
@@ -1039,7 +1048,8 @@ class ProCombatMoveAI {
           continue; // ignore sea territories that can't be held
         }
         final List<Unit> defendingUnits = attackMap.get(t).getMaxEnemyDefenders(player, data);
-        double estimate = ProBattleUtils.estimateStrengthDifference(t, attackMap.get(t).getUnits(), defendingUnits);
+        double estimate = ProBattleUtils.estimateStrengthDifference(proData, t, attackMap.get(t).getUnits(),
+            defendingUnits);
         final boolean hasAntiAir = Match.someMatch(defendingUnits, Matches.UnitIsAAforAnything);
         if (hasAntiAir) {
           estimate -= 10;
@@ -1054,8 +1064,8 @@ class ProCombatMoveAI {
     }
 
     // Re-sort attack options
-    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-        attackMap, ProData.unitTerritoryMap, calc);
+    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+        sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
     // Set non-air units in territories that can be held
     for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
@@ -1065,12 +1075,12 @@ class ProCombatMoveAI {
         continue; // skip air units
       }
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!attackMap.get(t).isCurrentlyWins() && attackMap.get(t).isCanHold()) {
           if (attackMap.get(t).getBattleResult() == null) {
-            attackMap.get(t).setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+            attackMap.get(t).setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           final ProBattleResult result = attackMap.get(t).getBattleResult();
@@ -1089,8 +1099,8 @@ class ProCombatMoveAI {
     }
 
     // Re-sort attack options
-    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-        attackMap, ProData.unitTerritoryMap, calc);
+    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+        sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
     // Set air units in territories that can't be held (don't move planes to empty territories)
     for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
@@ -1100,18 +1110,18 @@ class ProCombatMoveAI {
         continue; // skip non-air units
       }
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins() && !patd.isCanHold()) {
 
           // Check if air unit should avoid this territory due to no guaranteed safe landing location
-          final boolean isEnemyCapital = ProUtils.getLiveEnemyCapitals(data, player).contains(t);
+          final boolean isEnemyCapital = ProUtils.getLiveEnemyCapitals(proData, data, player).contains(t);
           final boolean isAdjacentToAlliedCapital = Matches.territoryHasNeighborMatching(data,
-              Matches.territoryIsInList(ProUtils.getLiveAlliedCapitals(data, player))).match(t);
+              Matches.territoryIsInList(ProUtils.getLiveAlliedCapitals(proData, data, player))).match(t);
           final int range = TripleAUnit.get(unit).getMovementLeft();
-          final int distance = data.getMap().getDistance_IgnoreEndForCondition(ProData.unitTerritoryMap.get(unit), t,
-              ProMatches.territoryCanMoveAirUnitsAndNoAA(player, data, true));
+          final int distance = data.getMap().getDistance_IgnoreEndForCondition(proData.getUnitTerritoryMap().get(unit),
+              t, ProMatches.territoryCanMoveAirUnitsAndNoAA(player, data, true));
           final boolean usesMoreThanHalfOfRange = distance > range / 2;
           if (isAirUnit && !isEnemyCapital && !isAdjacentToAlliedCapital && usesMoreThanHalfOfRange) {
             continue;
@@ -1119,7 +1129,7 @@ class ProCombatMoveAI {
 
           // Check battle results
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+            patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           final ProBattleResult result = patd.getBattleResult();
@@ -1129,7 +1139,7 @@ class ProCombatMoveAI {
             final boolean hasNoDefenders =
                 Match.noneMatch(defendingUnits, ProMatches.unitIsEnemyAndNotInfa(player, data));
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, patd.getUnits(), defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, patd.getUnits(), defendingUnits);
             final boolean hasAntiAir = Match.someMatch(defendingUnits, Matches.UnitIsAAforAnything);
             if (!hasNoDefenders
                 && !isOverwhelmingWin
@@ -1151,15 +1161,15 @@ class ProCombatMoveAI {
     }
 
     // Re-sort attack options
-    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(player, sortedUnitAttackOptions,
-        attackMap, ProData.unitTerritoryMap, calc);
+    sortedUnitAttackOptions = ProSortMoveOptionsUtils.sortUnitNeededOptionsThenAttack(proData, player,
+        sortedUnitAttackOptions, attackMap, proData.getUnitTerritoryMap(), calc);
 
     // Set remaining units in any territory that needs it (don't move planes to empty territories)
     for (final Iterator<Unit> it = sortedUnitAttackOptions.keySet().iterator(); it.hasNext();) {
       final Unit unit = it.next();
       final boolean isAirUnit = UnitAttachment.get(unit.getType()).getIsAir();
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       for (final Territory t : sortedUnitAttackOptions.get(unit)) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins()) {
@@ -1169,17 +1179,17 @@ class ProCombatMoveAI {
               .territoryHasNeighborMatching(data, ProMatches.territoryHasInfraFactoryAndIsAlliedLand(player, data))
               .match(t);
           final int range = TripleAUnit.get(unit).getMovementLeft();
-          final int distance = data.getMap().getDistance_IgnoreEndForCondition(ProData.unitTerritoryMap.get(unit), t,
-              ProMatches.territoryCanMoveAirUnitsAndNoAA(player, data, true));
+          final int distance = data.getMap().getDistance_IgnoreEndForCondition(proData.getUnitTerritoryMap().get(unit),
+              t, ProMatches.territoryCanMoveAirUnitsAndNoAA(player, data, true));
           final boolean usesMoreThanHalfOfRange = distance > range / 2;
           final boolean territoryValueIsLessThanUnitValue =
-              patd.getValue() < ProData.unitValueMap.getInt(unit.getType());
+              patd.getValue() < proData.getUnitValueMap().getInt(unit.getType());
           if (isAirUnit && !isAdjacentToAlliedFactory && usesMoreThanHalfOfRange
               && (territoryValueIsLessThanUnitValue || (!t.isWater() && !patd.isCanHold()))) {
             continue;
           }
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+            patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           final ProBattleResult result = patd.getBattleResult();
@@ -1189,7 +1199,7 @@ class ProCombatMoveAI {
             final boolean hasNoDefenders =
                 Match.noneMatch(defendingUnits, ProMatches.unitIsEnemyAndNotInfa(player, data));
             final boolean isOverwhelmingWin =
-                ProBattleUtils.checkForOverwhelmingWin(t, patd.getUnits(), defendingUnits);
+                ProBattleUtils.checkForOverwhelmingWin(proData, t, patd.getUnits(), defendingUnits);
             final boolean hasAntiAir = Match.someMatch(defendingUnits, Matches.UnitIsAAforAnything);
             if (!isAirUnit || (!hasNoDefenders && !isOverwhelmingWin
                 && (!hasAntiAir || result.getWinPercentage() < minWinPercentage))) {
@@ -1208,7 +1218,7 @@ class ProCombatMoveAI {
 
     // Re-sort attack options
     sortedUnitAttackOptions =
-        ProSortMoveOptionsUtils.sortUnitNeededOptions(player, sortedUnitAttackOptions, attackMap, calc);
+        ProSortMoveOptionsUtils.sortUnitNeededOptions(proData, player, sortedUnitAttackOptions, attackMap, calc);
 
     // If transports can take casualties try placing in naval battles first
     final List<Unit> alreadyAttackedWithTransports = new ArrayList<>();
@@ -1239,11 +1249,11 @@ class ProCombatMoveAI {
           final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player, data);
           if (!patd.isCurrentlyWins() && !TransportTracker.isTransporting(transport) && !defendingUnits.isEmpty()) {
             if (patd.getBattleResult() == null) {
-              patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+              patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                   patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
             }
             final ProBattleResult result = patd.getBattleResult();
-            if (result.getWinPercentage() < ProData.winPercentage || !result.isHasLandUnitRemaining()) {
+            if (result.getWinPercentage() < proData.getWinPercentage() || !result.isHasLandUnitRemaining()) {
               patd.addUnit(transport);
               patd.setBattleResult(null);
               alreadyAttackedWithTransports.add(transport);
@@ -1281,14 +1291,14 @@ class ProCombatMoveAI {
 
       // Find current land battle results for territories that unit can amphib attack
       Territory minWinTerritory = null;
-      double minWinPercentage = ProData.winPercentage;
+      double minWinPercentage = proData.getWinPercentage();
       List<Unit> minAmphibUnitsToAdd = null;
       Territory minUnloadFromTerritory = null;
       for (final Territory t : amphibAttackOptions.get(transport)) {
         final ProTerritory patd = attackMap.get(t);
         if (!patd.isCurrentlyWins()) {
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+            patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           final ProBattleResult result = patd.getBattleResult();
@@ -1320,7 +1330,7 @@ class ProCombatMoveAI {
                     data.getMap().getNeighbors(t, ProMatches.territoryCanMoveSeaUnits(player, data, false));
                 final Set<Territory> loadFromTerritories = new HashSet<>();
                 for (final Unit u : amphibUnitsToAdd) {
-                  loadFromTerritories.add(ProData.unitTerritoryMap.get(u));
+                  loadFromTerritories.add(proData.getUnitTerritoryMap().get(u));
                 }
                 for (final Territory territoryToMoveTransport : territoriesToMoveTransport) {
                   if (proTransportData.getSeaTransportMap().containsKey(territoryToMoveTransport) && proTransportData
@@ -1333,7 +1343,8 @@ class ProCombatMoveAI {
                         territoryToMoveTransport.getUnits().getMatches(Matches.isUnitAllied(player, data));
                     defenders.add(transport);
                     final double strengthDifference =
-                        ProBattleUtils.estimateStrengthDifference(territoryToMoveTransport, attackers, defenders);
+                        ProBattleUtils.estimateStrengthDifference(proData, territoryToMoveTransport, attackers,
+                            defenders);
                     if (strengthDifference < minStrengthDifference) {
                       minStrengthDifference = strengthDifference;
                       minUnloadFromTerritory = territoryToMoveTransport;
@@ -1405,7 +1416,7 @@ class ProCombatMoveAI {
       for (final Territory t : bombardOptions.get(u)) {
         final ProTerritory patd = attackMap.get(t);
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         final ProBattleResult result = patd.getBattleResult();
@@ -1444,13 +1455,13 @@ class ProCombatMoveAI {
 
     final Map<Territory, ProTerritory> attackMap = territoryManager.getAttackOptions().getTerritoryMap();
 
-    final Territory myCapital = ProData.myCapital;
+    final Territory myCapital = proData.getMyCapital();
 
     // Add max purchase defenders to capital for non-mobile factories (don't consider mobile factories since they may
     // move elsewhere)
     final List<Unit> placeUnits = new ArrayList<>();
     if (ProMatches.territoryHasNonMobileInfraFactoryAndIsNotConqueredOwnedLand(player, data).match(myCapital)) {
-      placeUnits.addAll(ProPurchaseUtils.findMaxPurchaseDefenders(player, myCapital, landPurchaseOptions));
+      placeUnits.addAll(ProPurchaseUtils.findMaxPurchaseDefenders(proData, player, myCapital, landPurchaseOptions));
     }
 
     // Remove attack until capital can be defended
@@ -1488,7 +1499,7 @@ class ProCombatMoveAI {
       // Determine counter attack results to see if I can hold it
       final Set<Unit> enemyAttackingUnits = new HashSet<>(enemyAttackOptions.getMax(myCapital).getMaxUnits());
       enemyAttackingUnits.addAll(enemyAttackOptions.getMax(myCapital).getMaxAmphibUnits());
-      final ProBattleResult result = calc.estimateDefendBattleResults(myCapital,
+      final ProBattleResult result = calc.estimateDefendBattleResults(proData, myCapital,
           new ArrayList<>(enemyAttackingUnits), defenders, enemyAttackOptions.getMax(myCapital).getMaxBombardUnits());
       ProLogger.trace("Current capital result hasLandUnitRemaining=" + result.isHasLandUnitRemaining() + ", TUVSwing="
           + result.getTUVSwing() + ", defenders=" + defenders.size() + ", attackers=" + enemyAttackingUnits.size());
@@ -1502,7 +1513,7 @@ class ProCombatMoveAI {
         for (final Territory t : attackMap.keySet()) {
           int unitsNearCapital = 0;
           for (final Unit u : attackMap.get(t).getUnits()) {
-            if (territoriesNearCapital.contains(ProData.unitTerritoryMap.get(u))) {
+            if (territoriesNearCapital.contains(proData.getUnitTerritoryMap().get(u))) {
               unitsNearCapital++;
             }
           }
@@ -1533,7 +1544,7 @@ class ProCombatMoveAI {
 
     final Map<Territory, ProTerritory> attackMap = territoryManager.getAttackOptions().getTerritoryMap();
 
-    for (final Territory t : ProData.myUnitTerritories) {
+    for (final Territory t : proData.getMyUnitTerritories()) {
       if (t.isWater() && Matches.territoryHasEnemyUnits(player, data).match(t)
           && (attackMap.get(t) == null || attackMap.get(t).getUnits().isEmpty())) {
 
@@ -1546,7 +1557,7 @@ class ProCombatMoveAI {
           if (attackMap.containsKey(moveToTerritory)) {
             attackMap.get(moveToTerritory).addUnits(mySeaUnits);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(moveToTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(moveToTerritory, proData);
             moveTerritoryData.addUnits(mySeaUnits);
             attackMap.put(moveToTerritory, moveTerritoryData);
           }
@@ -1658,7 +1669,7 @@ class ProCombatMoveAI {
     final boolean isAdjacentToAlliedFactory = Matches
         .territoryHasNeighborMatching(data, ProMatches.territoryHasInfraFactoryAndIsAlliedLand(player, data)).match(t);
     final int range = TripleAUnit.get(unit).getMovementLeft();
-    final int distance = data.getMap().getDistance_IgnoreEndForCondition(ProData.unitTerritoryMap.get(unit), t,
+    final int distance = data.getMap().getDistance_IgnoreEndForCondition(proData.getUnitTerritoryMap().get(unit), t,
         ProMatches.territoryCanMoveAirUnitsAndNoAA(player, data, true));
     final boolean usesMoreThanHalfOfRange = distance > range / 2;
     return isAdjacentToAlliedFactory || !usesMoreThanHalfOfRange;
@@ -55,6 +55,7 @@ import games.strategy.util.Match;
 class ProNonCombatMoveAI {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private PlayerID player;
   private Map<Unit, Territory> unitTerritoryMap;
@@ -62,6 +63,7 @@ class ProNonCombatMoveAI {
 
   ProNonCombatMoveAI(final ProAI ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Map<Territory, ProTerritory> simulateNonCombatMove(final IMoveDelegate moveDel) {
@@ -73,16 +75,16 @@ class ProNonCombatMoveAI {
     ProLogger.info("Starting non-combat move phase");
 
     // Current data at the start of non-combat move
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    unitTerritoryMap = ProData.unitTerritoryMap;
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    unitTerritoryMap = proData.getUnitTerritoryMap();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     // Find the max number of units that can move to each allied territory
     territoryManager.populateDefenseOptions(new ArrayList<>());
 
     // Find number of units in each move territory that can't move and all infra units
-    findUnitsThatCantMove(purchaseTerritories, ProData.purchaseOptions.getLandOptions());
+    findUnitsThatCantMove(purchaseTerritories, proData.getPurchaseOptions().getLandOptions());
     final Map<Unit, Set<Territory>> infraUnitMoveMap = findInfraUnitsThatCanMove();
 
     // Try to have one land unit in each territory that is bordering an enemy territory
@@ -95,29 +97,30 @@ class ProNonCombatMoveAI {
     // Get list of territories that can't be held and find move value for each territory
     final List<Territory> territoriesThatCantBeHeld = territoryManager.getCantHoldTerritories();
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, territoriesThatCantBeHeld, new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, territoriesThatCantBeHeld, new ArrayList<>());
     final Map<Territory, Double> seaTerritoryValueMap =
-        ProTerritoryValueUtils.findSeaTerritoryValues(player, territoriesThatCantBeHeld);
+        ProTerritoryValueUtils.findSeaTerritoryValues(proData, player, territoriesThatCantBeHeld);
 
     // Prioritize territories to defend
     final List<ProTerritory> prioritizedTerritories = prioritizeDefendOptions(factoryMoveMap, territoryValueMap);
 
     // Determine which territories to defend and how many units each one needs
-    final int enemyDistance = ProUtils.getClosestEnemyLandTerritoryDistance(data, player, ProData.myCapital);
+    final int enemyDistance = ProUtils.getClosestEnemyLandTerritoryDistance(proData, data, player,
+        proData.getMyCapital());
     moveUnitsToDefendTerritories(prioritizedTerritories, enemyDistance, territoryValueMap);
 
     // Copy data in case capital defense needs increased
     final ProTerritoryManager territoryManagerCopy = new ProTerritoryManager(calc, territoryManager);
 
     // Use loop to ensure capital is protected after moves
-    if (ProData.myCapital != null) {
+    if (proData.getMyCapital() != null) {
       int defenseRange = -1;
       while (true) {
 
         // Add value to territories near capital if necessary
         for (final Territory t : territoryManager.getDefendTerritories()) {
           double value = territoryValueMap.get(t);
-          final int distance = data.getMap().getDistance(ProData.myCapital, t,
+          final int distance = data.getMap().getDistance(proData.getMyCapital(), t,
               ProMatches.territoryCanMoveLandUnits(player, data, false));
           if (distance >= 0 && distance <= defenseRange) {
             value *= 10;
@@ -133,8 +136,8 @@ class ProNonCombatMoveAI {
         // Check if capital has local land superiority
         ProLogger.info("Checking if capital has local land superiority with enemyDistance=" + enemyDistance);
         if (enemyDistance >= 2 && enemyDistance <= 3 && defenseRange == -1
-            && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(ProData.myCapital, enemyDistance, player,
-                territoryManager.getDefendOptions().getTerritoryMap())) {
+            && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(proData, proData.getMyCapital(),
+                enemyDistance, player, territoryManager.getDefendOptions().getTerritoryMap())) {
           defenseRange = enemyDistance - 1;
           territoryManager = territoryManagerCopy;
           ProLogger.debug("Capital doesn't have local land superiority so setting defensive stance");
@@ -176,15 +179,15 @@ class ProNonCombatMoveAI {
     // Calculate move routes and perform moves
     final List<Collection<Unit>> moveUnits = new ArrayList<>();
     final List<Route> moveRoutes = new ArrayList<>();
-    ProMoveUtils.calculateMoveRoutes(player, moveUnits, moveRoutes, moveMap, false);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateMoveRoutes(proData, player, moveUnits, moveRoutes, moveMap, false);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     // Calculate amphib move routes and perform moves
     moveUnits.clear();
     moveRoutes.clear();
     final List<Collection<Unit>> transportsToLoad = new ArrayList<>();
-    ProMoveUtils.calculateAmphibRoutes(player, moveUnits, moveRoutes, transportsToLoad, moveMap, false);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, transportsToLoad, moveDel);
+    ProMoveUtils.calculateAmphibRoutes(proData, player, moveUnits, moveRoutes, transportsToLoad, moveMap, false);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, transportsToLoad, moveDel);
   }
 
   private void findUnitsThatCantMove(final Map<Territory, ProPurchaseTerritory> purchaseTerritories,
@@ -247,7 +250,7 @@ class ProNonCombatMoveAI {
       for (final Territory t : moveMap.keySet()) {
         if (ProMatches.territoryHasNonMobileInfraFactoryAndIsNotConqueredOwnedLand(player, data).match(t)) {
           moveMap.get(t).getCantMoveUnits()
-              .addAll(ProPurchaseUtils.findMaxPurchaseDefenders(player, t, landPurchaseOptions));
+              .addAll(ProPurchaseUtils.findMaxPurchaseDefenders(proData, player, t, landPurchaseOptions));
         }
       }
     }
@@ -293,7 +296,7 @@ class ProNonCombatMoveAI {
           Match.someMatch(moveMap.get(t).getCantMoveUnits(), ProMatches.unitIsAlliedLandAndNotInfra(player, data));
       if (!t.isWater() && !hasAlliedLandUnits
           && ProMatches
-              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(player))
+              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(proData, player))
               .match(t)) {
         territoriesToDefendWithOneUnit.add(t);
       }
@@ -301,13 +304,14 @@ class ProNonCombatMoveAI {
     final List<Territory> result = new ArrayList<>(territoriesToDefendWithOneUnit);
 
     // Sort units by number of defend options and cost
-    final Map<Unit, Set<Territory>> sortedUnitMoveOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(unitMoveMap);
+    final Map<Unit, Set<Territory>> sortedUnitMoveOptions =
+        ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitMoveMap);
 
     // Set unit with the fewest move options in each territory
     for (final Unit unit : sortedUnitMoveOptions.keySet()) {
       if (Matches.UnitIsLand.match(unit)) {
         for (final Territory t : sortedUnitMoveOptions.get(unit)) {
-          final int unitValue = ProData.unitValueMap.getInt(unit.getType());
+          final int unitValue = proData.getUnitValueMap().getInt(unit.getType());
           int production = 0;
           final TerritoryAttachment ta = TerritoryAttachment.get(t);
           if (ta != null) {
@@ -361,7 +365,7 @@ class ProNonCombatMoveAI {
       patd.setMaxEnemyBombardUnits(enemyAttackOptions.getMax(t).getMaxBombardUnits());
       final List<Unit> minDefendingUnitsAndNotAntiAir =
           Match.getMatches(patd.getCantMoveUnits(), Matches.UnitIsAAforAnything.invert());
-      final ProBattleResult minResult = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits),
+      final ProBattleResult minResult = calc.calculateBattleResults(proData, t, new ArrayList<>(enemyAttackingUnits),
           minDefendingUnitsAndNotAntiAir, enemyAttackOptions.getMax(t).getMaxBombardUnits());
       patd.setMinBattleResult(minResult);
       if (minResult.getTUVSwing() <= 0 && !minDefendingUnitsAndNotAntiAir.isEmpty()) {
@@ -378,19 +382,19 @@ class ProNonCombatMoveAI {
       defendingUnits.addAll(patd.getCantMoveUnits());
       final List<Unit> defendingUnitsAndNotAntiAir =
           Match.getMatches(defendingUnits, Matches.UnitIsAAforAnything.invert());
-      final ProBattleResult result = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits),
+      final ProBattleResult result = calc.calculateBattleResults(proData, t, new ArrayList<>(enemyAttackingUnits),
           defendingUnitsAndNotAntiAir, enemyAttackOptions.getMax(t).getMaxBombardUnits());
       int isFactory = 0;
       if (ProMatches.territoryHasInfraFactoryAndIsLand().match(t)) {
         isFactory = 1;
       }
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
       final List<Unit> extraUnits = new ArrayList<>(defendingUnitsAndNotAntiAir);
       extraUnits.removeAll(minDefendingUnitsAndNotAntiAir);
-      final double extraUnitValue = BattleCalculator.getTUV(extraUnits, ProData.unitValueMap);
+      final double extraUnitValue = BattleCalculator.getTUV(extraUnits, proData.getUnitValueMap());
       final double holdValue = extraUnitValue / 8 * (1 + 0.5 * isFactory) * (1 + 2 * isMyCapital);
       if (minDefendingUnitsAndNotAntiAir.size() != defendingUnitsAndNotAntiAir.size()
           && (result.getTUVSwing() - holdValue) < minResult.getTUVSwing()) {
@@ -425,7 +429,7 @@ class ProNonCombatMoveAI {
 
       // Determine if it is my capital or adjacent to my capital
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
 
@@ -442,7 +446,7 @@ class ProNonCombatMoveAI {
       final TerritoryAttachment ta = TerritoryAttachment.get(t);
       if (ta != null) {
         production = ta.getProduction();
-        if (ta.isCapital() && !t.equals(ProData.myCapital)) {
+        if (ta.isCapital() && !t.equals(proData.getMyCapital())) {
           isEnemyOrAlliedCapital = 1;
         }
       }
@@ -461,7 +465,8 @@ class ProNonCombatMoveAI {
       }
 
       // Determine defending unit value
-      final int cantMoveUnitValue = BattleCalculator.getTUV(moveMap.get(t).getCantMoveUnits(), ProData.unitValueMap);
+      final int cantMoveUnitValue = BattleCalculator.getTUV(moveMap.get(t).getCantMoveUnits(),
+          proData.getUnitValueMap());
       double unitOwnerMultiplier = 1;
       if (Match.noneMatch(moveMap.get(t).getCantMoveUnits(), Matches.unitIsOwnedBy(player))) {
         if (t.isWater()
@@ -493,16 +498,17 @@ class ProNonCombatMoveAI {
       final Territory t = patd.getTerritory();
       final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().match(t);
       final ProBattleResult minResult = patd.getMinBattleResult();
-      final int cantMoveUnitValue = BattleCalculator.getTUV(moveMap.get(t).getCantMoveUnits(), ProData.unitValueMap);
+      final int cantMoveUnitValue = BattleCalculator.getTUV(moveMap.get(t).getCantMoveUnits(),
+          proData.getUnitValueMap());
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && Match.allMatch(patd.getMaxEnemyUnits(), Matches.UnitIsAir);
       final boolean isNotFactoryAndShouldHold =
           !hasFactory && (minResult.getTUVSwing() <= 0 || !minResult.isHasLandUnitRemaining());
       final boolean canAlreadyBeHeld =
-          minResult.getTUVSwing() <= 0 && minResult.getWinPercentage() < (100 - ProData.winPercentage);
+          minResult.getTUVSwing() <= 0 && minResult.getWinPercentage() < (100 - proData.getWinPercentage());
       final boolean isNotFactoryAndHasNoEnemyNeighbors = !t.isWater() && !hasFactory
           && !ProMatches
-              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(player))
+              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(proData, player))
               .match(t);
       final boolean isNotFactoryAndOnlyAmphib = !t.isWater() && !hasFactory
           && Match.noneMatch(moveMap.get(t).getMaxUnits(), Matches.UnitIsLand) && cantMoveUnitValue < 5;
@@ -607,7 +613,7 @@ class ProNonCombatMoveAI {
 
       // Sort units by number of defend options and cost
       final Map<Unit, Set<Territory>> sortedUnitMoveOptions =
-          ProSortMoveOptionsUtils.sortUnitMoveOptions(unitDefendOptions);
+          ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitDefendOptions);
 
       // Set enough units in territories to have at least a chance of winning
       for (final Iterator<Unit> it = sortedUnitMoveOptions.keySet().iterator(); it.hasNext();) {
@@ -624,7 +630,7 @@ class ProNonCombatMoveAI {
             defendingUnits = moveMap.get(t).getAllDefenders();
           }
           final double estimate =
-              ProBattleUtils.estimateStrengthDifference(t, moveMap.get(t).getMaxEnemyUnits(), defendingUnits);
+              ProBattleUtils.estimateStrengthDifference(proData, t, moveMap.get(t).getMaxEnemyUnits(), defendingUnits);
           estimatesMap.put(estimate, t);
         }
         if (!estimatesMap.isEmpty() && estimatesMap.lastKey() > 60) {
@@ -649,14 +655,14 @@ class ProNonCombatMoveAI {
             defendingUnits = moveMap.get(t).getAllDefenders();
           }
           if (moveMap.get(t).getBattleResult() == null) {
-            moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(t,
+            moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(proData, t,
                 moveMap.get(t).getMaxEnemyUnits(), defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
           }
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().match(t);
           if (result.getWinPercentage() > maxWinPercentage
-              && ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-                  || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+              && ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+                  || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
                   || result.getTUVSwing() >= 0)) {
             maxWinTerritory = t;
             maxWinPercentage = result.getWinPercentage();
@@ -686,7 +692,7 @@ class ProNonCombatMoveAI {
         double maxWinPercentage = -1;
         for (final Territory t : sortedUnitMoveOptions.get(unit)) {
           if (t.isWater() && Matches.UnitIsAir.match(unit)) {
-            if (!ProTransportUtils.validateCarrierCapacity(player, t,
+            if (!ProTransportUtils.validateCarrierCapacity(proData, player, t,
                 moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), unit)) {
               continue; // skip moving air to water if not enough carrier capacity
             }
@@ -701,14 +707,14 @@ class ProNonCombatMoveAI {
             defendingUnits = moveMap.get(t).getAllDefenders();
           }
           if (moveMap.get(t).getBattleResult() == null) {
-            moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(t,
+            moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(proData, t,
                 moveMap.get(t).getMaxEnemyUnits(), defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
           }
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().match(t);
           if (result.getWinPercentage() > maxWinPercentage
-              && ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-                  || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+              && ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+                  || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
                   || result.getTUVSwing() >= 0)) {
             maxWinTerritory = t;
             maxWinPercentage = result.getWinPercentage();
@@ -747,7 +753,7 @@ class ProNonCombatMoveAI {
             if (!TransportTracker.isTransporting(transport)) {
               final List<Unit> defendingUnits = moveMap.get(t).getAllDefenders();
               if (moveMap.get(t).getBattleResult() == null) {
-                moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(t,
+                moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(proData, t,
                     moveMap.get(t).getMaxEnemyUnits(), defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
               }
               final ProBattleResult result = moveMap.get(t).getBattleResult();
@@ -791,13 +797,13 @@ class ProNonCombatMoveAI {
         for (final Territory t : amphibMoveOptions.get(transport)) {
           final List<Unit> defendingUnits = moveMap.get(t).getAllDefenders();
           if (moveMap.get(t).getBattleResult() == null) {
-            moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(t,
+            moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(proData, t,
                 moveMap.get(t).getMaxEnemyUnits(), defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
           }
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().match(t);
-          if ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-              || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+          if ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+              || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
               || result.getTUVSwing() > 0) {
 
             // Get all units that have already moved
@@ -839,7 +845,8 @@ class ProNonCombatMoveAI {
                     final List<Unit> defenders = moveMap.get(territoryToMoveTransport).getAllDefenders();
                     defenders.add(transport);
                     final double strengthDifference =
-                        ProBattleUtils.estimateStrengthDifference(territoryToMoveTransport, attackers, defenders);
+                        ProBattleUtils.estimateStrengthDifference(proData, territoryToMoveTransport, attackers,
+                            defenders);
                     if (strengthDifference < minStrengthDifference) {
                       minTerritory = territoryToMoveTransport;
                       minStrengthDifference = strengthDifference;
@@ -879,7 +886,7 @@ class ProNonCombatMoveAI {
 
         // Find defense result and hold value based on used defenders TUV
         final List<Unit> defendingUnits = moveMap.get(t).getAllDefenders();
-        moveMap.get(t).setBattleResult(calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
+        moveMap.get(t).setBattleResult(calc.calculateBattleResults(proData, t, moveMap.get(t).getMaxEnemyUnits(),
             defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
         final ProBattleResult result = patd.getBattleResult();
         int isFactory = 0;
@@ -887,11 +894,11 @@ class ProNonCombatMoveAI {
           isFactory = 1;
         }
         int isMyCapital = 0;
-        if (t.equals(ProData.myCapital)) {
+        if (t.equals(proData.getMyCapital())) {
           isMyCapital = 1;
           containsCapital = true;
         }
-        final double extraUnitValue = BattleCalculator.getTUV(moveMap.get(t).getTempUnits(), ProData.unitValueMap);
+        final double extraUnitValue = BattleCalculator.getTUV(moveMap.get(t).getTempUnits(), proData.getUnitValueMap());
         final List<Unit> unsafeTransports = new ArrayList<>();
         for (final Unit transport : moveMap.get(t).getTransportTerritoryMap().keySet()) {
           final Territory transportTerritory = moveMap.get(t).getTransportTerritoryMap().get(transport);
@@ -899,13 +906,13 @@ class ProNonCombatMoveAI {
             unsafeTransports.add(transport);
           }
         }
-        final int unsafeTransportValue = BattleCalculator.getTUV(unsafeTransports, ProData.unitValueMap);
+        final int unsafeTransportValue = BattleCalculator.getTUV(unsafeTransports, proData.getUnitValueMap());
         final double holdValue =
             extraUnitValue / 8 * (1 + 0.5 * isFactory) * (1 + 2 * isMyCapital) - unsafeTransportValue;
 
         // Find strategic value
         boolean hasHigherStrategicValue = true;
-        if (!t.isWater() && !t.equals(ProData.myCapital)
+        if (!t.isWater() && !t.equals(proData.getMyCapital())
             && !ProMatches.territoryHasInfraFactoryAndIsLand().match(t)) {
           double totalValue = 0.0;
           final List<Unit> nonAirDefenders = Match.getMatches(moveMap.get(t).getTempUnits(), Matches.UnitIsNotAir);
@@ -931,25 +938,27 @@ class ProNonCombatMoveAI {
       }
 
       final Territory currentTerritory = prioritizedTerritories.get(numToDefend - 1).getTerritory();
-      if (ProData.myCapital != null) {
+      if (proData.getMyCapital() != null) {
 
         // Check capital defense
-        if (containsCapital && !currentTerritory.equals(ProData.myCapital)
-            && moveMap.get(ProData.myCapital).getBattleResult().getWinPercentage() > (100 - ProData.winPercentage)) {
+        if (containsCapital && !currentTerritory.equals(proData.getMyCapital())
+            && moveMap.get(proData.getMyCapital()).getBattleResult()
+                .getWinPercentage() > (100 - proData.getWinPercentage())) {
           if (!Collections.disjoint(moveMap.get(currentTerritory).getAllDefenders(),
-              moveMap.get(ProData.myCapital).getMaxDefenders())) {
+              moveMap.get(proData.getMyCapital()).getMaxDefenders())) {
             areSuccessful = false;
             ProLogger.debug("Capital isn't safe after defense moves with winPercentage="
-                + moveMap.get(ProData.myCapital).getBattleResult().getWinPercentage());
+                + moveMap.get(proData.getMyCapital()).getBattleResult().getWinPercentage());
           }
         }
 
         // Check capital local superiority
         if (!currentTerritory.isWater() && enemyDistance >= 2 && enemyDistance <= 3) {
-          final int distance = data.getMap().getDistance(ProData.myCapital, currentTerritory,
+          final int distance = data.getMap().getDistance(proData.getMyCapital(), currentTerritory,
               ProMatches.territoryCanMoveLandUnits(player, data, true));
           if (distance > 0 && (enemyDistance == distance || enemyDistance == (distance - 1)) && !ProBattleUtils
-              .territoryHasLocalLandSuperiorityAfterMoves(ProData.myCapital, enemyDistance, player, moveMap)) {
+              .territoryHasLocalLandSuperiorityAfterMoves(proData, proData.getMyCapital(), enemyDistance, player,
+                  moveMap)) {
             areSuccessful = false;
             ProLogger.debug(
                 "Capital doesn't have local land superiority after defense moves with enemyDistance=" + enemyDistance);
@@ -1269,8 +1278,8 @@ class ProNonCombatMoveAI {
           final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
           defenders.removeAll(alreadyMovedUnits);
           defenders.addAll(moveMap.get(t).getUnits());
-          defenders.removeAll(ProTransportUtils.getAirThatCantLandOnCarrier(player, t, defenders));
-          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+          defenders.removeAll(ProTransportUtils.getAirThatCantLandOnCarrier(proData, player, t, defenders));
+          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
 
           // TODO: add logic to move towards closest factory
           ProLogger.trace(transport + " at " + t + ", strengthDifference=" + strengthDifference + ", attackers="
@@ -1330,8 +1339,8 @@ class ProNonCombatMoveAI {
       }
 
       // Get all transport final territories
-      ProMoveUtils.calculateAmphibRoutes(player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), moveMap,
-          false);
+      ProMoveUtils.calculateAmphibRoutes(proData, player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+          moveMap, false);
       for (final Territory t : moveMap.keySet()) {
         for (final Unit u : moveMap.get(t).getTransportTerritoryMap().keySet()) {
           if (moveMap.get(moveMap.get(t).getTransportTerritoryMap().get(u)) != null) {
@@ -1351,14 +1360,14 @@ class ProNonCombatMoveAI {
               final List<Unit> defendingUnits =
                   Match.getMatches(moveMap.get(t).getAllDefenders(), Matches.UnitIsNotLand);
               if (moveMap.get(t).getBattleResult() == null) {
-                moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(t,
+                moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(proData, t,
                     moveMap.get(t).getMaxEnemyUnits(), defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
               }
               final ProBattleResult result = moveMap.get(t).getBattleResult();
               ProLogger.trace(t.getName() + " TUVSwing=" + result.getTUVSwing() + ", Win%=" + result.getWinPercentage()
                   + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits().size() + ", defenders="
                   + defendingUnits.size());
-              if (result.getWinPercentage() > (100 - ProData.winPercentage) || result.getTUVSwing() > 0) {
+              if (result.getWinPercentage() > (100 - proData.getWinPercentage()) || result.getTUVSwing() > 0) {
                 ProLogger.trace(u + " added sea to defend transport at " + t);
                 moveMap.get(t).addTempUnit(u);
                 moveMap.get(t).setBattleResult(null);
@@ -1388,21 +1397,21 @@ class ProNonCombatMoveAI {
           for (final Territory t : currentUnitMoveMap.get(u)) {
             if (t.isWater() && moveMap.get(t).isCanHold() && !moveMap.get(t).getAllDefenders().isEmpty()
                 && Match.someMatch(moveMap.get(t).getAllDefenders(), ProMatches.unitIsOwnedTransport(player))) {
-              if (!ProTransportUtils.validateCarrierCapacity(player, t,
+              if (!ProTransportUtils.validateCarrierCapacity(proData, player, t,
                   moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
                 continue;
               }
               final List<Unit> defendingUnits =
                   Match.getMatches(moveMap.get(t).getAllDefenders(), Matches.UnitIsNotLand);
               if (moveMap.get(t).getBattleResult() == null) {
-                moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(t,
+                moveMap.get(t).setBattleResult(calc.estimateDefendBattleResults(proData, t,
                     moveMap.get(t).getMaxEnemyUnits(), defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
               }
               final ProBattleResult result = moveMap.get(t).getBattleResult();
               ProLogger.trace(t.getName() + " TUVSwing=" + result.getTUVSwing() + ", Win%=" + result.getWinPercentage()
                   + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits().size() + ", defenders="
                   + defendingUnits.size());
-              if (result.getWinPercentage() > (100 - ProData.winPercentage) || result.getTUVSwing() > 0) {
+              if (result.getWinPercentage() > (100 - proData.getWinPercentage()) || result.getTUVSwing() > 0) {
                 ProLogger.trace(u + " added air to defend transport at " + t);
                 moveMap.get(t).addTempUnit(u);
                 moveMap.get(t).setBattleResult(null);
@@ -1467,7 +1476,8 @@ class ProNonCombatMoveAI {
               final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
               defenders.removeAll(alreadyMovedUnits);
               defenders.addAll(moveMap.get(t).getUnits());
-              final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+              final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers,
+                  defenders);
               if (strengthDifference < minStrengthDifference) {
                 minStrengthDifference = strengthDifference;
                 minTerritory = t;
@@ -1507,20 +1517,20 @@ class ProNonCombatMoveAI {
 
         // Find result with temp units
         final List<Unit> defendingUnits = moveMap.get(t).getAllDefenders();
-        moveMap.get(t).setBattleResult(calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
+        moveMap.get(t).setBattleResult(calc.calculateBattleResults(proData, t, moveMap.get(t).getMaxEnemyUnits(),
             defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
         final ProBattleResult result = moveMap.get(t).getBattleResult();
         int isWater = 0;
         if (t.isWater()) {
           isWater = 1;
         }
-        final double extraUnitValue = BattleCalculator.getTUV(moveMap.get(t).getTempUnits(), ProData.unitValueMap);
+        final double extraUnitValue = BattleCalculator.getTUV(moveMap.get(t).getTempUnits(), proData.getUnitValueMap());
         final double holdValue = result.getTUVSwing() - (extraUnitValue / 8 * (1 + isWater));
 
         // Find min result without temp units
         final List<Unit> minDefendingUnits = new ArrayList<>(defendingUnits);
         minDefendingUnits.removeAll(moveMap.get(t).getTempUnits());
-        final ProBattleResult minResult = calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
+        final ProBattleResult minResult = calc.calculateBattleResults(proData, t, moveMap.get(t).getMaxEnemyUnits(),
             minDefendingUnits, moveMap.get(t).getMaxEnemyBombardUnits());
 
         // Check if territory is worth defending with temp units
@@ -1708,7 +1718,7 @@ class ProNonCombatMoveAI {
           final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
           defenders.removeAll(alreadyMovedUnits);
           defenders.addAll(moveMap.get(t).getUnits());
-          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
           if (strengthDifference < minStrengthDifference) {
             minStrengthDifference = strengthDifference;
             minTerritory = t;
@@ -1744,7 +1754,7 @@ class ProNonCombatMoveAI {
         if (!moveMap.get(t).isCanHold()) {
           continue;
         }
-        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(player, t,
+        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(proData, player, t,
             moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
           ProLogger.trace(t + " already at MAX carrier capacity");
           continue;
@@ -1754,23 +1764,23 @@ class ProNonCombatMoveAI {
         final List<Unit> defendingUnits = moveMap.get(t).getAllDefenders();
         defendingUnits.add(u);
         if (moveMap.get(t).getBattleResult() == null) {
-          moveMap.get(t).setBattleResult(calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
+          moveMap.get(t).setBattleResult(calc.calculateBattleResults(proData, t, moveMap.get(t).getMaxEnemyUnits(),
               defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
         }
         final ProBattleResult result = moveMap.get(t).getBattleResult();
         ProLogger.trace(t + ", TUVSwing=" + result.getTUVSwing() + ", win%=" + result.getWinPercentage()
             + ", defendingUnits=" + defendingUnits + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits());
-        if (result.getWinPercentage() >= ProData.minWinPercentage || result.getTUVSwing() > 0) {
+        if (result.getWinPercentage() >= proData.getMinWinPercentage() || result.getTUVSwing() > 0) {
           moveMap.get(t).setCanHold(false);
           continue;
         }
 
         // Determine if territory can be held with owned units
         final List<Unit> myDefenders = Match.getMatches(defendingUnits, Matches.unitIsOwnedBy(player));
-        final ProBattleResult result2 = calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
+        final ProBattleResult result2 = calc.calculateBattleResults(proData, t, moveMap.get(t).getMaxEnemyUnits(),
             myDefenders, moveMap.get(t).getMaxEnemyBombardUnits());
         int cantHoldWithoutAllies = 0;
-        if (result2.getWinPercentage() >= ProData.minWinPercentage || result2.getTUVSwing() > 0) {
+        if (result2.getWinPercentage() >= proData.getMinWinPercentage() || result2.getTUVSwing() > 0) {
           cantHoldWithoutAllies = 1;
         }
 
@@ -1822,7 +1832,7 @@ class ProNonCombatMoveAI {
       double minStrengthDifference = Double.POSITIVE_INFINITY;
       Territory minTerritory = null;
       for (final Territory t : unitMoveMap.get(u)) {
-        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(player, t,
+        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(proData, player, t,
             moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
           ProLogger.trace(t + " already at MAX carrier capacity");
           continue;
@@ -1830,7 +1840,7 @@ class ProNonCombatMoveAI {
         final List<Unit> attackers = moveMap.get(t).getMaxEnemyUnits();
         final List<Unit> defenders = moveMap.get(t).getAllDefenders();
         defenders.add(u);
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
         ProLogger.trace("Unsafe territory: " + t + " with strengthDifference=" + strengthDifference);
         if (strengthDifference < minStrengthDifference) {
           minStrengthDifference = strengthDifference;
@@ -1873,11 +1883,11 @@ class ProNonCombatMoveAI {
             // Check if territory is safe after all current moves
             if (moveMap.get(t).getBattleResult() == null) {
               final List<Unit> defendingUnits = moveMap.get(t).getAllDefenders();
-              moveMap.get(t).setBattleResult(calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
+              moveMap.get(t).setBattleResult(calc.calculateBattleResults(proData, t, moveMap.get(t).getMaxEnemyUnits(),
                   defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
             }
             final ProBattleResult result = moveMap.get(t).getBattleResult();
-            if (result.getWinPercentage() >= ProData.minWinPercentage || result.getTUVSwing() > 0) {
+            if (result.getWinPercentage() >= proData.getMinWinPercentage() || result.getTUVSwing() > 0) {
               moveMap.get(t).setCanHold(false);
               continue;
             }
@@ -1905,7 +1915,7 @@ class ProNonCombatMoveAI {
             if (factoryMoveMap.containsKey(maxValueTerritory)) {
               factoryMoveMap.get(maxValueTerritory).addUnit(u);
             } else {
-              final ProTerritory patd = new ProTerritory(maxValueTerritory);
+              final ProTerritory patd = new ProTerritory(maxValueTerritory, proData);
               patd.addUnit(u);
               factoryMoveMap.put(maxValueTerritory, patd);
             }
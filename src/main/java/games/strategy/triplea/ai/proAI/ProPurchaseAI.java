@@ -56,6 +56,7 @@ import games.strategy.util.Match;
 class ProPurchaseAI {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private GameData startOfTurnData; // Used to count current units on map for maxBuiltPerPlayer
   private PlayerID player;
@@ -65,6 +66,7 @@ class ProPurchaseAI {
 
   ProPurchaseAI(final ProAI ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   int repair(int PUsRemaining, final IPurchaseDelegate purchaseDelegate, final GameData data,
@@ -132,13 +134,13 @@ class ProPurchaseAI {
       final GameData startOfTurnData) {
 
     // Current data fields
-    data = ProData.getData();
+    data = proData.getData();
     this.startOfTurnData = startOfTurnData;
-    player = ProData.getPlayer();
+    player = proData.getPlayer();
     resourceTracker = new ProResourceTracker(pus, data);
-    territoryManager = new ProTerritoryManager(calc);
+    territoryManager = new ProTerritoryManager(calc, proData);
     isBid = true;
-    final ProPurchaseOptionMap purchaseOptions = ProData.purchaseOptions;
+    final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
     ProLogger.info("Starting bid phase with resources: " + resourceTracker);
     if (!player.getUnits().getUnits().isEmpty()) {
@@ -146,7 +148,8 @@ class ProPurchaseAI {
     }
 
     // Find all purchase/place territories
-    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findBidTerritories(player);
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+        ProPurchaseUtils.findBidTerritories(proData, player);
 
     int previousNumUnits = 0;
     while (true) {
@@ -164,7 +167,7 @@ class ProPurchaseAI {
       // Find strategic value for each territory
       ProLogger.info("Find strategic value for place territories");
       final Map<Territory, Double> territoryValueMap =
-          ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>());
+          ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>());
       for (final Territory t : purchaseTerritories.keySet()) {
         for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
           ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -220,13 +223,13 @@ class ProPurchaseAI {
       final GameData startOfTurnData) {
 
     // Current data fields
-    data = ProData.getData();
+    data = proData.getData();
     this.startOfTurnData = startOfTurnData;
-    player = ProData.getPlayer();
+    player = proData.getPlayer();
     resourceTracker = new ProResourceTracker(player);
-    territoryManager = new ProTerritoryManager(calc);
+    territoryManager = new ProTerritoryManager(calc, proData);
     isBid = false;
-    final ProPurchaseOptionMap purchaseOptions = ProData.purchaseOptions;
+    final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
     ProLogger.info("Starting purchase phase with resources: " + resourceTracker);
     if (!player.getUnits().getUnits().isEmpty()) {
@@ -234,7 +237,8 @@ class ProPurchaseAI {
     }
 
     // Find all purchase/place territories
-    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+        ProPurchaseUtils.findPurchaseTerritories(proData, player);
     final Set<Territory> placeTerritories = new HashSet<>();
     placeTerritories.addAll(Match.getMatches(data.getMap().getTerritoriesOwnedBy(player), Matches.TerritoryIsLand));
     for (final Territory t : purchaseTerritories.keySet()) {
@@ -256,7 +260,7 @@ class ProPurchaseAI {
     // Find strategic value for each territory
     ProLogger.info("Find strategic value for place territories");
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>());
     for (final Territory t : purchaseTerritories.keySet()) {
       for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -313,9 +317,9 @@ class ProPurchaseAI {
       final IAbstractPlaceDelegate placeDelegate) {
     ProLogger.info("Starting place phase");
 
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     if (purchaseTerritories != null) {
 
@@ -368,7 +372,7 @@ class ProPurchaseAI {
 
     // Find all place territories
     final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories =
-        ProPurchaseUtils.findPurchaseTerritories(player);
+        ProPurchaseUtils.findPurchaseTerritories(proData, player);
 
     // Determine max enemy attack units and current allied defenders
     findDefendersInPlaceTerritories(placeNonConstructionTerritories);
@@ -381,7 +385,7 @@ class ProPurchaseAI {
     // Find strategic value for each territory
     ProLogger.info("Find strategic value for place territories");
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>());
     for (final Territory t : placeNonConstructionTerritories.keySet()) {
       for (final ProPlaceTerritory ppt : placeNonConstructionTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -441,14 +445,14 @@ class ProPurchaseAI {
         // Find current battle result
         final Set<Unit> enemyAttackingUnits = new HashSet<>(enemyAttackOptions.getMax(t).getMaxUnits());
         enemyAttackingUnits.addAll(enemyAttackOptions.getMax(t).getMaxAmphibUnits());
-        final ProBattleResult result = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits),
+        final ProBattleResult result = calc.calculateBattleResults(proData, t, new ArrayList<>(enemyAttackingUnits),
             placeTerritory.getDefendingUnits(), enemyAttackOptions.getMax(t).getMaxBombardUnits());
         placeTerritory.setMinBattleResult(result);
         double holdValue = 0;
         if (t.isWater()) {
           final double unitValue = BattleCalculator.getTUV(
               Match.getMatches(placeTerritory.getDefendingUnits(), Matches.unitIsOwnedBy(player)),
-              ProData.unitValueMap);
+                  proData.getUnitValueMap());
           holdValue = unitValue / 8;
         }
         ProLogger.trace(t.getName() + " TUVSwing=" + result.getTUVSwing() + ", win%=" + result.getWinPercentage()
@@ -459,8 +463,8 @@ class ProPurchaseAI {
         final boolean isLandAndCanOnlyBeAttackedByAir =
             !t.isWater() && Match.allMatch(enemyAttackingUnits, Matches.UnitIsAir);
         if ((!t.isWater() && result.isHasLandUnitRemaining()) || result.getTUVSwing() > holdValue
-            || (t.equals(ProData.myCapital) && !isLandAndCanOnlyBeAttackedByAir
-                && result.getWinPercentage() > (100 - ProData.winPercentage))) {
+            || (t.equals(proData.getMyCapital()) && !isLandAndCanOnlyBeAttackedByAir
+                && result.getWinPercentage() > (100 - proData.getWinPercentage()))) {
           needToDefendTerritories.add(placeTerritory);
         }
       }
@@ -472,7 +476,7 @@ class ProPurchaseAI {
 
       // Determine if it is my capital or adjacent to my capital
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
 
@@ -490,7 +494,8 @@ class ProPurchaseAI {
       }
 
       // Determine defending unit value
-      double defendingUnitValue = BattleCalculator.getTUV(placeTerritory.getDefendingUnits(), ProData.unitValueMap);
+      double defendingUnitValue = BattleCalculator.getTUV(placeTerritory.getDefendingUnits(),
+          proData.getUnitValueMap());
       if (t.isWater() && Match.noneMatch(placeTerritory.getDefendingUnits(), Matches.unitIsOwnedBy(player))) {
         defendingUnitValue = 0;
       }
@@ -543,7 +548,8 @@ class ProPurchaseAI {
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getUnits().getMatches(Matches.unitIsOwnedBy(player));
       int unusedCarrierCapacity = Math.min(0, ProTransportUtils.getUnusedCarrierCapacity(player, t, new ArrayList<>()));
-      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
+      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+          new ArrayList<>());
       ProLogger.trace(t + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
           + unusedLocalCarrierCapacity);
 
@@ -570,7 +576,7 @@ class ProPurchaseAI {
 
         // Find defenders that can be produced in this territory
         final List<ProPurchaseOption> purchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, defensePurchaseOptions, t, isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, defensePurchaseOptions, t, isBid);
         purchaseOptionsForTerritory.addAll(airPurchaseOptions);
 
         // Purchase necessary defenders
@@ -604,7 +610,8 @@ class ProPurchaseAI {
           unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
           if (selectedOption.isCarrier() || selectedOption.isAir()) {
             unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                unitsToPlace);
           }
           ProLogger.trace("Selected unit=" + selectedOption.getUnitType().getName() + ", unusedCarrierCapacity="
               + unusedCarrierCapacity + ", unusedLocalCarrierCapacity=" + unusedLocalCarrierCapacity);
@@ -614,12 +621,14 @@ class ProPurchaseAI {
           enemyAttackingUnits.addAll(enemyAttackOptions.getMax(t).getMaxAmphibUnits());
           final List<Unit> defenders = new ArrayList<>(placeTerritory.getDefendingUnits());
           defenders.addAll(unitsToPlace);
-          finalResult = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits), defenders,
+          finalResult = calc.calculateBattleResults(proData, t, new ArrayList<>(enemyAttackingUnits), defenders,
               enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
           // Break if it can be held
-          if ((!t.equals(ProData.myCapital) && !finalResult.isHasLandUnitRemaining() && finalResult.getTUVSwing() <= 0)
-              || (t.equals(ProData.myCapital) && finalResult.getWinPercentage() < (100 - ProData.winPercentage)
+          if ((!t.equals(proData.getMyCapital()) && !finalResult.isHasLandUnitRemaining()
+              && finalResult.getTUVSwing() <= 0)
+              || (t.equals(proData.getMyCapital())
+                  && finalResult.getWinPercentage() < (100 - proData.getWinPercentage())
                   && finalResult.getTUVSwing() <= 0)) {
             break;
           }
@@ -628,11 +637,12 @@ class ProPurchaseAI {
 
       // Check to see if its worth trying to defend the territory
       final boolean hasLocalSuperiority =
-          ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.SHORT_RANGE, player, purchaseTerritories);
+          ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.SHORT_RANGE, player,
+              purchaseTerritories);
       if (!finalResult.isHasLandUnitRemaining()
           || (finalResult.getTUVSwing() - resourceTracker.getTempPUs(data) / 2) < placeTerritory.getMinBattleResult()
               .getTUVSwing()
-          || t.equals(ProData.myCapital) || (!t.isWater() && hasLocalSuperiority)) {
+          || t.equals(proData.getMyCapital()) || (!t.isWater() && hasLocalSuperiority)) {
         resourceTracker.confirmTempPurchases();
         ProLogger.trace(
             t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTUVSwing() + ", hasLandUnitRemaining="
@@ -663,9 +673,9 @@ class ProPurchaseAI {
           final Set<Territory> nearbyLandTerritories =
               data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
           final int numNearbyEnemyTerritories = Match.countMatches(nearbyLandTerritories,
-              Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(player)));
+              Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(proData, player)));
           final boolean hasLocalLandSuperiority =
-              ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.SHORT_RANGE, player);
+              ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.SHORT_RANGE, player);
           if (hasEnemyNeighbors || numNearbyEnemyTerritories >= 3 || !hasLocalLandSuperiority) {
             prioritizedLandTerritories.add(placeTerritory);
           }
@@ -725,7 +735,7 @@ class ProPurchaseAI {
 
       // Remove options that cost too much PUs or production
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, specialPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, specialPurchaseOptions, t, isBid);
       ProPurchaseUtils.removeInvalidPurchaseOptions(player, startOfTurnData, purchaseOptionsForTerritory,
           resourceTracker, remainingUnitProduction, new ArrayList<>(), purchaseTerritories);
       if (purchaseOptionsForTerritory.isEmpty()) {
@@ -787,14 +797,18 @@ class ProPurchaseAI {
 
       // Determine most cost efficient units that can be produced in this territory
       final List<ProPurchaseOption> landFodderOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandFodderOptions(), t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandFodderOptions(), t,
+              isBid);
       final List<ProPurchaseOption> landAttackOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandAttackOptions(), t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandAttackOptions(), t,
+              isBid);
       final List<ProPurchaseOption> landDefenseOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandDefenseOptions(), t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandDefenseOptions(), t,
+              isBid);
 
       // Determine enemy distance and locally owned units
-      int enemyDistance = ProUtils.getClosestEnemyOrNeutralLandTerritoryDistance(data, player, t, territoryValueMap);
+      int enemyDistance = ProUtils.getClosestEnemyOrNeutralLandTerritoryDistance(proData, data, player, t,
+          territoryValueMap);
       if (enemyDistance <= 0) {
         enemyDistance = 10;
       }
@@ -813,7 +827,7 @@ class ProPurchaseAI {
       for (final Iterator<Unit> it = unplacedUnits.iterator(); it.hasNext();) {
         final Unit u = it.next();
         if (remainingUnitProduction > 0
-            && ProPurchaseUtils.canUnitsBePlaced(Collections.singletonList(u), player, t, isBid)) {
+            && ProPurchaseUtils.canUnitsBePlaced(proData, Collections.singletonList(u), player, t, isBid)) {
           remainingUnitProduction--;
           unitsToPlace.add(u);
           it.remove();
@@ -925,8 +939,8 @@ class ProPurchaseAI {
         final List<Unit> defenders = t.getUnits().getMatches(Matches.isUnitAllied(player, data));
         final Set<Unit> enemyAttackingUnits = new HashSet<>(enemyAttackOptions.getMax(t).getMaxUnits());
         enemyAttackingUnits.addAll(enemyAttackOptions.getMax(t).getMaxAmphibUnits());
-        final ProBattleResult result = calc.estimateDefendBattleResults(t, new ArrayList<>(enemyAttackingUnits),
-            defenders, enemyAttackOptions.getMax(t).getMaxBombardUnits());
+        final ProBattleResult result = calc.estimateDefendBattleResults(proData, t,
+            new ArrayList<>(enemyAttackingUnits), defenders, enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
         // Check if it can't be held or if it can then that it wasn't conquered this turn
         if (result.isHasLandUnitRemaining() || result.getTUVSwing() > 0) {
@@ -948,7 +962,7 @@ class ProPurchaseAI {
     if (!hasExtraPUs) {
       for (final Iterator<Territory> it = purchaseFactoryTerritories.iterator(); it.hasNext();) {
         final Territory t = it.next();
-        if (!ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.MEDIUM_RANGE, player,
+        if (!ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.MEDIUM_RANGE, player,
             purchaseTerritories)) {
           it.remove();
         }
@@ -958,7 +972,7 @@ class ProPurchaseAI {
 
     // Find strategic value for each territory
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, territoriesThatCantBeHeld, new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, territoriesThatCantBeHeld, new ArrayList<>());
     double maxValue = 0.0;
     Territory maxTerritory = null;
     for (final Territory t : purchaseFactoryTerritories) {
@@ -1001,8 +1015,8 @@ class ProPurchaseAI {
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getFactoryOptions(), maxTerritory,
-              isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getFactoryOptions(),
+              maxTerritory, isBid);
       resourceTracker.removeTempPurchase(maxPlacedOption);
       ProPurchaseUtils.removeInvalidPurchaseOptions(player, startOfTurnData, purchaseOptionsForTerritory,
           resourceTracker, 1, new ArrayList<>(), purchaseTerritories);
@@ -1077,13 +1091,13 @@ class ProPurchaseAI {
       int needDefenders = 0;
       if (enemyAttackOptions.getMax(t) != null) {
         final double strengthDifference =
-            ProBattleUtils.estimateStrengthDifference(t, enemyAttackOptions.getMax(t).getMaxUnits(), units);
+            ProBattleUtils.estimateStrengthDifference(proData, t, enemyAttackOptions.getMax(t).getMaxUnits(), units);
         if (strengthDifference > 50) {
           needDefenders = 1;
         }
       }
       final boolean hasLocalNavalSuperiority =
-          ProBattleUtils.territoryHasLocalNavalSuperiority(t, player, null, new ArrayList<>());
+          ProBattleUtils.territoryHasLocalNavalSuperiority(proData, t, player, null, new ArrayList<>());
       if (!hasLocalNavalSuperiority) {
         needDefenders = 1;
       }
@@ -1140,7 +1154,8 @@ class ProPurchaseAI {
         ownedLocalUnits.addAll(neighbor.getUnits().getMatches(Matches.unitIsOwnedBy(player)));
       }
       int unusedCarrierCapacity = Math.min(0, ProTransportUtils.getUnusedCarrierCapacity(player, t, new ArrayList<>()));
-      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
+      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+          new ArrayList<>());
       boolean needDestroyer = false;
       ProLogger.trace(t + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
           + unusedLocalCarrierCapacity);
@@ -1158,7 +1173,7 @@ class ProPurchaseAI {
         final List<Unit> unitsToPlace = new ArrayList<>();
         final List<Unit> initialDefendingUnits = new ArrayList<>(placeTerritory.getDefendingUnits());
         initialDefendingUnits.addAll(ProPurchaseUtils.getPlaceUnits(t, purchaseTerritories));
-        ProBattleResult result = calc.calculateBattleResults(t, enemyAttackOptions.getMax(t).getMaxUnits(),
+        ProBattleResult result = calc.calculateBattleResults(proData, t, enemyAttackOptions.getMax(t).getMaxUnits(),
             initialDefendingUnits, enemyAttackOptions.getMax(t).getMaxBombardUnits());
         boolean hasOnlyRetreatingSubs =
             Properties.getSubRetreatBeforeBattle(data) && Match.allMatch(initialDefendingUnits, Matches.UnitIsSub)
@@ -1175,8 +1190,8 @@ class ProPurchaseAI {
 
           // Determine sea and transport units that can be produced in this territory
           final List<ProPurchaseOption> seaPurchaseOptionsForTerritory =
-              ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaDefenseOptions(), t,
-                  isBid);
+              ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaDefenseOptions(),
+                  t, isBid);
           seaPurchaseOptionsForTerritory.addAll(purchaseOptions.getAirOptions());
 
           // Purchase enough sea defenders to hold territory
@@ -1184,7 +1199,7 @@ class ProPurchaseAI {
 
             // If it can be held then break
             if (!hasOnlyRetreatingSubs
-                && (result.getTUVSwing() < -1 || result.getWinPercentage() < ProData.winPercentage)) {
+                && (result.getTUVSwing() < -1 || result.getWinPercentage() < proData.getWinPercentage())) {
               break;
             }
 
@@ -1212,7 +1227,8 @@ class ProPurchaseAI {
             unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
             if (selectedOption.isCarrier() || selectedOption.isAir()) {
               unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-              unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+              unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                  unitsToPlace);
             }
             ProLogger
                 .trace(t + ", added sea defender for defense: " + selectedOption.getUnitType().getName() + ", TUVSwing="
@@ -1223,7 +1239,7 @@ class ProPurchaseAI {
             final List<Unit> defendingUnits = new ArrayList<>(placeTerritory.getDefendingUnits());
             defendingUnits.addAll(ProPurchaseUtils.getPlaceUnits(t, purchaseTerritories));
             defendingUnits.addAll(unitsToPlace);
-            result = calc.estimateDefendBattleResults(t, enemyAttackOptions.getMax(t).getMaxUnits(),
+            result = calc.estimateDefendBattleResults(proData, t, enemyAttackOptions.getMax(t).getMaxUnits(),
                 defendingUnits, enemyAttackOptions.getMax(t).getMaxBombardUnits());
             hasOnlyRetreatingSubs =
                 Properties.getSubRetreatBeforeBattle(data) && Match.allMatch(defendingUnits, Matches.UnitIsSub)
@@ -1232,7 +1248,7 @@ class ProPurchaseAI {
         }
 
         // Check to see if its worth trying to defend the territory
-        if (result.getTUVSwing() < 0 || result.getWinPercentage() < ProData.winPercentage) {
+        if (result.getTUVSwing() < 0 || result.getWinPercentage() < proData.getWinPercentage()) {
           resourceTracker.confirmTempPurchases();
           ProLogger.trace(t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + result.getTUVSwing()
               + ", hasLandUnitRemaining=" + result.isHasLandUnitRemaining());
@@ -1319,12 +1335,13 @@ class ProPurchaseAI {
 
         // Determine sea and transport units that can be produced in this territory
         final List<ProPurchaseOption> seaPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaDefenseOptions(), t, isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaDefenseOptions(), t,
+                isBid);
         seaPurchaseOptionsForTerritory.addAll(purchaseOptions.getAirOptions());
         while (true) {
 
           // If I have naval attack/defense superiority then break
-          if (ProBattleUtils.territoryHasLocalNavalSuperiority(t, player, purchaseTerritories, unitsToPlace)) {
+          if (ProBattleUtils.territoryHasLocalNavalSuperiority(proData, t, player, purchaseTerritories, unitsToPlace)) {
             break;
           }
 
@@ -1352,7 +1369,8 @@ class ProPurchaseAI {
           unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
           if (selectedOption.isCarrier() || selectedOption.isAir()) {
             unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                unitsToPlace);
           }
           ProLogger.trace(t + ", added sea defender for naval superiority: " + selectedOption.getUnitType().getName()
               + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
@@ -1382,11 +1400,11 @@ class ProPurchaseAI {
 
         // Determine sea and transport units that can be produced in this territory
         final List<ProPurchaseOption> seaTransportPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaTransportOptions(), t,
-                isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaTransportOptions(),
+                t, isBid);
         final List<ProPurchaseOption> amphibPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandOptions(), landTerritory,
-                isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandOptions(),
+                landTerritory, isBid);
 
         // Find transports that need loaded and units to ignore that are already paired up
         final List<Unit> transportsThatNeedUnits = new ArrayList<>();
@@ -1554,7 +1572,7 @@ class ProPurchaseAI {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
       airAndLandPurchaseOptions.addAll(landPurchaseOptions);
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase long range attack units for any remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
@@ -1614,7 +1632,7 @@ class ProPurchaseAI {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
       airAndLandPurchaseOptions.addAll(landPurchaseOptions);
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase defense units for any remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
@@ -1681,7 +1699,7 @@ class ProPurchaseAI {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(purchaseOptions.getAirOptions());
       airAndLandPurchaseOptions.addAll(purchaseOptions.getLandOptions());
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase long range attack units for any remaining production
       int remainingUpgradeUnits = purchaseTerritories.get(t).getUnitProduction() / 3;
@@ -1726,7 +1744,7 @@ class ProPurchaseAI {
             }
             if (ppo.getCarrierCost() > 0) {
               final int unusedLocalCarrierCapacity =
-                  ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, placeTerritory.getPlaceUnits());
+                  ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t, placeTerritory.getPlaceUnits());
               final int neededFighters = unusedLocalCarrierCapacity / ppo.getCarrierCost();
               attackEfficiency *= (1 + neededFighters);
             }
@@ -1846,12 +1864,14 @@ class ProPurchaseAI {
         enemyAttackingUnits.addAll(enemyAttackOptions.getMax(t).getMaxAmphibUnits());
         final List<Unit> defenders = new ArrayList<>(placeTerritory.getDefendingUnits());
         defenders.addAll(unitsToPlace);
-        finalResult = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits), defenders,
+        finalResult = calc.calculateBattleResults(proData, t, new ArrayList<>(enemyAttackingUnits), defenders,
             enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
         // Break if it can be held
-        if ((!t.equals(ProData.myCapital) && !finalResult.isHasLandUnitRemaining() && finalResult.getTUVSwing() <= 0)
-            || (t.equals(ProData.myCapital) && finalResult.getWinPercentage() < (100 - ProData.winPercentage)
+        if ((!t.equals(proData.getMyCapital()) && !finalResult.isHasLandUnitRemaining()
+            && finalResult.getTUVSwing() <= 0)
+            || (t.equals(proData.getMyCapital())
+                && finalResult.getWinPercentage() < (100 - proData.getWinPercentage())
                 && finalResult.getTUVSwing() <= 0)) {
           break;
         }
@@ -1860,7 +1880,7 @@ class ProPurchaseAI {
       // Check to see if its worth trying to defend the territory
       if (!finalResult.isHasLandUnitRemaining()
           || finalResult.getTUVSwing() < placeTerritory.getMinBattleResult().getTUVSwing()
-          || t.equals(ProData.myCapital)) {
+          || t.equals(proData.getMyCapital())) {
         ProLogger.trace(t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTUVSwing());
         doPlace(t, unitsToPlace, placeDelegate);
       } else {
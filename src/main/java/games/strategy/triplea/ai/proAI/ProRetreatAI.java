@@ -45,17 +45,19 @@ import games.strategy.util.Match;
 class ProRetreatAI {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
 
   ProRetreatAI(final ProAI ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Territory retreatQuery(final GUID battleId, final Territory battleTerritory,
       final Collection<Territory> possibleTerritories) {
 
     // Get battle data
-    final GameData data = ProData.getData();
-    final PlayerID player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerID player = proData.getPlayer();
     final BattleDelegate delegate = DelegateFinder.battleDelegate(data);
     final IBattle battle = delegate.getBattleTracker().getPendingBattle(battleId);
 
@@ -65,7 +67,8 @@ class ProRetreatAI {
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
 
     // Calculate battle results
-    final ProBattleResult result = calc.calculateBattleResults(battleTerritory, attackers, defenders, new HashSet<>());
+    final ProBattleResult result = calc.calculateBattleResults(proData, battleTerritory, attackers, defenders,
+        new HashSet<>());
 
     // Determine if it has a factory
     int isFactory = 0;
@@ -106,7 +109,7 @@ class ProRetreatAI {
           retreatTerritory = t;
           break;
         }
-        final double strength = ProBattleUtils.estimateStrength(t,
+        final double strength = ProBattleUtils.estimateStrength(proData, t,
             t.getUnits().getMatches(Matches.isUnitAllied(player, data)), new ArrayList<>(), false);
         if (strength > maxStrength) {
           retreatTerritory = t;
@@ -31,17 +31,19 @@ import games.strategy.util.Tuple;
 class ProScrambleAI {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
 
   ProScrambleAI(final ProAI ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   HashMap<Territory, Collection<Unit>> scrambleUnitsQuery(final Territory scrambleTo,
       final Map<Territory, Tuple<Collection<Unit>, Collection<Unit>>> possibleScramblers) {
 
     // Get battle data
-    final GameData data = ProData.getData();
-    final PlayerID player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerID player = proData.getPlayer();
     final BattleDelegate delegate = DelegateFinder.battleDelegate(data);
     final IBattle battle = delegate.getBattleTracker().getPendingBattle(scrambleTo, false, BattleType.NORMAL);
 
@@ -49,10 +51,11 @@ class ProScrambleAI {
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
     final Set<Unit> bombardingUnits = new HashSet<>(battle.getBombardingUnits());
-    final ProBattleResult minResult = calc.calculateBattleResults(scrambleTo, attackers, defenders, bombardingUnits);
+    final ProBattleResult minResult = calc.calculateBattleResults(proData, scrambleTo, attackers, defenders,
+        bombardingUnits);
     ProLogger
         .debug(scrambleTo + ", minTUVSwing=" + minResult.getTUVSwing() + ", minWin%=" + minResult.getWinPercentage());
-    if (minResult.getTUVSwing() <= 0 && minResult.getWinPercentage() < (100 - ProData.minWinPercentage)) {
+    if (minResult.getTUVSwing() <= 0 && minResult.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
       return null;
     }
 
@@ -65,9 +68,11 @@ class ProScrambleAI {
       if (maxCanScramble < canScrambleAir.size()) {
         Collections.sort(canScrambleAir, (o1, o2) -> {
           final double strength1 =
-              ProBattleUtils.estimateStrength(scrambleTo, Collections.singletonList(o1), new ArrayList<>(), false);
+              ProBattleUtils.estimateStrength(proData, scrambleTo, Collections.singletonList(o1), new ArrayList<>(),
+                  false);
           final double strength2 =
-              ProBattleUtils.estimateStrength(scrambleTo, Collections.singletonList(o2), new ArrayList<>(), false);
+              ProBattleUtils.estimateStrength(proData, scrambleTo, Collections.singletonList(o2), new ArrayList<>(),
+                  false);
           return Double.compare(strength2, strength1);
         });
         canScrambleAir = canScrambleAir.subList(0, maxCanScramble);
@@ -76,7 +81,8 @@ class ProScrambleAI {
       possibleMaxScramblerMap.put(t, canScrambleAir);
     }
     defenders.addAll(allScramblers);
-    final ProBattleResult maxResult = calc.calculateBattleResults(scrambleTo, attackers, defenders, bombardingUnits);
+    final ProBattleResult maxResult = calc.calculateBattleResults(proData, scrambleTo, attackers, defenders,
+        bombardingUnits);
     ProLogger
         .debug(scrambleTo + ", maxTUVSwing=" + maxResult.getTUVSwing() + ", maxWin%=" + maxResult.getWinPercentage());
     if (maxResult.getTUVSwing() >= minResult.getTUVSwing()) {
@@ -104,7 +110,7 @@ class ProScrambleAI {
 
     // Sort units by number of defend options and cost
     final Map<Unit, Set<Territory>> sortedUnitDefendOptions =
-        ProSortMoveOptionsUtils.sortUnitMoveOptions(unitDefendOptions);
+        ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitDefendOptions);
 
     // Add one scramble unit at a time and check if final result is better than min result
     final List<Unit> unitsToScramble = new ArrayList<>();
@@ -113,10 +119,10 @@ class ProScrambleAI {
       unitsToScramble.add(u);
       final List<Unit> currentDefenders = (List<Unit>) battle.getDefendingUnits();
       currentDefenders.addAll(unitsToScramble);
-      result = calc.calculateBattleResults(scrambleTo, attackers, currentDefenders, bombardingUnits);
+      result = calc.calculateBattleResults(proData, scrambleTo, attackers, currentDefenders, bombardingUnits);
       ProLogger.debug(scrambleTo + ", TUVSwing=" + result.getTUVSwing() + ", Win%=" + result.getWinPercentage()
           + ", addedUnit=" + u);
-      if (result.getTUVSwing() <= 0 && result.getWinPercentage() < (100 - ProData.minWinPercentage)) {
+      if (result.getTUVSwing() <= 0 && result.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
         break;
       }
     }
@@ -41,6 +41,7 @@ import games.strategy.util.Match;
 public class ProTerritoryManager {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private final PlayerID player;
 
   private ProMyMoveOptions attackOptions;
@@ -50,9 +51,10 @@ public class ProTerritoryManager {
   private ProOtherMoveOptions enemyDefendOptions;
   private ProOtherMoveOptions enemyAttackOptions;
 
-  public ProTerritoryManager(final ProOddsCalculator calc) {
+  public ProTerritoryManager(final ProOddsCalculator calc, final ProData proData) {
     this.calc = calc;
-    player = ProData.getPlayer();
+    this.proData = proData;
+    player = proData.getPlayer();
     attackOptions = new ProMyMoveOptions();
     potentialAttackOptions = new ProMyMoveOptions();
     defendOptions = new ProMyMoveOptions();
@@ -62,7 +64,7 @@ public class ProTerritoryManager {
   }
 
   public ProTerritoryManager(final ProOddsCalculator calc, final ProTerritoryManager territoryManager) {
-    this(calc);
+    this(calc, territoryManager.proData);
     attackOptions = new ProMyMoveOptions(territoryManager.attackOptions);
     potentialAttackOptions = new ProMyMoveOptions(territoryManager.potentialAttackOptions);
     defendOptions = new ProMyMoveOptions(territoryManager.defendOptions);
@@ -72,7 +74,7 @@ public class ProTerritoryManager {
   }
 
   public void populateAttackOptions() {
-    findAttackOptions(player, ProData.myUnitTerritories, attackOptions.getTerritoryMap(),
+    findAttackOptions(player, proData.getMyUnitTerritories(), attackOptions.getTerritoryMap(),
         attackOptions.getUnitMoveMap(), attackOptions.getTransportMoveMap(), attackOptions.getBombardMap(),
         attackOptions.getTransportList(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
     findBombingOptions();
@@ -80,13 +82,13 @@ public class ProTerritoryManager {
   }
 
   public void populatePotentialAttackOptions() {
-    findPotentialAttackOptions(player, ProData.myUnitTerritories, potentialAttackOptions.getTerritoryMap(),
+    findPotentialAttackOptions(player, proData.getMyUnitTerritories(), potentialAttackOptions.getTerritoryMap(),
         potentialAttackOptions.getUnitMoveMap(), potentialAttackOptions.getTransportMoveMap(),
         potentialAttackOptions.getBombardMap(), potentialAttackOptions.getTransportList());
   }
 
   public void populateDefenseOptions(final List<Territory> clearedTerritories) {
-    findDefendOptions(player, ProData.myUnitTerritories, defendOptions.getTerritoryMap(),
+    findDefendOptions(player, proData.getMyUnitTerritories(), defendOptions.getTerritoryMap(),
         defendOptions.getUnitMoveMap(), defendOptions.getTransportMoveMap(), defendOptions.getTransportList(),
         clearedTerritories, false);
   }
@@ -169,8 +171,8 @@ public class ProTerritoryManager {
     return movedTransports.size() >= attackOptions.getTransportList().size();
   }
 
-  private static void findScrambleOptions(final PlayerID player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+  private void findScrambleOptions(final PlayerID player, final Map<Territory, ProTerritory> moveMap) {
+    final GameData data = proData.getData();
 
     if (!Properties.getScramble_Rules_In_Effect(data)) {
       return;
@@ -231,9 +233,9 @@ public class ProTerritoryManager {
           if (maxCanScramble < canScrambleAir.size()) {
             Collections.sort(canScrambleAir, (o1, o2) -> {
               final double strength1 =
-                  ProBattleUtils.estimateStrength(to, Collections.singletonList(o1), new ArrayList<>(), false);
+                  ProBattleUtils.estimateStrength(proData, to, Collections.singletonList(o1), new ArrayList<>(), false);
               final double strength2 =
-                  ProBattleUtils.estimateStrength(to, Collections.singletonList(o2), new ArrayList<>(), false);
+                  ProBattleUtils.estimateStrength(proData, to, Collections.singletonList(o2), new ArrayList<>(), false);
               return Double.compare(strength2, strength1);
             });
             canScrambleAir = canScrambleAir.subList(0, maxCanScramble);
@@ -262,13 +264,13 @@ public class ProTerritoryManager {
     return maxScrambled;
   }
 
-  private static void findAttackOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findAttackOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList, final List<Territory> enemyTerritories,
       final List<Territory> alliedTerritories, final List<Territory> territoriesToCheck,
       final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
     final List<Territory> territoriesThatCantBeHeld = new ArrayList<>(enemyTerritories);
@@ -296,11 +298,11 @@ public class ProTerritoryManager {
     }
   }
 
-  private static ProOtherMoveOptions findAlliedAttackOptions(final PlayerID player) {
-    final GameData data = ProData.getData();
+  private ProOtherMoveOptions findAlliedAttackOptions(final PlayerID player) {
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerID> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(player);
+    final List<PlayerID> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> alliedAttackMaps = new ArrayList<>();
 
     // Loop through each enemy to determine the maximum number of enemy units that can attack each territory
@@ -316,15 +318,15 @@ public class ProTerritoryManager {
       findAttackOptions(alliedPlayer, alliedUnitTerritories, attackMap, unitAttackMap, transportAttackMap, bombardMap,
           transportMapList, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
     }
-    return new ProOtherMoveOptions(alliedAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, alliedAttackMaps, player, true);
   }
 
-  private static ProOtherMoveOptions findEnemyAttackOptions(final PlayerID player,
+  private ProOtherMoveOptions findEnemyAttackOptions(final PlayerID player,
       final List<Territory> clearedTerritories, final List<Territory> territoriesToCheck) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> enemyAttackMaps = new ArrayList<>();
     final Set<Territory> alliedTerritories = new HashSet<>();
     final List<Territory> enemyTerritories = new ArrayList<>(clearedTerritories);
@@ -345,17 +347,17 @@ public class ProTerritoryManager {
       alliedTerritories.addAll(Match.getMatches(attackMap.keySet(), Matches.TerritoryIsLand));
       enemyTerritories.removeAll(alliedTerritories);
     }
-    return new ProOtherMoveOptions(enemyAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, enemyAttackMaps, player, true);
   }
 
-  private static void findPotentialAttackOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findPotentialAttackOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
-    final List<PlayerID> otherPlayers = ProUtils.getPotentialEnemyPlayers(player);
+    final List<PlayerID> otherPlayers = ProUtils.getPotentialEnemyPlayers(proData, player);
     findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
         ProMatches.territoryIsPotentialEnemyOrHasPotentialEnemyUnits(player, data, otherPlayers), new ArrayList<>(),
         true, false);
@@ -370,11 +372,11 @@ public class ProTerritoryManager {
     findBombardOptions(player, myUnitTerritories, moveMap, bombardMap, transportMapList, false);
   }
 
-  private static void findDefendOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findDefendOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final List<ProTransport> transportMapList,
       final List<Territory> clearedTerritories, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
     findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
@@ -390,11 +392,11 @@ public class ProTerritoryManager {
         Matches.isTerritoryAllied(player, data), false, isCheckingEnemyAttacks, false);
   }
 
-  private static ProOtherMoveOptions findEnemyDefendOptions(final PlayerID player) {
-    final GameData data = ProData.getData();
+  private ProOtherMoveOptions findEnemyDefendOptions(final PlayerID player) {
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> enemyMoveMaps = new ArrayList<>();
     final List<Territory> clearedTerritories =
         Match.getMatches(data.getMap().getTerritories(), Matches.isTerritoryAllied(player, data));
@@ -412,14 +414,14 @@ public class ProTerritoryManager {
           clearedTerritories, true);
     }
 
-    return new ProOtherMoveOptions(enemyMoveMaps, player, false);
+    return new ProOtherMoveOptions(proData, enemyMoveMaps, player, false);
   }
 
-  private static void findNavalMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findNavalMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Match<Territory> moveToTerritoryMatch,
       final List<Territory> clearedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -497,7 +499,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(mySeaUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(mySeaUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -525,12 +527,12 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findLandMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findLandMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Territory, Set<Territory>> landRoutesMap, final Match<Territory> moveToTerritoryMatch,
       final List<Territory> enemyTerritories, final List<Territory> clearedTerritories, final boolean isCombatMove,
       final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -540,7 +542,7 @@ public class ProTerritoryManager {
 
       // Check each land unit individually since they can have different ranges
       for (final Unit myLandUnit : myLandUnits) {
-        final Territory startTerritory = ProData.unitTerritoryMap.get(myLandUnit);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(myLandUnit);
         final int range = TripleAUnit.get(myLandUnit).getMovementLeft();
         Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
             ProMatches.territoryCanMoveSpecificLandUnit(player, data, isCombatMove, myLandUnit));
@@ -592,7 +594,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(myLandUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(myLandUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -610,12 +612,12 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findAirMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findAirMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Match<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
       final List<Territory> alliedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
       final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // TODO: add carriers to landing possibilities for non-enemy attacks
     // Find possible carrier landing territories
@@ -708,7 +710,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(myAirUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(myAirUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -726,11 +728,11 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findAmphibMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findAmphibMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final List<ProTransport> transportMapList,
       final Map<Territory, Set<Territory>> landRoutesMap, final Match<Territory> moveAmphibToTerritoryMatch,
       final boolean isCombatMove, final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -887,7 +889,7 @@ public class ProTerritoryManager {
         if (moveMap.containsKey(moveTerritory)) {
           moveMap.get(moveTerritory).addMaxAmphibUnits(amphibUnits);
         } else {
-          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory);
+          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory, proData);
           moveTerritoryData.addMaxAmphibUnits(amphibUnits);
           moveMap.put(moveTerritory, moveTerritoryData);
         }
@@ -895,10 +897,10 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findBombardOptions(final PlayerID player, final List<Territory> myUnitTerritories,
+  private void findBombardOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all transport unload from and to territories
     final Set<Territory> unloadFromTerritories = new HashSet<>();
@@ -982,7 +984,7 @@ public class ProTerritoryManager {
       final ProOtherMoveOptions enemyDefendOptions, final boolean isIgnoringRelationships) {
 
     ProLogger.info("Removing territories that can't be conquered");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Determine if territory can be successfully attacked with max possible attackers
     final List<Territory> territoriesToRemove = new ArrayList<>();
@@ -995,13 +997,15 @@ public class ProTerritoryManager {
       if (isIgnoringRelationships) {
         defenders = new ArrayList<>(t.getUnits().getUnits());
       }
-      patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, patd.getMaxUnits(), defenders, new HashSet<>()));
+      patd.setMaxBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getMaxUnits(), defenders,
+          new HashSet<>()));
 
       // Add in amphib units if I can't win without them
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage && !patd.getMaxAmphibUnits().isEmpty()) {
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
+          && !patd.getMaxAmphibUnits().isEmpty()) {
         final Set<Unit> combinedUnits = new HashSet<>(patd.getMaxUnits());
         combinedUnits.addAll(patd.getMaxAmphibUnits());
-        patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, new ArrayList<>(combinedUnits), defenders,
+        patd.setMaxBattleResult(calc.estimateAttackBattleResults(proData, t, new ArrayList<>(combinedUnits), defenders,
             patd.getMaxBombardUnits()));
         patd.setNeedAmphibUnits(true);
       }
@@ -1013,7 +1017,7 @@ public class ProTerritoryManager {
           && ((ta != null && ta.isCapital()) || ProMatches.territoryHasInfraFactoryAndIsLand().match(t))) {
         isEnemyCapitalOrFactory = true;
       }
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage && isEnemyCapitalOrFactory
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage() && isEnemyCapitalOrFactory
           && alliedAttackOptions.getMax(t) != null) {
 
         // Check for allied attackers
@@ -1029,7 +1033,7 @@ public class ProTerritoryManager {
 
             // Get max enemy defenders
             final Set<Unit> additionalEnemyDefenders = new HashSet<>();
-            final List<PlayerID> players = ProUtils.getOtherPlayersInTurnOrder(player);
+            final List<PlayerID> players = ProUtils.getOtherPlayersInTurnOrder(proData, player);
             for (final ProTerritory enemyDefendOption : enemyDefendOptions.getAll(t)) {
               final Set<Unit> enemyUnits = new HashSet<>(enemyDefendOption.getMaxUnits());
               enemyUnits.addAll(enemyDefendOption.getMaxAmphibUnits());
@@ -1045,21 +1049,21 @@ public class ProTerritoryManager {
             final Set<Unit> enemyDefendersBeforeStrafe = new HashSet<>(defenders);
             enemyDefendersBeforeStrafe.addAll(additionalEnemyDefenders);
             final ProBattleResult result =
-                calc.estimateAttackBattleResults(t, new ArrayList<>(alliedUnits),
+                calc.estimateAttackBattleResults(proData, t, new ArrayList<>(alliedUnits),
                     new ArrayList<>(enemyDefendersBeforeStrafe), alliedAttack.getMaxBombardUnits());
-            if (result.getWinPercentage() < ProData.winPercentage) {
+            if (result.getWinPercentage() < proData.getWinPercentage()) {
               patd.setStrafing(true);
 
               // Try to strafe to allow allies to conquer territory
               final Set<Unit> combinedUnits = new HashSet<>(patd.getMaxUnits());
               combinedUnits.addAll(patd.getMaxAmphibUnits());
-              final ProBattleResult strafeResult = calc.callBattleCalculator(t, new ArrayList<>(combinedUnits),
+              final ProBattleResult strafeResult = calc.callBattleCalculator(proData, t, new ArrayList<>(combinedUnits),
                   defenders, patd.getMaxBombardUnits(), true);
 
               // Check allied result with strafe
               final Set<Unit> enemyDefendersAfterStrafe = new HashSet<>(strafeResult.getAverageDefendersRemaining());
               enemyDefendersAfterStrafe.addAll(additionalEnemyDefenders);
-              patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, new ArrayList<>(alliedUnits),
+              patd.setMaxBattleResult(calc.estimateAttackBattleResults(proData, t, new ArrayList<>(alliedUnits),
                   new ArrayList<>(enemyDefendersAfterStrafe), alliedAttack.getMaxBombardUnits()));
 
 
@@ -1068,7 +1072,7 @@ public class ProTerritoryManager {
                   + patd.getMaxBattleResult().getWinPercentage() + ", maxAttackers=" + alliedUnits.size()
                   + ", maxDefenders=" + enemyDefendersAfterStrafe.size());
 
-              if (patd.getMaxBattleResult().getWinPercentage() >= ProData.winPercentage) {
+              if (patd.getMaxBattleResult().getWinPercentage() >= proData.getWinPercentage()) {
                 System.out.println(data.getSequence().getRound() + " - " + player.getName() + ". strafing territory: "
                     + t + ", alliedPlayer=" + alliedUnits.iterator().next().getOwner().getName() + ", maxWin%="
                     + patd.getMaxBattleResult().getWinPercentage() + ", maxAttackers=" + alliedUnits.size()
@@ -1079,8 +1083,8 @@ public class ProTerritoryManager {
         }
       }
 
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage
-          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage()
+          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
               || !patd.getMaxBattleResult().isHasLandUnitRemaining()))) {
         territoriesToRemove.add(t);
       }
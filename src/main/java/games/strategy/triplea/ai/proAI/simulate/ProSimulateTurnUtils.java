@@ -39,8 +39,8 @@ import games.strategy.util.Match;
  */
 public class ProSimulateTurnUtils {
 
-  public static void simulateBattles(final GameData data, final PlayerID player, final IDelegateBridge delegateBridge,
-      final ProOddsCalculator calc) {
+  public static void simulateBattles(final ProData proData, final GameData data, final PlayerID player,
+      final IDelegateBridge delegateBridge, final ProOddsCalculator calc) {
 
     ProLogger.info("Starting battle simulation phase");
 
@@ -59,7 +59,7 @@ public class ProSimulateTurnUtils {
         ProLogger.debug("attackers=" + attackers);
         ProLogger.debug("defenders=" + defenders);
         ProLogger.debug("bombardingUnits=" + bombardingUnits);
-        final ProBattleResult result = calc.callBattleCalculator(t, attackers, defenders, bombardingUnits);
+        final ProBattleResult result = calc.callBattleCalculator(proData, t, attackers, defenders, bombardingUnits);
         final List<Unit> remainingUnits = result.getAverageAttackersRemaining();
         ProLogger.debug("remainingUnits=" + remainingUnits);
 
@@ -88,18 +88,18 @@ public class ProSimulateTurnUtils {
     }
   }
 
-  public static Map<Territory, ProTerritory> transferMoveMap(final Map<Territory, ProTerritory> moveMap,
-      final GameData toData, final PlayerID player) {
+  public static Map<Territory, ProTerritory> transferMoveMap(final ProData proData,
+      final Map<Territory, ProTerritory> moveMap, final GameData toData, final PlayerID player) {
 
     ProLogger.info("Transferring move map");
 
-    final Map<Unit, Territory> unitTerritoryMap = ProData.unitTerritoryMap;
+    final Map<Unit, Territory> unitTerritoryMap = proData.getUnitTerritoryMap();
 
     final Map<Territory, ProTerritory> result = new HashMap<>();
     final List<Unit> usedUnits = new ArrayList<>();
     for (final Territory fromTerritory : moveMap.keySet()) {
       final Territory toTerritory = toData.getMap().getTerritory(fromTerritory.getName());
-      final ProTerritory patd = new ProTerritory(toTerritory);
+      final ProTerritory patd = new ProTerritory(toTerritory, proData);
       result.put(toTerritory, patd);
       final Map<Unit, List<Unit>> amphibAttackMap = moveMap.get(fromTerritory).getAmphibAttackMap();
       final Map<Unit, Boolean> isTransportingMap = moveMap.get(fromTerritory).getIsTransportingMap();
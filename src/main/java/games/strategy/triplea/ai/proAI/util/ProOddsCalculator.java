@@ -3,6 +3,7 @@ package games.strategy.triplea.ai.proAI.util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -15,6 +16,7 @@ import games.strategy.triplea.delegate.BattleCalculator;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
+import games.strategy.triplea.oddsCalculator.ta.ConfidenceTarget;
 import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.util.Match;
 
@@ -23,69 +25,94 @@ import games.strategy.util.Match;
  */
 public class ProOddsCalculator {
 
-  private final IOddsCalculator calc;
+  private final Supplier<IOddsCalculator> calcFactory;
+  // created when first used, so AI players that do not play yet do not hold copies of the game data
+  private IOddsCalculator calc = null;
   private boolean isCanceled = false;
 
   public ProOddsCalculator(final IOddsCalculator calc) {
-    this.calc = calc;
+    this(() -> calc);
+  }
+
+  public ProOddsCalculator(final Supplier<IOddsCalculator> calcFactory) {
+    this.calcFactory = calcFactory;
+  }
+
+  private synchronized IOddsCalculator getCalc() {
+    if (calc == null) {
+      calc = calcFactory.get();
+    }
+    return calc;
   }
 
   public void setData(final GameData data) {
-    calc.setGameData(data);
+    getCalc().setGameData(data);
   }
 
   public void cancelCalcs() {
-    calc.cancel();
     isCanceled = true;
+    synchronized (this) {
+      if (calc != null) {
+        calc.cancel();
+      }
+    }
   }
 
-  public ProBattleResult estimateAttackBattleResults(final Territory t,
+  public synchronized void shutdown() {
+    if (calc != null) {
+      calc.shutdown();
+    }
+  }
+
+  public ProBattleResult estimateAttackBattleResults(final ProData proData, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
 
     // Determine if attackers have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference < 45) {
       return new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1);
     }
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+    return callBattleCalculator(proData, t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  public ProBattleResult estimateDefendBattleResults(final Territory t,
+  public ProBattleResult estimateDefendBattleResults(final ProData proData, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
 
     // Determine if defenders have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference > 55) {
       final boolean isLandAndCanOnlyBeAttackedByAir = !t.isWater() && Match.allMatch(attackingUnits, Matches.UnitIsAir);
       return new ProBattleResult(100 + strengthDifference, 999 + strengthDifference, !isLandAndCanOnlyBeAttackedByAir,
           attackingUnits, new ArrayList<>(), 1);
     }
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+    return callBattleCalculator(proData, t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  public ProBattleResult calculateBattleResults(final Territory t,
+  public ProBattleResult calculateBattleResults(final ProData proData, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+    return callBattleCalculator(proData, t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  private static ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
-      final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+  private static ProBattleResult checkIfNoAttackersOrDefenders(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    final GameData data = proData.getData();
 
     final boolean hasNoDefenders = Match.noneMatch(defendingUnits, Matches.UnitIsNotInfrastructure);
     final boolean isLandAndCanOnlyBeAttackedByAir = !t.isWater() && Match.allMatch(attackingUnits, Matches.UnitIsAir);
@@ -103,14 +130,14 @@ public class ProOddsCalculator {
   }
 
 
-  public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
+  public ProBattleResult callBattleCalculator(final ProData proData, final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, false);
+    return callBattleCalculator(proData, t, attackingUnits, defendingUnits, bombardingUnits, false);
   }
 
-  public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
+  public ProBattleResult callBattleCalculator(final ProData proData, final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
@@ -122,13 +149,23 @@ public class ProOddsCalculator {
     final int runCount = Math.max(16, 100 - minArmySize);
     final PlayerID attacker = attackingUnits.get(0).getOwner();
     final PlayerID defender = defendingUnits.get(0).getOwner();
-    if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(true);
-    }
-    results = calc.setCalculateDataAndCalculate(attacker, defender, t, attackingUnits, defendingUnits,
-        new ArrayList<>(bombardingUnits), TerritoryEffectHelper.getEffects(t), runCount);
-    if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(false);
+    final IOddsCalculator calc = getCalc();
+    // stop early if the result is obvious, within 5% of the win percentage and of the TUV at stake
+    final double totalTuv = BattleCalculator.getTUV(attackingUnits, proData.getUnitValueMap())
+        + BattleCalculator.getTUV(defendingUnits, proData.getUnitValueMap());
+    try {
+      if (retreatWhenOnlyAirLeft) {
+        calc.setRetreatWhenOnlyAirLeft(true);
+      }
+      calc.setConfidenceTarget(new ConfidenceTarget(0.05, Math.max(2, 0.05 * totalTuv)));
+      results = calc.setCalculateDataAndCalculate(attacker, defender, t, attackingUnits, defendingUnits,
+          new ArrayList<>(bombardingUnits), TerritoryEffectHelper.getEffects(t), runCount);
+    } finally {
+      // the calculator is shared, the next battle must not stop early or retreat because of this one
+      calc.setConfidenceTarget(null);
+      if (retreatWhenOnlyAirLeft) {
+        calc.setRetreatWhenOnlyAirLeft(false);
+      }
     }
 
     // Find battle result statistics
@@ -141,14 +178,14 @@ public class ProOddsCalculator {
         Match.getMatches(defendingUnits, Matches.UnitCanBeInBattle(false, !t.isWater(), 1, false, true, true));
     double tuvSwing = results.getAverageTUVswing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
     if (Matches.TerritoryIsNeutralButNotWater.match(t)) { // Set TUV swing for neutrals
-      final double attackingUnitValue = BattleCalculator.getTUV(mainCombatAttackers, ProData.unitValueMap);
+      final double attackingUnitValue = BattleCalculator.getTUV(mainCombatAttackers, proData.getUnitValueMap());
       final double remainingUnitValue =
-          results.getAverageTUVofUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+          results.getAverageTUVofUnitsLeftOver(proData.getUnitValueMap(), proData.getUnitValueMap()).getFirst();
       tuvSwing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits = Match.getMatches(defendingUnits, Matches.unitIsBeingTransported());
     if (t.isWater() && !defendingTransportedUnits.isEmpty()) { // Add TUV swing for transported units
-      final double transportedUnitValue = BattleCalculator.getTUV(defendingTransportedUnits, ProData.unitValueMap);
+      final double transportedUnitValue = BattleCalculator.getTUV(defendingTransportedUnits, proData.getUnitValueMap());
       tuvSwing += transportedUnitValue * winPercentage / 100;
     }
 
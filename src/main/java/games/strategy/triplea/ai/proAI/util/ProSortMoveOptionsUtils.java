@@ -25,7 +25,8 @@ import games.strategy.triplea.delegate.UnitBattleComparator;
  */
 public class ProSortMoveOptionsUtils {
 
-  public static Map<Unit, Set<Territory>> sortUnitMoveOptions(final Map<Unit, Set<Territory>> unitAttackOptions) {
+  public static Map<Unit, Set<Territory>> sortUnitMoveOptions(final ProData proData,
+      final Map<Unit, Set<Territory>> unitAttackOptions) {
 
     final List<Map.Entry<Unit, Set<Territory>>> list = new LinkedList<>(unitAttackOptions.entrySet());
     Collections.sort(list, (o1, o2) -> {
@@ -33,10 +34,10 @@ public class ProSortMoveOptionsUtils {
       // Sort by number of move options then cost of unit then unit type
       if (o1.getValue().size() != o2.getValue().size()) {
         return (o1.getValue().size() - o2.getValue().size());
-      } else if (ProData.unitValueMap.getInt(o1.getKey().getType()) != ProData.unitValueMap
+      } else if (proData.getUnitValueMap().getInt(o1.getKey().getType()) != proData.getUnitValueMap()
           .getInt(o2.getKey().getType())) {
-        return (ProData.unitValueMap.getInt(o1.getKey().getType())
-            - ProData.unitValueMap.getInt(o2.getKey().getType()));
+        return (proData.getUnitValueMap().getInt(o1.getKey().getType())
+            - proData.getUnitValueMap().getInt(o2.getKey().getType()));
       }
       return o1.getKey().getType().getName().compareTo(o2.getKey().getType().getName());
     });
@@ -47,10 +48,10 @@ public class ProSortMoveOptionsUtils {
     return sortedUnitAttackOptions;
   }
 
-  public static Map<Unit, Set<Territory>> sortUnitNeededOptions(final PlayerID player,
+  public static Map<Unit, Set<Territory>> sortUnitNeededOptions(final ProData proData, final PlayerID player,
       final Map<Unit, Set<Territory>> unitAttackOptions, final Map<Territory, ProTerritory> attackMap,
       final ProOddsCalculator calc) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Map.Entry<Unit, Set<Territory>>> list = new LinkedList<>(unitAttackOptions.entrySet());
     Collections.sort(list, (o1, o2) -> {
@@ -60,7 +61,7 @@ public class ProSortMoveOptionsUtils {
       for (final Territory t : o1.getValue()) {
         final ProTerritory patd = attackMap.get(t);
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         if (!patd.isCurrentlyWins()) {
@@ -71,7 +72,7 @@ public class ProSortMoveOptionsUtils {
       for (final Territory t : o2.getValue()) {
         final ProTerritory patd = attackMap.get(t);
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         if (!patd.isCurrentlyWins()) {
@@ -83,9 +84,10 @@ public class ProSortMoveOptionsUtils {
       if (numOptions1 != numOptions2) {
         return (numOptions1 - numOptions2);
       }
-      if (ProData.unitValueMap.getInt(o1.getKey().getType()) != ProData.unitValueMap.getInt(o2.getKey().getType())) {
-        return (ProData.unitValueMap.getInt(o1.getKey().getType())
-            - ProData.unitValueMap.getInt(o2.getKey().getType()));
+      if (proData.getUnitValueMap().getInt(o1.getKey().getType()) != proData.getUnitValueMap()
+          .getInt(o2.getKey().getType())) {
+        return (proData.getUnitValueMap().getInt(o1.getKey().getType())
+            - proData.getUnitValueMap().getInt(o2.getKey().getType()));
       }
       return o1.getKey().getType().getName().compareTo(o2.getKey().getType().getName());
     });
@@ -96,10 +98,10 @@ public class ProSortMoveOptionsUtils {
     return sortedUnitAttackOptions;
   }
 
-  public static Map<Unit, Set<Territory>> sortUnitNeededOptionsThenAttack(final PlayerID player,
+  public static Map<Unit, Set<Territory>> sortUnitNeededOptionsThenAttack(final ProData proData, final PlayerID player,
       final Map<Unit, Set<Territory>> unitAttackOptions, final Map<Territory, ProTerritory> attackMap,
       final Map<Unit, Territory> unitTerritoryMap, final ProOddsCalculator calc) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Map.Entry<Unit, Set<Territory>>> list = new LinkedList<>(unitAttackOptions.entrySet());
     Collections.sort(list, (o1, o2) -> {
@@ -109,7 +111,7 @@ public class ProSortMoveOptionsUtils {
       for (final Territory t : o1.getValue()) {
         final ProTerritory patd = attackMap.get(t);
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         if (!patd.isCurrentlyWins()) {
@@ -120,7 +122,7 @@ public class ProSortMoveOptionsUtils {
       for (final Territory t : o2.getValue()) {
         final ProTerritory patd = attackMap.get(t);
         if (patd.getBattleResult() == null) {
-          patd.setBattleResult(calc.estimateAttackBattleResults(t, patd.getUnits(),
+          patd.setBattleResult(calc.estimateAttackBattleResults(proData, t, patd.getUnits(),
               patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
         }
         if (!patd.isCurrentlyWins()) {
@@ -140,14 +142,14 @@ public class ProSortMoveOptionsUtils {
         if (!attackMap.get(t).isCurrentlyWins()) {
           final List<Unit> defendingUnits = t.getUnits().getMatches(Matches.enemyUnit(player, data));
           final List<Unit> sortedUnitsList = new ArrayList<>(attackMap.get(t).getUnits());
-          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWithout =
               DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList, defendingUnits,
                   false, false, data, t, TerritoryEffectHelper.getEffects(t), false, null), data);
           sortedUnitsList.add(o1.getKey());
-          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWith = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
@@ -162,20 +164,20 @@ public class ProSortMoveOptionsUtils {
       if (ua1.getIsAir()) {
         minPower1 *= 10;
       }
-      final double attackEfficiency1 = (double) minPower1 / ProData.unitValueMap.getInt(o1.getKey().getType());
+      final double attackEfficiency1 = (double) minPower1 / proData.getUnitValueMap().getInt(o1.getKey().getType());
       int minPower2 = Integer.MAX_VALUE;
       for (final Territory t : o2.getValue()) {
         if (!attackMap.get(t).isCurrentlyWins()) {
           final List<Unit> defendingUnits = t.getUnits().getMatches(Matches.enemyUnit(player, data));
           final List<Unit> sortedUnitsList = new ArrayList<>(attackMap.get(t).getUnits());
-          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWithout =
               DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList, defendingUnits,
                   false, false, data, t, TerritoryEffectHelper.getEffects(t), false, null), data);
           sortedUnitsList.add(o2.getKey());
-          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+          Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWith = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
@@ -190,7 +192,7 @@ public class ProSortMoveOptionsUtils {
       if (ua2.getIsAir()) {
         minPower2 *= 10;
       }
-      final double attackEfficiency2 = (double) minPower2 / ProData.unitValueMap.getInt(o2.getKey().getType());
+      final double attackEfficiency2 = (double) minPower2 / proData.getUnitValueMap().getInt(o2.getKey().getType());
       if (attackEfficiency1 != attackEfficiency2) {
         if (attackEfficiency1 < attackEfficiency2) {
           return 1;
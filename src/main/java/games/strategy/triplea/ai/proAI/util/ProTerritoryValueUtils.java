@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Set;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.OrdinalMap;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
@@ -26,42 +27,45 @@ public class ProTerritoryValueUtils {
   private static int MIN_FACTORY_CHECK_DISTANCE = 9;
   private static int MAX_FACTORY_CHECK_DISTANCE = 30;
 
-  public static double findTerritoryAttackValue(final PlayerID player, final Territory t) {
-    final GameData data = ProData.getData();
+  public static double findTerritoryAttackValue(final ProData proData, final PlayerID player, final Territory t) {
+    final GameData data = proData.getData();
     final int isEnemyFactory = ProMatches.territoryHasInfraFactoryAndIsEnemyLand(player, data).match(t) ? 1 : 0;
     double value = 3 * TerritoryAttachment.getProduction(t) * (isEnemyFactory + 1);
     if (!t.isWater() && t.getOwner().isNull()) {
       final double strength =
-          ProBattleUtils.estimateStrength(t, new ArrayList<>(t.getUnits().getUnits()), new ArrayList<>(), false);
+          ProBattleUtils.estimateStrength(proData, t, new ArrayList<>(t.getUnits().getUnits()), new ArrayList<>(),
+              false);
 
       // Estimate TUV swing as number of casualties * cost
-      final double tuvSwing = -(strength / 8) * ProData.minCostPerHitPoint;
+      final double tuvSwing = -(strength / 8) * proData.getMinCostPerHitPoint();
       value += tuvSwing;
     }
 
     return value;
   }
 
-  public static Map<Territory, Double> findTerritoryValues(final PlayerID player,
+  public static Map<Territory, Double> findTerritoryValues(final ProData proData, final PlayerID player,
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack) {
 
-    return findTerritoryValues(player, territoriesThatCantBeHeld, territoriesToAttack,
-        new HashSet<>(ProData.getData().getMap().getTerritories()));
+    return findTerritoryValues(proData, player, territoriesThatCantBeHeld, territoriesToAttack,
+        new HashSet<>(proData.getData().getMap().getTerritories()));
   }
 
-  public static Map<Territory, Double> findTerritoryValues(final PlayerID player,
+  public static Map<Territory, Double> findTerritoryValues(final ProData proData, final PlayerID player,
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack,
       final Set<Territory> territoriesToCheck) {
 
-    final int maxLandMassSize = findMaxLandMassSize(player);
+    final int maxLandMassSize = findMaxLandMassSize(proData, player);
 
     final Map<Territory, Double> enemyCapitalsAndFactoriesMap =
-        findEnemyCapitalsAndFactoriesValue(player, maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
+        findEnemyCapitalsAndFactoriesValue(proData, player, maxLandMassSize, territoriesThatCantBeHeld,
+            territoriesToAttack);
 
-    final Map<Territory, Double> territoryValueMap = new HashMap<>();
+    final Map<Territory, Double> territoryValueMap =
+        new OrdinalMap<>(proData.getData().getMap().getTerritories().size());
     for (final Territory t : territoriesToCheck) {
       if (!t.isWater()) {
-        final double value = findLandValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
+        final double value = findLandValue(proData, t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
             territoriesThatCantBeHeld, territoriesToAttack);
         territoryValueMap.put(t, value);
       }
@@ -69,7 +73,7 @@ public class ProTerritoryValueUtils {
 
     for (final Territory t : territoriesToCheck) {
       if (t.isWater()) {
-        final double value = findWaterValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
+        final double value = findWaterValue(proData, t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
             territoriesThatCantBeHeld, territoriesToAttack, territoryValueMap);
         territoryValueMap.put(t, value);
       }
@@ -78,12 +82,12 @@ public class ProTerritoryValueUtils {
     return territoryValueMap;
   }
 
-  public static Map<Territory, Double> findSeaTerritoryValues(final PlayerID player,
+  public static Map<Territory, Double> findSeaTerritoryValues(final ProData proData, final PlayerID player,
       final List<Territory> territoriesThatCantBeHeld) {
 
     // Determine value for water territories
-    final Map<Territory, Double> territoryValueMap = new HashMap<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
+    final Map<Territory, Double> territoryValueMap = new OrdinalMap<>(data.getMap().getTerritories().size());
     for (final Territory t : data.getMap().getTerritories()) {
       if (!territoriesThatCantBeHeld.contains(t) && t.isWater()
           && !data.getMap().getNeighbors(t, Matches.TerritoryIsWater).isEmpty()) {
@@ -136,9 +140,9 @@ public class ProTerritoryValueUtils {
     return territoryValueMap;
   }
 
-  private static int findMaxLandMassSize(final PlayerID player) {
+  private static int findMaxLandMassSize(final ProData proData, final PlayerID player) {
     int maxLandMassSize = 1;
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     for (final Territory t : data.getMap().getTerritories()) {
       if (!t.isWater()) {
         final int landMassSize = 1 + data.getMap()
@@ -152,23 +156,24 @@ public class ProTerritoryValueUtils {
     return maxLandMassSize;
   }
 
-  private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final PlayerID player,
+  private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final ProData proData, final PlayerID player,
       final int maxLandMassSize, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack) {
 
     // Get all enemy factories and capitals (check if most territories have factories and if so remove them)
     final Set<Territory> enemyCapitalsAndFactories = new HashSet<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final List<Territory> allTerritories = data.getMap().getTerritories();
     enemyCapitalsAndFactories.addAll(
         Match.getMatches(allTerritories, ProMatches.territoryHasInfraFactoryAndIsOwnedByPlayersOrCantBeHeld(player,
-            ProUtils.getPotentialEnemyPlayers(player), territoriesThatCantBeHeld)));
+            ProUtils.getPotentialEnemyPlayers(proData, player), territoriesThatCantBeHeld)));
     final int numPotentialEnemyTerritories =
-        Match.countMatches(allTerritories, Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(player)));
+        Match.countMatches(allTerritories,
+            Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(proData, player)));
     if (enemyCapitalsAndFactories.size() * 2 >= numPotentialEnemyTerritories) {
       enemyCapitalsAndFactories.clear();
     }
-    enemyCapitalsAndFactories.addAll(ProUtils.getLiveEnemyCapitals(data, player));
+    enemyCapitalsAndFactories.addAll(ProUtils.getLiveEnemyCapitals(proData, data, player));
     enemyCapitalsAndFactories.removeAll(territoriesToAttack);
 
     // Find value for each enemy capital and factory
@@ -200,7 +205,8 @@ public class ProTerritoryValueUtils {
     return enemyCapitalsAndFactoriesMap;
   }
 
-  private static double findLandValue(final Territory t, final PlayerID player, final int maxLandMassSize,
+  private static double findLandValue(final ProData proData, final Territory t, final PlayerID player,
+      final int maxLandMassSize,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack) {
 
@@ -210,9 +216,9 @@ public class ProTerritoryValueUtils {
 
     // Determine value based on enemy factory land distance
     final List<Double> values = new ArrayList<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
+        findNearbyEnemyCapitalsAndFactories(proData, t, enemyCapitalsAndFactoriesMap);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
       final int distance = data.getMap().getDistance(t, enemyCapitalOrFactory,
           ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
@@ -239,7 +245,7 @@ public class ProTerritoryValueUtils {
       if (distance > 0) {
         double value = TerritoryAttachment.getProduction(nearbyEnemyTerritory);
         if (nearbyEnemyTerritory.getOwner().isNull()) {
-          value = findTerritoryAttackValue(player, nearbyEnemyTerritory) / 3; // find neutral value
+          value = findTerritoryAttackValue(proData, player, nearbyEnemyTerritory) / 3; // find neutral value
         } else if (ProMatches.territoryIsAlliedLandAndHasNoEnemyNeighbors(player, data).match(nearbyEnemyTerritory)) {
           value *= 0.1; // reduce value for can't hold amphib allied territories
         }
@@ -258,11 +264,12 @@ public class ProTerritoryValueUtils {
     return value;
   }
 
-  private static double findWaterValue(final Territory t, final PlayerID player, final int maxLandMassSize,
+  private static double findWaterValue(final ProData proData, final Territory t, final PlayerID player,
+      final int maxLandMassSize,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack, final Map<Territory, Double> territoryValueMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     if (territoriesThatCantBeHeld.contains(t) || data.getMap().getNeighbors(t, Matches.TerritoryIsWater).isEmpty()) {
       return 0.0;
     }
@@ -270,7 +277,7 @@ public class ProTerritoryValueUtils {
     // Determine value based on enemy factory distance
     final List<Double> values = new ArrayList<>();
     final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
+        findNearbyEnemyCapitalsAndFactories(proData, t, enemyCapitalsAndFactoriesMap);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
       final Route route = data.getMap().getRoute_IgnoreEnd(t, enemyCapitalOrFactory,
           ProMatches.territoryCanMoveSeaUnits(player, data, true));
@@ -306,13 +313,13 @@ public class ProTerritoryValueUtils {
             .match(nearbyLandTerritory)) {
           double value = TerritoryAttachment.getProduction(nearbyLandTerritory);
           if (nearbyLandTerritory.getOwner().isNull()) {
-            value = findTerritoryAttackValue(player, nearbyLandTerritory);
+            value = findTerritoryAttackValue(proData, player, nearbyLandTerritory);
           }
           nearbyLandValue += value;
         }
         if (!territoryValueMap.containsKey(nearbyLandTerritory)) {
-          final double value = findLandValue(nearbyLandTerritory, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
-              territoriesThatCantBeHeld, territoriesToAttack);
+          final double value = findLandValue(proData, nearbyLandTerritory, player, maxLandMassSize,
+              enemyCapitalsAndFactoriesMap, territoriesThatCantBeHeld, territoriesToAttack);
           territoryValueMap.put(nearbyLandTerritory, value);
         }
         nearbyLandValue += territoryValueMap.get(nearbyLandTerritory);
@@ -323,12 +330,12 @@ public class ProTerritoryValueUtils {
     return value;
   }
 
-  private static Set<Territory> findNearbyEnemyCapitalsAndFactories(final Territory t,
+  private static Set<Territory> findNearbyEnemyCapitalsAndFactories(final ProData proData, final Territory t,
       final Map<Territory, Double> enemyCapitalsAndFactoriesMap) {
 
     Set<Territory> nearbyEnemyCapitalsAndFactories = new HashSet<>();
     for (int i = MIN_FACTORY_CHECK_DISTANCE; i <= MAX_FACTORY_CHECK_DISTANCE; i++) {
-      nearbyEnemyCapitalsAndFactories = ProData.getData().getMap().getNeighbors(t, i);
+      nearbyEnemyCapitalsAndFactories = proData.getData().getMap().getNeighbors(t, i);
       nearbyEnemyCapitalsAndFactories.retainAll(enemyCapitalsAndFactoriesMap.keySet());
       if (!nearbyEnemyCapitalsAndFactories.isEmpty()) {
         break;
@@ -147,9 +147,9 @@ public class ProTransportUtils {
     return transportCost;
   }
 
-  public static List<Unit> getAirThatCantLandOnCarrier(final PlayerID player, final Territory t,
+  public static List<Unit> getAirThatCantLandOnCarrier(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> units) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int capacity = AirMovementValidator.carrierCapacity(units, t);
     final Collection<Unit> airUnits = Match.getMatches(units, ProMatches.unitIsAlliedAir(player, data));
@@ -168,9 +168,9 @@ public class ProTransportUtils {
     return airThatCantLand;
   }
 
-  public static boolean validateCarrierCapacity(final PlayerID player, final Territory t,
+  public static boolean validateCarrierCapacity(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> existingUnits, final Unit newUnit) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int capacity = AirMovementValidator.carrierCapacity(existingUnits, t);
     final Collection<Unit> airUnits = Match.getMatches(existingUnits, ProMatches.unitIsAlliedAir(player, data));
@@ -185,9 +185,9 @@ public class ProTransportUtils {
     return capacity >= 0;
   }
 
-  public static int getUnusedLocalCarrierCapacity(final PlayerID player, final Territory t,
+  public static int getUnusedLocalCarrierCapacity(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> unitsToPlace) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find nearby carrier capacity
     final Set<Territory> nearbyTerritories =
@@ -29,9 +29,9 @@ import games.strategy.util.ThreadUtil;
  */
 public class ProUtils {
 
-  public static Map<Unit, Territory> createUnitTerritoryMap() {
+  public static Map<Unit, Territory> createUnitTerritoryMap(final ProData proData) {
     final Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
-    for (final Territory t : ProData.getData().getMap().getTerritories()) {
+    for (final Territory t : proData.getData().getMap().getTerritories()) {
       for (final Unit u : t.getUnits().getUnits()) {
         unitTerritoryMap.put(u, t);
       }
@@ -39,8 +39,8 @@ public class ProUtils {
     return unitTerritoryMap;
   }
 
-  public static List<PlayerID> getOtherPlayersInTurnOrder(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerID> getOtherPlayersInTurnOrder(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> players = new ArrayList<>();
     final GameSequence sequence = data.getSequence();
     final int startIndex = sequence.getStepIndex();
@@ -59,9 +59,9 @@ public class ProUtils {
     return players;
   }
 
-  public static List<PlayerID> getAlliedPlayersInTurnOrder(final PlayerID player) {
-    final GameData data = ProData.getData();
-    final List<PlayerID> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerID> getAlliedPlayersInTurnOrder(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
+    final List<PlayerID> players = getOtherPlayersInTurnOrder(proData, player);
     for (final Iterator<PlayerID> it = players.iterator(); it.hasNext();) {
       final PlayerID currentPlayer = it.next();
       if (!data.getRelationshipTracker().isAllied(player, currentPlayer)) {
@@ -71,9 +71,9 @@ public class ProUtils {
     return players;
   }
 
-  public static List<PlayerID> getEnemyPlayersInTurnOrder(final PlayerID player) {
-    final GameData data = ProData.getData();
-    final List<PlayerID> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerID> getEnemyPlayersInTurnOrder(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
+    final List<PlayerID> players = getOtherPlayersInTurnOrder(proData, player);
     for (final Iterator<PlayerID> it = players.iterator(); it.hasNext();) {
       final PlayerID currentPlayer = it.next();
       if (data.getRelationshipTracker().isAllied(player, currentPlayer)) {
@@ -95,8 +95,8 @@ public class ProUtils {
     return true;
   }
 
-  private static List<PlayerID> getEnemyPlayers(final PlayerID player) {
-    final GameData data = ProData.getData();
+  private static List<PlayerID> getEnemyPlayers(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> enemyPlayers = new ArrayList<>();
     for (final PlayerID players : data.getPlayerList().getPlayers()) {
       if (!data.getRelationshipTracker().isAllied(player, players)) {
@@ -106,8 +106,8 @@ public class ProUtils {
     return enemyPlayers;
   }
 
-  private static List<PlayerID> getAlliedPlayers(final PlayerID player) {
-    final GameData data = ProData.getData();
+  private static List<PlayerID> getAlliedPlayers(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> alliedPlayers = new ArrayList<>();
     for (final PlayerID players : data.getPlayerList().getPlayers()) {
       if (data.getRelationshipTracker().isAllied(player, players)) {
@@ -117,13 +117,13 @@ public class ProUtils {
     return alliedPlayers;
   }
 
-  public static List<PlayerID> getPotentialEnemyPlayers(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerID> getPotentialEnemyPlayers(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> otherPlayers = data.getPlayerList().getPlayers();
     for (final Iterator<PlayerID> it = otherPlayers.iterator(); it.hasNext();) {
       final PlayerID otherPlayer = it.next();
       final RelationshipType relation = data.getRelationshipTracker().getRelationshipType(player, otherPlayer);
-      if (Matches.RelationshipTypeIsAllied.match(relation) || isNeutralPlayer(otherPlayer)) {
+      if (Matches.RelationshipTypeIsAllied.match(relation) || isNeutralPlayer(proData, otherPlayer)) {
         it.remove();
       }
     }
@@ -142,21 +142,23 @@ public class ProUtils {
     return rVal;
   }
 
-  public static List<Territory> getLiveEnemyCapitals(final GameData data, final PlayerID player) {
+  public static List<Territory> getLiveEnemyCapitals(final ProData proData, final GameData data,
+      final PlayerID player) {
     final List<Territory> enemyCapitals = new ArrayList<>();
-    final List<PlayerID> ePlayers = getEnemyPlayers(player);
+    final List<PlayerID> ePlayers = getEnemyPlayers(proData, player);
     for (final PlayerID otherPlayer : ePlayers) {
       enemyCapitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(otherPlayer, data));
     }
     enemyCapitals.retainAll(Match.getMatches(enemyCapitals, Matches.TerritoryIsNotImpassableToLandUnits(player, data)));
-    enemyCapitals
-        .retainAll(Match.getMatches(enemyCapitals, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player))));
+    enemyCapitals.retainAll(
+        Match.getMatches(enemyCapitals, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(proData, player))));
     return enemyCapitals;
   }
 
-  public static List<Territory> getLiveAlliedCapitals(final GameData data, final PlayerID player) {
+  public static List<Territory> getLiveAlliedCapitals(final ProData proData, final GameData data,
+      final PlayerID player) {
     final List<Territory> capitals = new ArrayList<>();
-    final List<PlayerID> players = getAlliedPlayers(player);
+    final List<PlayerID> players = getAlliedPlayers(proData, player);
     for (final PlayerID alliedPlayer : players) {
       capitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(alliedPlayer, data));
     }
@@ -165,12 +167,12 @@ public class ProUtils {
     return capitals;
   }
 
-  public static int getClosestEnemyLandTerritoryDistance(final GameData data, final PlayerID player,
-      final Territory t) {
+  public static int getClosestEnemyLandTerritoryDistance(final ProData proData, final GameData data,
+      final PlayerID player, final Territory t) {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     final List<Territory> enemyLandTerritories =
-        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player)));
+        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(proData, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       final int distance = data.getMap().getDistance(t, enemyLandTerritory,
@@ -186,12 +188,12 @@ public class ProUtils {
     }
   }
 
-  public static int getClosestEnemyOrNeutralLandTerritoryDistance(final GameData data, final PlayerID player,
-      final Territory t, final Map<Territory, Double> territoryValueMap) {
+  public static int getClosestEnemyOrNeutralLandTerritoryDistance(final ProData proData, final GameData data,
+      final PlayerID player, final Territory t, final Map<Territory, Double> territoryValueMap) {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     final List<Territory> enemyLandTerritories =
-        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(player)));
+        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(proData, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       if (territoryValueMap.get(enemyLandTerritory) <= 0) {
@@ -248,8 +250,8 @@ public class ProUtils {
     return false;
   }
 
-  public static boolean isNeutralPlayer(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static boolean isNeutralPlayer(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     for (final GameStep gameStep : data.getSequence()) {
       if (player.equals(gameStep.getPlayerID())) {
         return false;
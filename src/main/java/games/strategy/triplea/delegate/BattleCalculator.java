@@ -633,6 +633,17 @@ public class BattleCalculator {
     return killed;
   }
 
+  /**
+   * Returns the given units in the order they would be taken as default casualties, the first unit being the first one
+   * to die. Extra hit points are not taken into account, they are always used up before any unit is killed.
+   */
+  public static List<Unit> getDefaultCasualtyOrder(final Collection<Unit> targetsToPickFrom, final boolean defending,
+      final PlayerID player, final Collection<Unit> enemyUnits, final Territory battlesite,
+      final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+    return sortUnitsForCasualtiesWithSupport(targetsToPickFrom, defending, player, enemyUnits, false,
+        Collections.emptyList(), battlesite, getCostsForTUV(player, data), territoryEffects, data, true);
+  }
+
   /**
    * A unit with two hitpoints will be listed twice if they will die. The first time they are listed it is as damaged.
    * The second time they
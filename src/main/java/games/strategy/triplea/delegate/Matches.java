@@ -20,6 +20,7 @@ import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.UnitTypeMatch;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.TripleAUnit;
@@ -83,12 +84,12 @@ public class Matches {
       return o != null && o instanceof Territory;
     }
   };
-  public static final Match<Unit> UnitHasMoreThanOneHitPointTotal = new Match<Unit>() {
+  public static final Match<Unit> UnitHasMoreThanOneHitPointTotal = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      return UnitTypeHasMoreThanOneHitPointTotal.match(unit.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeHasMoreThanOneHitPointTotal.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeHasMoreThanOneHitPointTotal = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType ut) {
@@ -110,54 +111,55 @@ public class Matches {
       return ua.getHitPoints() - unit.getHits() <= 1;
     }
   };
-  public static final Match<Unit> UnitIsSea = new Match<Unit>() {
+  public static final Match<Unit> UnitIsSea = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsSea();
     }
-  };
-  public static final Match<Unit> UnitIsSub = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsSub = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsSub();
     }
-  };
+  });
   public static final Match<Unit> UnitIsNotSub = new InverseMatch<>(UnitIsSub);
-  public static final Match<Unit> UnitIsCombatTransport = new Match<Unit>() {
+  public static final Match<Unit> UnitIsCombatTransport = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return (ua.getIsCombatTransport() && ua.getIsSea());
     }
-  };
+  });
   public static final Match<Unit> UnitIsNotCombatTransport = new InverseMatch<>(UnitIsCombatTransport);
-  public static final Match<Unit> UnitIsTransportButNotCombatTransport = new Match<Unit>() {
+  public static final Match<Unit> UnitIsTransportButNotCombatTransport = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return (ua.getTransportCapacity() != -1 && ua.getIsSea() && !ua.getIsCombatTransport());
     }
-  };
-  public static final Match<Unit> UnitIsNotTransportButCouldBeCombatTransport = new Match<Unit>() {
-    @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      if (ua.getTransportCapacity() == -1) {
-        return true;
-      } else {
-        return ua.getIsCombatTransport() && ua.getIsSea();
-      }
-    }
-  };
-  public static final Match<Unit> UnitIsDestroyer = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsNotTransportButCouldBeCombatTransport =
+      new UnitTypeMatch(new Match<UnitType>() {
+        @Override
+        public boolean match(final UnitType type) {
+          final UnitAttachment ua = UnitAttachment.get(type);
+          if (ua.getTransportCapacity() == -1) {
+            return true;
+          } else {
+            return ua.getIsCombatTransport() && ua.getIsSea();
+          }
+        }
+      });
+  public static final Match<Unit> UnitIsDestroyer = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsDestroyer();
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsDestroyer = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType type) {
@@ -165,13 +167,13 @@ public class Matches {
       return ua.getIsDestroyer();
     }
   };
-  public static final Match<Unit> UnitIsTransport = new Match<Unit>() {
+  public static final Match<Unit> UnitIsTransport = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return (ua.getTransportCapacity() != -1 && ua.getIsSea());
     }
-  };
+  });
   public static final Match<Unit> UnitIsNotTransport = UnitIsTransport.invert();
   public static final Match<Unit> UnitIsTransportAndNotDestroyer = new Match<Unit>() {
     @Override
@@ -190,12 +192,12 @@ public class Matches {
       return ua.getIsStrategicBomber();
     }
   };
-  public static final Match<Unit> UnitIsStrategicBomber = new Match<Unit>() {
+  public static final Match<Unit> UnitIsStrategicBomber = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsStrategicBomber.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsStrategicBomber.match(type);
     }
-  };
+  });
   public static final Match<Unit> UnitIsNotStrategicBomber = new InverseMatch<>(UnitIsStrategicBomber);
   public static final Match<UnitType> UnitTypeCanLandOnCarrier = new Match<UnitType>() {
     @Override
@@ -260,14 +262,7 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitIsNotSea = new Match<Unit>() {
-    @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return !ua.getIsSea();
-    }
-  };
+  public static final Match<Unit> UnitIsNotSea = new InverseMatch<>(UnitIsSea);
   public static final Match<UnitType> UnitTypeIsSea = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -296,20 +291,14 @@ public class Matches {
       return (ua.getCarrierCapacity() != -1);
     }
   };
-  public static final Match<Unit> UnitIsAir = new Match<Unit>() {
+  public static final Match<Unit> UnitIsAir = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsAir();
     }
-  };
-  public static final Match<Unit> UnitIsNotAir = new Match<Unit>() {
-    @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return !ua.getIsAir();
-    }
-  };
+  });
+  public static final Match<Unit> UnitIsNotAir = new InverseMatch<>(UnitIsAir);
 
   public static Match<UnitType> unitTypeCanBombard(final PlayerID id) {
     return new Match<UnitType>() {
@@ -413,19 +402,19 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitIsAirBase = new Match<Unit>() {
+  public static final Match<Unit> UnitIsAirBase = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsAirBase();
     }
-  };
-  public static final Match<Unit> UnitCanBeDamaged = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitCanBeDamaged = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      return UnitTypeCanBeDamaged.match(unit.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeCanBeDamaged.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeCanBeDamaged = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType ut) {
@@ -497,22 +486,22 @@ public class Matches {
     }
   };
   public static Match<Unit> UnitIsNotDisabled = new InverseMatch<>(UnitIsDisabled);
-  public static final Match<Unit> UnitCanDieFromReachingMaxDamage = new Match<Unit>() {
+  public static final Match<Unit> UnitCanDieFromReachingMaxDamage = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       if (!ua.getCanBeDamaged()) {
         return false;
       }
       return ua.getCanDieFromReachingMaxDamage();
     }
-  };
-  public static final Match<Unit> UnitIsInfrastructure = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsInfrastructure = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      return UnitTypeIsInfrastructure.match(unit.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsInfrastructure.match(type);
     }
-  };
+  });
   public static final Match<Unit> UnitIsNotInfrastructure = new InverseMatch<>(UnitIsInfrastructure);
   public static final Match<UnitType> UnitTypeIsInfrastructure = new Match<UnitType>() {
     @Override
@@ -564,13 +553,13 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitCanScramble = new Match<Unit>() {
+  public static final Match<Unit> UnitCanScramble = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getCanScramble();
     }
-  };
+  });
   public static final Match<Unit> UnitWasScrambled = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
@@ -611,14 +600,13 @@ public class Matches {
       return ua.getCanBlitz(obj.getOwner());
     }
   };
-  public static final Match<Unit> UnitIsLandTransport = new Match<Unit>() {
+  public static final Match<Unit> UnitIsLandTransport = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsLandTransport();
     }
-  };
+  });
 
   static Match<Unit> UnitIsNotInfrastructureAndNotCapturedOnEntering(final PlayerID player,
       final Territory terr, final GameData data) {
@@ -633,22 +621,20 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitIsSuicide = new Match<Unit>() {
+  public static final Match<Unit> UnitIsSuicide = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsSuicide();
     }
-  };
-  public static final Match<Unit> UnitIsKamikaze = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsKamikaze = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsKamikaze();
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsAir = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -665,29 +651,27 @@ public class Matches {
       return !ua.getIsAir();
     }
   };
-  public static final Match<Unit> UnitCanLandOnCarrier = new Match<Unit>() {
+  public static final Match<Unit> UnitCanLandOnCarrier = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getCarrierCost() != -1;
     }
-  };
-  public static final Match<Unit> UnitIsCarrier = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsCarrier = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getCarrierCapacity() != -1;
     }
-  };
+  });
 
   static Match<Territory> TerritoryHasOwnedCarrier(final PlayerID player) {
+    final Match<Unit> ownedCarrier = new CompositeMatchAnd<>(Matches.UnitIsCarrier, Matches.unitIsOwnedBy(player));
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits()
-            .someMatch(new CompositeMatchAnd<>(Matches.unitIsOwnedBy(player), Matches.UnitIsCarrier));
+        return t.getUnits().someMatch(ownedCarrier);
       }
     };
   }
@@ -703,14 +687,13 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitCanBeTransported = new Match<Unit>() {
+  public static final Match<Unit> UnitCanBeTransported = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getTransportCost() != -1;
     }
-  };
+  });
   public static final Match<Unit> UnitCanNotBeTransported = new InverseMatch<>(UnitCanBeTransported);
   public static final Match<Unit> UnitWasAmphibious = new Match<Unit>() {
     @Override
@@ -742,14 +725,13 @@ public class Matches {
     }
   };
   public static final Match<Unit> UnitWasNotLoadedThisTurn = new InverseMatch<>(UnitWasLoadedThisTurn);
-  public static final Match<Unit> UnitCanTransport = new Match<Unit>() {
+  public static final Match<Unit> UnitCanTransport = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getTransportCapacity() != -1;
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeCanTransport = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -766,12 +748,12 @@ public class Matches {
       return ua.getTransportCost() != -1;
     }
   };
-  public static final Match<Unit> UnitCanProduceUnits = new Match<Unit>() {
+  public static final Match<Unit> UnitCanProduceUnits = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeCanProduceUnits.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeCanProduceUnits.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeCanProduceUnits = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -802,13 +784,12 @@ public class Matches {
       return ua.getArtillery();
     }
   };
-  public static final Match<Unit> UnitHasMaxBuildRestrictions = new Match<Unit>() {
+  public static final Match<Unit> UnitHasMaxBuildRestrictions = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getType();
+    public boolean match(final UnitType type) {
       return UnitTypeHasMaxBuildRestrictions.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeHasMaxBuildRestrictions = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -817,12 +798,12 @@ public class Matches {
       return ua.getMaxBuiltPerPlayer() >= 0;
     }
   };
-  public static final Match<Unit> UnitIsRocket = new Match<Unit>() {
+  public static final Match<Unit> UnitIsRocket = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsRocket.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsRocket.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsRocket = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -830,36 +811,33 @@ public class Matches {
       return ua.getIsRocket();
     }
   };
-  public static final Match<Unit> UnitHasPlacementLimit = new Match<Unit>() {
+  public static final Match<Unit> UnitHasPlacementLimit = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getPlacementLimit() != null;
     }
-  };
-  public static final Match<Unit> UnitHasMovementLimit = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitHasMovementLimit = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getMovementLimit() != null;
     }
-  };
-  public static final Match<Unit> UnitHasAttackingLimit = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitHasAttackingLimit = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getAttackingLimit() != null;
     }
-  };
-  public static final Match<Unit> UnitCanNotMoveDuringCombatMove = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitCanNotMoveDuringCombatMove = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeCanNotMoveDuringCombatMove.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeCanNotMoveDuringCombatMove.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeCanNotMoveDuringCombatMove = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType type) {
@@ -898,12 +876,13 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitAAShotDamageableInsteadOfKillingInstantly = new Match<Unit>() {
-    @Override
-    public boolean match(final Unit obj) {
-      return UnitAttachment.get(obj.getType()).getDamageableAA();
-    }
-  };
+  public static final Match<Unit> UnitAAShotDamageableInsteadOfKillingInstantly =
+      new UnitTypeMatch(new Match<UnitType>() {
+        @Override
+        public boolean match(final UnitType type) {
+          return UnitAttachment.get(type).getDamageableAA();
+        }
+      });
 
   private static Match<Unit> UnitIsAAthatWillNotFireIfPresentEnemyUnits(final Collection<Unit> enemyUnitsPresent) {
     return new Match<Unit>() {
@@ -951,12 +930,12 @@ public class Matches {
             : UnitOffensiveAttackAAisGreaterThanZeroAndMaxAAattacksIsNotZero));
   }
 
-  public static final Match<Unit> UnitIsAAforCombatOnly = new Match<Unit>() {
+  public static final Match<Unit> UnitIsAAforCombatOnly = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsAAforCombatOnly.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsAAforCombatOnly.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsAAforCombatOnly = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -964,12 +943,12 @@ public class Matches {
       return ua.getIsAAforCombatOnly();
     }
   };
-  public static final Match<Unit> UnitIsAAforBombingThisUnitOnly = new Match<Unit>() {
+  public static final Match<Unit> UnitIsAAforBombingThisUnitOnly = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsAAforBombingThisUnitOnly.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsAAforBombingThisUnitOnly.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsAAforBombingThisUnitOnly = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -977,12 +956,12 @@ public class Matches {
       return ua.getIsAAforBombingThisUnitOnly();
     }
   };
-  public static final Match<Unit> UnitIsAAforFlyOverOnly = new Match<Unit>() {
+  public static final Match<Unit> UnitIsAAforFlyOverOnly = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsAAforFlyOverOnly.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsAAforFlyOverOnly.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsAAforFlyOverOnly = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -990,12 +969,12 @@ public class Matches {
       return ua.getIsAAforFlyOverOnly();
     }
   };
-  public static final Match<Unit> UnitIsAAforAnything = new Match<Unit>() {
+  public static final Match<Unit> UnitIsAAforAnything = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsAAforAnything.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsAAforAnything.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsAAforAnything = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -1004,12 +983,12 @@ public class Matches {
     }
   };
   public static final Match<Unit> UnitIsNotAA = new InverseMatch<>(UnitIsAAforAnything);
-  public static final Match<Unit> UnitMaxAAattacksIsInfinite = new Match<Unit>() {
+  public static final Match<Unit> UnitMaxAAattacksIsInfinite = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeMaxAAattacksIsInfinite.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeMaxAAattacksIsInfinite.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeMaxAAattacksIsInfinite = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -1017,12 +996,12 @@ public class Matches {
       return ua.getMaxAAattacks() == -1;
     }
   };
-  public static final Match<Unit> UnitMayOverStackAA = new Match<Unit>() {
+  public static final Match<Unit> UnitMayOverStackAA = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeMayOverStackAA.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeMayOverStackAA.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeMayOverStackAA = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
@@ -1044,39 +1023,35 @@ public class Matches {
       return ua.getOffensiveAttackAA(obj.getOwner()) > 0 && ua.getMaxAAattacks() != 0;
     }
   };
-  public static final Match<Unit> UnitIsInfantry = new Match<Unit>() {
+  public static final Match<Unit> UnitIsInfantry = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsInfantry();
     }
-  };
+  });
   public static final Match<Unit> UnitIsNotInfantry = new InverseMatch<>(UnitIsInfantry);
-  public static final Match<Unit> UnitHasMarinePositiveBonus = new Match<Unit>() {
+  public static final Match<Unit> UnitHasMarinePositiveBonus = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsMarine() > 0;
     }
-  };
-  public static final Match<Unit> UnitHasMarineNegativeBonus = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitHasMarineNegativeBonus = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsMarine() < 0;
     }
-  };
-  public static final Match<Unit> UnitIsNotMarine = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsNotMarine = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getIsMarine() == 0;
     }
-  };
+  });
   public static final Match<Unit> UnitIsAirTransportable = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
@@ -1103,22 +1078,20 @@ public class Matches {
     }
   };
   public static final Match<Unit> UnitIsNotAirTransport = new InverseMatch<>(UnitIsAirTransport);
-  public static final Match<Unit> UnitIsArtillery = new Match<Unit>() {
+  public static final Match<Unit> UnitIsArtillery = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getArtillery();
     }
-  };
-  public static final Match<Unit> UnitIsArtillerySupportable = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitIsArtillerySupportable = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final UnitType type = obj.getUnitType();
+    public boolean match(final UnitType type) {
       final UnitAttachment ua = UnitAttachment.get(type);
       return ua.getArtillerySupportable();
     }
-  };
+  });
   // TODO: CHECK whether this makes any sense
   public static final Match<Territory> TerritoryIsLandOrWater = new Match<Territory>() {
     @Override
@@ -1348,26 +1321,28 @@ public class Matches {
 
   public static Match<Territory> territoryIsAlliedAndHasAlliedUnitMatching(final GameData data, final PlayerID player,
       final Match<Unit> unitMatch) {
+    final Match<Unit> alliedUnitMatching = new CompositeMatchAnd<>(Matches.alliedUnit(player, data), unitMatch);
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
         if (!data.getRelationshipTracker().isAllied(t.getOwner(), player)) {
           return false;
         }
-        return t.getUnits().someMatch(new CompositeMatchAnd<>(Matches.alliedUnit(player, data), unitMatch));
+        return t.getUnits().someMatch(alliedUnitMatching);
       }
     };
   }
 
   public static Match<Territory> territoryIsOwnedAndHasOwnedUnitMatching(final PlayerID player,
       final Match<Unit> unitMatch) {
+    final Match<Unit> ownedUnitMatching = new CompositeMatchAnd<>(Matches.unitIsOwnedBy(player), unitMatch);
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
         if (!t.getOwner().equals(player)) {
           return false;
         }
-        return t.getUnits().someMatch(new CompositeMatchAnd<>(Matches.unitIsOwnedBy(player), unitMatch));
+        return t.getUnits().someMatch(ownedUnitMatching);
       }
     };
   }
@@ -1415,6 +1390,7 @@ public class Matches {
 
   public static Match<Territory> territoryIsEnemyNonNeutralAndHasEnemyUnitMatching(final GameData data,
       final PlayerID player, final Match<Unit> unitMatch) {
+    final Match<Unit> enemyUnitMatching = new CompositeMatchAnd<>(Matches.enemyUnit(player, data), unitMatch);
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
@@ -1424,7 +1400,7 @@ public class Matches {
         if (t.getOwner().isNull()) {
           return false;
         }
-        return t.getUnits().someMatch(new CompositeMatchAnd<>(Matches.enemyUnit(player, data), unitMatch));
+        return t.getUnits().someMatch(enemyUnitMatching);
       }
     };
   }
@@ -2110,28 +2086,31 @@ public class Matches {
   }
 
   public static Match<Territory> territoryHasEnemyLandUnits(final PlayerID player, final GameData data) {
+    final Match<Unit> enemyLandUnit = new CompositeMatchAnd<>(UnitIsLand, enemyUnit(player, data));
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits().someMatch(new CompositeMatchAnd<>(enemyUnit(player, data), UnitIsLand));
+        return t.getUnits().someMatch(enemyLandUnit);
       }
     };
   }
 
   public static Match<Territory> territoryHasEnemySeaUnits(final PlayerID player, final GameData data) {
+    final Match<Unit> enemySeaUnit = new CompositeMatchAnd<>(UnitIsSea, enemyUnit(player, data));
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits().someMatch(new CompositeMatchAnd<>(enemyUnit(player, data), UnitIsSea));
+        return t.getUnits().someMatch(enemySeaUnit);
       }
     };
   }
 
   public static Match<Territory> territoryHasEnemyUnits(final PlayerID player, final GameData data) {
+    final Match<Unit> enemyUnit = enemyUnit(player, data);
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits().someMatch(enemyUnit(player, data));
+        return t.getUnits().someMatch(enemyUnit);
       }
     };
   }
@@ -2143,6 +2122,8 @@ public class Matches {
    */
   public static Match<Territory> territoryHasEnemyUnitsThatCanCaptureTerritoryAndTerritoryOwnedByTheirEnemyAndIsNotUnownedWater(
       final PlayerID player, final GameData data) {
+    final Match<Unit> enemyUnitThatCanCapture =
+        new CompositeMatchAnd<>(UnitIsNotAir, UnitIsNotInfrastructure, enemyUnit(player, data));
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
@@ -2153,8 +2134,7 @@ public class Matches {
           return false;
         }
         final Set<PlayerID> enemies = new HashSet<>();
-        for (final Unit u : t.getUnits()
-            .getMatches(new CompositeMatchAnd<>(enemyUnit(player, data), UnitIsNotAir, UnitIsNotInfrastructure))) {
+        for (final Unit u : t.getUnits().getMatches(enemyUnitThatCanCapture)) {
           enemies.add(u.getOwner());
         }
         return (Matches.isAtWarWithAnyOfThesePlayers(enemies, data)).match(t.getOwner());
@@ -2496,27 +2476,26 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitCreatesUnits = new Match<Unit>() {
+  public static final Match<Unit> UnitCreatesUnits = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       if (ua == null) {
         return false;
       }
       return (ua.getCreatesUnitsList() != null && ua.getCreatesUnitsList().size() > 0);
     }
-  };
-  public static final Match<Unit> UnitCreatesResources = new Match<Unit>() {
+  });
+  public static final Match<Unit> UnitCreatesResources = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       if (ua == null) {
         return false;
       }
       return (ua.getCreatesResourcesList() != null && ua.getCreatesResourcesList().size() > 0);
     }
-  };
+  });
   /** Any unit that creates at least a single positive resource. */
   public static final Match<Unit> UnitCreatesResourcesPositive = new Match<Unit>() {
     @Override
@@ -2568,17 +2547,16 @@ public class Matches {
       return (ua.getConsumesUnits() != null && ua.getConsumesUnits().size() > 0);
     }
   };
-  public static final Match<Unit> UnitConsumesUnitsOnCreation = new Match<Unit>() {
+  public static final Match<Unit> UnitConsumesUnitsOnCreation = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       if (ua == null) {
         return false;
       }
       return (ua.getConsumesUnits() != null && ua.getConsumesUnits().size() > 0);
     }
-  };
+  });
 
   static Match<Unit> UnitWhichConsumesUnitsHasRequiredUnits(final Collection<Unit> unitsInTerritoryAtStartOfTurn) {
     return new Match<Unit>() {
@@ -2610,17 +2588,16 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitRequiresUnitsOnCreation = new Match<Unit>() {
+  public static final Match<Unit> UnitRequiresUnitsOnCreation = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       if (ua == null) {
         return false;
       }
       return (ua.getRequiresUnits() != null && ua.getRequiresUnits().size() > 0);
     }
-  };
+  });
 
   public static Match<Unit> UnitWhichRequiresUnitsHasRequiredUnitsInList(
       final Collection<Unit> unitsInTerritoryAtStartOfTurn) {
@@ -2672,12 +2649,12 @@ public class Matches {
       return false;
     }
   };
-  public static final Match<Unit> UnitIsConstruction = new Match<Unit>() {
+  public static final Match<Unit> UnitIsConstruction = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit obj) {
-      return UnitTypeIsConstruction.match(obj.getType());
+    public boolean match(final UnitType type) {
+      return UnitTypeIsConstruction.match(type);
     }
-  };
+  });
   public static final Match<UnitType> UnitTypeIsConstruction = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType type) {
@@ -3009,10 +2986,10 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> UnitCanOnlyPlaceInOriginalTerritories = new Match<Unit>() {
+  public static final Match<Unit> UnitCanOnlyPlaceInOriginalTerritories = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit u) {
-      final UnitAttachment ua = UnitAttachment.get(u.getType());
+    public boolean match(final UnitType type) {
+      final UnitAttachment ua = UnitAttachment.get(type);
       final Set<String> specialOptions = ua.getSpecial();
       for (final String option : specialOptions) {
         if (option.equals("canOnlyPlaceInOriginalTerritories")) {
@@ -3021,7 +2998,7 @@ public class Matches {
       }
       return false;
     }
-  };
+  });
 
   /**
    * Accounts for OccupiedTerrOf. Returns false if there is no territory attachment (like if it is water).
@@ -3178,24 +3155,24 @@ public class Matches {
     };
   }
 
-  public static final Match<Unit> unitCanIntercept = new Match<Unit>() {
+  public static final Match<Unit> unitCanIntercept = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit u) {
-      return UnitAttachment.get(u.getType()).getCanIntercept();
+    public boolean match(final UnitType type) {
+      return UnitAttachment.get(type).getCanIntercept();
     }
-  };
-  public static final Match<Unit> unitCanEscort = new Match<Unit>() {
+  });
+  public static final Match<Unit> unitCanEscort = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit u) {
-      return UnitAttachment.get(u.getType()).getCanEscort();
+    public boolean match(final UnitType type) {
+      return UnitAttachment.get(type).getCanEscort();
     }
-  };
-  public static final Match<Unit> unitCanAirBattle = new Match<Unit>() {
+  });
+  public static final Match<Unit> unitCanAirBattle = new UnitTypeMatch(new Match<UnitType>() {
     @Override
-    public boolean match(final Unit u) {
-      return UnitAttachment.get(u.getType()).getCanAirBattle();
+    public boolean match(final UnitType type) {
+      return UnitAttachment.get(type).getCanAirBattle();
     }
-  };
+  });
 
   static Match<Territory> territoryIsOwnedByPlayerWhosRelationshipTypeCanTakeOverOwnedTerritoryAndPassableAndNotWater(
       final PlayerID attacker) {
@@ -0,0 +1,173 @@
+package games.strategy.triplea.image;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import games.strategy.util.Tuple;
+
+/**
+ * The tile images of a map, by image file (the tile and its layer) and scale, within a budget of bytes. The least
+ * recently used images are dropped first, and the garbage collector may still reclaim any of them.
+ *
+ * <p>
+ * The images of one file at the scales that were drawn are its pyramid: an image at a new scale can be scaled down
+ * from the nearest larger one instead of loading the file again.
+ * </p>
+ */
+final class TileImageCache {
+  private final long m_maxBytes;
+  private long m_bytes = 0;
+  // least recently used first
+  private final LinkedHashMap<Key, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+  // file name -> scale -> entry
+  private final Map<String, TreeMap<Double, Entry>> m_pyramids = new HashMap<>();
+
+  TileImageCache(final long maxBytes) {
+    m_maxBytes = maxBytes;
+  }
+
+  /**
+   * @return the image of the file at the scale, or null if it is not cached.
+   */
+  synchronized Image get(final String fileName, final double scale) {
+    final Entry entry = m_entries.get(new Key(fileName, scale));
+    if (entry == null) {
+      return null;
+    }
+    final Image image = entry.m_ref.getImage();
+    if (image == null) {
+      remove(entry);
+    }
+    return image;
+  }
+
+  /**
+   * @return the image of the file at the smallest scale larger than the scale, and that scale, or null if there is no
+   *         larger image cached.
+   */
+  synchronized Tuple<Image, Double> getLarger(final String fileName, final double scale) {
+    final TreeMap<Double, Entry> pyramid = m_pyramids.get(fileName);
+    if (pyramid == null) {
+      return null;
+    }
+    for (final Entry entry : pyramid.tailMap(scale, false).values()) {
+      final Image image = entry.m_ref.getImage();
+      if (image != null) {
+        // it is used, keep it over the images that are not
+        m_entries.get(entry.m_key);
+        return Tuple.of(image, entry.m_key.m_scale);
+      }
+    }
+    return null;
+  }
+
+  synchronized void put(final String fileName, final double scale, final Image image) {
+    final Key key = new Key(fileName, scale);
+    final Entry old = m_entries.get(key);
+    if (old != null) {
+      remove(old);
+    }
+    final Entry entry = new Entry(key, new ImageRef(image), getBytes(image));
+    m_entries.put(key, entry);
+    m_pyramids.computeIfAbsent(fileName, name -> new TreeMap<>()).put(scale, entry);
+    m_bytes += entry.m_bytes;
+    final Iterator<Entry> leastRecentlyUsed = m_entries.values().iterator();
+    while (m_bytes > m_maxBytes && leastRecentlyUsed.hasNext()) {
+      final Entry eldest = leastRecentlyUsed.next();
+      if (eldest == entry) {
+        break;
+      }
+      leastRecentlyUsed.remove();
+      removeFromPyramid(eldest);
+    }
+  }
+
+  private void remove(final Entry entry) {
+    m_entries.remove(entry.m_key);
+    removeFromPyramid(entry);
+  }
+
+  private void removeFromPyramid(final Entry entry) {
+    m_bytes -= entry.m_bytes;
+    entry.m_ref.clear();
+    final TreeMap<Double, Entry> pyramid = m_pyramids.get(entry.m_key.m_fileName);
+    if (pyramid != null && pyramid.remove(entry.m_key.m_scale, entry) && pyramid.isEmpty()) {
+      m_pyramids.remove(entry.m_key.m_fileName);
+    }
+  }
+
+  synchronized void clear() {
+    for (final Entry entry : m_entries.values()) {
+      // we manually want to clear each ref to allow the soft reference to be removed
+      entry.m_ref.clear();
+    }
+    m_entries.clear();
+    m_pyramids.clear();
+    m_bytes = 0;
+  }
+
+  synchronized int size() {
+    return m_entries.size();
+  }
+
+  /**
+   * @return the bytes of the cached images, including the images the garbage collector reclaimed since they were last
+   *         asked for.
+   */
+  synchronized long getBytes() {
+    return m_bytes;
+  }
+
+  private static long getBytes(final Image image) {
+    final int bytesPerPixel = image instanceof BufferedImage
+        ? Math.max(1, ((BufferedImage) image).getColorModel().getPixelSize() / 8)
+        : 4;
+    return (long) Math.max(0, image.getWidth(null)) * Math.max(0, image.getHeight(null)) * bytesPerPixel;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "Tile images: " + m_entries.size() + ", KB: " + m_bytes / 1024 + " of " + m_maxBytes / 1024;
+  }
+
+  private static final class Key {
+    private final String m_fileName;
+    private final double m_scale;
+
+    Key(final String fileName, final double scale) {
+      m_fileName = fileName;
+      m_scale = scale;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      return m_fileName.equals(other.m_fileName) && Double.compare(m_scale, other.m_scale) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return m_fileName.hashCode() * 31 + Double.hashCode(m_scale);
+    }
+  }
+
+  private static final class Entry {
+    private final Key m_key;
+    private final ImageRef m_ref;
+    private final long m_bytes;
+
+    Entry(final Key key, final ImageRef ref, final long bytes) {
+      m_key = key;
+      m_ref = ref;
+      m_bytes = bytes;
+    }
+  }
+}
@@ -12,8 +12,6 @@ import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.prefs.BackingStoreException;
@@ -26,6 +24,7 @@ import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.BlendComposite.BlendingMode;
 import games.strategy.triplea.util.Stopwatch;
 import games.strategy.ui.Util;
+import games.strategy.util.Tuple;
 
 public final class TileImageFactory {
   private final Object m_mutex = new Object();
@@ -42,9 +41,10 @@ public final class TileImageFactory {
   private static GraphicsConfiguration configuration =
       GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
   private static final Logger s_logger = Logger.getLogger(TileImageFactory.class.getName());
+  // the images of the tiles at every scale drawn, within an eighth of the heap
+  private static final long MAX_CACHED_BYTES = Runtime.getRuntime().maxMemory() / 8;
   private double m_scale = 1;
-  // maps image name to ImageRef
-  private HashMap<String, ImageRef> m_imageCache = new HashMap<>();
+  private final TileImageCache m_imageCache = new TileImageCache(MAX_CACHED_BYTES);
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -74,9 +74,9 @@ public final class TileImageFactory {
     if (newScale > 1) {
       throw new IllegalArgumentException("Wrong scale");
     }
+    // the images at the old scale stay cached, for zooming back, and to scale down from
     synchronized (m_mutex) {
       m_scale = newScale;
-      getM_imageCache().clear();
     }
   }
 
@@ -128,27 +128,11 @@ public final class TileImageFactory {
 
   public void setMapDir(final ResourceLoader loader) {
     m_resourceLoader = loader;
-    synchronized (m_mutex) {
-      // we manually want to clear each ref to allow the soft reference to
-      // be removed
-      final Iterator<ImageRef> values = getM_imageCache().values().iterator();
-      while (values.hasNext()) {
-        final ImageRef imageRef = values.next();
-        imageRef.clear();
-      }
-      getM_imageCache().clear();
-    }
+    m_imageCache.clear();
   }
 
   public TileImageFactory() {}
 
-  private Image isImageLoaded(final String fileName) {
-    if (getM_imageCache().get(fileName) == null) {
-      return null;
-    }
-    return getM_imageCache().get(fileName).getImage();
-  }
-
   public Image getBaseTile(final int x, final int y) {
     final String fileName = getBaseTileImageName(x, y);
     if (m_resourceLoader.getResource(fileName) == null) {
@@ -163,7 +147,7 @@ public final class TileImageFactory {
     if (url == null) {
       return null;
     }
-    return loadImage(url, fileName, false, false, false);
+    return loadImage(url, fileName, false, 1);
   }
 
   private static String getBaseTileImageName(final int x, final int y) {
@@ -172,21 +156,34 @@ public final class TileImageFactory {
     return fileName;
   }
 
+  /**
+   * The images are loaded without holding a lock, so the tiles can be drawn on several threads. A tile that two threads
+   * ask for at once may be loaded twice.
+   */
   private Image getImage(final String fileName, final boolean transparent) {
+    final double scale;
     synchronized (m_mutex) {
-      final Image rVal = isImageLoaded(fileName);
-      if (rVal != null) {
-        return rVal;
-      }
+      scale = m_scale;
+    }
+    final Image cached = m_imageCache.get(fileName, scale);
+    if (cached != null) {
+      return cached;
+    }
+    Image image;
+    final Tuple<Image, Double> larger = m_imageCache.getLarger(fileName, scale);
+    if (larger != null) {
+      // scaling down from memory is much faster than loading the file again
+      image = scale(larger.getFirst(), scale / larger.getSecond(), transparent);
+    } else {
       // This is null if there is no image
       final URL url = m_resourceLoader.getResource(fileName);
-
       if ((!s_showMapBlends || !s_showReliefImages || !transparent) && url == null) {
         return null;
       }
-      loadImage(url, fileName, transparent, true, true);
+      image = loadImage(url, fileName, transparent, scale);
     }
-    return getImage(fileName, transparent);
+    m_imageCache.put(fileName, scale, image);
+    return image;
   }
 
   public Image getReliefTile(final int a, final int b) {
@@ -200,7 +197,7 @@ public final class TileImageFactory {
     if (url == null) {
       return null;
     }
-    return loadImage(url, fileName, true, false, false);
+    return loadImage(url, fileName, true, 1);
   }
 
   private static String getReliefTileImageName(final int x, final int y) {
@@ -224,15 +221,31 @@ public final class TileImageFactory {
 
 
   private Image loadImage(final URL imageLocation, final String fileName, final boolean transparent,
-      final boolean cache, final boolean scale) {
+      final double scale) {
     if (s_showMapBlends && s_showReliefImages && transparent) {
-      return loadBlendedImage(fileName, cache, scale);
+      final Image blended = loadBlendedImage(fileName);
+      return scale == 1.0 ? blended : scale(blended, scale, true);
     } else {
-      return loadUnblendedImage(imageLocation, fileName, transparent, cache, scale);
+      return loadUnblendedImage(imageLocation, transparent, scale);
     }
   }
 
-  private Image loadBlendedImage(final String fileName, final boolean cache, final boolean scale) {
+  /**
+   * @return a copy of the image, scaled, and only as large as the scaled image.
+   */
+  private static BufferedImage scale(final Image image, final double scale, final boolean transparent) {
+    final BufferedImage scaled = Util.createImage(Math.max(1, (int) Math.ceil(image.getWidth(null) * scale)),
+        Math.max(1, (int) Math.ceil(image.getHeight(null) * scale)), transparent);
+    final Graphics2D g = scaled.createGraphics();
+    if (scale != 1.0) {
+      g.setTransform(AffineTransform.getScaleInstance(scale, scale));
+    }
+    g.drawImage(image, 0, 0, null);
+    g.dispose();
+    return scaled;
+  }
+
+  private Image loadBlendedImage(final String fileName) {
     BufferedImage reliefFile = null;
     BufferedImage baseFile = null;
     // The relief tile
@@ -278,11 +291,6 @@ public final class TileImageFactory {
     /* reversing the to/from files leaves white underlays visible */
     if (reliefFile != null) {
       final Graphics2D g2 = reliefFile.createGraphics();
-      if (scale && m_scale != 1.0) {
-        final AffineTransform transform = new AffineTransform();
-        transform.scale(m_scale, m_scale);
-        g2.setTransform(transform);
-      }
       g2.drawImage(reliefFile, overX, overY, null);
       // gets the blending mode from the map.properties file (sometimes)
       final BlendingMode blendMode = BlendComposite.BlendingMode.valueOf(getShowMapBlendMode());
@@ -290,22 +298,14 @@ public final class TileImageFactory {
       // g2.setComposite(BlendComposite.Overlay.derive(alpha));
       g2.setComposite(blendComposite);
       g2.drawImage(baseFile, overX, overY, null);
-      final ImageRef ref = new ImageRef(reliefFile);
-      if (cache) {
-        getM_imageCache().put(fileName, ref);
-      }
+      g2.dispose();
       return reliefFile;
     } else {
-      final ImageRef ref = new ImageRef(baseFile);
-      if (cache) {
-        getM_imageCache().put(fileName, ref);
-      }
       return baseFile;
     }
   }
 
-  private Image loadUnblendedImage(final URL imageLocation, final String fileName, final boolean transparent,
-      final boolean cache, final boolean scale) {
+  private static Image loadUnblendedImage(final URL imageLocation, final boolean transparent, final double scale) {
     Image image;
     try {
       final Stopwatch loadingImages = new Stopwatch(s_logger, Level.FINE, "Loading image:" + imageLocation);
@@ -318,25 +318,14 @@ public final class TileImageFactory {
       // this step is a significant bottle neck in the image drawing process
       // we should try to find a way to avoid it, and load the
       // png directly as the right type
-      image = Util.createImage(fromFile.getWidth(null), fromFile.getHeight(null), transparent);
-      final Graphics2D g = (Graphics2D) image.getGraphics();
-      if (scale && m_scale != 1.0) {
-        final AffineTransform transform = new AffineTransform();
-        transform.scale(m_scale, m_scale);
-        g.setTransform(transform);
-      }
-      g.drawImage(fromFile, 0, 0, null);
-      g.dispose();
+      // scaled images are only as large as they are drawn
+      image = scale(fromFile, scale, transparent);
       fromFile.flush();
       copyingImage.done();
     } catch (final IOException e) {
       ClientLogger.logError("Could not load image, url: " + imageLocation.toString(), e);
       image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
     }
-    final ImageRef ref = new ImageRef(image);
-    if (cache) {
-      getM_imageCache().put(fileName, ref);
-    }
     return image;
   }
 
@@ -361,14 +350,6 @@ public final class TileImageFactory {
   public static BufferedImage createCompatibleImage(final int width, final int height) {
     return configuration.createCompatibleImage(width, height);
   }
-
-  public void setM_imageCache(final HashMap<String, ImageRef> m_imageCache) {
-    this.m_imageCache = m_imageCache;
-  }
-
-  public HashMap<String, ImageRef> getM_imageCache() {
-    return m_imageCache;
-  }
 }
 
 
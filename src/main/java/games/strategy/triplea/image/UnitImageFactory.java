@@ -100,15 +100,16 @@ public class UnitImageFactory {
   }
 
   // Clear the image and icon cache
-  private void clearImageCache() {
+  private synchronized void clearImageCache() {
     m_images.clear();
     m_icons.clear();
   }
 
   /**
    * Return the appropriate unit image.
+   * Synchronized since the tiles of the map are drawn on several threads.
    */
-  public Optional<Image> getImage(final UnitType type, final PlayerID player, final GameData data,
+  public synchronized Optional<Image> getImage(final UnitType type, final PlayerID player, final GameData data,
       final boolean damaged,
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, damaged, disabled);
@@ -184,7 +185,7 @@ public class UnitImageFactory {
   /**
    * Return a icon image for a unit.
    */
-  public Optional<ImageIcon> getIcon(final UnitType type, final PlayerID player, final GameData data,
+  public synchronized Optional<ImageIcon> getIcon(final UnitType type, final PlayerID player, final GameData data,
       final boolean damaged,
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, damaged, disabled);
@@ -109,6 +109,51 @@ public class AggregateResults implements Serializable {
     return defenderLost - attackerLost;
   }
 
+  /**
+   * Half the width of the confidence interval of {@link #getAttackerWinPercent()}. This is the Agresti-Coull interval,
+   * which unlike the plain normal approximation does not shrink to zero when every battle had the same outcome.
+   *
+   * @param zScore
+   *        the z score of the confidence level, for example {@link ConfidenceTarget#Z_SCORE_95}.
+   */
+  public double getAttackerWinPercentError(final double zScore) {
+    if (m_results.isEmpty()) { // can be empty!
+      return 1.0;
+    }
+    final double zSquared = zScore * zScore;
+    final double count = m_results.size() + zSquared;
+    final double winPercent = (getAttackerWinPercent() * m_results.size() + zSquared / 2) / count;
+    return zScore * Math.sqrt(winPercent * (1 - winPercent) / count);
+  }
+
+  /**
+   * Half the width of the confidence interval of
+   * {@link #getAverageTUVswing(PlayerID, Collection, PlayerID, Collection, GameData)}.
+   *
+   * @param zScore
+   *        the z score of the confidence level, for example {@link ConfidenceTarget#Z_SCORE_95}.
+   */
+  public double getTUVswingError(final PlayerID attacker, final PlayerID defender, final GameData data,
+      final double zScore) {
+    if (m_results.size() < 2) {
+      return Double.POSITIVE_INFINITY;
+    }
+    final IntegerMap<UnitType> attackerCostsForTUV = BattleCalculator.getCostsForTUV(attacker, data);
+    final IntegerMap<UnitType> defenderCostsForTUV = BattleCalculator.getCostsForTUV(defender, data);
+    // the starting TUVs are the same for every battle, so only the TUV left over adds to the variance
+    double sum = 0;
+    double sumOfSquares = 0;
+    for (final BattleResults result : m_results) {
+      final double swing = BattleCalculator.getTUV(result.getRemainingAttackingUnits(), attackerCostsForTUV)
+          - BattleCalculator.getTUV(result.getRemainingDefendingUnits(), defenderCostsForTUV);
+      sum += swing;
+      sumOfSquares += swing * swing;
+    }
+    final int count = m_results.size();
+    final double variance = Math.max(0, (sumOfSquares - sum * sum / count) / (count - 1));
+    return zScore * Math.sqrt(variance / count);
+  }
+
   double getAverageAttackingUnitsLeftWhenAttackerWon() {
     if (m_results.isEmpty()) { // can be empty!
       return 0.0;
@@ -0,0 +1,251 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+
+/**
+ * A bounded, least recently used cache of calculated battles, keyed by a canonical battle signature (see
+ * {@link CachingOddsCalculator}).
+ *
+ * <p>
+ * The results are not stored with their units, because the next battle with the same signature has different (but
+ * interchangeable) units. Instead every remaining unit is stored as its index in the canonically sorted units of the
+ * battle, and mapped back onto the units of the battle that asks for the results. The size of the cache is the number
+ * of stored runs and unit indexes, so a few huge battles can not take over the memory.
+ * </p>
+ */
+public class BattleOutcomeCache {
+  public static final int DEFAULT_MAX_WEIGHT = 1000000;
+  private final int m_maxWeight;
+  private final LinkedHashMap<String, Entry> m_entries = new LinkedHashMap<>(64, 0.75f, true);
+  private int m_weight = 0;
+  private long m_hitCount = 0;
+  private long m_missCount = 0;
+  private long m_evictionCount = 0;
+  private long m_invalidationCount = 0;
+
+  public BattleOutcomeCache() {
+    this(DEFAULT_MAX_WEIGHT);
+  }
+
+  public BattleOutcomeCache(final int maxWeight) {
+    m_maxWeight = maxWeight;
+  }
+
+  /**
+   * @return the results of the battle with the given signature, for the given canonically sorted units, or null if it
+   *         is not cached.
+   */
+  synchronized AggregateResults get(final String signature, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final GameData data) {
+    final Entry entry = m_entries.get(signature);
+    if (entry == null) {
+      m_missCount++;
+      return null;
+    }
+    m_hitCount++;
+    return entry.toResults(attackingUnits, defendingUnits, data);
+  }
+
+  /**
+   * Stores the results of the battle with the given signature, which was fought by the given canonically sorted units.
+   * Results that contain units which are not part of the battle are not stored.
+   */
+  synchronized void put(final String signature, final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final AggregateResults results) {
+    final Entry entry = Entry.of(attackingUnits, defendingUnits, results);
+    if (entry == null || entry.weight > m_maxWeight) {
+      return;
+    }
+    final Entry old = m_entries.put(signature, entry);
+    if (old != null) {
+      m_weight -= old.weight;
+    }
+    m_weight += entry.weight;
+    final Iterator<Entry> iter = m_entries.values().iterator();
+    while (m_weight > m_maxWeight && iter.hasNext()) {
+      m_weight -= iter.next().weight;
+      iter.remove();
+      m_evictionCount++;
+    }
+  }
+
+  /**
+   * Removes all cached battles. Must be called whenever anything that is not part of the signature changes, for
+   * example when a new game data is used.
+   */
+  public synchronized void invalidate() {
+    m_entries.clear();
+    m_weight = 0;
+    m_invalidationCount++;
+  }
+
+  public synchronized int size() {
+    return m_entries.size();
+  }
+
+  public synchronized int getWeight() {
+    return m_weight;
+  }
+
+  public synchronized long getHitCount() {
+    return m_hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return m_missCount;
+  }
+
+  public synchronized long getEvictionCount() {
+    return m_evictionCount;
+  }
+
+  public synchronized long getInvalidationCount() {
+    return m_invalidationCount;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "BattleOutcomeCache size:" + m_entries.size() + " weight:" + m_weight + " hits:" + m_hitCount + " misses:"
+        + m_missCount + " evictions:" + m_evictionCount + " invalidations:" + m_invalidationCount;
+  }
+
+  /**
+   * The results of one battle. Identical outcomes are only stored once.
+   */
+  private static final class Entry {
+    private final Outcome[] m_outcomes;
+    private final int[] m_outcomeOfRun;
+    private final long m_time;
+    final int weight;
+
+    private Entry(final Outcome[] outcomes, final int[] outcomeOfRun, final long time) {
+      m_outcomes = outcomes;
+      m_outcomeOfRun = outcomeOfRun;
+      m_time = time;
+      int weight = outcomeOfRun.length;
+      for (final Outcome outcome : outcomes) {
+        weight += 2 + outcome.remainingAttackingUnits.length + outcome.remainingDefendingUnits.length;
+      }
+      this.weight = weight;
+    }
+
+    static Entry of(final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+        final AggregateResults results) {
+      final Map<Unit, Integer> attackingIndexes = indexes(attackingUnits);
+      final Map<Unit, Integer> defendingIndexes = indexes(defendingUnits);
+      final Map<BattleResults, Integer> outcomeIndexes = new HashMap<>();
+      final Map<Outcome, Integer> distinctOutcomes = new HashMap<>();
+      final List<Outcome> outcomes = new ArrayList<>();
+      final int[] outcomeOfRun = new int[results.getRollCount()];
+      int run = 0;
+      for (final BattleResults result : results.getResults()) {
+        Integer index = outcomeIndexes.get(result);
+        if (index == null) {
+          final int[] remainingAttackingUnits = indexesOf(result.getRemainingAttackingUnits(), attackingIndexes);
+          final int[] remainingDefendingUnits = indexesOf(result.getRemainingDefendingUnits(), defendingIndexes);
+          if (remainingAttackingUnits == null || remainingDefendingUnits == null) {
+            return null;
+          }
+          final Outcome outcome = new Outcome(result.getBattleRoundsFought(), result.getWhoWon(),
+              remainingAttackingUnits, remainingDefendingUnits);
+          index = distinctOutcomes.get(outcome);
+          if (index == null) {
+            index = outcomes.size();
+            outcomes.add(outcome);
+            distinctOutcomes.put(outcome, index);
+          }
+          outcomeIndexes.put(result, index);
+        }
+        outcomeOfRun[run++] = index;
+      }
+      return new Entry(outcomes.toArray(new Outcome[outcomes.size()]), outcomeOfRun, results.getTime());
+    }
+
+    private static Map<Unit, Integer> indexes(final List<Unit> units) {
+      final Map<Unit, Integer> indexes = new HashMap<>();
+      for (int i = 0; i < units.size(); i++) {
+        indexes.put(units.get(i), i);
+      }
+      return indexes;
+    }
+
+    private static int[] indexesOf(final List<Unit> units, final Map<Unit, Integer> indexes) {
+      final int[] rVal = new int[units.size()];
+      for (int i = 0; i < rVal.length; i++) {
+        final Integer index = indexes.get(units.get(i));
+        if (index == null) {
+          return null;
+        }
+        rVal[i] = index;
+      }
+      return rVal;
+    }
+
+    AggregateResults toResults(final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+        final GameData data) {
+      final BattleResults[] battleResults = new BattleResults[m_outcomes.length];
+      for (int i = 0; i < m_outcomes.length; i++) {
+        final Outcome outcome = m_outcomes[i];
+        battleResults[i] = new BattleResults(outcome.battleRoundsFought,
+            unitsAt(outcome.remainingAttackingUnits, attackingUnits),
+            unitsAt(outcome.remainingDefendingUnits, defendingUnits), outcome.whoWon, data);
+      }
+      final AggregateResults results = new AggregateResults(m_outcomeOfRun.length);
+      for (final int outcome : m_outcomeOfRun) {
+        results.addResult(battleResults[outcome]);
+      }
+      results.setTime(m_time);
+      return results;
+    }
+
+    private static List<Unit> unitsAt(final int[] indexes, final List<Unit> units) {
+      final List<Unit> rVal = new ArrayList<>(indexes.length);
+      for (final int index : indexes) {
+        rVal.add(units.get(index));
+      }
+      return rVal;
+    }
+  }
+
+  private static final class Outcome {
+    final int battleRoundsFought;
+    final WhoWon whoWon;
+    final int[] remainingAttackingUnits;
+    final int[] remainingDefendingUnits;
+
+    Outcome(final int battleRoundsFought, final WhoWon whoWon, final int[] remainingAttackingUnits,
+        final int[] remainingDefendingUnits) {
+      this.battleRoundsFought = battleRoundsFought;
+      this.whoWon = whoWon;
+      this.remainingAttackingUnits = remainingAttackingUnits;
+      this.remainingDefendingUnits = remainingDefendingUnits;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Outcome)) {
+        return false;
+      }
+      final Outcome other = (Outcome) o;
+      return battleRoundsFought == other.battleRoundsFought && whoWon == other.whoWon
+          && Arrays.equals(remainingAttackingUnits, other.remainingAttackingUnits)
+          && Arrays.equals(remainingDefendingUnits, other.remainingDefendingUnits);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * battleRoundsFought + Arrays.hashCode(remainingAttackingUnits))
+          + Arrays.hashCode(remainingDefendingUnits);
+    }
+  }
+}
@@ -48,10 +48,26 @@ public class BattleResults extends GameDataComponent {
     m_whoWon = scriptedWhoWon;
   }
 
+  /**
+   * For battles that were simulated without a real battle, see {@link CompiledBattle}.
+   */
+  BattleResults(final int battleRoundsFought, final List<Unit> remainingAttackingUnits,
+      final List<Unit> remainingDefendingUnits, final WhoWon whoWon, final GameData data) {
+    super(data);
+    m_battleRoundsFought = battleRoundsFought;
+    m_remainingAttackingUnits = remainingAttackingUnits;
+    m_remainingDefendingUnits = remainingDefendingUnits;
+    m_whoWon = whoWon;
+  }
+
   public void setWhoWon(final WhoWon whoWon) {
     m_whoWon = whoWon;
   }
 
+  public WhoWon getWhoWon() {
+    return m_whoWon;
+  }
+
   public List<Unit> getRemainingAttackingUnits() {
     return m_remainingAttackingUnits;
   }
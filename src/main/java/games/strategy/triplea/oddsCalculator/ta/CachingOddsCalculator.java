@@ -0,0 +1,333 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.delegate.TechAdvance;
+import games.strategy.triplea.delegate.TechTracker;
+
+/**
+ * An odds calculator that remembers the results of the battles it calculated, so that asking for the same battle
+ * again (which the AI does a lot while planning its moves) does not calculate it again.
+ *
+ * <p>
+ * Two battles are the same if they have the same canonical signature: the players (the attacker, the defender, and the
+ * owners of the territory and of every unit) and their relationships and technologies, whether it is a sea battle,
+ * the owner and the effects of the territory, the type, owner, damage and state of every unit, and all the settings of
+ * the calculator. Units with the same signature can be swapped for each other, so the cached results are given back
+ * with the units of the battle that asked for them.
+ * </p>
+ *
+ * <p>
+ * Anything that is not part of the signature must not change while the same game data is used. Setting a game data
+ * invalidates the cache.
+ * </p>
+ */
+public class CachingOddsCalculator implements IOddsCalculator {
+  private static final Comparator<UnitSignature> SIGNATURE_ORDER = Comparator.comparing(s -> s.m_signature);
+  private final IOddsCalculator m_delegate;
+  private final BattleOutcomeCache m_cache;
+  private GameData m_data = null;
+  private PlayerID m_attacker = null;
+  private PlayerID m_defender = null;
+  private Territory m_location = null;
+  private Collection<Unit> m_attackingUnits = new ArrayList<>();
+  private Collection<Unit> m_defendingUnits = new ArrayList<>();
+  private Collection<Unit> m_bombardingUnits = new ArrayList<>();
+  private Collection<TerritoryEffect> m_territoryEffects = new ArrayList<>();
+  private int m_runCount = 0;
+  private boolean m_isCalcSet = false;
+  private boolean m_keepOneAttackingLandUnit = false;
+  private boolean m_amphibious = false;
+  private int m_retreatAfterRound = -1;
+  private int m_retreatAfterXUnitsLeft = -1;
+  private boolean m_retreatWhenOnlyAirLeft = false;
+  private String m_attackerOrderOfLosses = null;
+  private String m_defenderOrderOfLosses = null;
+  private ConfidenceTarget m_confidenceTarget = null;
+  private volatile boolean m_cancelled = false;
+
+  public CachingOddsCalculator(final IOddsCalculator delegate) {
+    this(delegate, new BattleOutcomeCache());
+  }
+
+  public CachingOddsCalculator(final IOddsCalculator delegate, final BattleOutcomeCache cache) {
+    m_delegate = delegate;
+    m_cache = cache;
+  }
+
+  public BattleOutcomeCache getCache() {
+    return m_cache;
+  }
+
+  @Override
+  public void setGameData(final GameData data) {
+    m_cache.invalidate();
+    m_data = data;
+    m_isCalcSet = false;
+    m_delegate.setGameData(data);
+  }
+
+  @Override
+  public void setCalculateData(final PlayerID attacker, final PlayerID defender, final Territory location,
+      final Collection<Unit> attacking, final Collection<Unit> defending, final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects, final int runCount) {
+    m_attacker = attacker;
+    m_defender = defender;
+    m_location = location;
+    m_attackingUnits = attacking;
+    m_defendingUnits = defending;
+    m_bombardingUnits = bombarding;
+    m_territoryEffects = territoryEffects;
+    m_runCount = runCount;
+    m_isCalcSet = true;
+  }
+
+  @Override
+  public AggregateResults setCalculateDataAndCalculate(final PlayerID attacker, final PlayerID defender,
+      final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
+      final Collection<Unit> bombarding, final Collection<TerritoryEffect> territoryEffects, final int runCount) {
+    setCalculateData(attacker, defender, location, attacking, defending, bombarding, territoryEffects, runCount);
+    return calculate();
+  }
+
+  @Override
+  public AggregateResults calculate() {
+    if (!m_isCalcSet) {
+      throw new IllegalStateException("Called calculate before setting calculate data!");
+    }
+    m_cancelled = false;
+    final List<Unit> attackingUnits = sortedUnits(m_attackingUnits);
+    final List<Unit> defendingUnits = sortedUnits(m_defendingUnits);
+    final String signature = getSignature(attackingUnits, defendingUnits);
+    final AggregateResults cached = m_cache.get(signature, attackingUnits, defendingUnits, m_data);
+    if (cached != null) {
+      return cached;
+    }
+    final AggregateResults results = m_delegate.setCalculateDataAndCalculate(m_attacker, m_defender, m_location,
+        m_attackingUnits, m_defendingUnits, m_bombardingUnits, m_territoryEffects, m_runCount);
+    // a cancelled or not ready calculation did not use its whole run count, so it must not be given out again
+    if (!m_cancelled && results.getRollCount() > 0) {
+      m_cache.put(signature, attackingUnits, defendingUnits, results);
+    }
+    return results;
+  }
+
+  private static List<Unit> sortedUnits(final Collection<Unit> units) {
+    final List<UnitSignature> signatures = new ArrayList<>(units.size());
+    for (final Unit unit : units) {
+      signatures.add(new UnitSignature(unit));
+    }
+    Collections.sort(signatures, SIGNATURE_ORDER);
+    final List<Unit> rVal = new ArrayList<>(signatures.size());
+    for (final UnitSignature signature : signatures) {
+      rVal.add(signature.m_unit);
+    }
+    return rVal;
+  }
+
+  private String getSignature(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(name(m_attacker)).append('|').append(name(m_defender)).append('|');
+    if (m_data != null && m_attacker != null && m_defender != null) {
+      final List<PlayerID> players = getPlayers(attackingUnits, defendingUnits);
+      sb.append(m_data.readOptimistically(() -> {
+        final StringBuilder playersSignature = new StringBuilder();
+        for (int i = 0; i < players.size(); i++) {
+          playersSignature.append(players.get(i).getName()).append(':');
+          appendTechs(playersSignature, players.get(i));
+          for (int j = i + 1; j < players.size(); j++) {
+            playersSignature
+                .append(m_data.getRelationshipTracker().getRelationshipType(players.get(i), players.get(j)).getName())
+                .append(',');
+          }
+          playersSignature.append('|');
+        }
+        return playersSignature.toString();
+      }));
+    }
+    sb.append(m_location.isWater()).append('|').append(name(m_location.getOwner())).append('|');
+    final List<String> effects = new ArrayList<>();
+    for (final TerritoryEffect effect : m_territoryEffects) {
+      effects.add(effect.getName());
+    }
+    Collections.sort(effects);
+    sb.append(effects).append('|');
+    appendUnits(sb, attackingUnits);
+    appendUnits(sb, defendingUnits);
+    appendUnits(sb, sortedUnits(m_bombardingUnits));
+    sb.append(m_keepOneAttackingLandUnit).append('|').append(m_amphibious).append('|').append(m_retreatAfterRound)
+        .append('|').append(m_retreatAfterXUnitsLeft).append('|').append(m_retreatWhenOnlyAirLeft).append('|')
+        .append(m_attackerOrderOfLosses).append('|').append(m_defenderOrderOfLosses).append('|').append(m_runCount)
+        .append('|').append(m_confidenceTarget);
+    return sb.toString();
+  }
+
+  /**
+   * @return the players whose technologies and relationships can change the battle, in the order of their names.
+   */
+  private List<PlayerID> getPlayers(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    final Map<String, PlayerID> players = new TreeMap<>();
+    players.put(m_attacker.getName(), m_attacker);
+    players.put(m_defender.getName(), m_defender);
+    if (m_location.getOwner() != null && !m_location.getOwner().isNull()) {
+      players.put(m_location.getOwner().getName(), m_location.getOwner());
+    }
+    for (final Collection<Unit> units : Arrays.asList(attackingUnits, defendingUnits, m_bombardingUnits)) {
+      for (final Unit unit : units) {
+        if (!unit.getOwner().isNull()) {
+          players.putIfAbsent(unit.getOwner().getName(), unit.getOwner());
+        }
+      }
+    }
+    return new ArrayList<>(players.values());
+  }
+
+  private void appendTechs(final StringBuilder sb, final PlayerID player) {
+    final List<String> techs = new ArrayList<>();
+    for (final TechAdvance tech : TechTracker.getCurrentTechAdvances(player, m_data)) {
+      techs.add(tech.getName());
+    }
+    Collections.sort(techs);
+    sb.append(techs).append('|');
+  }
+
+  private static void appendUnits(final StringBuilder sb, final List<Unit> units) {
+    // run length encoded, a big stack of infantry should not make a long key
+    String last = null;
+    int count = 0;
+    for (final Unit unit : units) {
+      final String signature = getSignature(unit);
+      if (!signature.equals(last)) {
+        if (last != null) {
+          sb.append(count).append('x').append(last).append(',');
+        }
+        last = signature;
+        count = 0;
+      }
+      count++;
+    }
+    if (last != null) {
+      sb.append(count).append('x').append(last);
+    }
+    sb.append('|');
+  }
+
+  private static String getSignature(final Unit unit) {
+    final TripleAUnit taUnit = (TripleAUnit) unit;
+    return name(unit.getOwner()) + ':' + unit.getType().getName() + ':' + unit.getHits() + ':'
+        + taUnit.getUnitDamage() + ':' + (taUnit.getTransportedBy() != null) + ':' + taUnit.getSubmerged() + ':'
+        + taUnit.getWasAmphibious() + ':' + taUnit.getWasInAirBattle() + ':' + taUnit.getDisabled();
+  }
+
+  private static String name(final PlayerID player) {
+    return player == null ? PlayerID.NULL_PLAYERID.getName() : player.getName();
+  }
+
+  @Override
+  public int getRunCount() {
+    return m_runCount;
+  }
+
+  @Override
+  public boolean getIsReady() {
+    return m_data != null && m_isCalcSet;
+  }
+
+  @Override
+  public void setKeepOneAttackingLandUnit(final boolean bool) {
+    m_keepOneAttackingLandUnit = bool;
+    m_delegate.setKeepOneAttackingLandUnit(bool);
+  }
+
+  @Override
+  public void setAmphibious(final boolean bool) {
+    m_amphibious = bool;
+    m_delegate.setAmphibious(bool);
+  }
+
+  @Override
+  public void setRetreatAfterRound(final int value) {
+    m_retreatAfterRound = value;
+    m_delegate.setRetreatAfterRound(value);
+  }
+
+  @Override
+  public void setRetreatAfterXUnitsLeft(final int value) {
+    m_retreatAfterXUnitsLeft = value;
+    m_delegate.setRetreatAfterXUnitsLeft(value);
+  }
+
+  @Override
+  public void setRetreatWhenOnlyAirLeft(final boolean value) {
+    m_retreatWhenOnlyAirLeft = value;
+    m_delegate.setRetreatWhenOnlyAirLeft(value);
+  }
+
+  @Override
+  public void setAttackerOrderOfLosses(final String attackerOrderOfLosses) {
+    m_attackerOrderOfLosses = attackerOrderOfLosses;
+    m_delegate.setAttackerOrderOfLosses(attackerOrderOfLosses);
+  }
+
+  @Override
+  public void setDefenderOrderOfLosses(final String defenderOrderOfLosses) {
+    m_defenderOrderOfLosses = defenderOrderOfLosses;
+    m_delegate.setDefenderOrderOfLosses(defenderOrderOfLosses);
+  }
+
+  @Override
+  public void setConfidenceTarget(final ConfidenceTarget confidenceTarget) {
+    m_confidenceTarget = confidenceTarget;
+    m_delegate.setConfidenceTarget(confidenceTarget);
+  }
+
+  @Override
+  public void cancel() {
+    m_cancelled = true;
+    m_delegate.cancel();
+  }
+
+  @Override
+  public void shutdown() {
+    m_cache.invalidate();
+    m_delegate.shutdown();
+  }
+
+  @Override
+  public int getThreadCount() {
+    return m_delegate.getThreadCount();
+  }
+
+  @Override
+  public void addOddsCalculatorListener(final OddsCalculatorListener listener) {
+    m_delegate.addOddsCalculatorListener(listener);
+  }
+
+  @Override
+  public void removeOddsCalculatorListener(final OddsCalculatorListener listener) {
+    m_delegate.removeOddsCalculatorListener(listener);
+  }
+
+  private static final class UnitSignature {
+    private final Unit m_unit;
+    private final String m_signature;
+
+    UnitSignature(final Unit unit) {
+      m_unit = unit;
+      m_signature = getSignature(unit);
+    }
+  }
+}
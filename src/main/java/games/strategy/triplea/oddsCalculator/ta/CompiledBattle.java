@@ -0,0 +1,440 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.Match;
+import games.strategy.util.Tuple;
+
+/**
+ * A battle compiled into primitive arrays, so that it can be simulated many times without creating a
+ * {@link games.strategy.triplea.delegate.MustFightBattle} and without changing the game data for every run.
+ *
+ * <p>
+ * Every side is reduced to a fixed order of loss. Since extra hit points are always taken before any unit is killed,
+ * the state of a side is completely described by the number of extra hit points left and the number of units killed,
+ * and the strength and rolls of the surviving units (including support) are looked up in tables computed once per
+ * number of units killed.
+ * </p>
+ *
+ * <p>
+ * Only plain battles are compiled: no bombarding or amphibious units, no submarines, AA, suicide units, transports or
+ * infrastructure, and no support given to enemy units. {@link #compile} returns null for everything else, and the
+ * caller has to fall back to fighting a real battle.
+ * </p>
+ *
+ * <p>
+ * A compiled battle is immutable and may be simulated from several threads at the same time.
+ * </p>
+ */
+final class CompiledBattle {
+  private final GameData m_data;
+  private final int m_diceSides;
+  private final boolean m_lowLuck;
+  private final int m_maxRounds;
+  private final Side m_attacker;
+  private final Side m_defender;
+  private final int m_retreatAfterRound;
+  private final int m_retreatAfterXUnitsLeft;
+  private final boolean m_retreatWhenOnlyAirLeft;
+
+  private CompiledBattle(final GameData data, final Side attacker, final Side defender, final int maxRounds,
+      final int retreatAfterRound, final int retreatAfterXUnitsLeft, final boolean retreatWhenOnlyAirLeft) {
+    m_data = data;
+    m_diceSides = data.getDiceSides();
+    m_lowLuck = Properties.getLow_Luck(data);
+    m_attacker = attacker;
+    m_defender = defender;
+    m_maxRounds = maxRounds;
+    m_retreatAfterRound = retreatAfterRound;
+    m_retreatAfterXUnitsLeft = retreatAfterXUnitsLeft;
+    m_retreatWhenOnlyAirLeft = retreatWhenOnlyAirLeft;
+  }
+
+  /**
+   * Compiles the given battle.
+   *
+   * @return null if this battle can not be simulated without fighting a real battle.
+   */
+  static CompiledBattle compile(final PlayerID attacker, final PlayerID defender, final Territory location,
+      final Collection<Unit> attackingUnits, final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits, final Collection<TerritoryEffect> territoryEffects,
+      final boolean amphibious, final boolean keepOneAttackingLandUnit, final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses, final int retreatAfterRound, final int retreatAfterXUnitsLeft,
+      final boolean retreatWhenOnlyAirLeft, final GameData data) {
+    if (amphibious || !bombardingUnits.isEmpty()) {
+      return null;
+    }
+    if (Properties.getPartialAmphibiousRetreat(data)) {
+      return null;
+    }
+    for (final UnitSupportAttachment support : UnitSupportAttachment.get(data)) {
+      if (support.getEnemy()) {
+        return null;
+      }
+    }
+    final List<Unit> attacking = getCombatants(attackingUnits, true, location);
+    final List<Unit> defending = getCombatants(defendingUnits, false, location);
+    if (attacking == null || defending == null || attacking.isEmpty() || defending.isEmpty()) {
+      return null;
+    }
+    final Side attackingSide = new Side(orderOfLoss(attacking, false, attacker, defending, location,
+        territoryEffects, keepOneAttackingLandUnit, attackerOrderOfLosses, data), false, defending, location,
+        territoryEffects, data);
+    final Side defendingSide = new Side(orderOfLoss(defending, true, defender, attacking, location,
+        territoryEffects, false, defenderOrderOfLosses, data), true, attacking, location, territoryEffects, data);
+    final int maxRounds =
+        location.isWater() ? Properties.getSeaBattleRounds(data) : Properties.getLandBattleRounds(data);
+    return new CompiledBattle(data, attackingSide, defendingSide, maxRounds, retreatAfterRound,
+        retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft);
+  }
+
+  /**
+   * Removes the units that do not take part in the battle, the same way the real battle does.
+   *
+   * @return null if there is a unit that needs any special handling.
+   */
+  private static List<Unit> getCombatants(final Collection<Unit> units, final boolean attacking,
+      final Territory location) {
+    final boolean isLand = !location.isWater();
+    final Match<Unit> canBeInFirstRound = Matches.UnitCanBeInBattle(attacking, isLand, 1, true, false, false);
+    final Match<Unit> canBeInLaterRounds = Matches.UnitCanBeInBattle(attacking, isLand, 2, true, false, false);
+    final List<Unit> combatants = new ArrayList<>(units.size());
+    for (final Unit unit : units) {
+      if (!isLand && Matches.UnitIsLand.match(unit)) {
+        return null;
+      }
+      final boolean inFirstRound = canBeInFirstRound.match(unit);
+      if (inFirstRound != canBeInLaterRounds.match(unit)) {
+        return null;
+      }
+      if (!inFirstRound || Matches.UnitIsDisabled.match(unit) || Matches.UnitWasInAirBattle.match(unit)) {
+        continue;
+      }
+      if (Matches.UnitIsSub.match(unit) || Matches.UnitIsAAforCombatOnly.match(unit)
+          || Matches.UnitIsSuicide.match(unit) || Matches.UnitIsTransport.match(unit)
+          || Matches.UnitIsAirTransport.match(unit) || Matches.UnitIsInfrastructure.match(unit)
+          || Matches.unitIsBeingTransported().match(unit)
+          || !UnitAttachment.get(unit.getType()).getCanBeCapturedOnEnteringBy().isEmpty()) {
+        return null;
+      }
+      combatants.add(unit);
+    }
+    return combatants;
+  }
+
+  /**
+   * The order in which units of one side are killed, mirroring the casualty selection of the dummy players used by
+   * the odds calculator.
+   */
+  private static List<Unit> orderOfLoss(final List<Unit> units, final boolean defending, final PlayerID player,
+      final List<Unit> enemyUnits, final Territory location, final Collection<TerritoryEffect> territoryEffects,
+      final boolean keepOneLandUnit, final List<Unit> orderOfLosses, final GameData data) {
+    final List<Unit> defaultOrder =
+        BattleCalculator.getDefaultCasualtyOrder(units, defending, player, enemyUnits, location, territoryEffects, data);
+    final List<Unit> order = new ArrayList<>(units.size());
+    if (orderOfLosses != null) {
+      for (final Unit unit : orderOfLosses) {
+        if (units.contains(unit) && !order.contains(unit)) {
+          order.add(unit);
+        }
+      }
+    }
+    if (order.isEmpty() && keepOneLandUnit && Match.someMatch(units, Matches.UnitIsNotLand)) {
+      // the strongest land unit dies last
+      Unit lastLandUnit = null;
+      for (final Unit unit : defaultOrder) {
+        if (Matches.UnitIsLand.match(unit)) {
+          lastLandUnit = unit;
+        }
+      }
+      if (lastLandUnit != null) {
+        defaultOrder.remove(lastLandUnit);
+        defaultOrder.add(lastLandUnit);
+      }
+    }
+    for (final Unit unit : defaultOrder) {
+      if (!order.contains(unit)) {
+        order.add(unit);
+      }
+    }
+    return order;
+  }
+
+  /**
+   * Fights this battle runCount times and adds the results. Only one result object is created for every distinct
+   * outcome, so most runs do not allocate at all.
+   */
+  void simulate(final int runCount, final Random random, final AggregateResults results) {
+    final OutcomeCache outcomes = new OutcomeCache();
+    for (int i = 0; i < runCount; i++) {
+      results.addResult(fight(random, outcomes));
+    }
+  }
+
+  private BattleResults fight(final Random random, final OutcomeCache outcomes) {
+    int attackersKilled = 0;
+    int attackerExtraHitPoints = m_attacker.extraHitPoints;
+    int defendersKilled = 0;
+    int defenderExtraHitPoints = m_defender.extraHitPoints;
+    int round = 1;
+    while (true) {
+      // both sides fire at the same time
+      final int attackerHits = m_attacker.roll(attackersKilled, random, m_diceSides, m_lowLuck);
+      final int defenderHits = m_defender.roll(defendersKilled, random, m_diceSides, m_lowLuck);
+      final int attackerDamage = Math.min(defenderHits, attackerExtraHitPoints);
+      attackerExtraHitPoints -= attackerDamage;
+      attackersKilled = Math.min(m_attacker.unitCount, attackersKilled + defenderHits - attackerDamage);
+      final int defenderDamage = Math.min(attackerHits, defenderExtraHitPoints);
+      defenderExtraHitPoints -= defenderDamage;
+      defendersKilled = Math.min(m_defender.unitCount, defendersKilled + attackerHits - defenderDamage);
+      final WhoWon whoWon;
+      if (attackersKilled == m_attacker.unitCount) {
+        whoWon = WhoWon.DEFENDER;
+      } else if (defendersKilled == m_defender.unitCount) {
+        whoWon = WhoWon.ATTACKER;
+      } else if ((m_maxRounds > 0 && m_maxRounds <= round)
+          || (!m_attacker.canHit(attackersKilled) && !m_defender.canHit(defendersKilled))) {
+        whoWon = WhoWon.DRAW;
+      } else if (shouldAttackerRetreat(round, attackersKilled)) {
+        whoWon = WhoWon.DEFENDER;
+      } else {
+        round++;
+        continue;
+      }
+      return outcomes.get(round, attackersKilled, defendersKilled, whoWon, this);
+    }
+  }
+
+  /**
+   * Mirrors the retreat decision of the dummy attacking player.
+   */
+  private boolean shouldAttackerRetreat(final int round, final int attackersKilled) {
+    if (m_retreatAfterRound > -1 && round >= m_retreatAfterRound) {
+      return true;
+    }
+    if (!m_retreatWhenOnlyAirLeft && m_retreatAfterXUnitsLeft <= -1) {
+      return false;
+    }
+    final int unitsLeft = m_attacker.unitCount - attackersKilled;
+    if (m_retreatWhenOnlyAirLeft) {
+      int retreatNum = m_attacker.airLeft[attackersKilled];
+      if (m_retreatAfterXUnitsLeft > 0) {
+        retreatNum += m_retreatAfterXUnitsLeft;
+      }
+      if (retreatNum >= unitsLeft) {
+        return true;
+      }
+    }
+    return m_retreatAfterXUnitsLeft > -1 && m_retreatAfterXUnitsLeft >= unitsLeft;
+  }
+
+  private BattleResults createResults(final int round, final int attackersKilled, final int defendersKilled,
+      final WhoWon whoWon) {
+    return new BattleResults(round, m_attacker.remaining(attackersKilled), m_defender.remaining(defendersKilled),
+        whoWon, m_data);
+  }
+
+  /**
+   * One side of the battle. Units are indexed in their order of loss, so after k units are killed the units k to
+   * unitCount - 1 are still alive.
+   */
+  private static final class Side {
+    private final List<Unit> m_units;
+    final int unitCount;
+    final int extraHitPoints;
+    /**
+     * Strength and rolls of every unit, indexed by the number of units killed and then by unit. Support depends on
+     * which units are alive, so the rows can differ, but identical rows are shared.
+     */
+    private final int[][] m_strength;
+    private final int[][] m_rolls;
+    private final boolean[] m_chooseBestRoll;
+    /**
+     * Low luck power of the surviving units, indexed by the number of units killed.
+     */
+    private final int[] m_lowLuckPower;
+    /**
+     * Number of surviving air units, indexed by the number of units killed.
+     */
+    final int[] airLeft;
+    /**
+     * The highest index of a unit with a base attack or defense of at least 1, or -1 if there is none.
+     */
+    private final int m_lastUnitThatCanHit;
+
+    Side(final List<Unit> units, final boolean defending, final List<Unit> enemyUnits, final Territory location,
+        final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+      m_units = Collections.unmodifiableList(new ArrayList<>(units));
+      unitCount = units.size();
+      final boolean lhtrBombers = Properties.getLHTR_Heavy_Bombers(data);
+      m_chooseBestRoll = new boolean[unitCount];
+      airLeft = new int[unitCount + 1];
+      int extra = 0;
+      int lastUnitThatCanHit = -1;
+      final Match<Unit> canHit =
+          defending ? Matches.unitHasDefendValueOfAtLeast(1) : Matches.unitHasAttackValueOfAtLeast(1);
+      for (int i = unitCount - 1; i >= 0; i--) {
+        final Unit unit = units.get(i);
+        final UnitAttachment ua = UnitAttachment.get(unit.getType());
+        extra += Math.max(0, ua.getHitPoints() - 1 - unit.getHits());
+        m_chooseBestRoll[i] = lhtrBombers || ua.getChooseBestRoll();
+        airLeft[i] = airLeft[i + 1] + (Matches.UnitIsAir.match(unit) ? 1 : 0);
+        if (lastUnitThatCanHit == -1 && canHit.match(unit)) {
+          lastUnitThatCanHit = i;
+        }
+      }
+      extraHitPoints = extra;
+      m_lastUnitThatCanHit = lastUnitThatCanHit;
+      m_strength = new int[unitCount][];
+      m_rolls = new int[unitCount][];
+      m_lowLuckPower = new int[unitCount];
+      final List<Unit> allEnemyUnits = new ArrayList<>(enemyUnits);
+      for (int killed = 0; killed < unitCount; killed++) {
+        final List<Unit> alive = new ArrayList<>(units.subList(killed, unitCount));
+        DiceRoll.sortByStrength(alive, defending);
+        final Map<Unit, Tuple<Integer, Integer>> powerAndRolls = DiceRoll.getUnitPowerAndRollsForNormalBattles(
+            alive, allEnemyUnits, defending, false, data, location, territoryEffects, false, null);
+        m_lowLuckPower[killed] = DiceRoll.getTotalPower(powerAndRolls, data);
+        final int[] strength = new int[unitCount];
+        final int[] rolls = new int[unitCount];
+        for (int i = killed; i < unitCount; i++) {
+          final Tuple<Integer, Integer> unitPowerAndRolls = powerAndRolls.get(units.get(i));
+          strength[i] = unitPowerAndRolls.getFirst();
+          rolls[i] = unitPowerAndRolls.getSecond();
+        }
+        m_strength[killed] = killed > 0 && sameFrom(killed, strength, m_strength[killed - 1]) ? m_strength[killed - 1]
+            : strength;
+        m_rolls[killed] = killed > 0 && sameFrom(killed, rolls, m_rolls[killed - 1]) ? m_rolls[killed - 1] : rolls;
+      }
+    }
+
+    private static boolean sameFrom(final int from, final int[] a, final int[] b) {
+      for (int i = from; i < a.length; i++) {
+        if (a[i] != b[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean canHit(final int killed) {
+      return m_lastUnitThatCanHit >= killed;
+    }
+
+    List<Unit> remaining(final int killed) {
+      return new ArrayList<>(m_units.subList(killed, unitCount));
+    }
+
+    /**
+     * Rolls the dice for the surviving units of this side, the same way {@link DiceRoll} does.
+     *
+     * @return the number of hits.
+     */
+    int roll(final int killed, final Random random, final int diceSides, final boolean lowLuck) {
+      if (lowLuck) {
+        final int power = m_lowLuckPower[killed];
+        int hits = power / diceSides;
+        final int rollFor = power % diceSides;
+        if (rollFor > 0 && rollFor > random.nextInt(diceSides)) {
+          hits++;
+        }
+        return hits;
+      }
+      final int[] strengths = m_strength[killed];
+      final int[] rolls = m_rolls[killed];
+      int hits = 0;
+      for (int i = killed; i < unitCount; i++) {
+        final int strength = strengths[i];
+        final int unitRolls = rolls[i];
+        if (unitRolls <= 0 || strength <= 0) {
+          continue;
+        }
+        if (unitRolls > 1 && m_chooseBestRoll[i]) {
+          int smallestDie = diceSides;
+          for (int j = 0; j < unitRolls; j++) {
+            smallestDie = Math.min(smallestDie, random.nextInt(diceSides));
+          }
+          if (strength > smallestDie) {
+            hits++;
+          }
+        } else {
+          for (int j = 0; j < unitRolls; j++) {
+            if (strength > random.nextInt(diceSides)) {
+              hits++;
+            }
+          }
+        }
+      }
+      return hits;
+    }
+  }
+
+  /**
+   * Open addressing map from the outcome of a battle to its results.
+   */
+  private static final class OutcomeCache {
+    private long[] m_keys = new long[64];
+    private BattleResults[] m_values = new BattleResults[64];
+    private int m_size = 0;
+
+    BattleResults get(final int round, final int attackersKilled, final int defendersKilled, final WhoWon whoWon,
+        final CompiledBattle battle) {
+      // units and rounds are well below 2^20, so the key is unique
+      final long key = ((long) round << 42) | ((long) attackersKilled << 22) | ((long) defendersKilled << 2)
+          | whoWon.ordinal();
+      int index = slot(key, m_keys.length);
+      while (m_values[index] != null) {
+        if (m_keys[index] == key) {
+          return m_values[index];
+        }
+        index = (index + 1) & (m_keys.length - 1);
+      }
+      final BattleResults results = battle.createResults(round, attackersKilled, defendersKilled, whoWon);
+      m_keys[index] = key;
+      m_values[index] = results;
+      if (++m_size * 2 > m_keys.length) {
+        grow();
+      }
+      return results;
+    }
+
+    private static int slot(final long key, final int length) {
+      final long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash >>> 32) & (length - 1);
+    }
+
+    private void grow() {
+      final long[] keys = m_keys;
+      final BattleResults[] values = m_values;
+      m_keys = new long[keys.length * 2];
+      m_values = new BattleResults[values.length * 2];
+      for (int i = 0; i < keys.length; i++) {
+        if (values[i] != null) {
+          int index = slot(keys[i], m_keys.length);
+          while (m_values[index] != null) {
+            index = (index + 1) & (m_keys.length - 1);
+          }
+          m_keys[index] = keys[i];
+          m_values[index] = values[i];
+        }
+      }
+    }
+  }
+}
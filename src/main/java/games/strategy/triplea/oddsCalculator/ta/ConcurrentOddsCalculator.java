@@ -1,45 +1,84 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
-import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.framework.GameDataSnapshot;
+import games.strategy.engine.random.MersenneTwister;
 import games.strategy.util.CountUpAndDownLatch;
 
 /**
- * Concurrent wrapper class for the OddsCalculator. It spawns multiple worker threads and splits up the run count
- * across these workers. This is mainly to be used by AIs since they call the OddsCalculator a lot.
+ * Concurrent wrapper class for the OddsCalculator. This is mainly to be used by AIs since they call the OddsCalculator a
+ * lot.
+ *
+ * <p>
+ * Battles that can be compiled (see {@link CompiledBattle}) are split into small chunks of runs which are simulated by
+ * a fork/join pool, so idle threads steal work from slow ones. Every chunk has its own random number generator seeded
+ * from the chunk index, so the results only depend on the seed, not on the scheduling. All threads share the one
+ * compiled battle, which only reads the game data of the first worker.
+ * </p>
+ *
+ * <p>
+ * Any other battle is fought by multiple workers, each with its own copy of the game data, and the run count is split
+ * across these workers. Only the first worker is created when the game data is set, the others are forked from a
+ * snapshot the first time they are needed.
+ * </p>
  */
 public class ConcurrentOddsCalculator implements IOddsCalculator {
   private static final Logger s_logger = Logger.getLogger(ConcurrentOddsCalculator.class.getName());
   private static final int MAX_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+  private static final int SIMULATION_CHUNK_SIZE = 50;
+  // the calculators not shut down, which share the memory left for copies of the game data
+  private static final AtomicInteger s_liveCalculators = new AtomicInteger();
   private int m_currentThreads = MAX_THREADS;
   private final ExecutorService m_executor;
+  private final ForkJoinPool m_simulationPool;
   private final CopyOnWriteArrayList<OddsCalculator> m_workers = new CopyOnWriteArrayList<>();
+  // the workers are forked from this, null until the game data is set
+  private volatile GameDataSnapshot m_snapshot = null;
+  // sets the calculate data on a worker, with the given run count
+  private volatile BiConsumer<OddsCalculator, Integer> m_calculateData = null;
+  private volatile int m_runCount = 0;
+  // null for a new seed every calculation
+  private volatile Long m_seed = null;
+  private volatile boolean m_cancelled = false;
+  private volatile ConfidenceTarget m_confidenceTarget = null;
   // do not let calc be set up til data is set
   private volatile boolean m_isDataSet = false;
   // do not let calc start until it is set
   private volatile boolean m_isCalcSet = false;
   // shortcut everything if we are shutting down
   private volatile boolean m_isShutDown = false;
+  private final AtomicBoolean m_isLive = new AtomicBoolean(true);
   // shortcut setting of previous game data if we are trying to set it to a new one, or shutdown
   private volatile int m_cancelCurrentOperation = 0;
   // do not let calcing happen while we are setting game data
@@ -55,8 +94,18 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   private final List<OddsCalculatorListener> m_listeners = new ArrayList<>();
 
   public ConcurrentOddsCalculator(final String threadNamePrefix) {
-    m_executor = Executors.newFixedThreadPool(MAX_THREADS,
+    // every AI player has its own calculator, so let idle threads end rather than keeping them for the whole game
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
         new DaemonThreadFactory(true, threadNamePrefix + " ConcurrentOddsCalculator Worker"));
+    executor.allowCoreThreadTimeOut(true);
+    m_executor = executor;
+    m_simulationPool = new ForkJoinPool(MAX_THREADS, pool -> {
+      final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName(threadNamePrefix + " ConcurrentOddsCalculator Simulation " + thread.getPoolIndex());
+      return thread;
+    }, null, false);
+    s_liveCalculators.incrementAndGet();
     s_logger.fine("Initialized executor thread pool with size: " + MAX_THREADS);
   }
 
@@ -81,6 +130,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       m_isCalcSet = false;
       if (data == null || m_isShutDown) {
         m_workers.clear();
+        m_snapshot = null;
         ++m_cancelCurrentOperation;
         // allow calcing and other stuff to go ahead
         m_latchSetData.countDown();
@@ -88,7 +138,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
         ++m_cancelCurrentOperation;
         // increment our token, so that we can set the data in a different thread and return from this one
         m_latchWorkerThreadsCreation.increment();
-        m_executor.submit(() -> createWorkers(data));
+        m_executor.execute(() -> createWorkers(data));
       }
     }
   }
@@ -98,6 +148,14 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     return m_currentThreads;
   }
 
+  /**
+   * @return the number of workers with their own copy of the game data, which fight the battles that can not be
+   *         compiled.
+   */
+  int getWorkerCount() {
+    return m_workers.size();
+  }
+
   // use both time and memory left to determine how many copies to make
   private static int getThreadsToUse(final long timeToCopyInMillis, final long memoryUsedBeforeCopy) {
     if (timeToCopyInMillis > 20000 || MAX_THREADS == 1) {
@@ -112,8 +170,9 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     final long memoryUsedByCopy = Math.max(100000, (usedMemoryAfterCopy - memoryUsedBeforeCopy));
     // regardless of how stupid the gc is
     // we leave some memory left over just in case
-    final int numberOfTimesWeCanCopyMax =
-        Math.max(1, (int) (Math.min(Integer.MAX_VALUE, (memoryLeftBeforeMax / memoryUsedByCopy))));
+    // and share it with the other calculators (one per AI player), which copy their game data too
+    final long copiesLeft = memoryLeftBeforeMax / memoryUsedByCopy / Math.max(1, s_liveCalculators.get());
+    final int numberOfTimesWeCanCopyMax = Math.max(1, (int) (Math.min(Integer.MAX_VALUE, copiesLeft)));
 
     if (timeToCopyInMillis > 3000) {
       // use half the number of threads available if we took
@@ -126,59 +185,37 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
 
   private void createWorkers(final GameData data) {
     m_workers.clear();
+    m_snapshot = null;
     if (data != null && m_cancelCurrentOperation >= 0) {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
       final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+      // take a single snapshot (this is the only time we need the lock on the real data, so the game can continue while
+      // we make our copies), then fork the first worker's copy from it
+      final GameDataSnapshot snapshot;
       final GameData newData;
       try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
-        data.acquireReadLock();
-        newData = GameDataUtils.cloneGameData(data, false);
-      } finally {
-        data.releaseReadLock();
+        snapshot = GameDataSnapshot.of(data, false);
+        newData = snapshot.fork();
+      } catch (final IOException | RuntimeException e) {
+        ClientLogger.logQuietly(e);
+        m_latchWorkerThreadsCreation.countDown();
+        m_latchSetData.countDown();
+        return;
       }
       m_currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
-        // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
-        if (m_currentThreads <= 2 || MAX_THREADS <= 2) {
-          // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to
-          // make)
-          while (m_cancelCurrentOperation >= 0 && i < m_currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            m_workers.add(new OddsCalculator(newData, (m_currentThreads == ++i)));
-          }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
-          final CountDownLatch workerLatch = new CountDownLatch(m_currentThreads - 1);
-          while (i < (m_currentThreads - 1)) {
-            ++i;
-            m_executor.submit(() -> {
-              if (m_cancelCurrentOperation >= 0) {
-                m_workers.add(new OddsCalculator(newData, false));
-              }
-              workerLatch.countDown();
-            });
-          }
-          // the last one will use our already copied data from above, without copying it again
-          m_workers.add(new OddsCalculator(newData, true));
-          try {
-            workerLatch.await();
-          } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-          }
-        }
-      } finally {
-        newData.releaseReadLock();
+      if (m_cancelCurrentOperation >= 0) {
+        // the other workers are only forked once a battle can not be compiled, see forkRemainingWorkers
+        final OddsCalculator worker = new OddsCalculator(newData, true);
+        worker.setConfidenceTarget(m_confidenceTarget);
+        m_workers.add(worker);
+        m_snapshot = snapshot;
       }
     }
     if (m_cancelCurrentOperation < 0 || data == null) {
       // we could have cancelled while setting data, so clear the workers again if so
       m_workers.clear();
+      m_snapshot = null;
       m_isDataSet = false;
     } else {
       // should make sure that all workers have their game data set before we can call calculate and other things
@@ -192,12 +229,75 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     s_logger.fine("Initialized worker thread pool with size: " + m_workers.size());
   }
 
+  /**
+   * Forks workers from our snapshot until we have as many as we decided to use.
+   */
+  private void forkRemainingWorkers() {
+    final GameDataSnapshot snapshot = m_snapshot;
+    final OddsCalculator firstWorker = getFirstWorker();
+    final int workersToFork;
+    synchronized (m_mutexSetGameData) {
+      workersToFork = m_currentThreads - m_workers.size();
+      if (!m_isDataSet || m_isShutDown || snapshot == null || firstWorker == null || workersToFork <= 0) {
+        return;
+      }
+      // setting new game data must wait for us, so we do not add old workers to new data
+      m_latchWorkerThreadsCreation.increment();
+    }
+    try {
+      final CountDownLatch workerLatch = new CountDownLatch(workersToFork);
+      for (int i = 0; i < workersToFork; i++) {
+        // executed rather than submitted, so a failed fork is logged instead of lost in a discarded future, and the
+        // calculation goes on with the workers that were forked
+        m_executor.execute(() -> {
+          try {
+            if (m_cancelCurrentOperation >= 0) {
+              final OddsCalculator worker = new OddsCalculator(fork(snapshot), true);
+              worker.copySettings(firstWorker);
+              m_workers.add(worker);
+            }
+          } catch (final RuntimeException e) {
+            ClientLogger.logQuietly(e);
+          } finally {
+            workerLatch.countDown();
+          }
+        });
+      }
+      workerLatch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      m_latchWorkerThreadsCreation.countDown();
+    }
+    s_logger.fine("Forked worker thread pool to size: " + m_workers.size());
+  }
+
+  private OddsCalculator getFirstWorker() {
+    // the workers could be cleared at any time
+    for (final OddsCalculator worker : m_workers) {
+      return worker;
+    }
+    return null;
+  }
+
+  private static GameData fork(final GameDataSnapshot snapshot) {
+    try {
+      return snapshot.fork();
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   @Override
   public void shutdown() {
     m_isShutDown = true;
+    if (m_isLive.compareAndSet(true, false)) {
+      s_liveCalculators.decrementAndGet();
+    }
     m_cancelCurrentOperation = Integer.MIN_VALUE / 2;
     cancel();
     m_executor.shutdown();
+    m_simulationPool.shutdown();
     synchronized (m_listeners) {
       m_listeners.clear();
     }
@@ -222,23 +322,23 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   @Override
   public void setCalculateData(final PlayerID attacker, final PlayerID defender, final Territory location,
       final Collection<Unit> attacking, final Collection<Unit> defending, final Collection<Unit> bombarding,
-      final Collection<TerritoryEffect> territoryEffects, int runCount) {
+      final Collection<TerritoryEffect> territoryEffects, final int runCount) {
     synchronized (m_mutexCalcIsRunning) {
       awaitLatch();
       m_isCalcSet = false;
-      final int workerNum = m_workers.size();
-      final int workerRunCount = Math.max(1, (runCount / Math.max(1, workerNum)));
-      for (final OddsCalculator worker : m_workers) {
-        if (!m_isDataSet || m_isShutDown) {
-          // we could have attempted to set a new game data, while the old one was still being set, causing it to abort
-          // with null data
-          return;
-        }
-        worker.setCalculateData(attacker, defender, location, attacking, defending, bombarding, territoryEffects,
-            (runCount <= 0 ? 0 : workerRunCount));
-        runCount -= workerRunCount;
+      final OddsCalculator firstWorker = getFirstWorker();
+      if (!m_isDataSet || m_isShutDown || firstWorker == null) {
+        // we could have attempted to set a new game data, while the old one was still being set, causing it to abort
+        // with null data
+        return;
       }
-      if (!m_isDataSet || m_isShutDown || workerNum <= 0) {
+      // the other workers only get the calculate data if the battle can not be compiled
+      m_calculateData = (worker, workerRunCount) -> worker.setCalculateData(attacker, defender, location, attacking,
+          defending, bombarding, territoryEffects, workerRunCount);
+      m_runCount = Math.max(0, runCount);
+      firstWorker.setCalculateData(attacker, defender, location, attacking, defending, bombarding, territoryEffects,
+          m_runCount);
+      if (!m_isDataSet || m_isShutDown) {
         return;
       }
       m_isCalcSet = true;
@@ -246,15 +346,72 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   }
 
   /**
-   * Concurrently calculates odds using the OddsCalculatorWorker. It uses Executor to process the results. Then waits
-   * for all the future
-   * results and combines them together.
+   * Sets the seed for simulated battles, so that calculating the same battle again gives the same results.
+   *
+   * @param seed
+   *        null to use a new seed for every calculation (the default).
+   */
+  public void setSeed(final Long seed) {
+    m_seed = seed;
+  }
+
+  /**
+   * Concurrently calculates odds. Compiled battles are simulated by the fork/join pool, other battles by the
+   * OddsCalculator workers. It uses Executor to process the results. Then waits for all the future results and combines
+   * them together.
    */
   @Override
   public AggregateResults calculate() throws IllegalStateException {
     synchronized (m_mutexCalcIsRunning) {
       awaitLatch();
       final long start = System.currentTimeMillis();
+      m_cancelled = false;
+      final OddsCalculator firstWorker = getFirstWorker();
+      if (!getIsReady() || firstWorker == null) {
+        // we could have attempted to set a new game data, while the old one was still being set, causing it to abort
+        // with null data
+        return new AggregateResults(0);
+      }
+      if (!firstWorker.getIsReady()) {
+        throw new IllegalStateException("Called calculate before setting calculate data!");
+      }
+      final CompiledBattle compiledBattle = firstWorker.compileBattle();
+      if (compiledBattle != null) {
+        final long seed = (m_seed == null) ? System.nanoTime() : m_seed;
+        final ConfidenceTarget confidenceTarget = m_confidenceTarget;
+        // with a confidence target, the run count is only the maximum
+        int nextCheck =
+            (confidenceTarget == null) ? m_runCount : Math.min(m_runCount, confidenceTarget.getMinRunCount());
+        // sized for the runs up to the first check, most calculations with a confidence target stop there
+        final AggregateResults results = new AggregateResults(nextCheck);
+        int runs = 0;
+        while (runs < m_runCount && !m_cancelled) {
+          final int fromChunk = runs / SIMULATION_CHUNK_SIZE;
+          final int toChunk = (nextCheck + SIMULATION_CHUNK_SIZE - 1) / SIMULATION_CHUNK_SIZE;
+          results.addResults(
+              m_simulationPool.invoke(new SimulationTask(compiledBattle, seed, fromChunk, toChunk)).getResults());
+          runs = Math.min(m_runCount, toChunk * SIMULATION_CHUNK_SIZE);
+          if (runs < m_runCount) {
+            if (firstWorker.isConfidenceTargetReached(confidenceTarget, results, start)) {
+              break;
+            }
+            nextCheck = Math.min(m_runCount, confidenceTarget.getNextCheck(runs));
+          }
+        }
+        results.setTime(System.currentTimeMillis() - start);
+        return results;
+      }
+      forkRemainingWorkers();
+      // split up the run count across the workers
+      int runCount = m_runCount;
+      final int workerRunCount = Math.max(1, (runCount / Math.max(1, m_workers.size())));
+      for (final OddsCalculator worker : m_workers) {
+        if (!getIsReady()) {
+          return new AggregateResults(0);
+        }
+        m_calculateData.accept(worker, (runCount <= 0 ? 0 : workerRunCount));
+        runCount -= workerRunCount;
+      }
       // Create worker thread pool and start all workers
       int totalRunCount = 0;
       final List<Future<AggregateResults>> list = new ArrayList<>();
@@ -332,11 +489,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
 
   @Override
   public int getRunCount() {
-    int totalRunCount = 0;
-    for (final OddsCalculator worker : m_workers) {
-      totalRunCount += worker.getRunCount();
-    }
-    return totalRunCount;
+    return m_runCount;
   }
 
   @Override
@@ -410,9 +563,21 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     }
   }
 
+  @Override
+  public void setConfidenceTarget(final ConfidenceTarget confidenceTarget) {
+    synchronized (m_mutexCalcIsRunning) {
+      awaitLatch();
+      m_confidenceTarget = confidenceTarget;
+      for (final OddsCalculator worker : m_workers) {
+        worker.setConfidenceTarget(confidenceTarget);
+      }
+    }
+  }
+
   // not on purpose, we need to be able to cancel at any time
   @Override
   public void cancel() {
+    m_cancelled = true;
     for (final OddsCalculator worker : m_workers) {
       worker.cancel();
     }
@@ -439,6 +604,44 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       }
     }
   }
-}
 
+  /**
+   * Simulates the chunks [from, to) of the runs of a compiled battle. The chunks are split in halves until a single one
+   * is left, so that idle threads can steal the other half.
+   */
+  private final class SimulationTask extends RecursiveTask<AggregateResults> {
+    private static final long serialVersionUID = -2858932218592371234L;
+    private final CompiledBattle m_battle;
+    private final long m_seed;
+    private final int m_from;
+    private final int m_to;
+
+    SimulationTask(final CompiledBattle battle, final long seed, final int from, final int to) {
+      m_battle = battle;
+      m_seed = seed;
+      m_from = from;
+      m_to = to;
+    }
 
+    @Override
+    protected AggregateResults compute() {
+      if (m_to - m_from > 1) {
+        final int middle = (m_from + m_to) >>> 1;
+        final SimulationTask first = new SimulationTask(m_battle, m_seed, m_from, middle);
+        first.fork();
+        final AggregateResults second = new SimulationTask(m_battle, m_seed, middle, m_to).compute();
+        // keep the results in chunk order, so they do not depend on which thread ran which chunk
+        final AggregateResults results = first.join();
+        results.addResults(second.getResults());
+        return results;
+      }
+      final int runs = Math.min(SIMULATION_CHUNK_SIZE, m_runCount - m_from * SIMULATION_CHUNK_SIZE);
+      final AggregateResults results = new AggregateResults(runs);
+      if (!m_cancelled) {
+        final Random random = new MersenneTwister(new int[] {(int) m_seed, (int) (m_seed >>> 32), m_from});
+        m_battle.simulate(runs, random, results);
+      }
+      return results;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+
+/**
+ * Lets an odds calculator stop before its run count is used up, as soon as the results are precise enough or the time
+ * budget is spent. The run count set with the calculate data is then the maximum number of runs.
+ */
+public class ConfidenceTarget {
+  /**
+   * The z score of a 95% confidence level.
+   */
+  public static final double Z_SCORE_95 = 1.96;
+  private static final int DEFAULT_MIN_RUN_COUNT = 16;
+  private final double m_attackerWinPercentError;
+  private final double m_tuvSwingError;
+  private final double m_zScore;
+  private final int m_minRunCount;
+  private final long m_timeLimitMillis;
+
+  /**
+   * Stops once the attacker win percent and the TUV swing are known with 95% confidence to the given errors.
+   */
+  public ConfidenceTarget(final double attackerWinPercentError, final double tuvSwingError) {
+    this(attackerWinPercentError, tuvSwingError, Z_SCORE_95, DEFAULT_MIN_RUN_COUNT, 0);
+  }
+
+  /**
+   * @param attackerWinPercentError
+   *        half the width of the confidence interval of the attacker win percent (0.05 is plus or minus 5%).
+   * @param tuvSwingError
+   *        half the width of the confidence interval of the TUV swing, or a negative number to ignore the TUV swing.
+   * @param zScore
+   *        the z score of the confidence level, for example {@link #Z_SCORE_95}.
+   * @param minRunCount
+   *        never stop before this many runs.
+   * @param timeLimitMillis
+   *        stop after this many milliseconds even if the errors are not reached yet, or 0 for no time limit.
+   */
+  public ConfidenceTarget(final double attackerWinPercentError, final double tuvSwingError, final double zScore,
+      final int minRunCount, final long timeLimitMillis) {
+    m_attackerWinPercentError = attackerWinPercentError;
+    m_tuvSwingError = tuvSwingError;
+    m_zScore = zScore;
+    m_minRunCount = Math.max(2, minRunCount);
+    m_timeLimitMillis = timeLimitMillis;
+  }
+
+  public double getAttackerWinPercentError() {
+    return m_attackerWinPercentError;
+  }
+
+  public double getTUVswingError() {
+    return m_tuvSwingError;
+  }
+
+  public double getZScore() {
+    return m_zScore;
+  }
+
+  public int getMinRunCount() {
+    return m_minRunCount;
+  }
+
+  public long getTimeLimitMillis() {
+    return m_timeLimitMillis;
+  }
+
+  /**
+   * @return true if no more runs are needed.
+   */
+  boolean isReached(final AggregateResults results, final long elapsedMillis, final PlayerID attacker,
+      final PlayerID defender, final GameData data) {
+    if (m_timeLimitMillis > 0 && elapsedMillis >= m_timeLimitMillis) {
+      return true;
+    }
+    if (results.getRollCount() < m_minRunCount) {
+      return false;
+    }
+    if (results.getAttackerWinPercentError(m_zScore) > m_attackerWinPercentError) {
+      return false;
+    }
+    return m_tuvSwingError < 0 || results.getTUVswingError(attacker, defender, data, m_zScore) <= m_tuvSwingError;
+  }
+
+  /**
+   * @return the number of runs after which to check again, so checking does not take longer than the runs themselves.
+   */
+  int getNextCheck(final int runCount) {
+    return Math.max(m_minRunCount, runCount + Math.max(8, runCount / 4));
+  }
+
+  @Override
+  public String toString() {
+    return "ConfidenceTarget attackerWinPercentError:" + m_attackerWinPercentError + " tuvSwingError:"
+        + m_tuvSwingError + " zScore:" + m_zScore + " minRunCount:" + m_minRunCount + " timeLimitMillis:"
+        + m_timeLimitMillis;
+  }
+}
@@ -42,6 +42,14 @@ public interface IOddsCalculator {
 
   void setDefenderOrderOfLosses(final String defenderOrderOfLosses);
 
+  /**
+   * Stop calculating early once the given target is reached, the run count is then only the maximum.
+   *
+   * @param confidenceTarget
+   *        null to always use the whole run count (the default).
+   */
+  void setConfidenceTarget(final ConfidenceTarget confidenceTarget);
+
   void cancel();
 
   void shutdown();
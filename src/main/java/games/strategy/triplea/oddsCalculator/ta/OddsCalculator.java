@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
@@ -29,6 +30,7 @@ import games.strategy.engine.gamePlayer.IRemotePlayer;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.random.IRandomStats.DiceType;
+import games.strategy.engine.random.MersenneTwister;
 import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.net.GUID;
 import games.strategy.sound.HeadlessSoundChannel;
@@ -60,6 +62,7 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
   public static final String OOL_SEPARATOR_REGEX = ";";
   public static final String OOL_AMOUNT_DESCRIPTOR = "^";
   public static final String OOL_AMOUNT_DESCRIPTOR_REGEX = "\\^";
+  private static final int SIMULATION_CHUNK_SIZE = 100;
   private GameData m_data = null;
   private PlayerID m_attacker = null;
   private PlayerID m_defender = null;
@@ -77,6 +80,8 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
   private String m_defenderOrderOfLosses = null;
   private int m_runCount = 0;
   private volatile boolean m_cancelled = false;
+  private boolean m_useCompiledBattle = true;
+  private ConfidenceTarget m_confidenceTarget = null;
   private volatile boolean m_isDataSet = false;
   private volatile boolean m_isCalcSet = false;
   private volatile boolean m_isRunning = false;
@@ -215,6 +220,18 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     m_defenderOrderOfLosses = defenderOrderOfLosses;
   }
 
+  @Override
+  public void setConfidenceTarget(final ConfidenceTarget confidenceTarget) {
+    m_confidenceTarget = confidenceTarget;
+  }
+
+  /**
+   * Set to false to fight every run as a real battle, even if it could be simulated by a {@link CompiledBattle}.
+   */
+  void setUseCompiledBattle(final boolean useCompiledBattle) {
+    m_useCompiledBattle = useCompiledBattle;
+  }
+
   @Override
   public void cancel() {
     m_cancelled = true;
@@ -236,7 +253,6 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
   private AggregateResults calculate(final int count) {
     m_isRunning = true;
     final long start = System.currentTimeMillis();
-    final AggregateResults rVal = new AggregateResults(count);
     final BattleTracker battleTracker = new BattleTracker();
     // CasualtySortingCaching can cause issues if there is more than 1 one battle being calced at the same time (like if
     // the AI and a human
@@ -248,25 +264,53 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
         OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data);
     final List<Unit> defenderOrderOfLosses =
         OddsCalculator.getUnitListByOrderOfLoss(m_defenderOrderOfLosses, m_defendingUnits, m_data);
-    for (int i = 0; i < count && !m_cancelled; i++) {
-      final CompositeChange allChanges = new CompositeChange();
-      final DummyDelegateBridge bridge1 =
-          new DummyDelegateBridge(m_attacker, m_data, allChanges, attackerOrderOfLosses, defenderOrderOfLosses,
-              m_keepOneAttackingLandUnit, m_retreatAfterRound, m_retreatAfterXUnitsLeft, m_retreatWhenOnlyAirLeft);
-      final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
-      final MustFightBattle battle = new MustFightBattle(m_location, m_attacker, m_data, battleTracker);
-      battle.setHeadless(true);
-      battle.isAmphibious();
-      battle.setUnits(m_defendingUnits, m_attackingUnits, m_bombardingUnits,
-          (m_amphibious ? m_attackingUnits : new ArrayList<>()), m_defender, m_territoryEffects);
-      // battle.setAttackingFromAndMap(attackingFromMap);
-      bridge1.setBattle(battle);
-      battle.fight(bridge);
-      rVal.addResult(new BattleResults(battle, m_data));
-      // restore the game to its original state
-      m_data.performChange(allChanges.invert());
-      battleTracker.clear();
-      battleTracker.clearBattleRecords();
+    final CompiledBattle compiledBattle = compileBattle(attackerOrderOfLosses, defenderOrderOfLosses);
+    final ConfidenceTarget confidenceTarget = m_confidenceTarget;
+    // with a confidence target, count is only the maximum
+    int nextCheck = (confidenceTarget == null) ? count : Math.min(count, confidenceTarget.getMinRunCount());
+    final AggregateResults rVal = new AggregateResults(nextCheck);
+    if (compiledBattle != null) {
+      // simulate in chunks, so that we still notice when we are cancelled
+      final Random random = new MersenneTwister();
+      int runs = 0;
+      while (runs < count && !m_cancelled) {
+        final int chunk = Math.min(SIMULATION_CHUNK_SIZE, nextCheck - runs);
+        compiledBattle.simulate(chunk, random, rVal);
+        runs += chunk;
+        if (runs == nextCheck && runs < count) {
+          if (isConfidenceTargetReached(confidenceTarget, rVal, start)) {
+            break;
+          }
+          nextCheck = Math.min(count, confidenceTarget.getNextCheck(runs));
+        }
+      }
+    } else {
+      for (int i = 0; i < count && !m_cancelled; i++) {
+        final CompositeChange allChanges = new CompositeChange();
+        final DummyDelegateBridge bridge1 =
+            new DummyDelegateBridge(m_attacker, m_data, allChanges, attackerOrderOfLosses, defenderOrderOfLosses,
+                m_keepOneAttackingLandUnit, m_retreatAfterRound, m_retreatAfterXUnitsLeft, m_retreatWhenOnlyAirLeft);
+        final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
+        final MustFightBattle battle = new MustFightBattle(m_location, m_attacker, m_data, battleTracker);
+        battle.setHeadless(true);
+        battle.isAmphibious();
+        battle.setUnits(m_defendingUnits, m_attackingUnits, m_bombardingUnits,
+            (m_amphibious ? m_attackingUnits : new ArrayList<>()), m_defender, m_territoryEffects);
+        // battle.setAttackingFromAndMap(attackingFromMap);
+        bridge1.setBattle(battle);
+        battle.fight(bridge);
+        rVal.addResult(new BattleResults(battle, m_data));
+        // restore the game to its original state
+        m_data.performChange(allChanges.invert());
+        battleTracker.clear();
+        battleTracker.clearBattleRecords();
+        if (i + 1 == nextCheck && nextCheck < count) {
+          if (isConfidenceTargetReached(confidenceTarget, rVal, start)) {
+            break;
+          }
+          nextCheck = Math.min(count, confidenceTarget.getNextCheck(nextCheck));
+        }
+      }
     }
     // BattleCalculator.DisableCasualtySortingCaching();
     rVal.setTime(System.currentTimeMillis() - start);
@@ -275,6 +319,54 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     return rVal;
   }
 
+  /**
+   * Compiles the battle that is currently set, so that it can be simulated without changing our game data. The
+   * compiled battle only reads our game data, so it may be shared between threads as long as no new calculate data is
+   * set.
+   *
+   * @return null if the battle can not be compiled, and must be fought for real.
+   */
+  CompiledBattle compileBattle() {
+    if (!getIsReady()) {
+      throw new IllegalStateException("Called compileBattle before setting calculate data!");
+    }
+    return compileBattle(OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data),
+        OddsCalculator.getUnitListByOrderOfLoss(m_defenderOrderOfLosses, m_defendingUnits, m_data));
+  }
+
+  private CompiledBattle compileBattle(final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses) {
+    if (!m_useCompiledBattle) {
+      return null;
+    }
+    return CompiledBattle.compile(m_attacker, m_defender, m_location, m_attackingUnits, m_defendingUnits,
+        m_bombardingUnits, m_territoryEffects, m_amphibious, m_keepOneAttackingLandUnit, attackerOrderOfLosses,
+        defenderOrderOfLosses, m_retreatAfterRound, m_retreatAfterXUnitsLeft, m_retreatWhenOnlyAirLeft, m_data);
+  }
+
+  /**
+   * @return true if the given results of our battle, calculated since start, reach the given target.
+   */
+  boolean isConfidenceTargetReached(final ConfidenceTarget confidenceTarget, final AggregateResults results,
+      final long start) {
+    return confidenceTarget.isReached(results, System.currentTimeMillis() - start, m_attacker, m_defender, m_data);
+  }
+
+  /**
+   * Copies all settings that are not part of the calculate data from another calculator.
+   */
+  void copySettings(final OddsCalculator other) {
+    m_keepOneAttackingLandUnit = other.m_keepOneAttackingLandUnit;
+    m_amphibious = other.m_amphibious;
+    m_retreatAfterRound = other.m_retreatAfterRound;
+    m_retreatAfterXUnitsLeft = other.m_retreatAfterXUnitsLeft;
+    m_retreatWhenOnlyAirLeft = other.m_retreatWhenOnlyAirLeft;
+    m_attackerOrderOfLosses = other.m_attackerOrderOfLosses;
+    m_defenderOrderOfLosses = other.m_defenderOrderOfLosses;
+    m_useCompiledBattle = other.m_useCompiledBattle;
+    m_confidenceTarget = other.m_confidenceTarget;
+  }
+
   static boolean isValidOrderOfLoss(final String orderOfLoss, final GameData data) {
     if (orderOfLoss == null || orderOfLoss.trim().length() == 0) {
       return true;
@@ -18,7 +18,6 @@ import java.awt.event.MouseMotionAdapter;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,8 +28,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -38,6 +37,7 @@ import java.util.logging.Logger;
 
 import javax.swing.SwingUtilities;
 
+import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.ChangeAttachmentChange;
 import games.strategy.engine.data.CompositeChange;
@@ -73,6 +73,7 @@ import games.strategy.util.Tuple;
 public class MapPanel extends ImageScrollerLargeView {
   private static final long serialVersionUID = -3571551538356292556L;
   private static Logger logger = Logger.getLogger(MapPanel.class.getName());
+  private static final long UPDATE_DELAY_MILLIS = 16;
   private final ListenerList<MapSelectionListener> mapSelectionListeners = new ListenerList<>();
   private final ListenerList<UnitSelectionListener> unitSelectionListeners = new ListenerList<>();
   private final ListenerList<MouseOverUnitListener> mouseOverUnitsListeners = new ListenerList<>();
@@ -90,15 +91,21 @@ public class MapPanel extends ImageScrollerLargeView {
   private final List<Tile> images = new ArrayList<>();
   private RouteDescription routeDescription;
   private final TileManager tileManager;
-  private final BackgroundDrawer backgroundDrawer;
+  private final TileRenderer tileRenderer;
   private BufferedImage mouseShadowImage = null;
   private String movementLeftForCurrentUnits = "";
   private final IUIContext uiContext;
-  private final LinkedBlockingQueue<Tile> undrawnTiles = new LinkedBlockingQueue<>();
   private Map<Territory, List<Unit>> highlightedUnits;
   private Cursor hiddenCursor = null;
   private final MapRouteDrawer routeDrawer;
-
+  // the territories changed since the map was last updated, drawn again together a frame after the first change
+  private final Set<Territory> pendingUnitsChanged = new HashSet<>();
+  private final Set<Territory> pendingTerritoriesChanged = new HashSet<>();
+  private final ScheduledExecutorService updateExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+    final Thread thread = new Thread(r, "Map Panel Updater");
+    thread.setDaemon(true);
+    return thread;
+  });
 
   /** Creates new MapPanel. */
   public MapPanel(final GameData data, final MapPanelSmallView smallView, final IUIContext uiContext,
@@ -108,11 +115,8 @@ public class MapPanel extends ImageScrollerLargeView {
     routeDrawer = new MapRouteDrawer(this, uiContext.getMapData());
     setCursor(this.uiContext.getCursor());
     this.m_scale = this.uiContext.getScale();
-    this.backgroundDrawer = new BackgroundDrawer(this);
+    this.tileRenderer = new TileRenderer(this);
     this.tileManager = new TileManager(this.uiContext);
-    final Thread t = new Thread(this.backgroundDrawer, "Map panel background drawer");
-    t.setDaemon(true);
-    t.start();
     setDoubleBuffered(false);
     this.smallView = smallView;
     this.smallMapImageManager =
@@ -224,13 +228,18 @@ public class MapPanel extends ImageScrollerLargeView {
     this.uiContext.addActive(() -> {
       // super.deactivate
       MapPanel.this.deactivate();
-      clearUndrawn();
-      backgroundDrawer.stop();
+      tileRenderer.stop();
+      synchronized (pendingUnitsChanged) {
+        updateExecutor.shutdownNow();
+      }
     });
   }
 
-  LinkedBlockingQueue<Tile> getUndrawnTiles() {
-    return undrawnTiles;
+  /**
+   * @return the tile renderer, with the number of tiles rendered and waiting to be rendered.
+   */
+  TileRenderer getTileRenderer() {
+    return tileRenderer;
   }
 
   private void recreateTiles(final GameData data, final IUIContext uiContext) {
@@ -447,28 +456,70 @@ public class MapPanel extends ImageScrollerLargeView {
     m_data = data;
     m_data.addTerritoryListener(TERRITORY_LISTENER);
     m_data.addDataChangeListener(TECH_UPDATE_LISTENER);
-    clearUndrawn();
+    synchronized (pendingUnitsChanged) {
+      pendingUnitsChanged.clear();
+      pendingTerritoriesChanged.clear();
+    }
+    tileRenderer.clear();
     tileManager.resetTiles(m_data, uiContext.getMapData());
   }
 
+  /**
+   * Marks the territory to be drawn again, with all of the territory or only its units. The first change schedules an
+   * update a frame later, so all the changes of a move or a battle are drawn together, with one repaint.
+   */
+  private void territoryChanged(final Territory territory, final boolean unitsOnly) {
+    synchronized (pendingUnitsChanged) {
+      final boolean scheduled = !pendingUnitsChanged.isEmpty() || !pendingTerritoriesChanged.isEmpty();
+      (unitsOnly ? pendingUnitsChanged : pendingTerritoriesChanged).add(territory);
+      if (!scheduled && !updateExecutor.isShutdown()) {
+        updateExecutor.schedule(this::updatePendingTerritories, UPDATE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void updatePendingTerritories() {
+    final Set<Territory> unitsChanged;
+    final Set<Territory> territoriesChanged;
+    synchronized (pendingUnitsChanged) {
+      unitsChanged = new HashSet<>(pendingUnitsChanged);
+      territoriesChanged = new HashSet<>(pendingTerritoriesChanged);
+      pendingUnitsChanged.clear();
+      pendingTerritoriesChanged.clear();
+    }
+    if (unitsChanged.isEmpty() && territoriesChanged.isEmpty()) {
+      return;
+    }
+    try {
+      // the territories drawn again entirely have their units drawn too
+      unitsChanged.removeAll(territoriesChanged);
+      tileManager.updateTerritories(territoriesChanged, m_data, uiContext.getMapData());
+      tileManager.updateUnits(unitsChanged, m_data, uiContext.getMapData());
+      smallMapImageManager.update(m_data, uiContext.getMapData());
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly(e);
+    }
+    SwingUtilities.invokeLater(() -> {
+      smallView.repaint();
+      repaint();
+    });
+  }
+
   private final TerritoryListener TERRITORY_LISTENER = new TerritoryListener() {
     @Override
     public void unitsChanged(final Territory territory) {
-      updateCountries(Collections.singleton(territory));
-      SwingUtilities.invokeLater(() -> repaint());
+      territoryChanged(territory, true);
     }
 
     @Override
     public void ownerChanged(final Territory territory) {
       smallMapImageManager.updateTerritoryOwner(territory, m_data, uiContext.getMapData());
-      updateCountries(Collections.singleton(territory));
-      SwingUtilities.invokeLater(() -> repaint());
+      territoryChanged(territory, false);
     }
 
     @Override
     public void attachmentChanged(final Territory territory) {
-      updateCountries(Collections.singleton(territory));
-      SwingUtilities.invokeLater(() -> repaint());
+      territoryChanged(territory, false);
     }
   };
   private final GameDataChangeListener TECH_UPDATE_LISTENER = new GameDataChangeListener() {
@@ -622,33 +673,18 @@ public class MapPanel extends ImageScrollerLargeView {
         }
       }
     }
-    // draw the tiles nearest us first
-    // then draw farther away
+    // draw the tiles on the screen first
+    // then draw the tiles nearest us, then farther away
     updateUndrawnTiles(undrawnTiles, 30, true);
     updateUndrawnTiles(undrawnTiles, 257, true);
     // when we are this far away, dont force the tiles to stay in memroy
     updateUndrawnTiles(undrawnTiles, 513, false);
     updateUndrawnTiles(undrawnTiles, 767, false);
-    clearUndrawn();
-    this.undrawnTiles.addAll(undrawnTiles);
+    // drops the tiles that are no longer near us
+    tileRenderer.render(undrawnTiles);
     stopWatch.done();
   }
 
-  private void clearUndrawn() {
-    for (int i = 0; i < 3; i++) {
-      try {
-        // several bug reports indicate that
-        // clear can throw an exception
-        // http://sourceforge.net/tracker/index.php?func=detail&aid=1832130&group_id=44492&atid=439737
-        // ignore
-        undrawnTiles.clear();
-        return;
-      } catch (final Exception e) {
-        e.printStackTrace(System.out);
-      }
-    }
-  }
-
   boolean mapWidthFitsOnScreen() {
     return m_model.getMaxWidth() < getScaledWidth();
   }
@@ -658,23 +694,22 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   /**
-   * If we have nothing left undrawn, draw the tiles within preDrawMargin of us, optionally
+   * Draw the tiles within preDrawMargin of us after the tiles already undrawn, optionally
    * forcing the tiles to remain in memory.
    */
   private void updateUndrawnTiles(final List<Tile> undrawnTiles, final int preDrawMargin, final boolean forceInMemory) {
-    // draw tiles near us if we have nothing left to draw
+    // draw tiles near us after the tiles on the screen
     // that way when we scroll slowly we wont notice a glitch
-    if (undrawnTiles.isEmpty()) {
-      final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(m_model.getX() - preDrawMargin, 0),
-          Math.max(m_model.getY() - preDrawMargin, 0), getScaledWidth() + (2 * preDrawMargin),
-          getScaledHeight() + (2 * preDrawMargin));
-      final List<Tile> tileList = tileManager.getTiles(extendedBounds);
-      for (final Tile tile : tileList) {
-        if (tile.isDirty()) {
-          undrawnTiles.add(tile);
-        } else if (forceInMemory) {
-          images.add(tile);
-        }
+    // the tile renderer skips the tiles that are in the list twice
+    final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(m_model.getX() - preDrawMargin, 0),
+        Math.max(m_model.getY() - preDrawMargin, 0), getScaledWidth() + (2 * preDrawMargin),
+        getScaledHeight() + (2 * preDrawMargin));
+    final List<Tile> tileList = tileManager.getTiles(extendedBounds);
+    for (final Tile tile : tileList) {
+      if (tile.isDirty()) {
+        undrawnTiles.add(tile);
+      } else if (forceInMemory) {
+        images.add(tile);
       }
     }
   }
@@ -855,51 +890,3 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 }
 
-
-class BackgroundDrawer implements Runnable {
-  // use a weak reference, if we see the panel is gc'd, then we can stop this thread
-  private final WeakReference<MapPanel> m_mapPanelRef;
-
-  BackgroundDrawer(final MapPanel panel) {
-    m_mapPanelRef = new WeakReference<>(panel);
-  }
-
-  public void stop() {
-    // the thread will eventually wake up and notice we are done
-    m_mapPanelRef.clear();
-  }
-
-  @Override
-  public void run() {
-    while (m_mapPanelRef.get() != null) {
-      BlockingQueue<Tile> undrawnTiles;
-      MapPanel panel = m_mapPanelRef.get();
-      if (panel == null) {
-        continue;
-      }
-      undrawnTiles = panel.getUndrawnTiles();
-      panel = null;
-      Tile tile;
-      try {
-        tile = undrawnTiles.poll(2000, TimeUnit.MILLISECONDS);
-      } catch (final InterruptedException e) {
-        continue;
-      }
-      if (tile == null) {
-        continue;
-      }
-      final MapPanel mapPanel = m_mapPanelRef.get();
-      if (mapPanel == null) {
-        continue;
-      }
-      final GameData data = mapPanel.getData();
-      data.acquireReadLock();
-      try {
-        tile.getImage(data, mapPanel.getUIContext().getMapData());
-      } finally {
-        data.releaseReadLock();
-      }
-      SwingUtilities.invokeLater(() -> mapPanel.repaint());
-    }
-  }
-}
@@ -0,0 +1,203 @@
+package games.strategy.triplea.ui;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.ui.screen.Tile;
+
+/**
+ * Renders the undrawn tiles of a map panel on a pool of threads.
+ *
+ * <p>
+ * Tiles are rendered in the order they were asked for, the map panel asks for the tiles on the screen first and then
+ * the tiles around them. Every paint asks again, which drops the tiles that scrolled away and were not rendered yet.
+ * The threads render under the game data read lock, so they render together, and repaint the map panel once for all
+ * the tiles rendered before the repaint runs.
+ * </p>
+ */
+class TileRenderer {
+  private static final Logger s_logger = Logger.getLogger(TileRenderer.class.getName());
+  private static final int MAX_THREADS = 8;
+  // use a weak reference, if we see the panel is gc'd, then we can stop the threads
+  private final WeakReference<MapPanel> m_mapPanelRef;
+  // the threads and the map panel synchronize on this lock
+  private final Object m_mutex = new Object();
+  private final Deque<Tile> m_undrawn = new ArrayDeque<>();
+  private final Set<Tile> m_queued = new HashSet<>();
+  private int m_rendering = 0;
+  private long m_burstStartNanos = 0;
+  private long m_burstTiles = 0;
+  private double m_tilesPerSecond = 0;
+  private final AtomicLong m_renderedTiles = new AtomicLong();
+  private final AtomicBoolean m_repaintPending = new AtomicBoolean();
+  private volatile boolean m_running = true;
+
+  TileRenderer(final MapPanel panel) {
+    m_mapPanelRef = new WeakReference<>(panel);
+    final int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+    for (int i = 1; i <= threads; i++) {
+      final Thread t = new Thread(() -> loop(), "Map panel tile renderer " + i);
+      t.setDaemon(true);
+      t.start();
+    }
+  }
+
+  /**
+   * Renders the tiles in this order, instead of the tiles asked for before that are not rendered yet.
+   */
+  void render(final Collection<Tile> tiles) {
+    synchronized (m_mutex) {
+      m_undrawn.clear();
+      m_queued.clear();
+      for (final Tile tile : tiles) {
+        if (m_queued.add(tile)) {
+          m_undrawn.add(tile);
+        }
+      }
+      if (!m_undrawn.isEmpty()) {
+        if (m_burstStartNanos == 0) {
+          m_burstStartNanos = System.nanoTime();
+        }
+        m_mutex.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Drops the tiles that are not rendered yet.
+   */
+  void clear() {
+    synchronized (m_mutex) {
+      m_undrawn.clear();
+      m_queued.clear();
+      if (m_rendering == 0) {
+        m_burstStartNanos = 0;
+        m_burstTiles = 0;
+      }
+    }
+  }
+
+  void stop() {
+    m_running = false;
+    m_mapPanelRef.clear();
+    synchronized (m_mutex) {
+      m_undrawn.clear();
+      m_queued.clear();
+      m_mutex.notifyAll();
+    }
+  }
+
+  private void loop() {
+    while (m_running && m_mapPanelRef.get() != null) {
+      final Tile tile;
+      try {
+        tile = take();
+      } catch (final InterruptedException e) {
+        continue;
+      }
+      if (tile == null) {
+        continue;
+      }
+      try {
+        final MapPanel mapPanel = m_mapPanelRef.get();
+        if (mapPanel == null) {
+          continue;
+        }
+        final GameData data = mapPanel.getData();
+        data.acquireReadLock();
+        try {
+          tile.getImage(data, mapPanel.getUIContext().getMapData());
+        } finally {
+          data.releaseReadLock();
+        }
+        m_renderedTiles.incrementAndGet();
+        repaint(mapPanel);
+      } finally {
+        rendered();
+      }
+    }
+  }
+
+  private Tile take() throws InterruptedException {
+    synchronized (m_mutex) {
+      if (m_undrawn.isEmpty()) {
+        m_mutex.wait(2000);
+      }
+      final Tile tile = m_undrawn.pollFirst();
+      if (tile != null) {
+        m_queued.remove(tile);
+        m_rendering++;
+      }
+      return tile;
+    }
+  }
+
+  private void rendered() {
+    synchronized (m_mutex) {
+      m_rendering--;
+      m_burstTiles++;
+      if (m_rendering == 0 && m_undrawn.isEmpty() && m_burstStartNanos != 0) {
+        final long nanos = Math.max(1, System.nanoTime() - m_burstStartNanos);
+        m_tilesPerSecond = m_burstTiles * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+        if (s_logger.isLoggable(Level.FINE)) {
+          s_logger.fine("Rendered " + m_burstTiles + " tiles in " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms, "
+              + (int) m_tilesPerSecond + " tiles/s");
+        }
+        m_burstStartNanos = 0;
+        m_burstTiles = 0;
+      }
+    }
+  }
+
+  /**
+   * Repaints the map panel, unless a repaint is already waiting to run.
+   */
+  private void repaint(final MapPanel mapPanel) {
+    if (m_repaintPending.compareAndSet(false, true)) {
+      SwingUtilities.invokeLater(() -> {
+        m_repaintPending.set(false);
+        mapPanel.repaint();
+      });
+    }
+  }
+
+  /**
+   * @return the number of tiles waiting to be rendered.
+   */
+  int getQueueDepth() {
+    synchronized (m_mutex) {
+      return m_undrawn.size();
+    }
+  }
+
+  long getRenderedTiles() {
+    return m_renderedTiles.get();
+  }
+
+  /**
+   * @return the tiles rendered per second from when there were tiles to render until all were rendered, the last time.
+   */
+  double getTilesPerSecond() {
+    synchronized (m_mutex) {
+      return m_tilesPerSecond;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Tiles rendered: " + getRenderedTiles() + ", waiting: " + getQueueDepth() + ", tiles/s: "
+        + (int) getTilesPerSecond();
+  }
+}
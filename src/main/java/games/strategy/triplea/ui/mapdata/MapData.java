@@ -445,7 +445,7 @@ public class MapData implements Closeable {
     return null;
   }
 
-  public Color getPlayerColor(final String playerName) {
+  public synchronized Color getPlayerColor(final String playerName) {
     // already loaded, just return
     if (m_playerColors.containsKey(playerName)) {
       return m_playerColors.get(playerName);
@@ -772,7 +772,7 @@ public class MapData implements Closeable {
     return m_territoryEffects.get(territory.getName());
   }
 
-  public Optional<Image> getTerritoryEffectImage(final String m_effectName) {
+  public synchronized Optional<Image> getTerritoryEffectImage(final String m_effectName) {
     // TODO: what does this cache buy us? should we still keep it?
     if (m_effectImages.get(m_effectName) != null) {
       return Optional.of(m_effectImages.get(m_effectName));
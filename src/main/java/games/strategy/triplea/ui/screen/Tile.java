@@ -35,6 +35,8 @@ public class Tile {
   // allow the gc to implement memory management
   private SoftReference<Image> m_imageRef;
   private boolean m_isDirty = true;
+  // the part of the tile to draw again, in map coordinates, or null to draw all of it
+  private Rectangle m_dirtyArea = null;
   private final Rectangle m_bounds;
   private final int m_x;
   private final int m_y;
@@ -72,13 +74,13 @@ public class Tile {
     try {
       if (m_imageRef == null) {
         m_imageRef = new SoftReference<>(createBlankImage());
-        m_isDirty = true;
+        setDirty(null);
       }
       Image image = m_imageRef.get();
       if (image == null) {
         image = createBlankImage();
         m_imageRef = new SoftReference<>(image);
-        m_isDirty = true;
+        setDirty(null);
       }
       if (m_isDirty) {
         final Graphics2D g = (Graphics2D) image.getGraphics();
@@ -122,6 +124,11 @@ public class Tile {
       scaled = unscaled;
     }
     final Stopwatch stopWatch = new Stopwatch(s_logger, Level.FINEST, "Drawing Tile at" + m_bounds);
+    // only draw the dirty area again, the clip stays when the drawables set another transform
+    if (m_dirtyArea != null) {
+      g.clip(new Rectangle(m_dirtyArea.x - m_bounds.x, m_dirtyArea.y - m_bounds.y, m_dirtyArea.width,
+          m_dirtyArea.height));
+    }
     // clear
     g.setColor(Color.BLACK);
     g.fill(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE));
@@ -132,6 +139,7 @@ public class Tile {
       drawable.draw(m_bounds, data, g, mapData, unscaled, scaled);
     }
     m_isDirty = false;
+    m_dirtyArea = null;
     // draw debug graphics
     if (DRAW_DEBUG) {
       g.setColor(Color.PINK);
@@ -144,31 +152,64 @@ public class Tile {
     stopWatch.done();
   }
 
+  /**
+   * Marks the area (in map coordinates) to be drawn again, or all of the tile if the area is null.
+   */
+  private void setDirty(final Rectangle area) {
+    if (area == null || (m_isDirty && m_dirtyArea == null)) {
+      m_dirtyArea = null;
+    } else {
+      // one pixel more, for the pixels the scaled edges blend into
+      final Rectangle grown = new Rectangle(area);
+      grown.grow(1, 1);
+      final Rectangle dirty = grown.intersection(m_bounds);
+      if (dirty.isEmpty()) {
+        return;
+      }
+      m_dirtyArea = m_isDirty ? m_dirtyArea.union(dirty) : dirty;
+    }
+    m_isDirty = true;
+  }
+
   void addDrawables(final Collection<IDrawable> drawables) {
     acquireLock();
     try {
       m_contents.addAll(drawables);
-      m_isDirty = true;
+      setDirty(null);
     } finally {
       releaseLock();
     }
   }
 
   void addDrawable(final IDrawable d) {
+    addDrawable(d, null);
+  }
+
+  /**
+   * Adds the drawable, and draws only the area (in map coordinates) it draws on again.
+   */
+  void addDrawable(final IDrawable d, final Rectangle area) {
     acquireLock();
     try {
       m_contents.add(d);
-      m_isDirty = true;
+      setDirty(area);
     } finally {
       releaseLock();
     }
   }
 
   void removeDrawables(final Collection<IDrawable> c) {
+    removeDrawables(c, null);
+  }
+
+  /**
+   * Removes the drawables, and draws only the area (in map coordinates) they drew on again.
+   */
+  void removeDrawables(final Collection<? extends IDrawable> c, final Rectangle area) {
     acquireLock();
     try {
       m_contents.removeAll(c);
-      m_isDirty = true;
+      setDirty(area);
     } finally {
       releaseLock();
     }
@@ -178,7 +219,7 @@ public class Tile {
     acquireLock();
     try {
       m_contents.clear();
-      m_isDirty = true;
+      setDirty(null);
     } finally {
       releaseLock();
     }
@@ -339,10 +339,22 @@ public class TileManager {
 
   private void drawUnits(final Territory territory, final MapData mapData, final Set<Tile> drawnOn,
       final Set<IDrawable> drawing) {
+    for (final UnitsDrawer drawable : createUnitDrawables(territory, mapData)) {
+      drawing.add(drawable);
+      m_allUnitDrawables.add(drawable);
+      for (final Tile tile : getTiles(getUnitImageBounds(drawable))) {
+        tile.addDrawable(drawable);
+        drawnOn.add(tile);
+      }
+    }
+  }
+
+  private List<UnitsDrawer> createUnitDrawables(final Territory territory, final MapData mapData) {
     final Iterator<Point> placementPoints = mapData.getPlacementPoints(territory).iterator();
     if (placementPoints == null || !placementPoints.hasNext()) {
       throw new IllegalStateException("No where to place units:" + territory.getName());
     }
+    final List<UnitsDrawer> drawables = new ArrayList<>();
     Point lastPlace = null;
     final Iterator<UnitCategory> unitCategoryIter =
         UnitSeperator.categorize(territory.getUnits().getUnits()).iterator();
@@ -357,19 +369,70 @@ public class TileManager {
         lastPlace.x += m_uiContext.getUnitImageFactory().getUnitImageWidth();
         overflow = true;
       }
-      final UnitsDrawer drawable = new UnitsDrawer(category.getUnits().size(), category.getType().getName(),
+      drawables.add(new UnitsDrawer(category.getUnits().size(), category.getType().getName(),
           category.getOwner().getName(), lastPlace, category.getDamaged(), category.getBombingDamage(),
-          category.getDisabled(), overflow, territory.getName(), m_uiContext);
-      drawing.add(drawable);
-      m_allUnitDrawables.add(drawable);
-      final Iterator<Tile> tiles =
-          getTiles(new Rectangle(lastPlace.x, lastPlace.y, m_uiContext.getUnitImageFactory().getUnitImageWidth(),
-              m_uiContext.getUnitImageFactory().getUnitImageHeight())).iterator();
-      while (tiles.hasNext()) {
-        final Tile tile = tiles.next();
-        tile.addDrawable(drawable);
+          category.getDisabled(), overflow, territory.getName(), m_uiContext));
+    }
+    return drawables;
+  }
+
+  private Rectangle getUnitImageBounds(final UnitsDrawer drawable) {
+    return new Rectangle(drawable.getPlacementPoint().x, drawable.getPlacementPoint().y,
+        m_uiContext.getUnitImageFactory().getUnitImageWidth(), m_uiContext.getUnitImageFactory().getUnitImageHeight());
+  }
+
+  /**
+   * Updates the units drawn in the territories, when only their units changed. Only the units drawers that changed are
+   * replaced, and only the areas they draw on are drawn again, instead of the whole territory.
+   */
+  public void updateUnits(final Collection<Territory> territories, final GameData data, final MapData mapData) {
+    data.acquireReadLock();
+    try {
+      acquireLock();
+      try {
+        for (final Territory territory : territories) {
+          updateUnits(territory, data, mapData);
+        }
+      } finally {
+        releaseLock();
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  private void updateUnits(final Territory territory, final GameData data, final MapData mapData) {
+    final Set<IDrawable> drawing = m_territoryDrawables.get(territory.getName());
+    final Set<Tile> drawnOn = m_territoryTiles.get(territory.getName());
+    if (drawing == null || drawnOn == null || !m_uiContext.getShowUnits()) {
+      updateTerritory(territory, data, mapData);
+      return;
+    }
+    s_logger.log(Level.FINER, "Updating units of " + territory.getName());
+    final List<UnitsDrawer> drawables = createUnitDrawables(territory, mapData);
+    final Set<UnitsDrawer> added = new HashSet<>(drawables);
+    final List<UnitsDrawer> removed = new ArrayList<>();
+    for (final IDrawable drawable : drawing) {
+      if (drawable instanceof UnitsDrawer && !added.remove(drawable)) {
+        removed.add((UnitsDrawer) drawable);
+      }
+    }
+    for (final UnitsDrawer drawable : removed) {
+      final Rectangle area = drawable.getDrawnBounds(mapData);
+      for (final Tile tile : getTiles(getUnitImageBounds(drawable))) {
+        tile.removeDrawables(Collections.singleton(drawable), area);
+      }
+      drawing.remove(drawable);
+      m_allUnitDrawables.remove(drawable);
+    }
+    for (final UnitsDrawer drawable : added) {
+      final Rectangle area = drawable.getDrawnBounds(mapData);
+      for (final Tile tile : getTiles(getUnitImageBounds(drawable))) {
+        tile.addDrawable(drawable, area);
         drawnOn.add(tile);
       }
+      drawing.add(drawable);
+      m_allUnitDrawables.add(drawable);
     }
   }
 
@@ -8,6 +8,7 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.prefs.Preferences;
 
@@ -233,6 +234,46 @@ public class UnitsDrawer implements IDrawable {
     return UNITS_LEVEL;
   }
 
+  /**
+   * @return the area this may draw on: the units, their stack and flags and the numbers drawn next to them, with room
+   *         to spare.
+   */
+  Rectangle getDrawnBounds(final MapData mapData) {
+    final int width = uiContext.getUnitImageFactory().getUnitImageWidth();
+    final int height = uiContext.getUnitImageFactory().getUnitImageHeight();
+    final int counterOffsetWidth = uiContext.getUnitImageFactory().getUnitCounterOffsetWidth();
+    final int counterOffsetHeight = uiContext.getUnitImageFactory().getUnitCounterOffsetHeight();
+    final int stack = 2 * Math.min(Math.max(count, 1), Math.max(mapData.getDefaultUnitsStackSize(), 1));
+    final int fontSize = Math.max(0, MapImage.getPropertyMapFont().getSize());
+    // the numbers are a few digits wide
+    final int textWidth = 4 * fontSize;
+    final int left = placementPoint.x - 3;
+    final int top = placementPoint.y - stack - fontSize - 3 + Math.min(0, counterOffsetHeight);
+    final int right = placementPoint.x + Math.max(2 * width, Math.max(width, counterOffsetWidth) + stack) + textWidth;
+    final int bottom = placementPoint.y + Math.max(2 * height, counterOffsetHeight + fontSize) + 3;
+    return new Rectangle(left, top, right - left, bottom - top);
+  }
+
+  /**
+   * Units drawers are equal if they draw the same units at the same place.
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (!(o instanceof UnitsDrawer)) {
+      return false;
+    }
+    final UnitsDrawer other = (UnitsDrawer) o;
+    return count == other.count && damaged == other.damaged && bombingUnitDamage == other.bombingUnitDamage
+        && disabled == other.disabled && overflow == other.overflow && unitType.equals(other.unitType)
+        && playerName.equals(other.playerName) && placementPoint.equals(other.placementPoint)
+        && territoryName.equals(other.territoryName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(count, unitType, playerName, placementPoint, territoryName);
+  }
+
   @Override
   public String toString() {
     return "UnitsDrawer for " + count + " " + MyFormatter.pluralize(unitType) + " in  " + territoryName;
@@ -7,10 +7,21 @@ import java.util.List;
  * Base class for composite matches.<br>
  * Can add a match, or an inverse match. <br>
  * Subclasses must override match, and can call getMatches() to get a list of
- * matches added.
+ * matches added, or getCompiledMatches() to get them ready to be asked.
+ *
+ * <p>
+ * The compiled matches are an array, where composites of the same kind that were added are replaced by their own
+ * matches, inverse matches are replaced by the {@link Match#negate() negation} of their match if it has one, and
+ * neighboring matches are {@link Match#fuse(Match, boolean) fused} where they can be, so asking the composite does
+ * not walk a tree of virtual calls. Every composite counts the matches added to it, and the compiled matches are
+ * compiled again once the count of this composite, or of one of the composites it took the matches of, changed.
+ * </p>
  */
 public abstract class CompositeMatch<T> extends Match<T> {
   private final List<Match<T>> m_matches = new ArrayList<>(4);
+  // counts the matches added
+  private volatile int m_version = 0;
+  private volatile Compiled<T> m_compiled = null;
 
   /** Creates new CompositeMatch. */
   public CompositeMatch() {}
@@ -20,6 +31,7 @@ public abstract class CompositeMatch<T> extends Match<T> {
    */
   public void add(final Match<T> match) {
     m_matches.add(match);
+    m_version++;
   }
 
   /**
@@ -37,4 +49,79 @@ public abstract class CompositeMatch<T> extends Match<T> {
   protected List<Match<T>> getMatches() {
     return m_matches;
   }
+
+  /**
+   * Returns the matches compiled into an array, which must not be changed.
+   */
+  protected Match<T>[] getCompiledMatches() {
+    Compiled<T> compiled = m_compiled;
+    if (compiled == null || !compiled.isCurrent()) {
+      compiled = compile();
+      m_compiled = compiled;
+    }
+    return compiled.m_matches;
+  }
+
+  private boolean isAnd() {
+    return this instanceof CompositeMatchAnd;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Compiled<T> compile() {
+    final List<CompositeMatch<T>> composites = new ArrayList<>();
+    final List<Integer> versions = new ArrayList<>();
+    final List<Match<T>> matches = new ArrayList<>(m_matches.size());
+    flatten(this, composites, versions, matches);
+    int fused = 0;
+    for (final Match<T> match : matches) {
+      final Match<T> fusedMatch = fused == 0 ? null : matches.get(fused - 1).fuse(match, isAnd());
+      if (fusedMatch != null) {
+        matches.set(fused - 1, fusedMatch);
+      } else {
+        matches.set(fused++, match);
+      }
+    }
+    return new Compiled<>(composites, versions, matches.subList(0, fused).toArray((Match<T>[]) new Match<?>[fused]));
+  }
+
+  private void flatten(final CompositeMatch<T> composite, final List<CompositeMatch<T>> composites,
+      final List<Integer> versions, final List<Match<T>> flattened) {
+    // the count before the matches are read, so a match added while compiling compiles again
+    composites.add(composite);
+    versions.add(composite.m_version);
+    for (final Match<T> match : composite.m_matches) {
+      if (match instanceof CompositeMatch && match.getClass() == getClass()) {
+        flatten((CompositeMatch<T>) match, composites, versions, flattened);
+      } else if (match instanceof InverseMatch && ((InverseMatch<T>) match).getMatch().negate() != null) {
+        flattened.add(((InverseMatch<T>) match).getMatch().negate());
+      } else {
+        flattened.add(match);
+      }
+    }
+  }
+
+  private static final class Compiled<T> {
+    // the composites compiled, this one first, and their counts of matches when they were compiled
+    private final List<CompositeMatch<T>> m_composites;
+    private final int[] m_versions;
+    private final Match<T>[] m_matches;
+
+    Compiled(final List<CompositeMatch<T>> composites, final List<Integer> versions, final Match<T>[] matches) {
+      m_composites = composites;
+      m_versions = new int[versions.size()];
+      for (int i = 0; i < m_versions.length; i++) {
+        m_versions[i] = versions.get(i);
+      }
+      m_matches = matches;
+    }
+
+    boolean isCurrent() {
+      for (int i = 0; i < m_versions.length; i++) {
+        if (m_composites.get(i).m_version != m_versions[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
@@ -1,7 +1,5 @@
 package games.strategy.util;
 
-import java.util.List;
-
 /**
  * True if all matches return true.
  */
@@ -16,9 +14,8 @@ public class CompositeMatchAnd<T> extends CompositeMatch<T> {
 
   @Override
   public boolean match(final T o) {
-    final List<Match<T>> matches = super.getMatches();
-    for (final Match<T> matche : matches) {
-      if (!matche.match(o)) {
+    for (final Match<T> match : getCompiledMatches()) {
+      if (!match.match(o)) {
         return false;
       }
     }
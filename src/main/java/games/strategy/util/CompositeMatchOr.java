@@ -1,7 +1,6 @@
 package games.strategy.util;
 
 import java.util.Collection;
-import java.util.List;
 
 /**
  * True if one match returns true.
@@ -25,9 +24,8 @@ public class CompositeMatchOr<T> extends CompositeMatch<T> {
 
   @Override
   public boolean match(final T o) {
-    final List<Match<T>> matches = super.getMatches();
-    for (final Match<T> matche : matches) {
-      if (matche.match(o)) {
+    for (final Match<T> match : getCompiledMatches()) {
+      if (match.match(o)) {
         return true;
       }
     }
@@ -1,32 +1,73 @@
 package games.strategy.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * A utility class for mapping Objects to ints. <br>
  * Supports adding and comparing of maps.
+ *
+ * <p>
+ * The keys, their hashes and the values are kept in arrays (open addressing with linear probing), so the values are
+ * never boxed and a lookup reads neighboring array slots instead of following a chain of entries. Only
+ * {@link #values()} and {@link #entrySet()} box values, as they are read.
+ * </p>
  */
 public class IntegerMap<T> implements Cloneable, Serializable {
   private static final long serialVersionUID = 6856531659284300930L;
-  private final HashMap<T, Integer> mapValues;
+  // saved games contain the HashMap this class used to be backed by, and still do
+  private static final ObjectStreamField[] serialPersistentFields =
+      {new ObjectStreamField("mapValues", HashMap.class)};
+  private static final Object NULL_KEY = new Object();
+  private static final int DEFAULT_SIZE = 8;
+  private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+  private static final float MAX_LOAD_FACTOR = 0.9f;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private transient float loadFactor;
+  // null for an empty slot, NULL_KEY for the null key
+  private transient Object[] keys;
+  // the hashes of the keys, 0 for an empty slot, so a search only reads the keys that have the same hash
+  private transient int[] hashes;
+  private transient int[] values;
+  private transient int size;
+  private transient int threshold;
+  private transient int modCount;
 
   /** Creates new IntegerMap. */
   public IntegerMap() {
-    mapValues = new HashMap<>();
+    this(DEFAULT_SIZE);
   }
 
   public IntegerMap(final int size) {
-    mapValues = new HashMap<>(size);
+    this(size, DEFAULT_LOAD_FACTOR);
   }
 
   public IntegerMap(final int size, final float loadFactor) {
-    mapValues = new HashMap<>(size, loadFactor);
+    if (size < 0) {
+      throw new IllegalArgumentException("Illegal size: " + size);
+    }
+    if (!(loadFactor > 0)) {
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+    }
+    this.loadFactor = Math.min(loadFactor, MAX_LOAD_FACTOR);
+    allocate(capacityFor(size, this.loadFactor));
   }
 
   public IntegerMap(final T object, final int value) {
@@ -44,10 +85,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * The Objects will be linked, but the integers mapped to them will not be linked.
    */
   public IntegerMap(final IntegerMap<T> integerMap) {
-    mapValues = new HashMap<>(integerMap.size());
-    for (final T t : integerMap.keySet()) {
-      mapValues.put(t, integerMap.getInt(t));
-    }
+    this(integerMap.size());
+    add(integerMap);
   }
 
   /**
@@ -55,18 +94,162 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * The Objects will be linked, but the integers mapped to them will not be linked.
    */
   public IntegerMap(final IntegerMap<T>[] integerMaps) {
-    mapValues = new HashMap<>();
+    this();
     for (final IntegerMap<T> integerMap : integerMaps) {
       this.add(integerMap);
     }
   }
 
+  private static int capacityFor(final int size, final float loadFactor) {
+    // leave at least one slot empty, so a search always ends
+    final double needed = Math.max(size + 1, Math.ceil(size / (double) loadFactor));
+    int capacity = 2;
+    while (capacity < needed && capacity < MAX_CAPACITY) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private void allocate(final int capacity) {
+    keys = new Object[capacity];
+    hashes = new int[capacity];
+    values = new int[capacity];
+    threshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+  }
+
+  private static Object mask(final Object key) {
+    return key == null ? NULL_KEY : key;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unmask(final Object key) {
+    return key == NULL_KEY ? null : (T) key;
+  }
+
+  private static int hash(final Object maskedKey) {
+    // spread the bits, as many hash codes only differ in the high bits, or are small sequential numbers
+    int h = maskedKey.hashCode() * 0x9E3779B9;
+    h ^= h >>> 16;
+    return h == 0 ? 1 : h;
+  }
+
+  /**
+   * @return the slot of the key, or -1 if the key is not in the map.
+   */
+  private int slotOf(final Object key) {
+    final Object maskedKey = mask(key);
+    final int[] hashes = this.hashes;
+    final int mask = hashes.length - 1;
+    final int hash = hash(maskedKey);
+    int slot = hash & mask;
+    int current;
+    while ((current = hashes[slot]) != 0) {
+      if (current == hash) {
+        final Object currentKey = keys[slot];
+        if (currentKey == maskedKey || maskedKey.equals(currentKey)) {
+          return slot;
+        }
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * @return the slot of the key, adding it with a value of 0 if it is not in the map.
+   */
+  private int slotFor(final T key) {
+    final Object maskedKey = mask(key);
+    final int mask = keys.length - 1;
+    final int hash = hash(maskedKey);
+    int slot = hash & mask;
+    int current;
+    while ((current = hashes[slot]) != 0) {
+      if (current == hash) {
+        final Object currentKey = keys[slot];
+        if (currentKey == maskedKey || maskedKey.equals(currentKey)) {
+          return slot;
+        }
+      }
+      slot = (slot + 1) & mask;
+    }
+    if (size >= threshold && keys.length < MAX_CAPACITY) {
+      resize(keys.length * 2);
+      return slotFor(key);
+    }
+    keys[slot] = maskedKey;
+    hashes[slot] = hash;
+    values[slot] = 0;
+    size++;
+    modCount++;
+    return slot;
+  }
+
+  private void resize(final int capacity) {
+    final Object[] oldKeys = keys;
+    final int[] oldHashes = hashes;
+    final int[] oldValues = values;
+    allocate(capacity);
+    final int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      final Object key = oldKeys[i];
+      if (key != null) {
+        int slot = oldHashes[i] & mask;
+        while (hashes[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        hashes[slot] = oldHashes[i];
+        values[slot] = oldValues[i];
+      }
+    }
+    modCount++;
+  }
+
+  /**
+   * Empties the slot, and moves the entries after it back into the gap, so no search ends early.
+   *
+   * @param wrapped
+   *        if not null, gets the keys that moved from the start of the arrays to the end, which an iterator going from
+   *        the end to the start has already passed.
+   */
+  private void removeAt(final int removed, final List<Object> wrapped) {
+    final int mask = keys.length - 1;
+    int gap = removed;
+    int slot = gap;
+    while (true) {
+      slot = (slot + 1) & mask;
+      final Object key = keys[slot];
+      if (key == null) {
+        break;
+      }
+      final int home = hashes[slot] & mask;
+      // the entry can move into the gap if its home slot is not between the gap and its slot
+      if (gap <= slot ? (gap >= home || home > slot) : (gap >= home && home > slot)) {
+        if (wrapped != null && slot < gap) {
+          wrapped.add(key);
+        }
+        keys[gap] = key;
+        hashes[gap] = hashes[slot];
+        values[gap] = values[slot];
+        gap = slot;
+      }
+    }
+    keys[gap] = null;
+    hashes[gap] = 0;
+    values[gap] = 0;
+    size--;
+    modCount++;
+  }
+
   public int size() {
-    return mapValues.size();
+    return size;
   }
 
   public void put(final T key, final int value) {
-    mapValues.put(key, value);
+    // not values[slotFor(key)], the array may be replaced when the key is added
+    final int slot = slotFor(key);
+    values[slot] = value;
   }
 
   private void addAll(final Collection<T> keys, final int value) {
@@ -80,20 +263,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * returns 0 if no key found.
    */
   public int getInt(final T key) {
-    if (!mapValues.containsKey(key)) {
-      return 0;
-    }
-    return mapValues.get(key);
+    final int slot = slotOf(key);
+    return slot < 0 ? 0 : values[slot];
   }
 
   public void add(final T key, final int value) {
-    if (mapValues.get(key) == null) {
-      put(key, value);
-    } else {
-      final int oldVal = mapValues.get(key);
-      final int newVal = oldVal + value;
-      put(key, newVal);
-    }
+    final int slot = slotFor(key);
+    values[slot] += value;
   }
 
   /**
@@ -105,8 +281,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    *        (1 = floor, 2 = round, 3 = ceil)
    */
   public void multiplyAllValuesBy(final double multiplyBy, final int RoundType) {
-    for (final T t : keySet()) {
-      double val = mapValues.get(t);
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == null) {
+        continue;
+      }
+      double val = values[i];
       switch (RoundType) {
         case 1:
           val = Math.floor(val * multiplyBy);
@@ -121,20 +300,81 @@ public class IntegerMap<T> implements Cloneable, Serializable {
           val = val * multiplyBy;
           break;
       }
-      put(t, (int) val);
+      values[i] = (int) val;
     }
   }
 
   public void clear() {
-    mapValues.clear();
+    if (size > 0) {
+      Arrays.fill(keys, null);
+      Arrays.fill(hashes, 0);
+      Arrays.fill(values, 0);
+      size = 0;
+      modCount++;
+    }
   }
 
   public Set<T> keySet() {
-    return mapValues.keySet();
+    return new AbstractSet<T>() {
+      @Override
+      public Iterator<T> iterator() {
+        return new SlotIterator<T>() {
+          @Override
+          T get(final int slot) {
+            return unmask(keys[slot]);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(final Object o) {
+        return slotOf(o) >= 0;
+      }
+
+      @Override
+      public boolean remove(final Object o) {
+        final int slot = slotOf(o);
+        if (slot < 0) {
+          return false;
+        }
+        removeAt(slot, null);
+        return true;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   public Collection<Integer> values() {
-    return mapValues.values();
+    return new AbstractCollection<Integer>() {
+      @Override
+      public Iterator<Integer> iterator() {
+        return new SlotIterator<Integer>() {
+          @Override
+          Integer get(final int slot) {
+            return values[slot];
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   /**
@@ -143,13 +383,19 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @return true if at least one value and all values are the same.
    */
   public boolean allValuesAreSame() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return false;
     }
-    final int first = mapValues.values().iterator().next();
-    for (final int value : mapValues.values()) {
-      if (first != value) {
-        return false;
+    boolean first = true;
+    int firstValue = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        if (first) {
+          firstValue = values[i];
+          first = false;
+        } else if (values[i] != firstValue) {
+          return false;
+        }
       }
     }
     return true;
@@ -161,11 +407,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @return true if all values are equal to the given integer.
    */
   public boolean allValuesEqual(final int integer) {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return false;
     }
-    for (final int value : mapValues.values()) {
-      if (integer != value) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null && values[i] != integer) {
         return false;
       }
     }
@@ -176,13 +422,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return zero if empty.
    */
   public int highestValue() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return 0;
     }
     int max = Integer.MIN_VALUE;
-    for (final int value : mapValues.values()) {
-      if (value > max) {
-        max = value;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null && values[i] > max) {
+        max = values[i];
       }
     }
     return max;
@@ -192,13 +438,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return zero if empty.
    */
   public int lowestValue() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return 0;
     }
     int min = Integer.MAX_VALUE;
-    for (final int value : mapValues.values()) {
-      if (value < min) {
-        min = value;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null && values[i] < min) {
+        min = values[i];
       }
     }
     return min;
@@ -208,15 +454,15 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return null if empty.
    */
   public T highestKey() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return null;
     }
     int max = Integer.MIN_VALUE;
     T rVal = null;
-    for (final Entry<T, Integer> entry : mapValues.entrySet()) {
-      if (entry.getValue() > max) {
-        max = entry.getValue();
-        rVal = entry.getKey();
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null && values[i] > max) {
+        max = values[i];
+        rVal = unmask(keys[i]);
       }
     }
     return rVal;
@@ -226,15 +472,15 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return null if empty.
    */
   public T lowestKey() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return null;
     }
     int min = Integer.MAX_VALUE;
     T rVal = null;
-    for (final Entry<T, Integer> entry : mapValues.entrySet()) {
-      if (entry.getValue() < min) {
-        min = entry.getValue();
-        rVal = entry.getKey();
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null && values[i] < min) {
+        min = values[i];
+        rVal = unmask(keys[i]);
       }
     }
     return rVal;
@@ -245,22 +491,19 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    */
   public int totalValues() {
     int sum = 0;
-    for (final int value : mapValues.values()) {
+    for (final int value : values) {
+      // empty slots are always 0
       sum += value;
     }
     return sum;
   }
 
   public void add(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      add(key, map.getInt(key));
-    }
+    addMultiple(map, 1);
   }
 
   public void subtract(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      add(key, -map.getInt(key));
-    }
+    addMultiple(map, -1);
   }
 
   /**
@@ -272,8 +515,9 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * that a and b are not equal.
    */
   public boolean greaterThanOrEqualTo(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      if (!(this.getInt(key) >= map.getInt(key))) {
+    for (int i = 0; i < map.keys.length; i++) {
+      final Object key = map.keys[i];
+      if (key != null && !(this.getInt(unmask(key)) >= map.values[i])) {
         return false;
       }
     }
@@ -284,8 +528,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * True if all values are >= 0.
    */
   public boolean isPositive() {
-    for (final T key : mapValues.keySet()) {
-      if (getInt(key) < 0) {
+    for (final int value : values) {
+      if (value < 0) {
         return false;
       }
     }
@@ -293,8 +537,12 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public IntegerMap<T> copy() {
-    final IntegerMap<T> copy = new IntegerMap<>();
-    copy.add(this);
+    final IntegerMap<T> copy = new IntegerMap<>(0, loadFactor);
+    copy.keys = keys.clone();
+    copy.hashes = hashes.clone();
+    copy.values = values.clone();
+    copy.size = size;
+    copy.threshold = threshold;
     return copy;
   }
 
@@ -307,14 +555,17 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Add map * multiple.
    */
   public void addMultiple(final IntegerMap<T> map, final int multiple) {
-    for (final T key : map.keySet()) {
-      add(key, map.getInt(key) * multiple);
+    for (int i = 0; i < map.keys.length; i++) {
+      final Object key = map.keys[i];
+      if (key != null) {
+        add(unmask(key), map.values[i] * multiple);
+      }
     }
   }
 
   private Collection<T> getKeyMatches(final Match<T> matcher) {
     final Collection<T> values = new ArrayList<>();
-    for (final T obj : mapValues.keySet()) {
+    for (final T obj : keySet()) {
       if (matcher.match(obj)) {
         values.add(obj);
       }
@@ -333,7 +584,10 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public void removeKey(final T key) {
-    mapValues.remove(key);
+    final int slot = slotOf(key);
+    if (slot >= 0) {
+      removeAt(slot, null);
+    }
   }
 
   private void removeKeys(final Collection<T> keys) {
@@ -343,35 +597,220 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public boolean containsKey(final T key) {
-    return mapValues.containsKey(key);
+    return slotOf(key) >= 0;
   }
 
   public boolean isEmpty() {
-    return mapValues.isEmpty();
+    return size == 0;
   }
 
   public Set<Entry<T, Integer>> entrySet() {
-    return mapValues.entrySet();
+    return new AbstractSet<Entry<T, Integer>>() {
+      @Override
+      public Iterator<Entry<T, Integer>> iterator() {
+        return new SlotIterator<Entry<T, Integer>>() {
+          @Override
+          Entry<T, Integer> get(final int slot) {
+            return new IntegerMapEntry(unmask(keys[slot]));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(final Object o) {
+        if (!(o instanceof Entry)) {
+          return false;
+        }
+        final Entry<?, ?> entry = (Entry<?, ?>) o;
+        final int slot = slotOf(entry.getKey());
+        return slot >= 0 && Integer.valueOf(values[slot]).equals(entry.getValue());
+      }
+
+      @Override
+      public boolean remove(final Object o) {
+        if (!contains(o)) {
+          return false;
+        }
+        removeAt(slotOf(((Entry<?, ?>) o).getKey()), null);
+        return true;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
+  }
+
+  private final class IntegerMapEntry implements Entry<T, Integer> {
+    private final T key;
+
+    IntegerMapEntry(final T key) {
+      this.key = key;
+    }
+
+    @Override
+    public T getKey() {
+      return key;
+    }
+
+    @Override
+    public Integer getValue() {
+      return getInt(key);
+    }
+
+    @Override
+    public Integer setValue(final Integer value) {
+      final Integer old = getValue();
+      put(key, value);
+      return old;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      final Entry<?, ?> entry = (Entry<?, ?>) o;
+      return Objects.equals(key, entry.getKey()) && getValue().equals(entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(key) ^ getValue();
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+  }
+
+  /**
+   * Goes through the slots from the end to the start, so removing an entry only moves entries that were already
+   * returned, except entries that wrapped around from the start of the arrays, which are returned at the end.
+   */
+  private abstract class SlotIterator<E> implements Iterator<E> {
+    private int slot = keys.length;
+    private int remaining = size;
+    private int last = -1;
+    private Object lastKey = null;
+    private List<Object> wrapped = null;
+    private int wrappedIndex = 0;
+    private int expectedModCount = modCount;
+
+    abstract E get(int slot);
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      while (--slot >= 0) {
+        if (keys[slot] != null) {
+          last = slot;
+          lastKey = keys[slot];
+          return get(slot);
+        }
+      }
+      lastKey = wrapped.get(wrappedIndex++);
+      last = slotOf(unmask(lastKey));
+      return get(last);
+    }
+
+    @Override
+    public void remove() {
+      if (lastKey == null) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (slot >= 0) {
+        if (wrapped == null) {
+          wrapped = new ArrayList<>(2);
+        }
+        removeAt(last, wrapped);
+      } else {
+        removeAt(slotOf(unmask(lastKey)), null);
+      }
+      lastKey = null;
+      expectedModCount = modCount;
+    }
+  }
+
+  private Map<T, Integer> toHashMap() {
+    final Map<T, Integer> map = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        map.put(unmask(keys[i]), values[i]);
+      }
+    }
+    return map;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("mapValues", toHashMap());
+    out.writeFields();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    @SuppressWarnings("unchecked")
+    final Map<T, Integer> map = (Map<T, Integer>) fields.get("mapValues", null);
+    loadFactor = DEFAULT_LOAD_FACTOR;
+    allocate(capacityFor(map == null ? 0 : map.size(), loadFactor));
+    if (map != null) {
+      for (final Entry<T, Integer> entry : map.entrySet()) {
+        put(entry.getKey(), entry.getValue());
+      }
+    }
   }
 
   @Override
   public String toString() {
     final StringBuilder buf = new StringBuilder();
     buf.append("IntegerMap:\n");
-    final Iterator<T> iter = mapValues.keySet().iterator();
-    if (!iter.hasNext()) {
+    if (size == 0) {
       buf.append("empty\n");
     }
-    while (iter.hasNext()) {
-      final T current = iter.next();
-      buf.append(current).append(" -> ").append(getInt(current)).append("\n");
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        final T key = unmask(keys[i]);
+        buf.append(key).append(" -> ").append(values[i]).append("\n");
+      }
     }
     return buf.toString();
   }
 
+  /**
+   * The same as the hash code of a {@code Map<T, Integer>} with the same entries.
+   */
   @Override
   public int hashCode() {
-    return mapValues.hashCode();
+    int hashCode = 0;
+    for (int i = 0; i < keys.length; i++) {
+      final Object key = keys[i];
+      if (key != null) {
+        hashCode += (key == NULL_KEY ? 0 : key.hashCode()) ^ values[i];
+      }
+    }
+    return hashCode;
   }
 
   /**
@@ -389,15 +828,16 @@ public class IntegerMap<T> implements Cloneable, Serializable {
       return false;
     }
     final IntegerMap<T> map = (IntegerMap<T>) o;
-    if (!map.keySet().equals(this.keySet())) {
+    if (map.size != size) {
       return false;
     }
-    if (!map.mapValues.equals(this.mapValues)) {
-      return false;
-    }
-    for (final T key : map.keySet()) {
-      if (!(this.getInt(key) == map.getInt(key))) {
-        return false;
+    for (int i = 0; i < keys.length; i++) {
+      final Object key = keys[i];
+      if (key != null) {
+        final int slot = map.slotOf(unmask(key));
+        if (slot < 0 || map.values[slot] != values[i]) {
+          return false;
+        }
       }
     }
     return true;
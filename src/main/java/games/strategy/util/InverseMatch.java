@@ -15,4 +15,13 @@ public class InverseMatch<T> extends Match<T> {
   public boolean match(final T o) {
     return !match.match(o);
   }
+
+  @Override
+  protected Match<T> negate() {
+    return match;
+  }
+
+  Match<T> getMatch() {
+    return match;
+  }
 }
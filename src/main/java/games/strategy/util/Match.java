@@ -143,6 +143,22 @@ public abstract class Match<T> {
   public final Match<T> invert() {
     return new InverseMatch<>(this);
   }
+
+  /**
+   * Returns one match that answers the same as this match and the other match together (both of them if and is true,
+   * either of them otherwise), or null if there is no such match that is faster than asking the two.
+   * Composite matches use this to fuse neighboring matches when they are compiled.
+   */
+  protected Match<T> fuse(final Match<T> other, final boolean and) {
+    return null;
+  }
+
+  /**
+   * Returns a match that answers the opposite of this match without asking it, or null if there is none.
+   */
+  protected Match<T> negate() {
+    return null;
+  }
 }
 
 
@@ -1,12 +1,15 @@
 package games.strategy.engine.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.triplea.Constants;
+import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.xml.TestMapGameData;
 
 public class AllianceTrackerTest {
@@ -35,5 +38,57 @@ public class AllianceTrackerTest {
     assertTrue(relationshipTracker.isAllied(bush, castro));
   }
 
+  @Test
+  public void testRelationshipMatrixFollowsChanges() {
+    final PlayerID bush = gameData.getPlayerList().getPlayerID("bush");
+    final PlayerID castro = gameData.getPlayerList().getPlayerID("castro");
+    final RelationshipTracker relationshipTracker = gameData.getRelationshipTracker();
+    final RelationshipType original = relationshipTracker.getRelationshipType(bush, castro);
+    final RelationshipType allied =
+        gameData.getRelationshipTypeList().getRelationshipType(Constants.RELATIONSHIP_TYPE_DEFAULT_ALLIED);
+    assertRelationshipsMatchTypes();
+    final Change change = ChangeFactory.relationshipChange(bush, castro, original, allied);
+    gameData.performChange(change);
+    assertTrue(relationshipTracker.isAllied(castro, bush));
+    assertFalse(relationshipTracker.isAtWar(bush, castro));
+    assertEquals(allied, relationshipTracker.getRelationshipType(bush, castro));
+    assertRelationshipsMatchTypes();
+    gameData.performChange(change.invert());
+    assertFalse(relationshipTracker.isAllied(castro, bush));
+    assertEquals(original, relationshipTracker.getRelationshipType(castro, bush));
+    assertRelationshipsMatchTypes();
+  }
+
+  @Test
+  public void testRelationshipMatrixFollowsAttachmentChanges() {
+    final PlayerID bush = gameData.getPlayerList().getPlayerID("bush");
+    final PlayerID castro = gameData.getPlayerList().getPlayerID("castro");
+    final RelationshipTracker relationshipTracker = gameData.getRelationshipTracker();
+    final boolean canMoveThroughCanals = relationshipTracker.canMoveThroughCanals(bush, castro);
+    gameData.performChange(ChangeFactory.attachmentPropertyChange(
+        relationshipTracker.getRelationshipType(bush, castro).getRelationshipTypeAttachment(),
+        String.valueOf(!canMoveThroughCanals), "canMoveThroughCanals"));
+    assertEquals(!canMoveThroughCanals, relationshipTracker.canMoveThroughCanals(bush, castro));
+    assertRelationshipsMatchTypes();
+  }
+
+  private void assertRelationshipsMatchTypes() {
+    final RelationshipTracker relationshipTracker = gameData.getRelationshipTracker();
+    for (final PlayerID p1 : gameData.getPlayerList()) {
+      for (final PlayerID p2 : gameData.getPlayerList()) {
+        final RelationshipType type = relationshipTracker.getRelationship(p1, p2).getRelationshipType();
+        assertEquals(type, relationshipTracker.getRelationshipType(p1, p2));
+        assertEquals(Matches.RelationshipTypeIsAllied.match(type), relationshipTracker.isAllied(p1, p2));
+        assertEquals(Matches.RelationshipTypeIsAtWar.match(type), relationshipTracker.isAtWar(p1, p2));
+        assertEquals(Matches.RelationshipTypeIsNeutral.match(type), relationshipTracker.isNeutral(p1, p2));
+        assertEquals(Matches.RelationshipTypeCanMoveThroughCanals.match(type),
+            relationshipTracker.canMoveThroughCanals(p1, p2));
+      }
+      assertEquals(Matches.RelationshipTypeIsAtWar.match(
+          relationshipTracker.getRelationship(p1, PlayerID.NULL_PLAYERID).getRelationshipType()),
+          relationshipTracker.isAtWar(p1, PlayerID.NULL_PLAYERID));
+    }
+  }
+
   // TODO create test suite for Alliance/Relationships/Politics
 }
@@ -10,6 +10,7 @@ import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -246,6 +247,25 @@ public class ChangeTest {
     assertEquals(us, inf2.getOwner());
   }
 
+  @Test
+  public void testPlayerOwnerChangeCountsUnitsForNewOwner() {
+    final PlayerID can = gameData.getPlayerList().getPlayerID("chretian");
+    final PlayerID us = gameData.getPlayerList().getPlayerID("bush");
+    final UnitType infantry = gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF);
+    final Territory greenland = gameData.getMap().getTerritory("greenland");
+    final Collection<Unit> units = infantry.create(3, us);
+    gameData.performChange(ChangeFactory.addUnits(greenland, units));
+    final int usCount = greenland.getUnits().getUnitCount(infantry, us);
+    final int canCount = greenland.getUnits().getUnitCount(infantry, can);
+    final Change change = ChangeFactory.changeOwner(units, can, greenland);
+    gameData.performChange(change);
+    assertEquals(usCount - 3, greenland.getUnits().getUnitCount(infantry, us));
+    assertEquals(canCount + 3, greenland.getUnits().getUnitCount(infantry, can));
+    gameData.performChange(change.invert());
+    assertEquals(usCount, greenland.getUnits().getUnitCount(infantry, us));
+    assertEquals(canCount, greenland.getUnits().getUnitCount(infantry, can));
+  }
+
   @Test
   public void testPlayerOwnerChangeSerialize() throws Exception {
     final PlayerID can = gameData.getPlayerList().getPlayerID("chretian");
@@ -302,4 +322,38 @@ public class ChangeTest {
     compositeChange.add(ChangeFactory.removeUnits(can, units));
     assertFalse(compositeChange.isEmpty());
   }
+
+  @Test
+  public void testCompactUnitsMovedThroughTerritory() {
+    final Territory canada = gameData.getMap().getTerritory("canada");
+    final Territory greenland = gameData.getMap().getTerritory("greenland");
+    final Territory us = gameData.getMap().getTerritory("us");
+    final Collection<Unit> units =
+        canada.getUnits().getUnits(gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF), 3);
+    final Change change = ChangeFactory.compact(Arrays.asList(ChangeFactory.moveUnits(canada, greenland, units),
+        ChangeFactory.moveUnits(greenland, us, units)));
+    // only removed from canada and added to us
+    assertEquals(2, ((CompositeChange) change).getChanges().size());
+    final int usCount = us.getUnits().getUnitCount();
+    gameData.performChange(change);
+    assertEquals(2, canada.getUnits().getUnitCount());
+    assertEquals(0, greenland.getUnits().getUnitCount());
+    assertEquals(usCount + 3, us.getUnits().getUnitCount());
+    gameData.performChange(change.invert());
+    assertEquals(5, canada.getUnits().getUnitCount());
+    assertEquals(usCount, us.getUnits().getUnitCount());
+  }
+
+  @Test
+  public void testCompactResourceChanges() {
+    final PlayerID can = gameData.getPlayerList().getPlayerID("chretian");
+    final Resource gold = gameData.getResourceList().getResource("gold");
+    final Change change = ChangeFactory.compact(Arrays.asList(ChangeFactory.changeResourcesChange(can, gold, 50),
+        ChangeFactory.changeResourcesChange(can, gold, -120), ChangeFactory.changeResourcesChange(can, gold, 30)));
+    assertEquals(1, ((CompositeChange) change).getChanges().size());
+    gameData.performChange(change);
+    assertEquals(60, can.getResources().getQuantity(gold));
+    gameData.performChange(change.invert());
+    assertEquals(100, can.getResources().getQuantity(gold));
+  }
 }
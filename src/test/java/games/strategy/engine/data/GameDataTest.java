@@ -0,0 +1,127 @@
+package games.strategy.engine.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class GameDataTest {
+  private final GameData gameData = new GameData();
+
+  @Test
+  public void testReadOptimisticallyWithoutChange() {
+    final AtomicInteger reads = new AtomicInteger();
+    assertEquals("value", gameData.readOptimistically(() -> {
+      reads.incrementAndGet();
+      return "value";
+    }));
+    assertEquals(1, reads.get());
+  }
+
+  @Test
+  public void testReadOptimisticallyRereadsAfterChange() {
+    final AtomicInteger reads = new AtomicInteger();
+    final int result = gameData.readOptimistically(() -> {
+      if (reads.incrementAndGet() == 1) {
+        changeOnOtherThread();
+      }
+      return reads.get();
+    });
+    assertEquals(2, result);
+  }
+
+  @Test
+  public void testReadOptimisticallyRereadsAfterFailureCausedByChange() {
+    final AtomicInteger reads = new AtomicInteger();
+    final int result = gameData.readOptimistically(() -> {
+      if (reads.incrementAndGet() == 1) {
+        changeOnOtherThread();
+        throw new IllegalStateException("read while changing");
+      }
+      return reads.get();
+    });
+    assertEquals(2, result);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testReadOptimisticallyThrowsFailureWithoutChange() {
+    gameData.readOptimistically(() -> {
+      throw new IllegalStateException("reader failed");
+    });
+  }
+
+  @Test
+  public void testReadOptimisticallyWhileHoldingReentrantWriteLock() {
+    gameData.acquireWriteLock();
+    gameData.acquireWriteLock();
+    try {
+      assertEquals("value", gameData.readOptimistically(() -> "value"));
+    } finally {
+      gameData.releaseWriteLock();
+      gameData.releaseWriteLock();
+    }
+    final AtomicInteger reads = new AtomicInteger();
+    gameData.readOptimistically(reads::incrementAndGet);
+    assertEquals(1, reads.get());
+    // the change lock must have been released, or this would block
+    changeOnOtherThread();
+  }
+
+  @Test
+  public void testReadOptimisticallyWhileChangingWithoutLockOrderChecks() throws Exception {
+    // like in production, where assertions are disabled
+    final GameData data = new GameData();
+    data.setCheckLockOrder(false);
+    final Map<Integer, Integer> values = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      values.put(i, i);
+    }
+    final AtomicBoolean done = new AtomicBoolean(false);
+    final Thread writer = new Thread(() -> {
+      while (!done.get()) {
+        data.acquireWriteLock();
+        try {
+          values.clear();
+          for (int i = 0; i < 100; i++) {
+            values.put(i, i);
+          }
+        } finally {
+          data.releaseWriteLock();
+        }
+      }
+    });
+    writer.start();
+    try {
+      for (int i = 0; i < 20000; i++) {
+        final int sum = data.readOptimistically(() -> {
+          int total = 0;
+          for (final Integer value : values.values()) {
+            total += value;
+          }
+          return total;
+        });
+        assertEquals(4950, sum);
+      }
+    } finally {
+      done.set(true);
+      writer.join();
+    }
+  }
+
+  private void changeOnOtherThread() {
+    final Thread writer = new Thread(() -> {
+      gameData.acquireWriteLock();
+      gameData.releaseWriteLock();
+    });
+    writer.start();
+    try {
+      writer.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
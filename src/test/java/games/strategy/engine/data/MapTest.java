@@ -1,15 +1,20 @@
 package games.strategy.engine.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.InverseMatch;
 import games.strategy.util.Match;
 
 public class MapTest {
@@ -246,4 +251,94 @@ public class MapTest {
     assertTrue(neighbors.contains(bb));
     assertTrue(neighbors.contains(ca));
   }
+
+  @Test
+  public void testDistanceTablesMatchSearch() {
+    // equal to the standard conditions, but not the same instances, so these are searched
+    final Match<Territory> landOrWater = Match.getAlwaysMatch();
+    final Match<Territory> land = new InverseMatch<>(Matches.TerritoryIsWater);
+    final Match<Territory> water = new InverseMatch<>(Matches.TerritoryIsLand);
+    for (final Territory t1 : map) {
+      for (final Territory t2 : map) {
+        assertEquals(map.getDistance(t1, t2, landOrWater), map.getDistance(t1, t2));
+        assertEquals(map.getDistance(t1, t2, land), map.getLandDistance(t1, t2));
+        assertEquals(map.getDistance(t1, t2, water), map.getWaterDistance(t1, t2));
+        assertSameLength(map.getRoute(t1, t2, landOrWater), map.getRoute(t1, t2));
+        assertSameLength(map.getRoute(t1, t2, land), map.getLandRoute(t1, t2));
+        assertSameLength(map.getRoute(t1, t2, water), map.getWaterRoute(t1, t2));
+      }
+    }
+  }
+
+  private void assertSameLength(final Route expected, final Route actual) {
+    if (expected == null) {
+      assertNull(actual);
+      return;
+    }
+    assertNotNull(actual);
+    assertEquals(expected.getStart(), actual.getStart());
+    assertEquals(expected.getEnd(), actual.getEnd());
+    assertEquals(expected.numberOfSteps(), actual.numberOfSteps());
+    assertTrue(map.isValidRoute(actual));
+  }
+
+  @Test
+  public void testDistanceTablesAreRebuiltWhenConnectionsChange() {
+    assertEquals(6, map.getDistance(aa, dd));
+    map.addConnection(aa, dd);
+    assertEquals(1, map.getDistance(aa, dd));
+    assertEquals(2, map.getRoute(aa, dd).getAllTerritories().size());
+  }
+
+  @Test
+  public void testCheapestRouteAvoidsExpensiveTerritory() {
+    final Route route = map.getRoute(aa, ad, null, (from, to) -> to == ab ? 10 : 1);
+    assertEquals(aa, route.getStart());
+    assertEquals(ad, route.getEnd());
+    assertEquals(5, route.numberOfSteps());
+    assertFalse(route.getAllTerritories().contains(ab));
+    assertTrue(map.isValidRoute(route));
+  }
+
+  @Test
+  public void testCheapestRouteAvoidsTerritoriesThatCanNotBeEntered() {
+    final Route route = map.getRoute(aa, ad, null, (from, to) -> to == ac ? RouteCost.CANNOT_MOVE : 1);
+    assertFalse(route.getAllTerritories().contains(ac));
+    assertNull(map.getRoute(aa, ad, Matches.TerritoryIsLand, (from, to) -> to == ac ? RouteCost.CANNOT_MOVE : 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCheapestRouteRejectsNegativeMinimumCost() {
+    map.getRoute(aa, ad, null, new RouteCost() {
+      @Override
+      public int getCost(final Territory from, final Territory to) {
+        return -1;
+      }
+
+      @Override
+      public int getMinimumCost() {
+        return -1;
+      }
+    });
+  }
+
+  @Test
+  public void testCheapestRouteToNearestTarget() {
+    final Route route = map.getRoute(aa, Arrays.asList(dd, ad), null, RouteCost.STEPS);
+    assertEquals(ad, route.getEnd());
+    assertEquals(3, route.numberOfSteps());
+    assertNull(map.getRoute(aa, Arrays.asList(dd, cd), Matches.TerritoryIsLand, RouteCost.STEPS));
+  }
+
+  @Test
+  public void testCompositeRoute() {
+    final HashMap<Match<Territory>, Integer> matches = new HashMap<>();
+    matches.put(Matches.TerritoryIsLand, 1);
+    matches.put(Matches.TerritoryIsWater, 5);
+    final Route route = map.getCompositeRoute(aa, cd, matches);
+    assertEquals(5, route.numberOfSteps());
+    assertTrue(route.getAllTerritories().contains(cc) || route.getAllTerritories().contains(bd));
+    matches.remove(Matches.TerritoryIsWater);
+    assertNull(map.getCompositeRoute(aa, cd, matches));
+  }
 }
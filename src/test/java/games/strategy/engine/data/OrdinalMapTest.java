@@ -0,0 +1,133 @@
+package games.strategy.engine.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class OrdinalMapTest {
+  private GameData gameData;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+  }
+
+  @Test
+  public void testOrdinalsAreDense() {
+    assertDense(gameData.getMap().getTerritories());
+    assertDense(gameData.getPlayerList().getPlayers());
+    assertDense(new ArrayList<>(gameData.getUnitTypeList().getAllUnitTypes()));
+    assertDense(gameData.getResourceList().getResources());
+    assertEquals(-1, PlayerID.NULL_PLAYERID.getOrdinal());
+  }
+
+  @Test
+  public void testOrdinalsAreTheSameInCopies() {
+    final GameData copy = GameDataUtils.cloneGameData(gameData);
+    assertDense(copy.getMap().getTerritories());
+    assertDense(copy.getPlayerList().getPlayers());
+    assertDense(new ArrayList<>(copy.getUnitTypeList().getAllUnitTypes()));
+    assertDense(copy.getResourceList().getResources());
+    for (final Territory t : gameData.getMap().getTerritories()) {
+      assertEquals(t.getOrdinal(), copy.getMap().getTerritory(t.getName()).getOrdinal());
+    }
+    for (final UnitType type : gameData.getUnitTypeList()) {
+      assertEquals(type.getOrdinal(), copy.getUnitTypeList().getUnitType(type.getName()).getOrdinal());
+    }
+  }
+
+  @Test
+  public void testBehavesLikeHashMap() {
+    final List<Territory> territories = gameData.getMap().getTerritories();
+    final Map<Territory, Integer> map = new OrdinalMap<>(territories.size());
+    final Map<Territory, Integer> expected = new HashMap<>();
+    for (int i = 0; i < territories.size(); i += 3) {
+      assertEquals(expected.put(territories.get(i), i), map.put(territories.get(i), i));
+    }
+    for (int i = 0; i < territories.size(); i += 2) {
+      assertEquals(expected.put(territories.get(i), -i), map.put(territories.get(i), -i));
+    }
+    for (int i = 0; i < territories.size(); i += 5) {
+      assertEquals(expected.remove(territories.get(i)), map.remove(territories.get(i)));
+    }
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    for (final Territory t : territories) {
+      assertEquals(expected.containsKey(t), map.containsKey(t));
+      assertEquals(expected.get(t), map.get(t));
+    }
+    assertFalse(map.containsKey("not a territory"));
+    map.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testKeysWithoutOrdinal() {
+    final Map<PlayerID, String> map = new OrdinalMap<>(1);
+    final PlayerID player = gameData.getPlayerList().getPlayers().get(3);
+    final GameData otherData = new GameData();
+    final PlayerID otherDataPlayer = new PlayerID("Other", otherData);
+    otherData.getPlayerList().addPlayerID(otherDataPlayer);
+    assertEquals(0, otherDataPlayer.getOrdinal());
+    map.put(PlayerID.NULL_PLAYERID, "null");
+    map.put(player, "player");
+    map.put(otherDataPlayer, "other");
+    assertEquals(3, map.size());
+    assertEquals("null", map.get(PlayerID.NULL_PLAYERID));
+    assertEquals("player", map.get(player));
+    assertEquals("other", map.get(otherDataPlayer));
+    assertNull(map.get(gameData.getPlayerList().getPlayers().get(0)));
+    map.put(gameData.getPlayerList().getPlayers().get(0), "first");
+    assertEquals(4, map.size());
+    assertEquals("other", map.get(otherDataPlayer));
+    assertEquals("first", map.remove(gameData.getPlayerList().getPlayers().get(0)));
+    assertEquals("other", map.remove(otherDataPlayer));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    final List<Territory> territories = gameData.getMap().getTerritories();
+    final Map<Territory, Integer> map = new OrdinalMap<>(territories.size());
+    for (final Territory t : territories) {
+      map.put(t, t.getOrdinal());
+    }
+    map.put(new Territory("Not on map", gameData), -1);
+    final Iterator<Map.Entry<Territory, Integer>> iter = map.entrySet().iterator();
+    int previous = -1;
+    while (iter.hasNext()) {
+      final Map.Entry<Territory, Integer> entry = iter.next();
+      if (entry.getValue() >= 0) {
+        assertTrue(entry.getValue() > previous);
+        previous = entry.getValue();
+      }
+      if (entry.getValue() % 2 != 0) {
+        iter.remove();
+      }
+    }
+    assertEquals((territories.size() + 1) / 2, map.size());
+    for (final Territory t : territories) {
+      assertEquals(t.getOrdinal() % 2 == 0, map.containsKey(t));
+    }
+  }
+
+  private static void assertDense(final List<? extends NamedAttachable> named) {
+    for (int i = 0; i < named.size(); i++) {
+      assertEquals(named.get(i).getName(), i, named.get(i).getOrdinal());
+    }
+  }
+}
@@ -5,6 +5,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -382,6 +383,53 @@ public class UnitCollectionTest {
     assertThat(playerUnitCounts.getInt(otherPlayerId), is(equalTo(unitCountOtherPlayer)));
   }
 
+  @Test
+  public void removeAllUnitsUpdatesCounts() {
+    final UnitCollection allPlayerUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeTwo, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeTwo)));
+    allPlayerUnitCollection.removeAllUnits(Arrays.asList(unitOtherPlayer4, unitOtherPlayer6, unitDefaultPlayer2));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeTwo, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeTwo - 2)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeTwo, defaultPlayerId),
+        is(equalTo(unitCountDefaultPlayerUnitTypeTwo - 1)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeTwo), is(equalTo(unitCountUnitTypeTwo - 3)));
+    assertThat(allPlayerUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayer - 2)));
+    assertThat(allPlayerUnitCollection.getUnits(unitTypeTwo, Integer.MAX_VALUE),
+        is(equalTo(Arrays.asList(unitDefaultPlayer3, unitOtherPlayer5, unitOtherPlayer7))));
+
+    final Collection<Unit> otherPlayerUnits = getOtherPlayerUnitsOfUnitTypeOne();
+    otherPlayerUnits.addAll(getOtherPlayerUnitsOfUnitTypeTwo());
+    allPlayerUnitCollection.removeAllUnits(otherPlayerUnits);
+    assertThat(allPlayerUnitCollection.getUnitCount(otherPlayerId), is(equalTo(0)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne, otherPlayerId), is(equalTo(0)));
+    assertThat(allPlayerUnitCollection.getPlayersWithUnits().size(), is(equalTo(1)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne), is(equalTo(unitCountDefaultPlayerUnitTypeOne)));
+  }
+
+  @Test
+  public void unitCountsFollowOwnerChanges() {
+    final UnitCollection allPlayerUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeOne)));
+    final UnitCollection otherUnitCollection = new UnitCollection(otherPlayerId, mockGameData);
+    otherUnitCollection.addAllUnits(getOtherPlayerUnitsOfUnitTypeTwo());
+    assertThat(otherUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayerUnitTypeTwo)));
+    unitOtherPlayer1.setOwner(defaultPlayerId);
+    // as the change of owner does for the collection holding the unit
+    allPlayerUnitCollection.unitOwnerChanged(unitOtherPlayer1, otherPlayerId);
+    // a collection not holding the unit is left as it is
+    otherUnitCollection.unitOwnerChanged(unitOtherPlayer1, otherPlayerId);
+    assertThat(otherUnitCollection.getUnitCount(otherPlayerId), is(equalTo(unitCountOtherPlayerUnitTypeTwo)));
+    assertThat(otherUnitCollection.getUnitCount(defaultPlayerId), is(equalTo(0)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne, otherPlayerId),
+        is(equalTo(unitCountOtherPlayerUnitTypeOne - 1)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne, defaultPlayerId),
+        is(equalTo(unitCountDefaultPlayerUnitTypeOne + 1)));
+    assertThat(allPlayerUnitCollection.getPlayerUnitCounts().getInt(defaultPlayerId),
+        is(equalTo(unitCountDefaultPlayer + 1)));
+  }
+
   @Test
   public void hasUnitsFromMultiplePlayers() {
     final UnitCollection allDefaultPlayerUnitCollection = addAllDefaultPlayerUnitsToUnitCollection(unitCollection);
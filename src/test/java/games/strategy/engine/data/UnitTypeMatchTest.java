@@ -0,0 +1,106 @@
+package games.strategy.engine.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
+import games.strategy.util.CompositeMatchAnd;
+import games.strategy.util.CompositeMatchOr;
+import games.strategy.util.InverseMatch;
+import games.strategy.util.Match;
+
+public class UnitTypeMatchTest {
+  private GameData gameData;
+  private final List<Unit> units = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+    final PlayerID player = gameData.getPlayerList().getPlayers().get(0);
+    for (final UnitType type : gameData.getUnitTypeList()) {
+      units.add(type.create(player));
+    }
+  }
+
+  @Test
+  public void testTraitsMatchTheAttachments() {
+    for (final Unit unit : units) {
+      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+      assertEquals(ua.getIsSea(), Matches.UnitIsSea.match(unit));
+      assertEquals(!ua.getIsAir(), Matches.UnitIsNotAir.match(unit));
+      assertEquals(ua.getIsSub(), Matches.UnitIsSub.match(unit));
+      assertEquals(ua.getTransportCapacity() != -1 && ua.getIsSea(), Matches.UnitIsTransport.match(unit));
+      assertEquals(ua.getIsInfrastructure(), Matches.UnitIsInfrastructure.match(unit));
+    }
+  }
+
+  @Test
+  public void testFusedTraits() {
+    final Match<Unit> seaOrAir = new CompositeMatchOr<>(Matches.UnitIsSea, Matches.UnitIsAir);
+    final Match<Unit> landNotInfrastructure =
+        new CompositeMatchAnd<>(Matches.UnitIsLand, Matches.UnitIsNotInfrastructure);
+    final Match<Unit> seaButNotSub =
+        new CompositeMatchAnd<>(Matches.UnitIsSea, new InverseMatch<>(Matches.UnitIsSub));
+    for (final Unit unit : units) {
+      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+      assertEquals(ua.getIsSea() || ua.getIsAir(), seaOrAir.match(unit));
+      assertEquals(!seaOrAir.match(unit), Matches.UnitIsLand.match(unit));
+      assertEquals(!ua.getIsSea() && !ua.getIsAir() && !ua.getIsInfrastructure(), landNotInfrastructure.match(unit));
+      assertEquals(ua.getIsSea() && !ua.getIsSub(), seaButNotSub.match(unit));
+    }
+  }
+
+  @Test
+  public void testMoreTraitsThanFitInOneWord() {
+    final List<Match<Unit>> traits = new ArrayList<>();
+    for (int i = 0; i < 2 * Long.SIZE + 1; i++) {
+      final int length = i;
+      traits.add(new UnitTypeMatch(new Match<UnitType>() {
+        @Override
+        public boolean match(final UnitType type) {
+          return type.getName().length() > length % 10;
+        }
+      }));
+    }
+    // in the first, second and third word of the masks
+    final Match<Unit> longerThan5 = traits.get(5);
+    final Match<Unit> longerThan9 = traits.get(Long.SIZE + 5);
+    final Match<Unit> longerThan8 = traits.get(2 * Long.SIZE);
+    final Match<Unit> both = new CompositeMatchAnd<>(longerThan5, Matches.UnitIsSea, longerThan8);
+    final Match<Unit> either = new CompositeMatchOr<>(new InverseMatch<>(longerThan8), Matches.UnitIsSea, longerThan9);
+    for (final Unit unit : units) {
+      final int length = unit.getType().getName().length();
+      final boolean isSea = UnitAttachment.get(unit.getType()).getIsSea();
+      for (int i = 0; i < traits.size(); i++) {
+        assertEquals(length > i % 10, traits.get(i).match(unit));
+      }
+      assertEquals(length > 5 && isSea && length > 8, both.match(unit));
+      assertEquals(length <= 8 || isSea || length > 9, either.match(unit));
+    }
+  }
+
+  @Test
+  public void testTraitsFollowAttachmentChanges() {
+    final Unit infantry = gameData.getUnitTypeList().getUnitType("infantry").create(PlayerID.NULL_PLAYERID);
+    assertFalse(Matches.UnitIsSea.match(infantry));
+    assertTrue(Matches.UnitIsLand.match(infantry));
+    final Change change =
+        ChangeFactory.attachmentPropertyChange(UnitAttachment.get(infantry.getType()), "true", "isSea");
+    gameData.performChange(change);
+    assertTrue(Matches.UnitIsSea.match(infantry));
+    assertFalse(Matches.UnitIsLand.match(infantry));
+    gameData.performChange(change.invert());
+    assertFalse(Matches.UnitIsSea.match(infantry));
+    assertTrue(Matches.UnitIsLand.match(infantry));
+  }
+}
@@ -5,9 +5,12 @@ import static org.junit.Assert.assertEquals;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.Test;
 
+import games.strategy.engine.ClientContext;
 import games.strategy.engine.data.GameData;
 
 public class GameDataManagerTest {
@@ -21,4 +24,39 @@ public class GameDataManagerTest {
     final GameData loaded = m.loadGame(new ByteArrayInputStream(sink.toByteArray()), null);
     assertEquals(loaded.getProperties().get(GameData.GAME_UUID), data.getProperties().get(GameData.GAME_UUID));
   }
+
+  @Test
+  public void testSaveGameCanBeWrittenFromSnapshot() throws IOException {
+    final GameData data = new GameData();
+    final byte[] snapshot = GameDataManager.serializeSaveGame(data, true);
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    GameDataManager.writeSaveGame(sink, snapshot);
+    final GameData loaded = new GameDataManager().loadGame(new ByteArrayInputStream(sink.toByteArray()), null);
+    assertEquals(loaded.getProperties().get(GameData.GAME_UUID), data.getProperties().get(GameData.GAME_UUID));
+  }
+
+  @Test
+  public void testLoadsSaveGameOfOlderEngine() throws IOException {
+    final GameData data = new GameData();
+    final byte[] save = saveAsOlderEngine(data);
+    final GameData loaded = new GameDataManager().loadGame(new ByteArrayInputStream(save), null);
+    assertEquals(loaded.getProperties().get(GameData.GAME_UUID), data.getProperties().get(GameData.GAME_UUID));
+  }
+
+  /**
+   * @return a save game (without delegates) as older engines wrote it, through unbuffered streams.
+   */
+  private static byte[] saveAsOlderEngine(final GameData data) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(ClientContext.engineVersion().getVersion());
+      out.writeObject(data);
+      out.writeObject("<EndDelegateList>");
+    }
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    try (GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
+      zippedOut.write(bytes.toByteArray());
+    }
+    return sink.toByteArray();
+  }
 }
@@ -0,0 +1,44 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class GameDataSnapshotTest {
+  private GameData gameData;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+  }
+
+  @Test
+  public void testForkKeepsGameUuid() throws Exception {
+    final GameData fork = GameDataSnapshot.of(gameData, false).fork();
+    assertEquals(gameData.getProperties().get(GameData.GAME_UUID), fork.getProperties().get(GameData.GAME_UUID));
+    assertEquals(gameData.getMap().getTerritories().size(), fork.getMap().getTerritories().size());
+  }
+
+  @Test
+  public void testForksAreIndependent() throws Exception {
+    final GameDataSnapshot snapshot = GameDataSnapshot.of(gameData, false);
+    final GameData first = snapshot.fork();
+    final GameData second = snapshot.fork();
+    assertNotSame(first, second);
+    final Territory germany = first.getMap().getTerritory("Germany");
+    final int unitCount = germany.getUnits().size();
+    assertTrue(unitCount > 0);
+    first.performChange(ChangeFactory.removeUnits(germany, germany.getUnits().getUnits()));
+    assertEquals(0, germany.getUnits().size());
+    assertEquals(unitCount, second.getMap().getTerritory("Germany").getUnits().size());
+    assertEquals(unitCount, gameData.getMap().getTerritory("Germany").getUnits().size());
+  }
+}
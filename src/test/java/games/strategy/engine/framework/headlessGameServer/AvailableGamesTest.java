@@ -0,0 +1,68 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import games.strategy.engine.data.GameData;
+
+public class AvailableGamesTest {
+  @Rule
+  public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private File mapFolder;
+  private File gameFile;
+  private File indexFile;
+
+  @Before
+  public void setUp() throws Exception {
+    mapFolder = temporaryFolder.newFolder("revised");
+    final File games = new File(mapFolder, "games");
+    games.mkdirs();
+    gameFile = new File(games, "revised.xml");
+    Files.copy(new File("src/test/resources/revised_test.xml").toPath(), gameFile.toPath());
+    indexFile = new File(temporaryFolder.getRoot(), "availableGames.index");
+  }
+
+  private AvailableGames newAvailableGames() {
+    return new AvailableGames(Collections.singletonList(mapFolder), indexFile);
+  }
+
+  @Test
+  public void testIndexedMapsAreNotParsedAgain() throws Exception {
+    final AvailableGames availableGames = newAvailableGames();
+    assertEquals(1, availableGames.getGameNames().size());
+    assertTrue(availableGames.getAvailableMapFolderOrZipNames().contains("revised"));
+    assertTrue(indexFile.isFile());
+    // the same size and time, so the game is taken from the index even though it can not be parsed anymore
+    final long lastModified = gameFile.lastModified();
+    final byte[] garbage = new byte[(int) gameFile.length()];
+    Files.write(gameFile.toPath(), garbage);
+    gameFile.setLastModified(lastModified);
+    assertEquals(availableGames.getGameNames(), newAvailableGames().getGameNames());
+    // a changed map is parsed again
+    gameFile.setLastModified(lastModified - 60 * 1000);
+    assertEquals(0, newAvailableGames().getGameNames().size());
+  }
+
+  @Test
+  public void testStartedGamesAreCopies() {
+    final AvailableGames availableGames = newAvailableGames();
+    final String gameName = availableGames.getGameNames().get(0);
+    final GameData parsed = availableGames.getGameData(gameName);
+    final GameData copied = availableGames.getGameData(gameName);
+    assertNotSame(parsed, copied);
+    assertEquals(gameName, copied.getGameName());
+    assertEquals(parsed.getMap().getTerritories().size(), copied.getMap().getTerritories().size());
+    assertNotEquals(parsed.getProperties().get(GameData.GAME_UUID), copied.getProperties().get(GameData.GAME_UUID));
+  }
+}
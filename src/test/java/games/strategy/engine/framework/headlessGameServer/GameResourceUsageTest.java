@@ -0,0 +1,45 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class GameResourceUsageTest {
+  @Test
+  public void testKeepsUsageOfEndedThreads() throws Exception {
+    final ThreadGroup group = new ThreadGroup("game");
+    final GameResourceUsage usage = new GameResourceUsage(group);
+    final CountDownLatch allocated = new CountDownLatch(1);
+    final CountDownLatch end = new CountDownLatch(1);
+    final Thread thread = new Thread(group, () -> {
+      final List<byte[]> garbage = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        garbage.add(new byte[16 * 1024]);
+      }
+      allocated.countDown();
+      try {
+        end.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    thread.start();
+    allocated.await();
+    usage.sample();
+    assertEquals(1, usage.getThreadCount());
+    final long allocatedBytes = usage.getAllocatedBytes();
+    assertTrue(allocatedBytes >= 64 * 16 * 1024);
+    final long cpuMillis = usage.getCpuMillis();
+    end.countDown();
+    thread.join();
+    usage.sample();
+    assertEquals(0, usage.getThreadCount());
+    assertEquals(allocatedBytes, usage.getAllocatedBytes());
+    assertEquals(cpuMillis, usage.getCpuMillis());
+  }
+}
@@ -0,0 +1,77 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.framework.GameRunner;
+
+public class HeadlessGameHostTest {
+  private Properties systemProperties;
+
+  @Before
+  public void setUp() {
+    systemProperties = new Properties();
+    systemProperties.putAll(System.getProperties());
+    System.setProperty(GameRunner.TRIPLEA_NAME_PROPERTY, "Bot_Test");
+    System.setProperty(GameRunner.LOBBY_GAME_HOSTED_BY, "Bot_Test");
+    System.setProperty(GameRunner.TRIPLEA_PORT_PROPERTY, "3310");
+  }
+
+  @After
+  public void tearDown() {
+    System.setProperties(systemProperties);
+  }
+
+  @Test
+  public void testGamesHaveTheirOwnProperties() {
+    final Properties first = HeadlessGameHost.getGameProperties(0);
+    final Properties second = HeadlessGameHost.getGameProperties(1);
+    assertEquals("Bot_Test", first.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY));
+    assertEquals("3310", first.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY));
+    assertEquals("Bot_Test_2", second.getProperty(GameRunner.TRIPLEA_NAME_PROPERTY));
+    assertEquals("Bot_Test_2", second.getProperty(GameRunner.LOBBY_GAME_HOSTED_BY));
+    assertEquals("3311", second.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY));
+    // starting a game changes its properties, but not those of the other games
+    first.setProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL, "first@example.com");
+    second.setProperty(GameRunner.TRIPLEA_PORT_PROPERTY, "3320");
+    assertNull(second.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL));
+    assertEquals("3310", first.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY));
+    assertNull(System.getProperty(GameRunner.LOBBY_GAME_SUPPORT_EMAIL));
+    assertEquals("3310", System.getProperty(GameRunner.TRIPLEA_PORT_PROPERTY));
+  }
+
+  @Test
+  public void testThreadsFindTheGameOfTheirThreadGroup() throws Exception {
+    final ThreadGroup first = new ThreadGroup("first");
+    final ThreadGroup second = new ThreadGroup("second");
+    final List<ThreadGroup> games = Arrays.asList(first, second);
+    assertSame(first, findInThread(first, games));
+    assertSame(second, findInThread(second, games));
+    // threads started by a game, like the threads of its messenger
+    assertSame(second, findInThread(new ThreadGroup(second, "messenger"), games));
+    assertNull(HeadlessGameServer.findForCurrentThread(games, Function.identity()));
+    // with only one game, every thread runs for it
+    assertSame(first, HeadlessGameServer.findForCurrentThread(Collections.singletonList(first), Function.identity()));
+  }
+
+  private static ThreadGroup findInThread(final ThreadGroup group, final List<ThreadGroup> games) throws Exception {
+    final AtomicReference<ThreadGroup> found = new AtomicReference<>();
+    final Thread thread =
+        new Thread(group, () -> found.set(HeadlessGameServer.findForCurrentThread(games, Function.identity())));
+    thread.start();
+    thread.join();
+    return found.get();
+  }
+}
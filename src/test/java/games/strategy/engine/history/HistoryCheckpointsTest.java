@@ -0,0 +1,144 @@
+package games.strategy.engine.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class HistoryCheckpointsTest {
+  private GameData gameData;
+  private History history;
+  private Territory germany;
+  private Territory easternEurope;
+  private Territory southernEurope;
+  private PlayerID germans;
+  private Resource pus;
+  private List<Unit> units;
+  private int germanyCount;
+  private int easternEuropeCount;
+  private int southernEuropeCount;
+  private int pusCount;
+  private final List<Change> changes = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    history = gameData.getHistory();
+    germany = gameData.getMap().getTerritory("Germany");
+    easternEurope = gameData.getMap().getTerritory("Eastern Europe");
+    southernEurope = gameData.getMap().getTerritory("Southern Europe");
+    germans = gameData.getPlayerList().getPlayerID("Germans");
+    pus = gameData.getResourceList().getResource(Constants.PUS);
+    units = new ArrayList<>(
+        germany.getUnits().getUnits(gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INFANTRY), 3));
+    germanyCount = germany.getUnits().getUnitCount();
+    easternEuropeCount = easternEurope.getUnits().getUnitCount();
+    southernEuropeCount = southernEurope.getUnits().getUnitCount();
+    pusCount = germans.getResources().getQuantity(pus);
+    // round 1: changes 0 and 1
+    startRound(1);
+    change(ChangeFactory.moveUnits(germany, easternEurope, units));
+    change(ChangeFactory.changeResourcesChange(germans, pus, 10));
+    // round 2: changes 2 to 4
+    startRound(2);
+    change(ChangeFactory.moveUnits(easternEurope, southernEurope, units));
+    change(ChangeFactory.unitPropertyChange(units.get(0), 1, TripleAUnit.ALREADY_MOVED));
+    change(ChangeFactory.unitPropertyChange(units.get(0), 2, TripleAUnit.ALREADY_MOVED));
+    // round 3: change 5
+    startRound(3);
+    change(ChangeFactory.changeResourcesChange(germans, pus, 5));
+    HistoryCheckpoints.awaitCompaction();
+  }
+
+  private void startRound(final int round) {
+    final HistoryWriter writer = history.getHistoryWriter();
+    writer.startNextRound(round);
+    writer.startNextStep("step" + round, "delegate", germans, "Step " + round);
+    writer.startEvent("event " + round);
+  }
+
+  private void change(final Change change) {
+    gameData.performChange(change);
+    history.getHistoryWriter().addChange(change);
+    changes.add(change);
+  }
+
+  private Round getRound(final int round) {
+    return (Round) ((HistoryNode) history.getRoot()).getChildAt(round - 1);
+  }
+
+  @Test
+  public void testCompactsRoundsCompletelyInBetween() {
+    final List<Change> all = history.getCheckpoints().getChanges(0, 6);
+    assertEquals(3, all.size());
+    assertSame(changes.get(5), all.get(2));
+    // round 1 is only partly in between
+    final List<Change> fromRound1 = history.getCheckpoints().getChanges(1, 6);
+    assertEquals(3, fromRound1.size());
+    assertSame(changes.get(1), fromRound1.get(0));
+    assertSame(changes.get(5), fromRound1.get(2));
+    // round 2 is only partly in between
+    final List<Change> toRound2 = history.getCheckpoints().getChanges(0, 4);
+    assertEquals(3, toRound2.size());
+    assertSame(changes.get(2), toRound2.get(1));
+    assertSame(changes.get(3), toRound2.get(2));
+  }
+
+  @Test
+  public void testMergesUnitPropertyChanges() {
+    final Change round2 = history.getCheckpoints().getChanges(2, 5).get(0);
+    // removed from eastern europe, added to southern europe, and the already moved of the unit changed once
+    assertEquals(3, ((CompositeChange) round2).getChanges().size());
+    gameData.performChange(round2.invert());
+    assertEquals(0, ((TripleAUnit) units.get(0)).getAlreadyMoved());
+    gameData.performChange(round2);
+    assertEquals(2, ((TripleAUnit) units.get(0)).getAlreadyMoved());
+  }
+
+  @Test
+  public void testGoesBackAndForthThroughCompactedRounds() {
+    history.gotoNode(getRound(1));
+    assertEquals(germanyCount, germany.getUnits().getUnitCount());
+    assertEquals(easternEuropeCount, easternEurope.getUnits().getUnitCount());
+    assertEquals(southernEuropeCount, southernEurope.getUnits().getUnitCount());
+    assertEquals(pusCount, germans.getResources().getQuantity(pus));
+    assertEquals(0, ((TripleAUnit) units.get(0)).getAlreadyMoved());
+    history.gotoNode(getRound(2));
+    assertEquals(germanyCount - 3, germany.getUnits().getUnitCount());
+    assertEquals(easternEuropeCount + 3, easternEurope.getUnits().getUnitCount());
+    assertEquals(pusCount + 10, germans.getResources().getQuantity(pus));
+    history.gotoNode(history.getLastNode());
+    assertEquals(easternEuropeCount, easternEurope.getUnits().getUnitCount());
+    assertEquals(southernEuropeCount + 3, southernEurope.getUnits().getUnitCount());
+    assertEquals(pusCount + 15, germans.getResources().getQuantity(pus));
+    assertEquals(2, ((TripleAUnit) units.get(0)).getAlreadyMoved());
+  }
+
+  @Test
+  public void testCompactsRoundPlayedAgainAfterRemovingHistory() throws Exception {
+    history.removeAllHistoryAfterNode(getRound(2));
+    startRound(2);
+    change(ChangeFactory.changeResourcesChange(germans, pus, 1));
+    startRound(3);
+    HistoryCheckpoints.awaitCompaction();
+    final List<Change> all = history.getCheckpoints().getChanges(0, 3);
+    assertEquals(2, all.size());
+    assertEquals(1, ((CompositeChange) all.get(1)).getChanges().size());
+  }
+}
@@ -0,0 +1,72 @@
+package games.strategy.engine.lobby.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.net.GUID;
+
+public class CoalescingGameBroadcasterTest {
+  private final List<String> broadcasts = new ArrayList<>();
+  private final List<GameDescription> descriptions = new ArrayList<>();
+  private CoalescingGameBroadcaster broadcaster;
+
+  @Before
+  public void setUp() {
+    // a window long enough to only flush from the test
+    broadcaster = new CoalescingGameBroadcaster(new ILobbyGameBroadcaster() {
+      @Override
+      public void gameUpdated(final GUID gameId, final GameDescription description) {
+        broadcasts.add("updated " + gameId);
+        descriptions.add(description);
+      }
+
+      @Override
+      public void gameRemoved(final GUID gameId) {
+        broadcasts.add("removed " + gameId);
+      }
+    }, Long.MAX_VALUE / 2);
+  }
+
+  @Test
+  public void testBroadcastsLatestDescriptionOnce() {
+    final GUID game = new GUID();
+    final GameDescription latest = new GameDescription();
+    broadcaster.gameUpdated(game, new GameDescription());
+    broadcaster.gameUpdated(game, new GameDescription());
+    broadcaster.gameUpdated(game, latest);
+    broadcaster.flush();
+    assertEquals(1, broadcasts.size());
+    assertSame(latest, descriptions.get(0));
+  }
+
+  @Test
+  public void testBroadcastsRemovalInsteadOfUpdates() {
+    final GUID game = new GUID();
+    broadcaster.gameUpdated(game, new GameDescription());
+    broadcaster.gameRemoved(game);
+    broadcaster.flush();
+    assertEquals(1, broadcasts.size());
+    assertEquals("removed " + game, broadcasts.get(0));
+  }
+
+  @Test
+  public void testBroadcastsGamesInOrder() {
+    final GUID first = new GUID();
+    final GUID second = new GUID();
+    broadcaster.gameUpdated(first, new GameDescription());
+    broadcaster.gameRemoved(second);
+    broadcaster.gameUpdated(first, new GameDescription());
+    broadcaster.flush();
+    assertEquals(2, broadcasts.size());
+    assertEquals("updated " + first, broadcasts.get(0));
+    assertEquals("removed " + second, broadcasts.get(1));
+    broadcaster.flush();
+    assertEquals(2, broadcasts.size());
+  }
+}
@@ -0,0 +1,119 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CachedTableTest {
+  private final Map<String, Timestamp> rows = new LinkedHashMap<>();
+  private final AtomicInteger queries = new AtomicInteger();
+  private final AtomicLong now = new AtomicLong(1000000);
+  // run while the rows are queried, like a write from another thread
+  private Runnable whileQuerying = () -> {
+  };
+  private final CachedTable table =
+      new CachedTable("muted_macs", "mac", "mute_till", this::createConnection, now::get);
+
+  private Connection createConnection() {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("prepareStatement")) {
+            assertEquals("select mac, mute_till from muted_macs", args[0]);
+            return createStatement();
+          }
+          return null;
+        });
+  }
+
+  private PreparedStatement createStatement() {
+    return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+        new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+          if (method.getName().equals("executeQuery")) {
+            queries.incrementAndGet();
+            final List<Map.Entry<String, Timestamp>> result = new ArrayList<>(rows.entrySet());
+            whileQuerying.run();
+            return createResultSet(result);
+          }
+          return null;
+        });
+  }
+
+  private static ResultSet createResultSet(final List<Map.Entry<String, Timestamp>> result) {
+    final AtomicInteger row = new AtomicInteger(-1);
+    return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "next":
+              return row.incrementAndGet() < result.size();
+            case "getString":
+              return result.get(row.get()).getKey();
+            case "getTimestamp":
+              return result.get(row.get()).getValue();
+            default:
+              return null;
+          }
+        });
+  }
+
+  @Test
+  public void testKeepsRowsUntilTheyExpire() {
+    rows.put("mac1", new Timestamp(now.get() + 5000));
+    assertEquals(1, table.getRows().size());
+    rows.put("mac2", null);
+    now.addAndGet(CachedTable.EXPIRY_MILLIS - 1);
+    assertEquals(1, table.getRows().size());
+    assertEquals(1, queries.get());
+    now.addAndGet(1);
+    assertEquals(2, table.getRows().size());
+    assertEquals(2, queries.get());
+  }
+
+  @Test
+  public void testLoadsRowsAgainAfterInvalidate() {
+    assertTrue(table.getRows().isEmpty());
+    rows.put("mac1", null);
+    table.invalidate();
+    assertEquals(1, table.getRows().size());
+    assertEquals(2, queries.get());
+  }
+
+  @Test
+  public void testDoesNotKeepRowsLoadedWhileInvalidated() {
+    // the table is written and invalidated after the rows were read, but before they are kept
+    whileQuerying = () -> {
+      rows.put("mac1", null);
+      table.invalidate();
+    };
+    assertTrue(table.getRows().isEmpty());
+    whileQuerying = () -> {
+    };
+    assertEquals(1, table.getRows().size());
+    assertEquals(2, queries.get());
+    assertEquals(1, table.getRows().size());
+    assertEquals(2, queries.get());
+  }
+
+  @Test
+  public void testMuteWithoutEndIsPermanent() {
+    rows.put("permanent", null);
+    rows.put("timed", new Timestamp(now.get() + 5000));
+    assertEquals(Long.MAX_VALUE, table.getTill("permanent"));
+    assertEquals(now.get() + 5000, table.getTill("timed"));
+    assertEquals(-1, table.getTill("unknown"));
+    assertFalse(table.getRows().containsKey("unknown"));
+  }
+}
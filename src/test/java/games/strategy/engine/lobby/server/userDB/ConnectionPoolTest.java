@@ -0,0 +1,96 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ConnectionPoolTest {
+  private final AtomicInteger opened = new AtomicInteger();
+  private final AtomicInteger closed = new AtomicInteger();
+  private final AtomicInteger rolledBack = new AtomicInteger();
+
+  private Connection createConnection() {
+    opened.incrementAndGet();
+    final AtomicBoolean isClosed = new AtomicBoolean(false);
+    final AtomicBoolean autoCommit = new AtomicBoolean(true);
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "close":
+              isClosed.set(true);
+              closed.incrementAndGet();
+              return null;
+            case "isClosed":
+              return isClosed.get();
+            case "getAutoCommit":
+              return autoCommit.get();
+            case "setAutoCommit":
+              autoCommit.set((Boolean) args[0]);
+              return null;
+            case "rollback":
+              rolledBack.incrementAndGet();
+              return null;
+            default:
+              return null;
+          }
+        });
+  }
+
+  @Test
+  public void testReusesClosedConnections() throws Exception {
+    final ConnectionPool pool = new ConnectionPool(this::createConnection);
+    for (int i = 0; i < 10; i++) {
+      final Connection connection = pool.getConnection();
+      assertFalse(connection.isClosed());
+      connection.close();
+      assertTrue(connection.isClosed());
+    }
+    assertEquals(1, opened.get());
+    assertEquals(0, closed.get());
+    assertEquals(1, pool.getIdleCount());
+  }
+
+  @Test
+  public void testClosesConnectionsOverMaxIdle() throws Exception {
+    final ConnectionPool pool = new ConnectionPool(this::createConnection);
+    final List<Connection> connections = new ArrayList<>();
+    for (int i = 0; i < ConnectionPool.MAX_IDLE_CONNECTIONS + 2; i++) {
+      connections.add(pool.getConnection());
+    }
+    for (final Connection connection : connections) {
+      connection.close();
+    }
+    assertEquals(ConnectionPool.MAX_IDLE_CONNECTIONS + 2, opened.get());
+    assertEquals(2, closed.get());
+    assertEquals(ConnectionPool.MAX_IDLE_CONNECTIONS, pool.getIdleCount());
+    pool.close();
+    assertEquals(ConnectionPool.MAX_IDLE_CONNECTIONS + 2, closed.get());
+  }
+
+  @Test
+  public void testRollsBackUncommittedChanges() throws Exception {
+    final ConnectionPool pool = new ConnectionPool(this::createConnection);
+    final Connection connection = pool.getConnection();
+    connection.setAutoCommit(false);
+    connection.close();
+    assertEquals(1, rolledBack.get());
+  }
+
+  @Test(expected = SQLException.class)
+  public void testClosedConnectionCanNotBeUsed() throws Exception {
+    final ConnectionPool pool = new ConnectionPool(this::createConnection);
+    final Connection connection = pool.getConnection();
+    connection.close();
+    connection.createStatement();
+  }
+}
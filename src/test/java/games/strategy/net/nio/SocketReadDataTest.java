@@ -0,0 +1,51 @@
+package games.strategy.net.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class SocketReadDataTest {
+  private static byte[] packet(final byte... content) {
+    final byte[] packet = new byte[SocketWriteData.HEADER_SIZE + content.length];
+    System.arraycopy(content, 0, packet, SocketWriteData.HEADER_SIZE, content.length);
+    final SocketWriteData data = new SocketWriteData(packet, packet.length);
+    final byte[] written = new byte[data.size()];
+    data.getBuffer().get(written);
+    return written;
+  }
+
+  @Test
+  public void testReadsPacketsReadTogether() throws IOException {
+    final ByteBuffer read = ByteBuffer.allocate(64);
+    read.put(packet((byte) 1, (byte) 2)).put(packet((byte) 3)).flip();
+    final SocketReadData first = new SocketReadData(null);
+    assertTrue(first.read(read));
+    assertArrayEquals(new byte[] {1, 2}, first.getData());
+    final SocketReadData second = new SocketReadData(null);
+    assertTrue(second.read(read));
+    assertArrayEquals(new byte[] {3}, second.getData());
+    assertFalse(read.hasRemaining());
+  }
+
+  @Test
+  public void testReadsPacketSplitInTheSize() throws IOException {
+    final byte[] packet = packet((byte) 1, (byte) 2, (byte) 3);
+    final SocketReadData data = new SocketReadData(null);
+    assertFalse(data.read(ByteBuffer.wrap(packet, 0, 2)));
+    assertFalse(data.read(ByteBuffer.wrap(packet, 2, 3)));
+    assertTrue(data.read(ByteBuffer.wrap(packet, 5, packet.length - 5)));
+    assertEquals(3 + SocketWriteData.HEADER_SIZE, data.size());
+    assertArrayEquals(new byte[] {1, 2, 3}, data.getData());
+  }
+
+  @Test(expected = IOException.class)
+  public void testRejectsPacketWithoutMagic() throws IOException {
+    new SocketReadData(null).read(ByteBuffer.wrap(new byte[] {0, 0, 0, 1, 0}));
+  }
+}
@@ -0,0 +1,71 @@
+package games.strategy.triplea.image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import games.strategy.util.Tuple;
+
+public class TileImageCacheTest {
+  // 4 bytes a pixel
+  private static BufferedImage image(final int size) {
+    return new BufferedImage(size, size, BufferedImage.TYPE_4BYTE_ABGR);
+  }
+
+  @Test
+  public void testKeepsImagesByFileAndScale() {
+    final TileImageCache cache = new TileImageCache(1024 * 1024);
+    final Image full = image(16);
+    final Image half = image(8);
+    cache.put("baseTiles/0_0.png", 1, full);
+    cache.put("baseTiles/0_0.png", 0.5, half);
+    assertSame(full, cache.get("baseTiles/0_0.png", 1));
+    assertSame(half, cache.get("baseTiles/0_0.png", 0.5));
+    assertNull(cache.get("reliefTiles/0_0.png", 1));
+    assertNull(cache.get("baseTiles/0_0.png", 0.25));
+    assertEquals(16 * 16 * 4 + 8 * 8 * 4, cache.getBytes());
+  }
+
+  @Test
+  public void testGetsTheNearestLargerScale() {
+    final TileImageCache cache = new TileImageCache(1024 * 1024);
+    final Image full = image(16);
+    final Image half = image(8);
+    cache.put("baseTiles/0_0.png", 1, full);
+    cache.put("baseTiles/0_0.png", 0.5, half);
+    final Tuple<Image, Double> larger = cache.getLarger("baseTiles/0_0.png", 0.25);
+    assertSame(half, larger.getFirst());
+    assertEquals(0.5, larger.getSecond(), 0);
+    assertSame(full, cache.getLarger("baseTiles/0_0.png", 0.5).getFirst());
+    assertNull(cache.getLarger("baseTiles/0_0.png", 1));
+  }
+
+  @Test
+  public void testDropsLeastRecentlyUsedImagesOverBudget() {
+    // room for two 16 x 16 images
+    final TileImageCache cache = new TileImageCache(2 * 16 * 16 * 4);
+    cache.put("baseTiles/0_0.png", 1, image(16));
+    cache.put("baseTiles/1_0.png", 1, image(16));
+    cache.get("baseTiles/0_0.png", 1);
+    cache.put("baseTiles/2_0.png", 1, image(16));
+    assertEquals(2, cache.size());
+    assertNull(cache.get("baseTiles/1_0.png", 1));
+    assertNull(cache.getLarger("baseTiles/1_0.png", 0.5));
+    assertEquals(2 * 16 * 16 * 4, cache.getBytes());
+  }
+
+  @Test
+  public void testClear() {
+    final TileImageCache cache = new TileImageCache(1024 * 1024);
+    cache.put("baseTiles/0_0.png", 1, image(16));
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getBytes());
+    assertNull(cache.getLarger("baseTiles/0_0.png", 0.5));
+  }
+}
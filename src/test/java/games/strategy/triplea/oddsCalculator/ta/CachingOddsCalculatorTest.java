@@ -0,0 +1,149 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
+import static games.strategy.triplea.delegate.GameDataTestUtil.getDelegateBridge;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.japanese;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+import games.strategy.triplea.delegate.TechAdvance;
+import games.strategy.triplea.delegate.TechTracker;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class CachingOddsCalculatorTest {
+  private GameData gameData;
+  private CachingOddsCalculator calculator;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    calculator = new CachingOddsCalculator(new OddsCalculator(null));
+    calculator.setGameData(gameData);
+  }
+
+  @After
+  public void tearDown() {
+    calculator.shutdown();
+  }
+
+  @Test
+  public void testSameBattleWithOtherUnitsIsCached() {
+    final AggregateResults first = calculate(createAttackers(), createDefenders());
+    final List<Unit> attacking = createAttackers();
+    final List<Unit> defending = createDefenders();
+    final AggregateResults second = calculate(attacking, defending);
+    final BattleOutcomeCache cache = calculator.getCache();
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(first.getRollCount(), second.getRollCount());
+    assertEquals(first.getAttackerWinPercent(), second.getAttackerWinPercent(), 0.0);
+    assertEquals(first.getAverageBattleRoundsFought(), second.getAverageBattleRoundsFought(), 0.0);
+    for (final BattleResults result : second.getResults()) {
+      assertTrue(attacking.containsAll(result.getRemainingAttackingUnits()));
+      assertTrue(defending.containsAll(result.getRemainingDefendingUnits()));
+    }
+  }
+
+  @Test
+  public void testDifferentBattleIsNotCached() {
+    calculate(createAttackers(), createDefenders());
+    final List<Unit> defending = createDefenders();
+    defending.remove(0);
+    calculate(createAttackers(), defending);
+    calculator.setRetreatAfterRound(1);
+    calculate(createAttackers(), createDefenders());
+    assertEquals(3, calculator.getCache().getMissCount());
+    assertEquals(0, calculator.getCache().getHitCount());
+    assertEquals(3, calculator.getCache().size());
+  }
+
+  @Test
+  public void testTechOfAllyIsPartOfBattle() {
+    final PlayerID japanese = japanese(gameData);
+    final List<Unit> defending = createDefenders();
+    defending.addAll(fighter(gameData).create(1, japanese));
+    calculate(createAttackers(), defending);
+    for (final TechAdvance tech : TechAdvance.getTechAdvances(gameData, japanese)) {
+      if (tech.getProperty().equals(TechAdvance.TECH_PROPERTY_JET_POWER)) {
+        TechTracker.addAdvance(japanese, getDelegateBridge(japanese, gameData), tech);
+      }
+    }
+    assertTrue(TechTracker.hasJetFighter(japanese));
+    calculate(createAttackers(), defending);
+    assertEquals(2, calculator.getCache().getMissCount());
+    assertEquals(0, calculator.getCache().getHitCount());
+  }
+
+  @Test
+  public void testSetGameDataInvalidates() {
+    calculate(createAttackers(), createDefenders());
+    calculator.setGameData(gameData);
+    assertEquals(0, calculator.getCache().size());
+    calculate(createAttackers(), createDefenders());
+    assertEquals(2, calculator.getCache().getMissCount());
+    assertEquals(0, calculator.getCache().getHitCount());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+    final BattleOutcomeCache cache = new BattleOutcomeCache(30);
+    final List<Unit> none = Collections.emptyList();
+    // 10 runs with the same outcome weigh 12
+    cache.put("first", none, none, createDraws(10));
+    cache.put("second", none, none, createDraws(10));
+    assertEquals(24, cache.getWeight());
+    assertEquals(10, cache.get("first", none, none, gameData).getRollCount());
+    cache.put("third", none, none, createDraws(10));
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertNull(cache.get("second", none, none, gameData));
+    assertNotNull(cache.get("first", none, none, gameData));
+    assertNotNull(cache.get("third", none, none, gameData));
+  }
+
+  private AggregateResults createDraws(final int runCount) {
+    final AggregateResults results = new AggregateResults(runCount);
+    final BattleResults draw =
+        new BattleResults(1, Collections.emptyList(), Collections.emptyList(), WhoWon.DRAW, gameData);
+    for (int i = 0; i < runCount; i++) {
+      results.addResult(draw);
+    }
+    return results;
+  }
+
+  private List<Unit> createAttackers() {
+    final List<Unit> attacking = infantry(gameData).create(4, russians(gameData));
+    attacking.addAll(armour(gameData).create(2, russians(gameData)));
+    return attacking;
+  }
+
+  private List<Unit> createDefenders() {
+    return infantry(gameData).create(4, germans(gameData));
+  }
+
+  private AggregateResults calculate(final List<Unit> attacking, final List<Unit> defending) {
+    final Territory easternEurope = territory("Eastern Europe", gameData);
+    return calculator.setCalculateDataAndCalculate(russians(gameData), germans(gameData), easternEurope, attacking,
+        defending, Collections.emptyList(), TerritoryEffectHelper.getEffects(easternEurope), 200);
+  }
+}
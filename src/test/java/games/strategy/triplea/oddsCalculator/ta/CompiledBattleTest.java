@@ -0,0 +1,132 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.battleship;
+import static games.strategy.triplea.delegate.GameDataTestUtil.destroyer;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class CompiledBattleTest {
+  private static final int RUN_COUNT = 5000;
+  // how many standard errors the averages of the compiled and the real battles may differ, a correct compiled battle
+  // fails an assertion about once in two million
+  private static final double Z_SCORE = 5;
+  private GameData gameData;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+  }
+
+  @Test
+  public void testLandBattleMatchesRealBattle() {
+    final Territory easternEurope = territory("Eastern Europe", gameData);
+    final List<Unit> attacking = infantry(gameData).create(6, russians(gameData));
+    attacking.addAll(gameData.getUnitTypeList().getUnitType("artillery").create(2, russians(gameData)));
+    attacking.addAll(armour(gameData).create(2, russians(gameData)));
+    attacking.addAll(fighter(gameData).create(1, russians(gameData)));
+    final List<Unit> defending = infantry(gameData).create(6, germans(gameData));
+    defending.addAll(armour(gameData).create(2, germans(gameData)));
+    defending.addAll(fighter(gameData).create(1, germans(gameData)));
+    assertSameResults(easternEurope, attacking, defending);
+  }
+
+  @Test
+  public void testSeaBattleWithTwoHitPointUnitsMatchesRealBattle() {
+    final Territory sz5 = territory("5 Sea Zone", gameData);
+    final List<Unit> attacking = battleship(gameData).create(2, russians(gameData));
+    attacking.addAll(fighter(gameData).create(2, russians(gameData)));
+    final List<Unit> defending = battleship(gameData).create(1, germans(gameData));
+    defending.addAll(destroyer(gameData).create(4, germans(gameData)));
+    assertSameResults(sz5, attacking, defending);
+  }
+
+  @Test
+  public void testSubmarinesAreNotCompiled() {
+    final Territory sz5 = territory("5 Sea Zone", gameData);
+    final List<Unit> attacking = submarine(gameData).create(2, russians(gameData));
+    final List<Unit> defending = destroyer(gameData).create(2, germans(gameData));
+    assertNull(compile(sz5, attacking, defending));
+    assertNotNull(compile(sz5, destroyer(gameData).create(2, russians(gameData)), defending));
+  }
+
+  private CompiledBattle compile(final Territory location, final List<Unit> attacking, final List<Unit> defending) {
+    return CompiledBattle.compile(russians(gameData), germans(gameData), location, attacking, defending,
+        Collections.emptyList(), TerritoryEffectHelper.getEffects(location), false, false, null, null, -1, -1, false,
+        gameData);
+  }
+
+  private void assertSameResults(final Territory location, final List<Unit> attacking, final List<Unit> defending) {
+    assertNotNull(compile(location, attacking, defending));
+    final AggregateResults compiled = calculate(location, attacking, defending, true);
+    final AggregateResults real = calculate(location, attacking, defending, false);
+    assertEquals(RUN_COUNT, compiled.getRollCount());
+    assertSameAverage("attacker wins", real, compiled, result -> result.attackerWon() ? 1 : 0);
+    assertSameAverage("defender wins", real, compiled, result -> result.defenderWon() ? 1 : 0);
+    assertSameAverage("attacking units left", real, compiled, BattleResults::getAttackingCombatUnitsLeft);
+    assertSameAverage("defending units left", real, compiled, BattleResults::getDefendingCombatUnitsLeft);
+    assertSameAverage("battle rounds fought", real, compiled, BattleResults::getBattleRoundsFought);
+  }
+
+  /**
+   * Asserts that the averages of a value over the runs of two calculations differ by at most {@link #Z_SCORE} times
+   * the standard error of their difference.
+   */
+  private static void assertSameAverage(final String name, final AggregateResults expected,
+      final AggregateResults actual, final ToDoubleFunction<BattleResults> value) {
+    final double[] expectedStats = getAverageAndVariance(expected, value);
+    final double[] actualStats = getAverageAndVariance(actual, value);
+    final double standardError = Math.sqrt(expectedStats[1] / expected.getRollCount()
+        + actualStats[1] / actual.getRollCount());
+    final double difference = Math.abs(expectedStats[0] - actualStats[0]);
+    assertTrue(name + ": expected " + expectedStats[0] + " but was " + actualStats[0] + ", standard error "
+        + standardError, difference <= Z_SCORE * standardError + 1e-9);
+  }
+
+  private static double[] getAverageAndVariance(final AggregateResults results,
+      final ToDoubleFunction<BattleResults> value) {
+    double sum = 0;
+    double sumOfSquares = 0;
+    for (final BattleResults result : results.getResults()) {
+      final double x = value.applyAsDouble(result);
+      sum += x;
+      sumOfSquares += x * x;
+    }
+    final int count = results.getResults().size();
+    final double average = sum / count;
+    return new double[] {average, (sumOfSquares - sum * average) / (count - 1)};
+  }
+
+  private AggregateResults calculate(final Territory location, final List<Unit> attacking,
+      final List<Unit> defending, final boolean useCompiledBattle) {
+    final OddsCalculator calculator = new OddsCalculator(gameData);
+    calculator.setUseCompiledBattle(useCompiledBattle);
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(russians(gameData), germans(gameData),
+        location, new ArrayList<>(attacking), new ArrayList<>(defending), Collections.emptyList(),
+        TerritoryEffectHelper.getEffects(location), RUN_COUNT);
+    calculator.shutdown();
+    return results;
+  }
+}
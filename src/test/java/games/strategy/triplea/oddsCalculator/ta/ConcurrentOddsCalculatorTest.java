@@ -0,0 +1,81 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.destroyer;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class ConcurrentOddsCalculatorTest {
+  private GameData gameData;
+  private ConcurrentOddsCalculator calculator;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    calculator = new ConcurrentOddsCalculator("Test");
+    calculator.setGameData(gameData);
+  }
+
+  @After
+  public void tearDown() {
+    calculator.shutdown();
+  }
+
+  @Test
+  public void testSameSeedGivesSameResults() {
+    final Territory easternEurope = territory("Eastern Europe", gameData);
+    final List<Unit> attacking = infantry(gameData).create(5, russians(gameData));
+    attacking.addAll(armour(gameData).create(3, russians(gameData)));
+    final List<Unit> defending = infantry(gameData).create(6, germans(gameData));
+    calculator.setSeed(42L);
+    final AggregateResults first = calculate(easternEurope, attacking, defending, 1234);
+    final AggregateResults second = calculate(easternEurope, attacking, defending, 1234);
+    assertEquals(1234, first.getRollCount());
+    assertEquals(1234, second.getRollCount());
+    for (int i = 0; i < first.getRollCount(); i++) {
+      final BattleResults firstResult = first.getResults().get(i);
+      final BattleResults secondResult = second.getResults().get(i);
+      assertEquals(firstResult.getBattleRoundsFought(), secondResult.getBattleRoundsFought());
+      assertEquals(firstResult.getAttackingCombatUnitsLeft(), secondResult.getAttackingCombatUnitsLeft());
+      assertEquals(firstResult.getDefendingCombatUnitsLeft(), secondResult.getDefendingCombatUnitsLeft());
+    }
+  }
+
+  @Test
+  public void testBattleThatCanNotBeCompiled() {
+    final Territory sz5 = territory("5 Sea Zone", gameData);
+    final List<Unit> attacking = submarine(gameData).create(3, russians(gameData));
+    final List<Unit> defending = destroyer(gameData).create(1, germans(gameData));
+    final AggregateResults results = calculate(sz5, attacking, defending, 200);
+    // the run count is split evenly across the workers, so the remainder is not run
+    final int workers = calculator.getWorkerCount();
+    assertTrue(workers >= 1 && workers <= calculator.getThreadCount());
+    assertEquals(200 / workers * workers, results.getRollCount());
+    assertEquals(1.0, results.getAttackerWinPercent() + results.getDefenderWinPercent() + results.getDrawPercent(),
+        0.0001);
+  }
+
+  private AggregateResults calculate(final Territory location, final List<Unit> attacking,
+      final List<Unit> defending, final int runCount) {
+    return calculator.setCalculateDataAndCalculate(russians(gameData), germans(gameData), location, attacking,
+        defending, Collections.emptyList(), TerritoryEffectHelper.getEffects(location), runCount);
+  }
+}
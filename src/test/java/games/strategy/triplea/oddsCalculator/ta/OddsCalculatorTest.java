@@ -1,7 +1,10 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
 import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
 import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
 import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
 import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
 import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
@@ -99,4 +102,37 @@ public class OddsCalculatorTest {
     assertEquals(results.getAttackerWinPercent(), 1.0, 0.0);
     assertEquals(results.getDefenderWinPercent(), 0.0, 0.0);
   }
+
+  @Test
+  public void testConfidenceTargetStopsObviousBattleEarly() {
+    final Territory easternEurope = territory("Eastern Europe", gameData);
+    final List<Unit> attacking = armour(gameData).create(10, russians(gameData));
+    final List<Unit> defending = infantry(gameData).create(1, germans(gameData));
+    final OddsCalculator calculator = new OddsCalculator(gameData);
+    calculator.setConfidenceTarget(new ConfidenceTarget(0.05, 1.0));
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(russians(gameData), germans(gameData),
+        easternEurope, attacking, defending, Collections.<Unit>emptyList(),
+        TerritoryEffectHelper.getEffects(easternEurope), 1000);
+    calculator.shutdown();
+    assertTrue(results.getRollCount() < 1000);
+    assertTrue(results.getAttackerWinPercentError(ConfidenceTarget.Z_SCORE_95) <= 0.05);
+    assertTrue(results.getTUVswingError(russians(gameData), germans(gameData), gameData,
+        ConfidenceTarget.Z_SCORE_95) <= 1.0);
+    assertEquals(1.0, results.getAttackerWinPercent(), 0.0);
+  }
+
+  @Test
+  public void testConfidenceTargetTimeLimit() {
+    final Territory easternEurope = territory("Eastern Europe", gameData);
+    final List<Unit> attacking = infantry(gameData).create(5, russians(gameData));
+    final List<Unit> defending = infantry(gameData).create(5, germans(gameData));
+    final OddsCalculator calculator = new OddsCalculator(gameData);
+    calculator.setConfidenceTarget(new ConfidenceTarget(0.0, -1, ConfidenceTarget.Z_SCORE_95, 16, 1));
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(russians(gameData), germans(gameData),
+        easternEurope, attacking, defending, Collections.<Unit>emptyList(),
+        TerritoryEffectHelper.getEffects(easternEurope), 10000000);
+    calculator.shutdown();
+    assertTrue(results.getRollCount() >= 16);
+    assertTrue(results.getRollCount() < 10000000);
+  }
 }
@@ -0,0 +1,145 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.ResourceLoader;
+import games.strategy.triplea.image.UnitImageFactory;
+import games.strategy.triplea.ui.IUIContext;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.ui.screen.drawable.IDrawable.OptionalExtraBorderLevel;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class TileManagerTest {
+  private static final Rectangle MAP_BOUNDS = new Rectangle(0, 0, 2 * TileManager.TILE_SIZE, TileManager.TILE_SIZE);
+  private Path mapFolder;
+  private GameData gameData;
+  private MapData mapData;
+  private TileManager tileManager;
+  private Territory ukraine;
+  private Territory easternEurope;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    // a map of two territories, each on its own tile, without names or resources to draw
+    mapFolder = Files.createTempDirectory("tileManagerTest");
+    write("map.properties", "map.width=512\nmap.height=256\nmap.scrollWrapX=false\nmap.showTerritoryNames=false\n"
+        + "map.showResources=false\nmap.showCapitolMarkers=false\ncolor.Germans=777777\ncolor.Russians=AA0000\n");
+    write("polygons.txt", "Ukraine S.S.R. < (0,0) (250,0) (250,250) (0,250) >\n"
+        + "Eastern Europe < (262,0) (500,0) (500,250) (262,250) >\n");
+    write("centers.txt", "Ukraine S.S.R. (100,100)\nEastern Europe (400,100)\n");
+    write("place.txt", "Ukraine S.S.R. (20,20) (80,20) (140,20) (20,100) (80,100) (140,100)\n"
+        + "Eastern Europe (280,20) (340,20) (400,20) (280,100) (340,100) (400,100)\n");
+    for (final String player : Arrays.asList("Germans", "Russians")) {
+      final File unitFolder = mapFolder.resolve("units").resolve(player).toFile();
+      unitFolder.mkdirs();
+      for (final UnitType type : gameData.getUnitTypeList()) {
+        ImageIO.write(new BufferedImage(UnitImageFactory.DEFAULT_UNIT_ICON_SIZE,
+            UnitImageFactory.DEFAULT_UNIT_ICON_SIZE, BufferedImage.TYPE_INT_ARGB), "png",
+            new File(unitFolder, type.getName() + ".png"));
+      }
+    }
+    final Constructor<ResourceLoader> constructor =
+        ResourceLoader.class.getDeclaredConstructor(String.class, String[].class);
+    constructor.setAccessible(true);
+    final ResourceLoader loader = constructor.newInstance("test", new String[] {mapFolder.toString()});
+    mapData = new MapData(loader);
+    final UnitImageFactory unitImageFactory = new UnitImageFactory();
+    unitImageFactory.setResourceLoader(loader, 1.0, UnitImageFactory.DEFAULT_UNIT_ICON_SIZE,
+        UnitImageFactory.DEFAULT_UNIT_ICON_SIZE, UnitImageFactory.DEFAULT_UNIT_ICON_SIZE / 4,
+        UnitImageFactory.DEFAULT_UNIT_ICON_SIZE);
+    tileManager = new TileManager(createUiContext(unitImageFactory));
+    tileManager.createTiles(MAP_BOUNDS, gameData, mapData);
+    ukraine = gameData.getMap().getTerritory("Ukraine S.S.R.");
+    easternEurope = gameData.getMap().getTerritory("Eastern Europe");
+    tileManager.updateTerritories(Arrays.asList(ukraine, easternEurope), gameData, mapData);
+  }
+
+  private IUIContext createUiContext(final UnitImageFactory unitImageFactory) {
+    return (IUIContext) Proxy.newProxyInstance(IUIContext.class.getClassLoader(), new Class<?>[] {IUIContext.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getMapData":
+              return mapData;
+            case "getScale":
+              return 1.0;
+            case "getShowUnits":
+              return true;
+            case "getShowTerritoryEffects":
+              return false;
+            case "getUnitImageFactory":
+              return unitImageFactory;
+            case "getDrawTerritoryBordersAgain":
+              return OptionalExtraBorderLevel.LOW;
+            default:
+              return null;
+          }
+        });
+  }
+
+  private void write(final String name, final String content) throws IOException {
+    Files.write(mapFolder.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(mapFolder)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Test
+  public void testChangedUnitsMarkOnlyTheirOwnTileDirty() {
+    final List<Tile> tiles = tileManager.getTiles(MAP_BOUNDS);
+    assertEquals(2, tiles.size());
+    for (final Tile tile : tiles) {
+      tile.getImage(gameData, mapData);
+      assertFalse(tile.isDirty());
+    }
+    final PlayerID russians = gameData.getPlayerList().getPlayerID("Russians");
+    final UnitType infantry = gameData.getUnitTypeList().getUnitType("infantry");
+    gameData.performChange(ChangeFactory.addUnits(ukraine, infantry.create(1, russians)));
+    tileManager.updateUnits(Arrays.asList(ukraine, easternEurope), gameData, mapData);
+    assertTrue(tileManager.getTiles(mapData.getBoundingRect(ukraine)).get(0).isDirty());
+    assertFalse(tileManager.getTiles(mapData.getBoundingRect(easternEurope)).get(0).isDirty());
+  }
+
+  @Test
+  public void testUnchangedUnitsMarkNoTileDirty() {
+    final List<Tile> tiles = tileManager.getTiles(MAP_BOUNDS);
+    for (final Tile tile : tiles) {
+      tile.getImage(gameData, mapData);
+    }
+    tileManager.updateUnits(Arrays.asList(ukraine, easternEurope), gameData, mapData);
+    for (final Tile tile : tiles) {
+      assertFalse(tile.isDirty());
+    }
+  }
+}
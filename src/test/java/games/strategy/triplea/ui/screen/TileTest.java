@@ -0,0 +1,106 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.ui.screen.drawable.IDrawable;
+
+public class TileTest {
+  private final Rectangle bounds =
+      new Rectangle(TileManager.TILE_SIZE, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE);
+  private final Tile tile = new Tile(bounds, 1, 0, 1.0);
+  private final FillDrawable background = new FillDrawable();
+
+  @Before
+  public void setUp() {
+    background.color = Color.RED;
+    tile.addDrawable(background);
+    tile.getImage(null, null);
+  }
+
+  @Test
+  public void testDrawsAllOfNewTile() {
+    assertFalse(tile.isDirty());
+    assertEquals(Color.RED.getRGB(), getPixel(0, 0));
+    assertEquals(Color.RED.getRGB(), getPixel(TileManager.TILE_SIZE - 1, TileManager.TILE_SIZE - 1));
+  }
+
+  @Test
+  public void testDrawsOnlyDirtyArea() {
+    background.color = Color.BLUE;
+    tile.addDrawable(new EmptyDrawable(), new Rectangle(bounds.x + 10, 10, 20, 20));
+    assertTrue(tile.isDirty());
+    tile.getImage(null, null);
+    assertFalse(tile.isDirty());
+    assertEquals(Color.BLUE.getRGB(), getPixel(15, 15));
+    assertEquals(Color.RED.getRGB(), getPixel(100, 100));
+  }
+
+  @Test
+  public void testClearsDirtyAreaAfterDrawing() {
+    final EmptyDrawable marker = new EmptyDrawable();
+    background.color = Color.BLUE;
+    tile.addDrawable(marker, new Rectangle(bounds.x + 10, 10, 20, 20));
+    tile.getImage(null, null);
+    background.color = Color.GREEN;
+    tile.removeDrawables(Collections.singleton(marker), new Rectangle(bounds.x + 100, 100, 20, 20));
+    tile.getImage(null, null);
+    assertEquals(Color.GREEN.getRGB(), getPixel(105, 105));
+    assertEquals(Color.BLUE.getRGB(), getPixel(15, 15));
+    assertEquals(Color.RED.getRGB(), getPixel(200, 200));
+  }
+
+  @Test
+  public void testDrawsAllAfterWholeTileMarked() {
+    background.color = Color.BLUE;
+    tile.addDrawable(new EmptyDrawable(), new Rectangle(bounds.x + 10, 10, 20, 20));
+    tile.addDrawable(new EmptyDrawable());
+    tile.getImage(null, null);
+    assertEquals(Color.BLUE.getRGB(), getPixel(15, 15));
+    assertEquals(Color.BLUE.getRGB(), getPixel(200, 200));
+  }
+
+  private int getPixel(final int x, final int y) {
+    return ((BufferedImage) tile.getRawImage()).getRGB(x, y);
+  }
+
+  private static final class FillDrawable implements IDrawable {
+    private Color color;
+
+    @Override
+    public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
+        final AffineTransform unscaled, final AffineTransform scaled) {
+      graphics.setColor(color);
+      graphics.fillRect(0, 0, bounds.width, bounds.height);
+    }
+
+    @Override
+    public int getLevel() {
+      return BASE_MAP_LEVEL;
+    }
+  }
+
+  private static final class EmptyDrawable implements IDrawable {
+    @Override
+    public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
+        final AffineTransform unscaled, final AffineTransform scaled) {}
+
+    @Override
+    public int getLevel() {
+      return UNITS_LEVEL;
+    }
+  }
+}
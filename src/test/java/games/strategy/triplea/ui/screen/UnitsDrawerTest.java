@@ -0,0 +1,36 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.awt.Point;
+
+import org.junit.Test;
+
+public class UnitsDrawerTest {
+  private static UnitsDrawer newDrawer(final int count, final String unitType, final String playerName,
+      final Point placementPoint, final int damaged, final boolean disabled, final String territoryName) {
+    return new UnitsDrawer(count, unitType, playerName, placementPoint, damaged, 0, disabled, false, territoryName,
+        null);
+  }
+
+  @Test
+  public void testEqualStacksAreEqual() {
+    final UnitsDrawer drawer = newDrawer(2, "infantry", "Germans", new Point(10, 20), 0, false, "Germany");
+    final UnitsDrawer same = newDrawer(2, "infantry", "Germans", new Point(10, 20), 0, false, "Germany");
+    assertEquals(drawer, same);
+    assertEquals(drawer.hashCode(), same.hashCode());
+  }
+
+  @Test
+  public void testChangedStacksAreNotEqual() {
+    final UnitsDrawer drawer = newDrawer(2, "infantry", "Germans", new Point(10, 20), 0, false, "Germany");
+    assertNotEquals(drawer, newDrawer(3, "infantry", "Germans", new Point(10, 20), 0, false, "Germany"));
+    assertNotEquals(drawer, newDrawer(2, "armour", "Germans", new Point(10, 20), 0, false, "Germany"));
+    assertNotEquals(drawer, newDrawer(2, "infantry", "Italians", new Point(10, 20), 0, false, "Germany"));
+    assertNotEquals(drawer, newDrawer(2, "infantry", "Germans", new Point(10, 21), 0, false, "Germany"));
+    assertNotEquals(drawer, newDrawer(2, "infantry", "Germans", new Point(10, 20), 1, false, "Germany"));
+    assertNotEquals(drawer, newDrawer(2, "infantry", "Germans", new Point(10, 20), 0, true, "Germany"));
+    assertNotEquals(drawer, newDrawer(2, "infantry", "Germans", new Point(10, 20), 0, false, "Poland"));
+  }
+}
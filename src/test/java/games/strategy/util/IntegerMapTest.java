@@ -1,8 +1,24 @@
 package games.strategy.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
 import org.junit.Test;
 
 public class IntegerMapTest {
@@ -66,4 +82,132 @@ public class IntegerMapTest {
     map1.add(v3, 3);
     assertTrue(map1.greaterThanOrEqualTo(map2));
   }
+
+  @Test
+  public void testNullKey() {
+    final IntegerMap<Object> map = new IntegerMap<>();
+    map.add(null, 2);
+    map.add(v1, 1);
+    map.add(null, 3);
+    assertEquals(5, map.getInt(null));
+    assertTrue(map.containsKey(null));
+    assertTrue(map.keySet().contains(null));
+    map.removeKey(null);
+    assertFalse(map.containsKey(null));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testBehavesLikeHashMap() {
+    final Random random = new Random(42);
+    final IntegerMap<Key> map = new IntegerMap<>();
+    final Map<Key, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 20000; i++) {
+      // few hash codes, so there are long runs of colliding keys that wrap around the end of the table
+      final int id = random.nextInt(200);
+      final Key key = new Key(id, id % 8);
+      final int value = random.nextInt(11) - 5;
+      switch (random.nextInt(4)) {
+        case 0:
+          map.put(key, value);
+          expected.put(key, value);
+          break;
+        case 1:
+          map.add(key, value);
+          expected.put(key, expected.getOrDefault(key, 0) + value);
+          break;
+        case 2:
+          map.removeKey(key);
+          expected.remove(key);
+          break;
+        default:
+          assertEquals(expected.getOrDefault(key, 0).intValue(), map.getInt(key));
+          assertEquals(expected.containsKey(key), map.containsKey(key));
+          break;
+      }
+    }
+    assertMapEquals(expected, map);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(map, map.copy());
+    assertEquals(map, new IntegerMap<>(map));
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    final Random random = new Random(7);
+    for (int round = 0; round < 200; round++) {
+      final IntegerMap<Key> map = new IntegerMap<>();
+      final Map<Key, Integer> expected = new HashMap<>();
+      for (int i = 0; i < 100; i++) {
+        final Key key = new Key(i, random.nextInt(40));
+        map.put(key, i);
+        expected.put(key, i);
+      }
+      final Set<Key> seen = new HashSet<>();
+      final Iterator<Key> iter = map.keySet().iterator();
+      while (iter.hasNext()) {
+        final Key key = iter.next();
+        assertTrue(seen.add(key));
+        if (random.nextBoolean()) {
+          iter.remove();
+          expected.remove(key);
+        }
+      }
+      assertEquals(100, seen.size());
+      assertMapEquals(expected, map);
+    }
+  }
+
+  @Test
+  public void testSerializationKeepsHashMapForm() throws Exception {
+    // saved games made before the map stopped using a HashMap must still load
+    assertEquals(HashMap.class, ObjectStreamClass.lookup(IntegerMap.class).getField("mapValues").getType());
+    final IntegerMap<String> map = new IntegerMap<>();
+    for (int i = 0; i < 100; i++) {
+      map.put("key" + i, i - 50);
+    }
+    map.put(null, 1);
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(sink)) {
+      out.writeObject(map);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(sink.toByteArray()))) {
+      assertEquals(map, in.readObject());
+    }
+  }
+
+  private static void assertMapEquals(final Map<Key, Integer> expected, final IntegerMap<Key> map) {
+    assertEquals(expected.size(), map.size());
+    final List<Key> keys = new ArrayList<>(map.keySet());
+    assertEquals(expected.size(), new HashSet<>(keys).size());
+    for (final Map.Entry<Key, Integer> entry : expected.entrySet()) {
+      assertEquals(entry.getValue().intValue(), map.getInt(entry.getKey()));
+    }
+    int total = 0;
+    for (final int value : expected.values()) {
+      total += value;
+    }
+    assertEquals(total, map.totalValues());
+  }
+
+  private static final class Key implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final int id;
+    private final int hashCode;
+
+    Key(final int id, final int hashCode) {
+      this.id = id;
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof Key && ((Key) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
 }
@@ -1,6 +1,8 @@
 package games.strategy.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -97,6 +99,52 @@ public class MatchTest {
     assertEquals(7, Match.getMatches(ints, or).size());
   }
 
+  @Test
+  public void testNestedComposites() {
+    final CompositeMatch<Integer> inner = new CompositeMatchOr<>(neg);
+    final CompositeMatch<Integer> or = new CompositeMatchOr<>(inner, new CompositeMatchAnd<>(pos, new DivisibleBy(2)));
+    assertEquals(4, Match.getMatches(ints, or).size());
+    assertEquals(2, or.getCompiledMatches().length);
+    inner.add(zero);
+    assertEquals(5, Match.getMatches(ints, or).size());
+    assertEquals(3, or.getCompiledMatches().length);
+  }
+
+  @Test
+  public void testCompilesAgainOnlyAfterOwnMatchesChanged() {
+    final CompositeMatch<Integer> innermost = new CompositeMatchOr<>(neg);
+    final CompositeMatch<Integer> or = new CompositeMatchOr<>(new CompositeMatchOr<>(innermost), pos);
+    final CompositeMatch<Integer> other = new CompositeMatchOr<>(new CompositeMatchOr<>(neg));
+    final Match<Integer>[] compiled = or.getCompiledMatches();
+    other.add(zero);
+    other.getCompiledMatches();
+    assertSame(compiled, or.getCompiledMatches());
+    innermost.add(zero);
+    assertNotSame(compiled, or.getCompiledMatches());
+    assertEquals(3, or.getCompiledMatches().length);
+    assertEquals(7, Match.getMatches(ints, or).size());
+  }
+
+  @Test
+  public void testFusedMatches() {
+    final CompositeMatch<Integer> and =
+        new CompositeMatchAnd<>(new DivisibleBy(2), new DivisibleBy(3), pos, new DivisibleBy(5), new DivisibleBy(7));
+    assertEquals(3, and.getCompiledMatches().length);
+    assertTrue(and.match(210));
+    assertTrue(!and.match(-210));
+    assertTrue(!and.match(30));
+    final CompositeMatch<Integer> or = new CompositeMatchOr<>(new DivisibleBy(2), new DivisibleBy(3));
+    assertEquals(2, or.getCompiledMatches().length);
+    assertEquals(5, Match.getMatches(ints, or).size());
+  }
+
+  @Test
+  public void testInverseOfComposite() {
+    final CompositeMatch<Integer> and = new CompositeMatchAnd<>(new InverseMatch<>(neg), new InverseMatch<>(zero));
+    assertEquals(3, Match.getMatches(ints, and).size());
+    assertEquals(4, Match.getMatches(ints, and.invert()).size());
+  }
+
   @Test
   public void testMap() {
     final HashMap<String, String> map = new HashMap<>();
@@ -106,4 +154,28 @@ public class MatchTest {
     assertEquals(Match.getKeysWhereValueMatch(map, Match.getAlwaysMatch()).size(), 3);
     assertEquals(Match.getKeysWhereValueMatch(map, Match.getNeverMatch()).size(), 0);
   }
+
+  /**
+   * Matches numbers divisible by a divisor, and fuses with others of its kind for and.
+   */
+  private static final class DivisibleBy extends Match<Integer> {
+    private final int divisor;
+
+    DivisibleBy(final int divisor) {
+      this.divisor = divisor;
+    }
+
+    @Override
+    public boolean match(final Integer o) {
+      return o % divisor == 0;
+    }
+
+    @Override
+    protected Match<Integer> fuse(final Match<Integer> other, final boolean and) {
+      if (!and || !(other instanceof DivisibleBy)) {
+        return null;
+      }
+      return new DivisibleBy(divisor * ((DivisibleBy) other).divisor);
+    }
+  }
 }